@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import br.arch.sticker.core.validation.webp.SyntheticWebp;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.StickerValidationRepo;
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
+
+// NOTE: Varredura de validação real (stat, mapeamento, CRC32, cabeçalhos WebP e gravação do resultado no cache) sobre um
+// pacote sintético na pasta de figurinhas do app, com o cache em um banco de teste
+public class ParallelValidationEngineBenchmarkTest {
+    private static final String TAG_LOG = ParallelValidationEngineBenchmarkTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "stickers-parallel-validation-test.db";
+
+    private static final String PACK_IDENTIFIER = "benchmark-parallel-pack";
+    private static final int STICKER_COUNT = 240;
+    private static final int FRAME_COUNT = 24;
+    private static final int FRAME_DURATION = 100;
+    private static final int STICKER_FILE_SIZE = 128 * 1024;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private File packDirectory;
+    private List<Sticker> stickers;
+
+    @Before
+    public void setUp() throws IOException {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        ContentValues stickerPack = new ContentValues();
+        stickerPack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, PACK_IDENTIFIER);
+        stickerPack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote");
+        stickerPack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        stickerPack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        stickerPack.put(ANIMATED_STICKER_PACK, 1);
+        databaseHelper.getWritableDatabase().insertOrThrow(TABLE_STICKER_PACK, null, stickerPack);
+
+        packDirectory = new FetchStickerAssetService(context).getStickerAssetFile(PACK_IDENTIFIER, fileName(0)).getParentFile();
+        assertNotNull(packDirectory);
+        assertTrue(packDirectory.isDirectory() || packDirectory.mkdirs());
+
+        stickers = new ArrayList<>(STICKER_COUNT);
+        for (int index = 0; index < STICKER_COUNT; index++) {
+            try (FileOutputStream outputStream = new FileOutputStream(new File(packDirectory, fileName(index)))) {
+                outputStream.write(SyntheticWebp.animated(FRAME_COUNT, FRAME_DURATION, STICKER_FILE_SIZE, index));
+            }
+
+            stickers.add(new Sticker(fileName(index), "😀", "", "figurinha " + index, PACK_IDENTIFIER));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = packDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertTrue(file.delete());
+            }
+        }
+        assertTrue(packDirectory.delete());
+
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    // NOTE: Cada rodada usa uma versão de regras nova, então o cache nunca acerta e toda figurinha é validada de verdade.
+    // O tempo de 1, 2, 4 e 8 threads fica no logcat, junto com o ganho sobre uma thread.
+    @Test
+    public void benchmarkScalingAtOneTwoFourAndEightThreads() {
+        StickerValidationRepo stickerValidationRepo = new StickerValidationRepo(databaseHelper.getWritableDatabase());
+        int rulesVersion = 0;
+        long singleThreadNanos = 0;
+
+        for (int threadCount : THREAD_COUNTS) {
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            long bestNanos = Long.MAX_VALUE;
+
+            try {
+                for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+                    StickerValidator stickerValidator = new StickerValidator(context,
+                            new StickerValidationCache(stickerValidationRepo, ++rulesVersion));
+
+                    long start = System.nanoTime();
+                    Map<Sticker, ValidationReport> reports = ParallelValidationEngine.evaluateOn(executorService, stickers,
+                            sticker -> stickerValidator.validateSticker(PACK_IDENTIFIER, sticker, true));
+                    bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+
+                    assertEquals(STICKER_COUNT, reports.size());
+                    for (ValidationReport report : reports.values()) {
+                        assertTrue(report.isValid());
+                    }
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+
+            if (threadCount == 1) {
+                singleThreadNanos = bestNanos;
+            }
+
+            Log.i(TAG_LOG, String.format(Locale.ROOT, "%d figurinhas em %d thread(s): %d µs, %.2fx sobre uma thread",
+                    STICKER_COUNT, threadCount, bestNanos / 1_000, (double) singleThreadNanos / bestNanos));
+        }
+    }
+
+    private static String fileName(int index) {
+        return "sticker_" + index + ".webp";
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.StickerValidationRepo;
+import br.arch.sticker.domain.dto.StickerFileStat;
+
+// NOTE: Roda no aparelho porque o cache usa LruCache e SQLite de verdade. Cada "nova instância" do cache simula o app
+// reaberto: a memória começa vazia e só o banco responde.
+public class StickerValidationCacheTest {
+    private static final String TAG_LOG = StickerValidationCacheTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "stickers-validation-cache-test.db";
+
+    private static final String PACK_IDENTIFIER = "pack-validation";
+    private static final String FILE_NAME = "sticker_1.webp";
+    private static final StickerFileStat FILE_STAT = new StickerFileStat(40_960L, 1_700_000_000_000L);
+    private static final long CRC32_VALUE = 0x1234_5678L;
+    private static final int RULES_VERSION = 1;
+
+    private static final int BENCHMARK_PACKS = 400;
+    private static final int BENCHMARK_STICKERS_PER_PACK = 25;
+    private static final int BENCHMARK_DISTINCT_FILES = 25;
+    private static final int BENCHMARK_FILE_SIZE = 64 * 1024;
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private SQLiteDatabase database;
+    private StickerValidationRepo stickerValidationRepo;
+    private StickerValidationCache stickerValidationCache;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        database = databaseHelper.getWritableDatabase();
+        insertStickerPack(PACK_IDENTIFIER);
+
+        stickerValidationRepo = new StickerValidationRepo(database);
+        stickerValidationCache = new StickerValidationCache(stickerValidationRepo, RULES_VERSION);
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void unchangedStatIsValidatedFromMemoryAndFromDatabase() {
+        assertFalse(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+
+        stickerValidationCache.recordOutcome(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+
+        assertTrue(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+        assertTrue(reopenedCache(RULES_VERSION).isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+        assertFalse(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, true));
+    }
+
+    @Test
+    public void stickerWithViolationIsNotValidated() {
+        stickerValidationCache.recordOutcome(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE, "ERROR_FILE_SIZE");
+
+        assertFalse(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+        assertFalse(reopenedCache(RULES_VERSION).isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+        assertFalse(stickerValidationCache.isValidatedByChecksum(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE));
+    }
+
+    @Test
+    public void changedLengthIsNotValidated() {
+        stickerValidationCache.recordOutcome(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+        StickerFileStat resized = new StickerFileStat(FILE_STAT.length() + 1, FILE_STAT.lastModified());
+
+        assertFalse(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, resized, false));
+        assertFalse(stickerValidationCache.isValidatedByChecksum(PACK_IDENTIFIER, FILE_NAME, resized, false, CRC32_VALUE));
+    }
+
+    // NOTE: Data nova pede o CRC32; conteúdo igual mantém a validação e passa a valer a data nova
+    @Test
+    public void changedModificationTimeFallsBackToChecksum() {
+        stickerValidationCache.recordOutcome(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+        StickerFileStat touched = new StickerFileStat(FILE_STAT.length(), FILE_STAT.lastModified() + 1_000L);
+
+        assertFalse(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, touched, false));
+        assertFalse(stickerValidationCache.isValidatedByChecksum(PACK_IDENTIFIER, FILE_NAME, touched, false, CRC32_VALUE + 1));
+        assertTrue(stickerValidationCache.isValidatedByChecksum(PACK_IDENTIFIER, FILE_NAME, touched, false, CRC32_VALUE));
+
+        assertTrue(stickerValidationCache.isValidated(PACK_IDENTIFIER, FILE_NAME, touched, false));
+        assertTrue(reopenedCache(RULES_VERSION).isValidated(PACK_IDENTIFIER, FILE_NAME, touched, false));
+        assertFalse(reopenedCache(RULES_VERSION).isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+    }
+
+    @Test
+    public void changedRulesVersionRevalidates() {
+        stickerValidationCache.recordOutcome(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+
+        StickerValidationCache newRules = reopenedCache(RULES_VERSION + 1);
+        assertFalse(newRules.isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+        assertFalse(newRules.isValidatedByChecksum(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE));
+
+        newRules.recordOutcome(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+        assertTrue(reopenedCache(RULES_VERSION + 1).isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+        assertFalse(reopenedCache(RULES_VERSION).isValidated(PACK_IDENTIFIER, FILE_NAME, FILE_STAT, false));
+    }
+
+    // NOTE: O pacote ainda não existe no banco enquanto é salvo; os resultados esperam o commit
+    @Test
+    public void deferredOutcomesAreWrittenOnlyOnFlush() {
+        String savingPack = "pack-saving";
+        stickerValidationCache.deferOutcomes(savingPack);
+        stickerValidationCache.recordOutcome(savingPack, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+
+        assertFalse(stickerValidationCache.isValidated(savingPack, FILE_NAME, FILE_STAT, false));
+
+        insertStickerPack(savingPack);
+        stickerValidationCache.flushDeferredOutcomes(savingPack);
+
+        assertTrue(stickerValidationCache.isValidated(savingPack, FILE_NAME, FILE_STAT, false));
+        assertTrue(reopenedCache(RULES_VERSION).isValidated(savingPack, FILE_NAME, FILE_STAT, false));
+
+        // NOTE: Depois do flush os resultados voltam a ser gravados na hora
+        stickerValidationCache.recordOutcome(savingPack, "sticker_2.webp", FILE_STAT, false, CRC32_VALUE, null);
+        assertTrue(reopenedCache(RULES_VERSION).isValidated(savingPack, "sticker_2.webp", FILE_STAT, false));
+    }
+
+    @Test
+    public void discardedOutcomesAreNeverWritten() {
+        String savingPack = "pack-discarded";
+        stickerValidationCache.deferOutcomes(savingPack);
+        stickerValidationCache.recordOutcome(savingPack, FILE_NAME, FILE_STAT, false, CRC32_VALUE, null);
+
+        stickerValidationCache.discardDeferredOutcomes(savingPack);
+        insertStickerPack(savingPack);
+        stickerValidationCache.flushDeferredOutcomes(savingPack);
+
+        assertFalse(stickerValidationCache.isValidated(savingPack, FILE_NAME, FILE_STAT, false));
+        assertFalse(reopenedCache(RULES_VERSION).isValidated(savingPack, FILE_NAME, FILE_STAT, false));
+    }
+
+    // NOTE: Biblioteca sintética de 10.000 figurinhas. Compara reabrir o app com o cache gravado (só banco), o cache em memória
+    // já aquecido e a validação sem cache, que precisa ler o arquivo inteiro e calcular o CRC32. O tempo fica no logcat.
+    @Test
+    public void benchmarkTenThousandStickerLibrary() throws IOException {
+        final int stickerCount = BENCHMARK_PACKS * BENCHMARK_STICKERS_PER_PACK;
+        File[] stickerFiles = writeSyntheticStickerFiles();
+
+        database.beginTransaction();
+        try {
+            for (int pack = 0; pack < BENCHMARK_PACKS; pack++) {
+                insertStickerPack(benchmarkPackIdentifier(pack));
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+
+        long recordNanos = System.nanoTime();
+        database.beginTransaction();
+        try {
+            for (int pack = 0; pack < BENCHMARK_PACKS; pack++) {
+                for (int sticker = 0; sticker < BENCHMARK_STICKERS_PER_PACK; sticker++) {
+                    stickerValidationCache.recordOutcome(benchmarkPackIdentifier(pack), benchmarkFileName(sticker), benchmarkStat(pack, sticker),
+                            false, pack * 31L + sticker, null);
+                }
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+        recordNanos = System.nanoTime() - recordNanos;
+
+        long reopenedNanos = Long.MAX_VALUE;
+        long warmNanos = Long.MAX_VALUE;
+        long uncachedNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            StickerValidationCache reopened = reopenedCache(RULES_VERSION);
+            long start = System.nanoTime();
+            assertEquals(stickerCount, countValidated(reopened));
+            reopenedNanos = Math.min(reopenedNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            assertEquals(stickerCount, countValidated(reopened));
+            warmNanos = Math.min(warmNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            long checksum = 0;
+            for (int sticker = 0; sticker < stickerCount; sticker++) {
+                checksum ^= readAndChecksum(stickerFiles[sticker % stickerFiles.length]);
+            }
+            uncachedNanos = Math.min(uncachedNanos, System.nanoTime() - start);
+            assertTrue(checksum >= 0);
+        }
+
+        for (File stickerFile : stickerFiles) {
+            assertTrue(stickerFile.delete());
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT,
+                "%d figurinhas: gravar resultados %d ms, app reaberto (banco) %d ms, cache aquecido %d ms, sem cache (leitura + CRC32 de %d KB) %d ms",
+                stickerCount, recordNanos / 1_000_000, reopenedNanos / 1_000_000, warmNanos / 1_000_000, BENCHMARK_FILE_SIZE / 1024,
+                uncachedNanos / 1_000_000));
+    }
+
+    private StickerValidationCache reopenedCache(int rulesVersion) {
+        return new StickerValidationCache(stickerValidationRepo, rulesVersion);
+    }
+
+    private void insertStickerPack(String stickerPackIdentifier) {
+        ContentValues stickerPack = new ContentValues();
+        stickerPack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPackIdentifier);
+        stickerPack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote");
+        stickerPack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        stickerPack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        stickerPack.put(ANIMATED_STICKER_PACK, 0);
+        database.insertOrThrow(TABLE_STICKER_PACK, null, stickerPack);
+    }
+
+    private static int countValidated(StickerValidationCache cache) {
+        int validated = 0;
+        for (int pack = 0; pack < BENCHMARK_PACKS; pack++) {
+            for (int sticker = 0; sticker < BENCHMARK_STICKERS_PER_PACK; sticker++) {
+                if (cache.isValidated(benchmarkPackIdentifier(pack), benchmarkFileName(sticker), benchmarkStat(pack, sticker), false)) {
+                    validated++;
+                }
+            }
+        }
+
+        return validated;
+    }
+
+    private static String benchmarkPackIdentifier(int pack) {
+        return String.format(Locale.ROOT, "pack-%04d", pack);
+    }
+
+    private static String benchmarkFileName(int sticker) {
+        return "sticker_" + sticker + ".webp";
+    }
+
+    private static StickerFileStat benchmarkStat(int pack, int sticker) {
+        return new StickerFileStat(BENCHMARK_FILE_SIZE, 1_700_000_000_000L + pack * 1_000L + sticker);
+    }
+
+    private File[] writeSyntheticStickerFiles() throws IOException {
+        File directory = new File(context.getCacheDir(), "validation-cache-benchmark");
+        assertTrue(directory.isDirectory() || directory.mkdirs());
+
+        Random random = new Random(16);
+        byte[] content = new byte[BENCHMARK_FILE_SIZE];
+        File[] stickerFiles = new File[BENCHMARK_DISTINCT_FILES];
+
+        for (int index = 0; index < stickerFiles.length; index++) {
+            random.nextBytes(content);
+            stickerFiles[index] = new File(directory, benchmarkFileName(index));
+            try (FileOutputStream outputStream = new FileOutputStream(stickerFiles[index])) {
+                outputStream.write(content);
+            }
+        }
+
+        return stickerFiles;
+    }
+
+    private static long readAndChecksum(File stickerFile) throws IOException {
+        try (FileChannel fileChannel = new FileInputStream(stickerFile).getChannel()) {
+            ByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            byte[] chunk = new byte[8 * 1024];
+            CRC32 crc32 = new CRC32();
+
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                crc32.update(chunk, 0, length);
+            }
+
+            return crc32.getValue();
+        }
+    }
+}
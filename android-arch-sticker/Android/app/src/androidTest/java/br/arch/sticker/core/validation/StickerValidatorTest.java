@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import br.arch.sticker.core.error.code.StickerAssetErrorCode;
+import br.arch.sticker.core.error.code.StickerPackErrorCode;
+import br.arch.sticker.core.error.throwable.base.AppCoreStateException;
+import br.arch.sticker.core.validation.webp.SyntheticWebp;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.StickerValidationRepo;
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
+
+// NOTE: Pacote animado sintético na pasta de figurinhas do app, com o cache de validação em um banco de teste.
+// Metade das figurinhas é inválida por dois motivos: texto de acessibilidade longo demais e quadros abaixo da duração mínima.
+public class StickerValidatorTest {
+    private static final String TAG_LOG = StickerValidatorTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "stickers-validator-test.db";
+
+    private static final String PACK_IDENTIFIER = "benchmark-validator-pack";
+    private static final int STICKER_COUNT = 200;
+    private static final int FRAME_COUNT = 24;
+    private static final int VALID_FRAME_DURATION = 100;
+    private static final int INVALID_FRAME_DURATION = StickerValidator.ANIMATED_STICKER_FRAME_DURATION_MIN / 2;
+    private static final int STICKER_FILE_SIZE = 64 * 1024;
+    private static final int RULES_VERSION = 1;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private StickerValidator stickerValidator;
+    private File packDirectory;
+    private List<Sticker> stickers;
+
+    @Before
+    public void setUp() throws IOException {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        ContentValues stickerPack = new ContentValues();
+        stickerPack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, PACK_IDENTIFIER);
+        stickerPack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote");
+        stickerPack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        stickerPack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        stickerPack.put(ANIMATED_STICKER_PACK, 1);
+        databaseHelper.getWritableDatabase().insertOrThrow(TABLE_STICKER_PACK, null, stickerPack);
+
+        StickerValidationCache stickerValidationCache = new StickerValidationCache(
+                new StickerValidationRepo(databaseHelper.getWritableDatabase()), RULES_VERSION);
+        stickerValidator = new StickerValidator(context, stickerValidationCache);
+
+        packDirectory = new FetchStickerAssetService(context).getStickerAssetFile(PACK_IDENTIFIER, fileName(0)).getParentFile();
+        assertNotNull(packDirectory);
+        assertTrue(packDirectory.isDirectory() || packDirectory.mkdirs());
+
+        stickers = new ArrayList<>(STICKER_COUNT);
+        for (int index = 0; index < STICKER_COUNT; index++) {
+            boolean invalid = isInvalid(index);
+            try (FileOutputStream outputStream = new FileOutputStream(new File(packDirectory, fileName(index)))) {
+                outputStream.write(SyntheticWebp.animated(FRAME_COUNT, invalid ? INVALID_FRAME_DURATION : VALID_FRAME_DURATION,
+                        STICKER_FILE_SIZE, index));
+            }
+
+            String accessibilityText = invalid
+                    ? "a".repeat(StickerValidator.MAX_ANIMATED_STICKER_A11Y_TEXT_CHAR_LIMIT + 1)
+                    : "figurinha " + index;
+            stickers.add(new Sticker(fileName(index), "😀", "", accessibilityText, PACK_IDENTIFIER));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = packDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertTrue(file.delete());
+            }
+        }
+        assertTrue(packDirectory.delete());
+
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void reportCollectsEveryViolationOfAnInvalidSticker() {
+        ValidationReport report = stickerValidator.validateSticker(PACK_IDENTIFIER, stickers.get(1), true);
+
+        assertFalse(report.isValid());
+        assertTrue(report.getViolations().size() >= 2);
+        assertEquals(StickerPackErrorCode.INVALID_STICKER_ACCESSIBILITY, report.getFirstViolation().errorCode());
+        assertEquals(StickerAssetErrorCode.ERROR_STICKER_DURATION, report.getViolations().get(report.getViolations().size() - 1).errorCode());
+        for (ValidationReport.Violation violation : report.getViolations()) {
+            assertTrue(violation.ruleViolation());
+        }
+    }
+
+    @Test
+    public void validStickerHasAnEmptyReport() {
+        ValidationReport report = stickerValidator.validateSticker(PACK_IDENTIFIER, stickers.get(0), true);
+
+        assertTrue(report.isValid());
+        assertTrue(report.getViolations().isEmpty());
+    }
+
+    @Test
+    public void wrapperThrowsTheFirstViolation() {
+        ValidationReport report = stickerValidator.validateSticker(PACK_IDENTIFIER, stickers.get(1), true);
+
+        try {
+            stickerValidator.verifyStickerValidity(PACK_IDENTIFIER, stickers.get(1), true);
+        } catch (AppCoreStateException exception) {
+            assertEquals(report.getFirstViolation().toException().getClass(), exception.getClass());
+            assertEquals(report.getFirstViolation().toException().getMessage(), exception.getMessage());
+            return;
+        }
+
+        throw new AssertionError("verifyStickerValidity deveria lançar para figurinha inválida");
+    }
+
+    // NOTE: Varredura com metade das figurinhas inválida. O caminho antigo é a API que lança (a exceção com stack trace é montada
+    // e capturada a cada figurinha inválida); o novo só lê o relatório. Uma varredura sem medir aquece o cache de validação,
+    // então as duas medições fazem o mesmo trabalho de arquivo. O tempo fica no logcat.
+    @Test
+    public void benchmarkHalfInvalidSweep() {
+        assertEquals(STICKER_COUNT / 2, sweepWithReports());
+
+        long throwingNanos = Long.MAX_VALUE;
+        long reportNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            assertEquals(STICKER_COUNT / 2, sweepWithExceptions());
+            throwingNanos = Math.min(throwingNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            assertEquals(STICKER_COUNT / 2, sweepWithReports());
+            reportNanos = Math.min(reportNanos, System.nanoTime() - start);
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d figurinhas, metade inválida: exceção capturada %d µs, ValidationReport %d µs",
+                STICKER_COUNT, throwingNanos / 1_000, reportNanos / 1_000));
+    }
+
+    private int sweepWithExceptions() {
+        int invalidCount = 0;
+        for (Sticker sticker : stickers) {
+            try {
+                stickerValidator.verifyStickerValidity(PACK_IDENTIFIER, sticker, true);
+            } catch (AppCoreStateException exception) {
+                invalidCount++;
+            }
+        }
+
+        return invalidCount;
+    }
+
+    private int sweepWithReports() {
+        int invalidCount = 0;
+        for (Sticker sticker : stickers) {
+            if (!stickerValidator.validateSticker(PACK_IDENTIFIER, sticker, true).isValid()) {
+                invalidCount++;
+            }
+        }
+
+        return invalidCount;
+    }
+
+    private static boolean isInvalid(int index) {
+        return index % 2 == 1;
+    }
+
+    private static String fileName(int index) {
+        return "sticker_" + index + ".webp";
+    }
+}
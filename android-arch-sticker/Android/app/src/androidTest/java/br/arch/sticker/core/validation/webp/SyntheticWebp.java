@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation.webp;
+
+import androidx.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+// NOTE: WebP animado sintético para os benchmarks: cabeçalhos válidos para o WebpHeaderParser e quadros VP8 preenchidos com
+// bytes aleatórios até o tamanho pedido. Não decodifica como imagem, só serve para medir leitura e cópia de arquivo.
+public final class SyntheticWebp {
+    public static final int SIZE = 512;
+
+    private SyntheticWebp() {
+    }
+
+    @NonNull
+    public static byte[] animated(int frameCount, int frameDuration, int fileSize, long seed) {
+        final int frameOverhead = 8 + 16 + 8 + 10;
+        final int headerSize = 12 + 8 + 10 + 8 + 6;
+        final int framePayload = Math.max(10, (fileSize - headerSize) / frameCount - frameOverhead) & ~1;
+
+        Random random = new Random(seed);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(fileSize);
+        body.writeBytes("WEBP".getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(vp8xChunk());
+        body.writeBytes(chunk("ANIM", new byte[6]));
+
+        for (int frame = 0; frame < frameCount; frame++) {
+            byte[] vp8Payload = new byte[framePayload];
+            random.nextBytes(vp8Payload);
+            writeVp8FrameHeader(vp8Payload);
+            body.writeBytes(anmfChunk(frameDuration, chunk("VP8 ", vp8Payload)));
+        }
+
+        ByteArrayOutputStream riff = new ByteArrayOutputStream(body.size() + 8);
+        riff.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+        writeUInt32(riff, body.size());
+        riff.writeBytes(body.toByteArray());
+        return riff.toByteArray();
+    }
+
+    private static byte[] chunk(String fourCc, byte[] payload) {
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream(payload.length + 9);
+        chunk.writeBytes(fourCc.getBytes(StandardCharsets.US_ASCII));
+        writeUInt32(chunk, payload.length);
+        chunk.writeBytes(payload);
+        if ((payload.length & 1) == 1) {
+            chunk.write(0);
+        }
+
+        return chunk.toByteArray();
+    }
+
+    // NOTE: Frame tag de 3 bytes, start code 9D 01 2A, largura e altura de 14 bits
+    private static void writeVp8FrameHeader(byte[] payload) {
+        payload[0] = 0;
+        payload[1] = 0;
+        payload[2] = 0;
+        payload[3] = (byte) 0x9D;
+        payload[4] = (byte) 0x01;
+        payload[5] = (byte) 0x2A;
+        payload[6] = (byte) SIZE;
+        payload[7] = (byte) (SIZE >> 8);
+        payload[8] = (byte) SIZE;
+        payload[9] = (byte) (SIZE >> 8);
+    }
+
+    private static byte[] vp8xChunk() {
+        byte[] payload = new byte[10];
+        payload[0] = 0x02;
+        writeUInt24(payload, 4, SIZE - 1);
+        writeUInt24(payload, 7, SIZE - 1);
+        return chunk("VP8X", payload);
+    }
+
+    private static byte[] anmfChunk(int duration, byte[] frameChunk) {
+        byte[] payload = new byte[16 + frameChunk.length];
+        writeUInt24(payload, 6, SIZE - 1);
+        writeUInt24(payload, 9, SIZE - 1);
+        writeUInt24(payload, 12, duration);
+        System.arraycopy(frameChunk, 0, payload, 16, frameChunk.length);
+        return chunk("ANMF", payload);
+    }
+
+    private static void writeUInt24(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >> 8);
+        target[offset + 2] = (byte) (value >> 16);
+    }
+
+    private static void writeUInt32(ByteArrayOutputStream outputStream, int value) {
+        outputStream.write(value);
+        outputStream.write(value >> 8);
+        outputStream.write(value >> 16);
+        outputStream.write(value >> 24);
+    }
+}
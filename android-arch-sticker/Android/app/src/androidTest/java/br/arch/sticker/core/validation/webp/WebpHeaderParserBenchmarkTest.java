@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation.webp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.util.Log;
+
+import com.facebook.animated.webp.WebPImage;
+import com.facebook.imagepipeline.common.ImageDecodeOptions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Locale;
+import java.util.Random;
+
+// NOTE: Roda no aparelho porque o WebPImage do Fresco é nativo; o StickerApplication já inicializa o Fresco.
+// Os arquivos estáticos são gerados pelo próprio Bitmap.compress, o animado pelo SyntheticWebp.
+public class WebpHeaderParserBenchmarkTest {
+    private static final String TAG_LOG = WebpHeaderParserBenchmarkTest.class.getSimpleName();
+
+    private static final int FRAME_COUNT = 24;
+    private static final int FRAME_DURATION = 100;
+    private static final int ANIMATED_FILE_SIZE = 500 * 1024;
+    private static final int ITERATIONS = 200;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    private byte[] staticLossy;
+    private byte[] staticLossless;
+    private byte[] animated;
+
+    @Before
+    public void setUp() {
+        staticLossy = compressNoise(false);
+        staticLossless = compressNoise(true);
+        animated = SyntheticWebp.animated(FRAME_COUNT, FRAME_DURATION, ANIMATED_FILE_SIZE, 11);
+    }
+
+    @Test
+    public void parserReadsTheSameFieldsAsWebPImage() {
+        for (byte[] data : new byte[][]{staticLossy, staticLossless, animated}) {
+            WebpHeader header = WebpHeaderParser.parse(data);
+            WebPImage webPImage = WebPImage.createFromByteArray(data, ImageDecodeOptions.defaults());
+            try {
+                assertEquals(webPImage.getWidth(), header.width());
+                assertEquals(webPImage.getHeight(), header.height());
+                assertEquals(webPImage.getFrameCount(), header.frameCount());
+                if (header.frameCount() > 1) {
+                    assertArrayEquals(webPImage.getFrameDurations(), header.frameDurations());
+                    assertEquals(webPImage.getDuration(), header.duration());
+                }
+            } finally {
+                webPImage.dispose();
+            }
+        }
+    }
+
+    // NOTE: O validador antigo abria cada figurinha com WebPImage.createFromByteArray só para ler dimensões, quadros e durações.
+    // Aqui os mesmos campos são lidos pelos dois caminhos, ITERATIONS vezes por arquivo. O tempo fica no logcat.
+    @Test
+    public void benchmarkHeaderParserAgainstWebPImage() {
+        benchmark("estático lossy", staticLossy);
+        benchmark("estático lossless", staticLossless);
+        benchmark("animado de 24 quadros", animated);
+    }
+
+    private static void benchmark(String label, byte[] data) {
+        long webPImageNanos = Long.MAX_VALUE;
+        long parserNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long checksum = 0;
+            long start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                WebPImage webPImage = WebPImage.createFromByteArray(data, ImageDecodeOptions.defaults());
+                checksum += webPImage.getWidth() + webPImage.getHeight() + webPImage.getFrameCount() + webPImage.getDuration();
+                webPImage.dispose();
+            }
+            webPImageNanos = Math.min(webPImageNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                WebpHeader header = WebpHeaderParser.parse(data);
+                checksum -= header.width() + header.height() + header.frameCount() + header.duration();
+            }
+            parserNanos = Math.min(parserNanos, System.nanoTime() - start);
+
+            assertEquals(0, checksum);
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%s (%d KB), %d leituras: WebPImage %d µs, WebpHeaderParser %d µs",
+                label, data.length / 1024, ITERATIONS, webPImageNanos / 1_000, parserNanos / 1_000));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static byte[] compressNoise(boolean lossless) {
+        Random random = new Random(lossless ? 2 : 1);
+        int[] pixels = new int[SyntheticWebp.SIZE * SyntheticWebp.SIZE];
+        for (int index = 0; index < pixels.length; index++) {
+            pixels[index] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(pixels, SyntheticWebp.SIZE, SyntheticWebp.SIZE, Bitmap.Config.ARGB_8888);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // NOTE: Antes do Android 11, WEBP com qualidade 100 gera lossless
+        final Bitmap.CompressFormat format;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            format = lossless ? Bitmap.CompressFormat.WEBP_LOSSLESS : Bitmap.CompressFormat.WEBP_LOSSY;
+        } else {
+            format = Bitmap.CompressFormat.WEBP;
+        }
+
+        assertTrue(bitmap.compress(format, lossless ? 100 : 80, outputStream));
+        bitmap.recycle();
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.content;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANDROID_APP_DOWNLOAD_LINK_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.AVOID_CACHE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ID_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IMAGE_DATA_VERSION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IOS_APP_DOWNLOAD_LINK_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.LICENSE_AGREEMENT_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PRIVACY_POLICY_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_EMAIL;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.MatrixCursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.arch.sticker.domain.data.content.provider.StickerPackQueryProvider;
+import br.arch.sticker.domain.data.content.provider.StickerQueryProvider;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+
+// NOTE: A referência sai de SELECTs crus, com a semântica do MatrixCursor que o provider montava antes da foto e do
+// ProjectionCursor: colunas cruas do banco, links de loja sempre NULL, avoid_cache e animated como 1/0, pacotes na ordem
+// de inserção e só os que têm figurinhas. Nada aqui passa pelo StickerPackLoader ou pelos row mappers.
+public class StickerContentProviderCursorTest {
+    private static final String DATABASE_NAME = "stickers-provider-test.db";
+
+    private static final String[] STICKER_PACK_COLUMNS = {STICKER_PACK_IDENTIFIER_IN_QUERY, STICKER_PACK_NAME_IN_QUERY,
+            STICKER_PACK_PUBLISHER_IN_QUERY, STICKER_PACK_TRAY_IMAGE_IN_QUERY, ANDROID_APP_DOWNLOAD_LINK_IN_QUERY, IOS_APP_DOWNLOAD_LINK_IN_QUERY,
+            PUBLISHER_EMAIL, PUBLISHER_WEBSITE, PRIVACY_POLICY_WEBSITE, LICENSE_AGREEMENT_WEBSITE, IMAGE_DATA_VERSION, AVOID_CACHE,
+            ANIMATED_STICKER_PACK};
+    private static final String[] STICKER_COLUMNS = {STICKER_FILE_NAME_IN_QUERY, STICKER_FILE_EMOJI_IN_QUERY, STICKER_IS_VALID,
+            STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY};
+
+    // NOTE: Inseridos fora da ordem alfabética, para a ordem de inserção não coincidir com a do identificador
+    private static final String MINIMAL_PACK_IDENTIFIER = "pack-b-minimal";
+    private static final String COMPLETE_PACK_IDENTIFIER = "pack-a-complete";
+    private static final String EMPTY_PACK_IDENTIFIER = "pack-0-empty";
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private SQLiteDatabase database;
+    private StickerPackQueryProvider stickerPackQueryProvider;
+    private StickerQueryProvider stickerQueryProvider;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        database = databaseHelper.getWritableDatabase();
+
+        ContentValues minimalPack = new ContentValues();
+        minimalPack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, MINIMAL_PACK_IDENTIFIER);
+        minimalPack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote mínimo");
+        minimalPack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        minimalPack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        minimalPack.put(ANIMATED_STICKER_PACK, 0);
+        database.insertOrThrow(TABLE_STICKER_PACK, null, minimalPack);
+
+        ContentValues completePack = new ContentValues();
+        completePack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, COMPLETE_PACK_IDENTIFIER);
+        completePack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote completo");
+        completePack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        completePack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        completePack.put(PUBLISHER_EMAIL, "contato@arch.br");
+        completePack.put(PUBLISHER_WEBSITE, "https://arch.br");
+        completePack.put(PRIVACY_POLICY_WEBSITE, "https://arch.br/privacidade");
+        completePack.put(LICENSE_AGREEMENT_WEBSITE, "https://arch.br/licenca");
+        completePack.put(ANIMATED_STICKER_PACK, 1);
+        completePack.put(IMAGE_DATA_VERSION, "3");
+        completePack.put(AVOID_CACHE, 1);
+        completePack.put(ANDROID_APP_DOWNLOAD_LINK_IN_QUERY, "https://play.google.com/store/apps/details?id=br.arch.sticker");
+        completePack.put(IOS_APP_DOWNLOAD_LINK_IN_QUERY, "https://apps.apple.com/app/id0");
+        database.insertOrThrow(TABLE_STICKER_PACK, null, completePack);
+
+        ContentValues emptyPack = new ContentValues();
+        emptyPack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, EMPTY_PACK_IDENTIFIER);
+        emptyPack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote vazio");
+        emptyPack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        emptyPack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        emptyPack.put(ANIMATED_STICKER_PACK, 0);
+        database.insertOrThrow(TABLE_STICKER_PACK, null, emptyPack);
+
+        insertSticker(COMPLETE_PACK_IDENTIFIER, "sticker_2.webp", "😀,🎉", null);
+        insertSticker(MINIMAL_PACK_IDENTIFIER, "sticker_1.webp", "", "");
+        insertSticker(COMPLETE_PACK_IDENTIFIER, "sticker_10.webp", "😎", "ERROR_FILE_SIZE");
+        insertSticker(MINIMAL_PACK_IDENTIFIER, "sticker_3.webp", "🙂", null);
+
+        StickerMetadataSnapshot.invalidate();
+        stickerPackQueryProvider = new StickerPackQueryProvider(context, database);
+        stickerQueryProvider = new StickerQueryProvider(context, database);
+    }
+
+    // NOTE: A foto é estática; invalidar devolve o provider do app ao banco de produção na próxima leitura
+    @After
+    public void tearDown() {
+        StickerMetadataSnapshot.invalidate();
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void allStickerPacksMatchBaselineCursor() {
+        Uri uri = StickerContentProvider.AUTHORITY_URI;
+
+        try (Cursor expected = baselineStickerPackCursor(null);
+             Cursor actual = stickerPackQueryProvider.fetchAllStickerPack(uri, null)) {
+            assertEquals(2, expected.getCount());
+            assertSameCursor(expected, actual);
+        }
+    }
+
+    @Test
+    public void singleStickerPackMatchesBaselineCursor() {
+        for (String stickerPackIdentifier : new String[]{COMPLETE_PACK_IDENTIFIER, MINIMAL_PACK_IDENTIFIER}) {
+            Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon().appendPath(stickerPackIdentifier).build();
+
+            for (boolean isFiltered : new boolean[]{false, true}) {
+                try (Cursor expected = baselineStickerPackCursor(stickerPackIdentifier);
+                     Cursor actual = stickerPackQueryProvider.fetchSingleStickerPack(uri, null, isFiltered)) {
+                    assertEquals(1, expected.getCount());
+                    assertSameCursor(expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void stickerPackWithoutStickersIsNotExported() {
+        Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon().appendPath(EMPTY_PACK_IDENTIFIER).build();
+
+        try (Cursor actual = stickerPackQueryProvider.fetchSingleStickerPack(uri, null, false)) {
+            assertNotNull(actual);
+            assertEquals(0, actual.getCount());
+        }
+    }
+
+    @Test
+    public void stickersOfPackMatchBaselineCursor() {
+        for (String stickerPackIdentifier : new String[]{COMPLETE_PACK_IDENTIFIER, MINIMAL_PACK_IDENTIFIER}) {
+            try (Cursor expected = baselineStickerCursor(stickerPackIdentifier);
+                 Cursor actual = stickerQueryProvider.fetchStickerListForPack(stickersUri(stickerPackIdentifier), null)) {
+                assertEquals(2, expected.getCount());
+                assertSameCursor(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void emptyEmojiIsExportedAsEmptyString() {
+        try (Cursor actual = stickerQueryProvider.fetchStickerListForPack(stickersUri(MINIMAL_PACK_IDENTIFIER), null)) {
+            assertNotNull(actual);
+            int fileNameColumn = actual.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY);
+            int emojiColumn = actual.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY);
+
+            boolean found = false;
+            while (actual.moveToNext()) {
+                if ("sticker_1.webp".equals(actual.getString(fileNameColumn))) {
+                    assertFalse(actual.isNull(emojiColumn));
+                    assertEquals("", actual.getString(emojiColumn));
+                    found = true;
+                }
+            }
+
+            assertTrue(found);
+        }
+    }
+
+    @Test
+    public void storeLinksAreExportedAsNull() {
+        Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon().appendPath(COMPLETE_PACK_IDENTIFIER).build();
+
+        try (Cursor actual = stickerPackQueryProvider.fetchSingleStickerPack(uri, null, false)) {
+            assertNotNull(actual);
+            assertTrue(actual.moveToFirst());
+            assertTrue(actual.isNull(actual.getColumnIndexOrThrow(ANDROID_APP_DOWNLOAD_LINK_IN_QUERY)));
+            assertTrue(actual.isNull(actual.getColumnIndexOrThrow(IOS_APP_DOWNLOAD_LINK_IN_QUERY)));
+        }
+    }
+
+    @Test
+    public void projectionKeepsRequestedColumnsFromBaselineCursor() {
+        String[] projection = {ANIMATED_STICKER_PACK, STICKER_PACK_IDENTIFIER_IN_QUERY, AVOID_CACHE, PUBLISHER_EMAIL};
+        Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon().appendPath(COMPLETE_PACK_IDENTIFIER).build();
+
+        try (Cursor expected = baselineStickerPackCursor(COMPLETE_PACK_IDENTIFIER);
+             Cursor actual = stickerPackQueryProvider.fetchSingleStickerPack(uri, projection, false)) {
+            assertNotNull(actual);
+            assertArrayEquals(projection, actual.getColumnNames());
+            assertTrue(expected.moveToFirst());
+            assertTrue(actual.moveToFirst());
+
+            for (int column = 0; column < projection.length; column++) {
+                assertSameCell(projection[column], expected, expected.getColumnIndexOrThrow(projection[column]), actual, column);
+            }
+        }
+    }
+
+    private static Uri stickersUri(String stickerPackIdentifier) {
+        return StickerContentProvider.AUTHORITY_URI.buildUpon()
+                .path(StickerContentProvider.STICKERS)
+                .appendPath(stickerPackIdentifier)
+                .build();
+    }
+
+    private void insertSticker(String stickerPackIdentifier, String fileName, String emojis, String stickerIsValid) {
+        ContentValues stickerValues = new ContentValues();
+        stickerValues.put(STICKER_FILE_NAME_IN_QUERY, fileName);
+        stickerValues.put(STICKER_FILE_EMOJI_IN_QUERY, emojis);
+        stickerValues.put(STICKER_IS_VALID, stickerIsValid);
+        stickerValues.put(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, "figurinha " + fileName);
+        stickerValues.put(FK_STICKER_PACK, stickerPackIdentifier);
+        database.insertOrThrow(TABLE_STICKER, null, stickerValues);
+    }
+
+    // NOTE: Sem ORDER BY, como a consulta antiga: a varredura da tabela segue o rowid, a ordem de inserção
+    private Cursor baselineStickerPackCursor(String stickerPackIdentifier) {
+        MatrixCursor cursor = new MatrixCursor(STICKER_PACK_COLUMNS);
+
+        String query = "SELECT * FROM " + TABLE_STICKER_PACK +
+                " WHERE EXISTS (SELECT 1 FROM " + TABLE_STICKER + " WHERE " + TABLE_STICKER + "." + FK_STICKER_PACK + " = " +
+                TABLE_STICKER_PACK + "." + STICKER_PACK_IDENTIFIER_IN_QUERY + ")" +
+                (stickerPackIdentifier == null ? "" : " AND " + STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?");
+
+        try (Cursor raw = database.rawQuery(query, stickerPackIdentifier == null ? null : new String[]{stickerPackIdentifier})) {
+            while (raw.moveToNext()) {
+                MatrixCursor.RowBuilder builder = cursor.newRow();
+                builder.add(rawString(raw, STICKER_PACK_IDENTIFIER_IN_QUERY));
+                builder.add(rawString(raw, STICKER_PACK_NAME_IN_QUERY));
+                builder.add(rawString(raw, STICKER_PACK_PUBLISHER_IN_QUERY));
+                builder.add(rawString(raw, STICKER_PACK_TRAY_IMAGE_IN_QUERY));
+                builder.add(null);
+                builder.add(null);
+                builder.add(rawString(raw, PUBLISHER_EMAIL));
+                builder.add(rawString(raw, PUBLISHER_WEBSITE));
+                builder.add(rawString(raw, PRIVACY_POLICY_WEBSITE));
+                builder.add(rawString(raw, LICENSE_AGREEMENT_WEBSITE));
+                builder.add(rawString(raw, IMAGE_DATA_VERSION));
+                builder.add(raw.getInt(raw.getColumnIndexOrThrow(AVOID_CACHE)) != 0 ? 1 : 0);
+                builder.add(raw.getInt(raw.getColumnIndexOrThrow(ANIMATED_STICKER_PACK)) != 0 ? 1 : 0);
+            }
+        }
+
+        return cursor;
+    }
+
+    // NOTE: O esquema antigo não tinha índice em fk_sticker_pack, então as figurinhas saíam na ordem de id_sticker
+    private Cursor baselineStickerCursor(String stickerPackIdentifier) {
+        MatrixCursor cursor = new MatrixCursor(STICKER_COLUMNS);
+
+        String query = "SELECT " + String.join(", ", STICKER_COLUMNS) + " FROM " + TABLE_STICKER +
+                " WHERE " + FK_STICKER_PACK + " = ? ORDER BY " + ID_STICKER;
+
+        try (Cursor raw = database.rawQuery(query, new String[]{stickerPackIdentifier})) {
+            while (raw.moveToNext()) {
+                MatrixCursor.RowBuilder builder = cursor.newRow();
+                for (String column : STICKER_COLUMNS) {
+                    builder.add(rawString(raw, column));
+                }
+            }
+        }
+
+        return cursor;
+    }
+
+    private static String rawString(Cursor cursor, String column) {
+        return cursor.getString(cursor.getColumnIndexOrThrow(column));
+    }
+
+    private static void assertSameCursor(Cursor expected, Cursor actual) {
+        assertNotNull(actual);
+        assertArrayEquals(expected.getColumnNames(), actual.getColumnNames());
+        assertEquals(expected.getCount(), actual.getCount());
+
+        while (expected.moveToNext()) {
+            assertTrue(actual.moveToNext());
+
+            for (int column = 0; column < expected.getColumnCount(); column++) {
+                assertSameCell(expected.getColumnName(column) + " linha " + expected.getPosition(), expected, column, actual, column);
+            }
+        }
+    }
+
+    private static void assertSameCell(String message, Cursor expected, int expectedColumn, Cursor actual, int actualColumn) {
+        assertEquals(message, expected.getType(expectedColumn), actual.getType(actualColumn));
+        assertEquals(message, expected.isNull(expectedColumn), actual.isNull(actualColumn));
+        assertEquals(message, expected.getString(expectedColumn), actual.getString(actualColumn));
+
+        if (expected.getType(expectedColumn) == Cursor.FIELD_TYPE_INTEGER) {
+            assertEquals(message, expected.getLong(expectedColumn), actual.getLong(actualColumn));
+        }
+    }
+}
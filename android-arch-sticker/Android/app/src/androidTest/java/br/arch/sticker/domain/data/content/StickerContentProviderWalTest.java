@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.content;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.arch.sticker.domain.data.content.provider.StickerPackQueryProvider;
+import br.arch.sticker.domain.data.content.provider.StickerQueryProvider;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+
+// NOTE: Uma transação de salvamento fica aberta enquanto várias threads consultam o provider. Em WAL as leituras terminam
+// sem esperar o commit e enxergam só o que já estava gravado; depois do commit o pacote novo aparece.
+public class StickerContentProviderWalTest {
+    private static final String TAG_LOG = StickerContentProviderWalTest.class.getSimpleName();
+
+    private static final String DATABASE_NAME = "stickers-provider-wal-test.db";
+
+    private static final String SAVED_PACK_IDENTIFIER = "pack-saved";
+    private static final String SAVING_PACK_IDENTIFIER = "pack-saving";
+    private static final int STICKERS_PER_PACK = 30;
+    private static final int READER_THREADS = 4;
+    private static final int READS_PER_THREAD = 20;
+    private static final long READ_TIMEOUT_SECONDS = 10;
+    private static final int STRESS_PACKS = 200;
+    private static final long STRESS_TIMEOUT_SECONDS = 120;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private SQLiteDatabase database;
+    private StickerPackQueryProvider stickerPackQueryProvider;
+    private StickerQueryProvider stickerQueryProvider;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        database = databaseHelper.getWritableDatabase();
+        insertStickerPack(SAVED_PACK_IDENTIFIER);
+
+        StickerMetadataSnapshot.invalidate();
+        stickerPackQueryProvider = new StickerPackQueryProvider(context, database);
+        stickerQueryProvider = new StickerQueryProvider(context, database);
+    }
+
+    @After
+    public void tearDown() {
+        StickerMetadataSnapshot.invalidate();
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void databaseIsInWalMode() {
+        assertTrue(database.isWriteAheadLoggingEnabled());
+        assertEquals("wal", DatabaseUtils.stringForQuery(database, "PRAGMA journal_mode", null).toLowerCase());
+    }
+
+    @Test
+    public void providerReadsDoNotWaitForOpenWriteTransaction() throws Exception {
+        CountDownLatch transactionOpen = new CountDownLatch(1);
+        CountDownLatch readsFinished = new CountDownLatch(1);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ExecutorService readers = Executors.newFixedThreadPool(READER_THREADS);
+
+        try {
+            Future<?> write = writer.submit(() -> {
+                database.beginTransaction();
+                try {
+                    insertStickerPack(SAVING_PACK_IDENTIFIER);
+                    transactionOpen.countDown();
+                    // NOTE: Segura a transação até os leitores terminarem; se eles esperassem o commit, o await estouraria
+                    assertTrue(readsFinished.await(READ_TIMEOUT_SECONDS * 2, TimeUnit.SECONDS));
+                    database.setTransactionSuccessful();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(exception);
+                } finally {
+                    database.endTransaction();
+                }
+            });
+
+            assertTrue(transactionOpen.await(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            List<Future<?>> reads = new ArrayList<>();
+            for (int thread = 0; thread < READER_THREADS; thread++) {
+                reads.add(readers.submit(() -> {
+                    for (int read = 0; read < READS_PER_THREAD; read++) {
+                        // NOTE: Sem a foto em memória cada leitura vai ao banco
+                        StickerMetadataSnapshot.invalidate();
+                        assertEquals(1, countStickerPacks());
+                        assertEquals(STICKERS_PER_PACK, countStickers(SAVED_PACK_IDENTIFIER));
+                        assertEquals(0, countStickers(SAVING_PACK_IDENTIFIER));
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> read : reads) {
+                read.get(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            readsFinished.countDown();
+            write.get(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            readsFinished.countDown();
+            readers.shutdownNow();
+            writer.shutdownNow();
+        }
+
+        StickerMetadataSnapshot.invalidate();
+        assertEquals(2, countStickerPacks());
+        assertEquals(STICKERS_PER_PACK, countStickers(SAVING_PACK_IDENTIFIER));
+    }
+
+    @Test
+    public void reportProviderThroughputDuringPackInserts() throws Exception {
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ExecutorService readers = Executors.newFixedThreadPool(READER_THREADS);
+
+        long writeNanos;
+        long readNanos;
+        try {
+            List<Future<?>> readLoops = new ArrayList<>();
+            long readStart = System.nanoTime();
+            for (int thread = 0; thread < READER_THREADS; thread++) {
+                readLoops.add(readers.submit(() -> {
+                    do {
+                        StickerMetadataSnapshot.invalidate();
+                        int stickerPacks = countStickerPacks();
+                        assertTrue(stickerPacks >= 1 && stickerPacks <= STRESS_PACKS + 1);
+                        assertEquals(STICKERS_PER_PACK, countStickers(SAVED_PACK_IDENTIFIER));
+                        reads.incrementAndGet();
+                    } while (writing.get());
+                    return null;
+                }));
+            }
+
+            // NOTE: Uma transação por pacote, como no salvamento de um pacote novo
+            Future<Long> write = writer.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    for (int pack = 0; pack < STRESS_PACKS; pack++) {
+                        database.beginTransaction();
+                        try {
+                            insertStickerPack("pack-stress-" + pack);
+                            database.setTransactionSuccessful();
+                        } finally {
+                            database.endTransaction();
+                        }
+                    }
+                    return System.nanoTime() - start;
+                } finally {
+                    writing.set(false);
+                }
+            });
+
+            writeNanos = write.get(STRESS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            for (Future<?> readLoop : readLoops) {
+                readLoop.get(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            readNanos = System.nanoTime() - readStart;
+        } finally {
+            writing.set(false);
+            readers.shutdownNow();
+            writer.shutdownNow();
+        }
+
+        StickerMetadataSnapshot.invalidate();
+        assertEquals(STRESS_PACKS + 1, countStickerPacks());
+        assertTrue(reads.get() > 0);
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d pacotes x %d figurinhas com %d leitores: %.1f pacotes/s gravados, %.1f leituras/s no provider (%d leituras)",
+                STRESS_PACKS, STICKERS_PER_PACK, READER_THREADS,
+                STRESS_PACKS / (writeNanos / 1e9),
+                reads.get() / (readNanos / 1e9),
+                reads.get()));
+    }
+
+    private int countStickerPacks() {
+        try (Cursor cursor = stickerPackQueryProvider.fetchAllStickerPack(StickerContentProvider.AUTHORITY_URI, null)) {
+            assertNotNull(cursor);
+            return cursor.getCount();
+        }
+    }
+
+    private int countStickers(String stickerPackIdentifier) {
+        Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon()
+                .path(StickerContentProvider.STICKERS)
+                .appendPath(stickerPackIdentifier)
+                .build();
+
+        try (Cursor cursor = stickerQueryProvider.fetchStickerListForPack(uri, null)) {
+            return cursor == null ? 0 : cursor.getCount();
+        }
+    }
+
+    private void insertStickerPack(String stickerPackIdentifier) {
+        ContentValues stickerPack = new ContentValues();
+        stickerPack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPackIdentifier);
+        stickerPack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote " + stickerPackIdentifier);
+        stickerPack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        stickerPack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        stickerPack.put(ANIMATED_STICKER_PACK, 0);
+        database.insertOrThrow(TABLE_STICKER_PACK, null, stickerPack);
+
+        for (int index = 0; index < STICKERS_PER_PACK; index++) {
+            ContentValues sticker = new ContentValues();
+            sticker.put(STICKER_FILE_NAME_IN_QUERY, "sticker_" + index + ".webp");
+            sticker.put(STICKER_FILE_EMOJI_IN_QUERY, "😀");
+            sticker.put(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, "figurinha " + index);
+            sticker.put(FK_STICKER_PACK, stickerPackIdentifier);
+            database.insertOrThrow(TABLE_STICKER, null, sticker);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.content.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import br.arch.sticker.domain.data.content.StickerContentProvider;
+import br.arch.sticker.domain.data.content.helper.StickerPackQueryHelper;
+import br.arch.sticker.domain.data.content.provider.StickerPackQueryProvider;
+import br.arch.sticker.domain.data.content.provider.StickerQueryProvider;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.SyntheticStickerLibrary;
+
+public class StickerMetadataSnapshotTest {
+    private static final String TAG_LOG = StickerMetadataSnapshotTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "stickers-snapshot-test.db";
+
+    private static final int PACK_COUNT = 100;
+    private static final int STICKERS_PER_PACK = 30;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private StickerPackQueryHelper stickerPackQueryHelper;
+    private StickerPackQueryProvider stickerPackQueryProvider;
+    private StickerQueryProvider stickerQueryProvider;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        SQLiteDatabase database = databaseHelper.getWritableDatabase();
+        SyntheticStickerLibrary.insert(database, PACK_COUNT, STICKERS_PER_PACK);
+
+        StickerMetadataSnapshot.invalidate();
+        stickerPackQueryHelper = new StickerPackQueryHelper(context, database);
+        stickerPackQueryProvider = new StickerPackQueryProvider(context, database);
+        stickerQueryProvider = new StickerQueryProvider(context, database);
+    }
+
+    // NOTE: A foto é estática; invalidar devolve o provider do app ao banco de produção na próxima leitura
+    @After
+    public void tearDown() {
+        StickerMetadataSnapshot.invalidate();
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void snapshotIsReusedUntilInvalidated() {
+        StickerMetadataSnapshot first = stickerPackQueryHelper.acquireSnapshot();
+        assertSame(first, stickerPackQueryHelper.acquireSnapshot());
+        assertEquals(PACK_COUNT, first.getStickerPackList().size());
+
+        StickerMetadataSnapshot.invalidate();
+        StickerMetadataSnapshot rebuilt = stickerPackQueryHelper.acquireSnapshot();
+
+        assertNotSame(first, rebuilt);
+        assertEquals(first.getVersion() + 1, rebuilt.getVersion());
+        assertEquals(PACK_COUNT, rebuilt.getStickerPackList().size());
+    }
+
+    @Test
+    public void snapshotFindsPackByIdentifier() {
+        StickerMetadataSnapshot snapshot = stickerPackQueryHelper.acquireSnapshot();
+        String stickerPackIdentifier = SyntheticStickerLibrary.stickerPackIdentifier(PACK_COUNT / 2);
+
+        assertNotNull(snapshot.getStickerPack(stickerPackIdentifier));
+        assertEquals(STICKERS_PER_PACK, snapshot.getStickerPack(stickerPackIdentifier).getStickers().size());
+    }
+
+    // NOTE: Mesma sequência de consultas que o WhatsApp faz ao abrir a bandeja: a lista de pacotes e depois as figurinhas
+    // de cada pacote. Com a foto aquecida nenhuma consulta vai ao banco; invalidando antes de cada consulta, todas vão, como
+    // o provider fazia antes da foto. O tempo fica no logcat.
+    @Test
+    public void benchmarkSnapshotHitAgainstDatabaseQuery() {
+        long snapshotNanos = Long.MAX_VALUE;
+        long databaseNanos = Long.MAX_VALUE;
+
+        stickerPackQueryHelper.acquireSnapshot();
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            assertEquals(PACK_COUNT * STICKERS_PER_PACK, queryAllPacksAndStickers(false));
+            snapshotNanos = Math.min(snapshotNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            assertEquals(PACK_COUNT * STICKERS_PER_PACK, queryAllPacksAndStickers(true));
+            databaseNanos = Math.min(databaseNanos, System.nanoTime() - start);
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d pacotes x %d figurinhas, %d consultas: foto em memória %d µs, banco a cada consulta %d µs",
+                PACK_COUNT, STICKERS_PER_PACK, PACK_COUNT + 1, snapshotNanos / 1_000, databaseNanos / 1_000));
+    }
+
+    private int queryAllPacksAndStickers(boolean invalidateBeforeEachQuery) {
+        int stickerCount = 0;
+
+        if (invalidateBeforeEachQuery) {
+            StickerMetadataSnapshot.invalidate();
+        }
+        try (Cursor packs = stickerPackQueryProvider.fetchAllStickerPack(StickerContentProvider.AUTHORITY_URI, null)) {
+            assertEquals(PACK_COUNT, packs.getCount());
+        }
+
+        for (int packIndex = 0; packIndex < PACK_COUNT; packIndex++) {
+            Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon()
+                    .path(StickerContentProvider.STICKERS)
+                    .appendPath(SyntheticStickerLibrary.stickerPackIdentifier(packIndex))
+                    .build();
+
+            if (invalidateBeforeEachQuery) {
+                StickerMetadataSnapshot.invalidate();
+            }
+            try (Cursor stickers = stickerQueryProvider.fetchStickerListForPack(uri, null)) {
+                stickerCount += stickers.getCount();
+            }
+        }
+
+        return stickerCount;
+    }
+}
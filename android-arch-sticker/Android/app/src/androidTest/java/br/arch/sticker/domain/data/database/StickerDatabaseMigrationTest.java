@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_HASH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_REF_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.DATABASE_VERSION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_BLOB_HASH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ID_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_BLOB_REF_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_STICKER_PACK_FILE_NAME;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_TOMBSTONE_CREATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_PACK_IDENTIFIER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_STATE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_SAVE_JOURNAL;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB_REF;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK_TOMBSTONE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_VALIDATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_CREATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_PACK_IDENTIFIER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TRIGGER_BLOB_REF_DELETE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TRIGGER_BLOB_REF_INSERT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TRIGGER_BLOB_REF_UPDATE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_ANIMATED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_CRC32;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_FILE_LENGTH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_OUTCOME;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_RULES_VERSION;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import br.arch.sticker.domain.data.database.repository.SaveJournalRepo;
+import br.arch.sticker.domain.data.database.repository.StickerBlobRepo;
+import br.arch.sticker.domain.data.database.repository.StickerPackTombstoneRepo;
+import br.arch.sticker.domain.dto.SaveJournalState;
+
+// NOTE: O esquema da versão 1 fica congelado aqui; o onCreate atual não serve de base porque já roda as migrações.
+// @formatter:off
+public class StickerDatabaseMigrationTest {
+    private static final String UPGRADED_DATABASE_NAME = "stickers-migration-test.db";
+    private static final String FRESH_DATABASE_NAME = "stickers-fresh-test.db";
+
+    private static final String PACK_IDENTIFIER = "0b6c2a8e-3f51-4d7a-9c1e-5a2f7d9e4b10";
+    private static final String OTHER_PACK_IDENTIFIER = "f3a9d2c1-7e4b-4a60-8d15-2c9b6e0f1a37";
+
+    private Context context;
+    private final List<StickerDatabaseHelper> openHelpers = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(UPGRADED_DATABASE_NAME);
+        context.deleteDatabase(FRESH_DATABASE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        for (StickerDatabaseHelper helper : openHelpers) {
+            helper.close();
+        }
+
+        context.deleteDatabase(UPGRADED_DATABASE_NAME);
+        context.deleteDatabase(FRESH_DATABASE_NAME);
+    }
+
+    @Test
+    public void upgradeFromVersionOneKeepsRowsAndReachesCurrentVersion() {
+        createVersionOneDatabase();
+
+        SQLiteDatabase database = openHelper(UPGRADED_DATABASE_NAME).getWritableDatabase();
+
+        assertEquals(DATABASE_VERSION, database.getVersion());
+        assertEquals(1, DatabaseUtils.queryNumEntries(database, TABLE_STICKER_PACK));
+        assertEquals(2, DatabaseUtils.queryNumEntries(database, TABLE_STICKER));
+
+        try (Cursor cursor = database.rawQuery("SELECT " + STICKER_FILE_EMOJI_IN_QUERY + ", " + STICKER_FILE_SIZE + " FROM " + TABLE_STICKER +
+                " WHERE " + FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?", new String[]{PACK_IDENTIFIER, "sticker_1.webp"})) {
+            assertTrue(cursor.moveToFirst());
+            assertEquals("😀", cursor.getString(0));
+            assertTrue(cursor.isNull(1));
+        }
+
+        Map<String, String> schema = readSchema(database);
+        for (String name : new String[]{TABLE_STICKER_VALIDATION, TABLE_STICKER_BLOB, TABLE_STICKER_BLOB_REF, TABLE_SAVE_JOURNAL,
+                TABLE_STICKER_PACK_TOMBSTONE}) {
+            assertEquals(name, "table", schema.get(name));
+        }
+        for (String name : new String[]{INDEX_STICKER_PACK_FILE_NAME, INDEX_BLOB_REF_COUNT, INDEX_JOURNAL_UPDATED_AT,
+                INDEX_TOMBSTONE_CREATED_AT}) {
+            assertEquals(name, "index", schema.get(name));
+        }
+        for (String name : new String[]{TRIGGER_BLOB_REF_INSERT, TRIGGER_BLOB_REF_DELETE, TRIGGER_BLOB_REF_UPDATE}) {
+            assertEquals(name, "trigger", schema.get(name));
+        }
+    }
+
+    @Test
+    public void upgradedSchemaMatchesFreshInstall() {
+        createVersionOneDatabase();
+
+        SQLiteDatabase upgraded = openHelper(UPGRADED_DATABASE_NAME).getWritableDatabase();
+        SQLiteDatabase fresh = openHelper(FRESH_DATABASE_NAME).getWritableDatabase();
+
+        Map<String, String> upgradedSchema = readSchema(upgraded);
+        assertEquals(readSchema(fresh), upgradedSchema);
+
+        for (Map.Entry<String, String> entry : upgradedSchema.entrySet()) {
+            if ("table".equals(entry.getValue())) {
+                assertEquals(entry.getKey(), readColumns(fresh, entry.getKey()), readColumns(upgraded, entry.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void blobTriggersKeepReferenceCount() {
+        createVersionOneDatabase();
+
+        SQLiteDatabase database = openHelper(UPGRADED_DATABASE_NAME).getWritableDatabase();
+        StickerBlobRepo stickerBlobRepo = new StickerBlobRepo(database);
+
+        assertTrue(stickerBlobRepo.upsertBlobReference(PACK_IDENTIFIER, "sticker_1.webp", "hash-a", 100));
+        assertTrue(stickerBlobRepo.upsertBlobReference(OTHER_PACK_IDENTIFIER, "sticker_1.webp", "hash-a", 100));
+        assertEquals(2, readRefCount(database, "hash-a"));
+
+        // Mesma figurinha regravada com o mesmo conteúdo não conta duas vezes
+        assertTrue(stickerBlobRepo.upsertBlobReference(PACK_IDENTIFIER, "sticker_1.webp", "hash-a", 100));
+        assertEquals(2, readRefCount(database, "hash-a"));
+
+        // Troca de conteúdo move a referência pelo trigger de UPDATE
+        assertTrue(stickerBlobRepo.upsertBlobReference(OTHER_PACK_IDENTIFIER, "sticker_1.webp", "hash-b", 50));
+        assertEquals(1, readRefCount(database, "hash-a"));
+        assertEquals(1, readRefCount(database, "hash-b"));
+        assertEquals("hash-b", stickerBlobRepo.getBlobHash(OTHER_PACK_IDENTIFIER, "sticker_1.webp"));
+
+        assertEquals(1, stickerBlobRepo.deleteBlobReference(PACK_IDENTIFIER, "sticker_1.webp"));
+        assertEquals(0, readRefCount(database, "hash-a"));
+        assertEquals(1, stickerBlobRepo.deleteBlobReferencesByPack(OTHER_PACK_IDENTIFIER));
+        assertEquals(0, readRefCount(database, "hash-b"));
+
+        Map<String, Long> unreferencedBlobs = stickerBlobRepo.getUnreferencedBlobs();
+        assertEquals(2, unreferencedBlobs.size());
+        assertEquals(Long.valueOf(100), unreferencedBlobs.get("hash-a"));
+
+        assertTrue(stickerBlobRepo.upsertBlobReference(PACK_IDENTIFIER, "sticker_2.webp", "hash-b", 50));
+        assertFalse(stickerBlobRepo.deleteUnreferencedBlob("hash-b"));
+        assertTrue(stickerBlobRepo.deleteUnreferencedBlob("hash-a"));
+        assertEquals(1, DatabaseUtils.queryNumEntries(database, TABLE_STICKER_BLOB));
+    }
+
+    @Test
+    public void journalAndTombstoneTablesRoundTrip() {
+        createVersionOneDatabase();
+
+        SQLiteDatabase database = openHelper(UPGRADED_DATABASE_NAME).getWritableDatabase();
+        SaveJournalRepo saveJournalRepo = new SaveJournalRepo(database);
+
+        assertTrue(saveJournalRepo.writeState(PACK_IDENTIFIER, SaveJournalState.INTENT));
+        assertTrue(saveJournalRepo.writeState(PACK_IDENTIFIER, SaveJournalState.PUBLISHED));
+        assertEquals(SaveJournalState.PUBLISHED, saveJournalRepo.getState(PACK_IDENTIFIER));
+        assertEquals(1, DatabaseUtils.queryNumEntries(database, TABLE_SAVE_JOURNAL));
+        assertEquals(SaveJournalState.PUBLISHED, saveJournalRepo.getEntriesUpdatedBefore(Long.MAX_VALUE).get(PACK_IDENTIFIER));
+        assertTrue(saveJournalRepo.getEntriesUpdatedBefore(0).isEmpty());
+        assertEquals(1, saveJournalRepo.deleteEntry(PACK_IDENTIFIER));
+        assertNull(saveJournalRepo.getState(PACK_IDENTIFIER));
+
+        StickerPackTombstoneRepo stickerPackTombstoneRepo = new StickerPackTombstoneRepo(database);
+
+        assertTrue(stickerPackTombstoneRepo.insertTombstone(PACK_IDENTIFIER));
+        assertTrue(stickerPackTombstoneRepo.insertTombstone(PACK_IDENTIFIER));
+        assertTrue(stickerPackTombstoneRepo.insertTombstone(OTHER_PACK_IDENTIFIER));
+        assertEquals(List.of(PACK_IDENTIFIER, OTHER_PACK_IDENTIFIER), stickerPackTombstoneRepo.getTombstones(10));
+        assertEquals(List.of(PACK_IDENTIFIER), stickerPackTombstoneRepo.getTombstones(1));
+        assertEquals(1, stickerPackTombstoneRepo.deleteTombstone(PACK_IDENTIFIER));
+        assertEquals(List.of(OTHER_PACK_IDENTIFIER), stickerPackTombstoneRepo.getTombstones(10));
+    }
+
+    // NOTE: Leituras da tabela inteira (getAllStickerPackRowsOrderedByRowId e getAllStickersOrderedByStickerPack) ficam de fora:
+    // percorrem todas as linhas de qualquer jeito.
+    @Test
+    public void repositoryQueriesUseAnIndex() {
+        createVersionOneDatabase();
+
+        SQLiteDatabase database = openHelper(UPGRADED_DATABASE_NAME).getWritableDatabase();
+        insertSyntheticLibrary(database);
+
+        String packKey = STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?";
+        String stickerKey = FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?";
+        String[] packArgs = {PACK_IDENTIFIER};
+        String[] stickerArgs = {PACK_IDENTIFIER, "sticker_1.webp"};
+
+        // SelectStickerPackRepo
+        assertUsesIndex(database, "getStickerPackIsAnimated",
+                "SELECT DISTINCT " + TABLE_STICKER_PACK + "." + ANIMATED_STICKER_PACK + " FROM " + TABLE_STICKER_PACK +
+                        " WHERE " + TABLE_STICKER_PACK + "." + packKey, packArgs);
+        assertUsesIndex(database, "getStickerByStickerPackIdentifier",
+                "SELECT * FROM " + TABLE_STICKER + " WHERE " + FK_STICKER_PACK + " = (SELECT " + STICKER_PACK_IDENTIFIER_IN_QUERY +
+                        " FROM " + TABLE_STICKER_PACK + " WHERE " + packKey + ")", packArgs);
+        assertUsesIndex(database, "getStickerPackRowsAfterRowId",
+                "SELECT " + TABLE_STICKER_PACK + ".rowid, * FROM " + TABLE_STICKER_PACK + " WHERE " + TABLE_STICKER_PACK + ".rowid > ?" +
+                        " ORDER BY " + TABLE_STICKER_PACK + ".rowid LIMIT ?", new String[]{"0", "20"});
+        assertUsesIndex(database, "getStickersInStickerPackRowIdRange",
+                "SELECT " + TABLE_STICKER_PACK + ".rowid, " + TABLE_STICKER + ".* FROM " + TABLE_STICKER +
+                        " INNER JOIN " + TABLE_STICKER_PACK + " ON " + TABLE_STICKER + "." + FK_STICKER_PACK + " = " +
+                        TABLE_STICKER_PACK + "." + STICKER_PACK_IDENTIFIER_IN_QUERY +
+                        " WHERE " + TABLE_STICKER_PACK + ".rowid BETWEEN ? AND ?" +
+                        " ORDER BY " + TABLE_STICKER_PACK + ".rowid, " + TABLE_STICKER + "." + ID_STICKER, new String[]{"1", "20"});
+        assertUsesIndex(database, "getStickerPackRowByIdentifier",
+                "SELECT * FROM " + TABLE_STICKER_PACK + " WHERE " + packKey, packArgs);
+
+        // DeleteStickerPackRepo / UpdateStickerPackRepo
+        assertUsesIndex(database, "deleteStickerPackFromDatabase", "DELETE FROM " + TABLE_STICKER_PACK + " WHERE " + packKey, packArgs);
+        assertUsesIndex(database, "UpdateStickerPackRepo",
+                "UPDATE " + TABLE_STICKER_PACK + " SET " + STICKER_PACK_NAME_IN_QUERY + " = 'x' WHERE " + packKey, packArgs);
+
+        // DeleteStickerRepo / UpdateStickerRepo
+        assertUsesIndex(database, "DeleteStickerRepo", "DELETE FROM " + TABLE_STICKER + " WHERE " + stickerKey, stickerArgs);
+        assertUsesIndex(database, "DeleteStickerRepo (lote)",
+                "DELETE FROM " + TABLE_STICKER + " WHERE " + FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " IN (?, ?)",
+                new String[]{PACK_IDENTIFIER, "sticker_1.webp", "sticker_2.webp"});
+        assertUsesIndex(database, "UpdateStickerRepo",
+                "UPDATE " + TABLE_STICKER + " SET " + STICKER_FILE_SIZE + " = NULL WHERE " + stickerKey, stickerArgs);
+        assertUsesIndex(database, "updateInvalidStickers",
+                "UPDATE " + TABLE_STICKER + " SET " + STICKER_IS_VALID + " = ? WHERE " + stickerKey +
+                        " AND (" + STICKER_IS_VALID + " IS NULL OR " + STICKER_IS_VALID + " != ?)",
+                new String[]{"x", PACK_IDENTIFIER, "sticker_1.webp", "x"});
+
+        // StickerValidationRepo
+        assertUsesIndex(database, "isStickerValidated",
+                "SELECT " + FK_STICKER_PACK + " FROM " + TABLE_STICKER_VALIDATION + " WHERE " + stickerKey + " AND " +
+                        VALIDATION_FILE_LENGTH + " = ? AND " + VALIDATION_FILE_LAST_MODIFIED + " = ? AND " + VALIDATION_ANIMATED + " = ? AND " +
+                        VALIDATION_RULES_VERSION + " = ? AND " + VALIDATION_OUTCOME + " IS NULL LIMIT 1",
+                new String[]{PACK_IDENTIFIER, "sticker_1.webp", "1", "1", "0", "1"});
+        assertUsesIndex(database, "getValidatedChecksum",
+                "SELECT " + VALIDATION_CRC32 + " FROM " + TABLE_STICKER_VALIDATION + " WHERE " + stickerKey + " AND " +
+                        VALIDATION_FILE_LENGTH + " = ? AND " + VALIDATION_ANIMATED + " = ? AND " + VALIDATION_RULES_VERSION + " = ? AND " +
+                        VALIDATION_OUTCOME + " IS NULL AND " + VALIDATION_CRC32 + " IS NOT NULL LIMIT 1",
+                new String[]{PACK_IDENTIFIER, "sticker_1.webp", "1", "0", "1"});
+        assertUsesIndex(database, "deleteStickerValidation",
+                "DELETE FROM " + TABLE_STICKER_VALIDATION + " WHERE " + stickerKey, stickerArgs);
+        assertUsesIndex(database, "deleteStickerValidationByPack",
+                "DELETE FROM " + TABLE_STICKER_VALIDATION + " WHERE " + FK_STICKER_PACK + " = ?", packArgs);
+
+        // StickerBlobRepo
+        assertUsesIndex(database, "upsertBlobReference",
+                "UPDATE " + TABLE_STICKER_BLOB_REF + " SET " + FK_BLOB_HASH + " = ? WHERE " + stickerKey + " AND " + FK_BLOB_HASH + " != ?",
+                new String[]{"hash-a", PACK_IDENTIFIER, "sticker_1.webp", "hash-a"});
+        assertUsesIndex(database, "getBlobHash",
+                "SELECT " + FK_BLOB_HASH + " FROM " + TABLE_STICKER_BLOB_REF + " WHERE " + stickerKey + " LIMIT 1", stickerArgs);
+        assertUsesIndex(database, "deleteBlobReference", "DELETE FROM " + TABLE_STICKER_BLOB_REF + " WHERE " + stickerKey, stickerArgs);
+        assertUsesIndex(database, "deleteBlobReferencesByPack",
+                "DELETE FROM " + TABLE_STICKER_BLOB_REF + " WHERE " + FK_STICKER_PACK + " = ?", packArgs);
+        assertUsesIndex(database, "getUnreferencedBlobs",
+                "SELECT " + BLOB_HASH + ", " + BLOB_SIZE + " FROM " + TABLE_STICKER_BLOB + " WHERE " + BLOB_REF_COUNT + " <= 0", null);
+        assertUsesIndex(database, "deleteUnreferencedBlob",
+                "DELETE FROM " + TABLE_STICKER_BLOB + " WHERE " + BLOB_HASH + " = ? AND " + BLOB_REF_COUNT + " <= 0", new String[]{"hash-a"});
+
+        // SaveJournalRepo
+        assertUsesIndex(database, "getState",
+                "SELECT " + JOURNAL_STATE + " FROM " + TABLE_SAVE_JOURNAL + " WHERE " + JOURNAL_PACK_IDENTIFIER + " = ?", packArgs);
+        assertUsesIndex(database, "getEntriesUpdatedBefore",
+                "SELECT " + JOURNAL_PACK_IDENTIFIER + ", " + JOURNAL_STATE + " FROM " + TABLE_SAVE_JOURNAL + " WHERE " + JOURNAL_UPDATED_AT + " < ?",
+                new String[]{"0"});
+        assertUsesIndex(database, "deleteEntry",
+                "DELETE FROM " + TABLE_SAVE_JOURNAL + " WHERE " + JOURNAL_PACK_IDENTIFIER + " = ?", packArgs);
+
+        // StickerPackTombstoneRepo
+        assertUsesIndex(database, "getTombstones",
+                "SELECT " + TOMBSTONE_PACK_IDENTIFIER + " FROM " + TABLE_STICKER_PACK_TOMBSTONE + " ORDER BY " + TOMBSTONE_CREATED_AT +
+                        " ASC LIMIT 100", null);
+        assertUsesIndex(database, "deleteTombstone",
+                "DELETE FROM " + TABLE_STICKER_PACK_TOMBSTONE + " WHERE " + TOMBSTONE_PACK_IDENTIFIER + " = ?", packArgs);
+    }
+
+    // NOTE: Com um único pacote analisado o planejador prefere varrer a tabela; uma biblioteca com o tamanho de uso real
+    // deixa as estatísticas do ANALYZE parecidas com as de produção.
+    private static void insertSyntheticLibrary(SQLiteDatabase database) {
+        database.beginTransaction();
+        try {
+            for (int packIndex = 0; packIndex < 100; packIndex++) {
+                String stickerPackIdentifier = "synthetic-" + packIndex;
+
+                ContentValues pack = new ContentValues();
+                pack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPackIdentifier);
+                pack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote " + packIndex);
+                pack.put("sticker_pack_publisher", "arch");
+                pack.put("sticker_pack_icon", "tray.png");
+                pack.put("animated_sticker_pack", "0");
+                database.insertOrThrow(TABLE_STICKER_PACK, null, pack);
+
+                for (int stickerIndex = 0; stickerIndex < 30; stickerIndex++) {
+                    ContentValues sticker = new ContentValues();
+                    sticker.put(STICKER_FILE_NAME_IN_QUERY, "sticker_" + stickerIndex + ".webp");
+                    sticker.put("sticker_emoji", "😀");
+                    sticker.put("sticker_accessibility_text", "figurinha " + stickerIndex);
+                    sticker.put(FK_STICKER_PACK, stickerPackIdentifier);
+                    database.insertOrThrow(TABLE_STICKER, null, sticker);
+                }
+            }
+
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+
+        database.execSQL("ANALYZE");
+    }
+
+    private StickerDatabaseHelper openHelper(String databaseName) {
+        StickerDatabaseHelper helper = new StickerDatabaseHelper(context, databaseName);
+        openHelpers.add(helper);
+        return helper;
+    }
+
+    private void createVersionOneDatabase() {
+        SQLiteDatabase database = context.openOrCreateDatabase(UPGRADED_DATABASE_NAME, Context.MODE_PRIVATE, null);
+        try {
+            database.execSQL(
+                    "CREATE TABLE sticker_pack (" +
+                            "sticker_pack_identifier TEXT PRIMARY KEY CHECK(length(sticker_pack_identifier) <= 36), " +
+                            "sticker_pack_name VARCHAR NOT NULL CHECK(length(sticker_pack_name) <= 35), " +
+                            "sticker_pack_publisher VARCHAR(20) NOT NULL, " +
+                            "sticker_pack_icon CHAR(3) NOT NULL, " +
+                            "sticker_pack_publisher_email VARCHAR(60), " +
+                            "sticker_pack_publisher_website VARCHAR CHECK(length(sticker_pack_publisher_website) <= 40), " +
+                            "sticker_pack_privacy_policy_website VARCHAR(100), " +
+                            "sticker_pack_license_agreement_website VARCHAR(100), " +
+                            "animated_sticker_pack CHAR(1) NOT NULL, " +
+                            "image_data_version CHAR(4), " +
+                            "whatsapp_will_not_cache_stickers CHAR(5), " +
+                            "android_play_store_link VARCHAR(100), " +
+                            "ios_app_download_link VARCHAR(100))"
+            );
+            database.execSQL(
+                    "CREATE TABLE sticker (" +
+                            "id_sticker INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                            "sticker_file_name VARCHAR(255) NOT NULL, " +
+                            "sticker_emoji TEXT NOT NULL, " +
+                            "sticker_is_valid VARCHAR(255), " +
+                            "sticker_accessibility_text TEXT NOT NULL, " +
+                            "fk_sticker_pack TEXT, " +
+                            "FOREIGN KEY(fk_sticker_pack) REFERENCES sticker_pack(sticker_pack_identifier) ON DELETE CASCADE)"
+            );
+
+            ContentValues pack = new ContentValues();
+            pack.put("sticker_pack_identifier", PACK_IDENTIFIER);
+            pack.put("sticker_pack_name", "Pacote antigo");
+            pack.put("sticker_pack_publisher", "arch");
+            pack.put("sticker_pack_icon", "tray.png");
+            pack.put("animated_sticker_pack", "0");
+            database.insertOrThrow("sticker_pack", null, pack);
+
+            for (int index = 1; index <= 2; index++) {
+                ContentValues sticker = new ContentValues();
+                sticker.put("sticker_file_name", "sticker_" + index + ".webp");
+                sticker.put("sticker_emoji", "😀");
+                sticker.put("sticker_accessibility_text", "figurinha " + index);
+                sticker.put("fk_sticker_pack", PACK_IDENTIFIER);
+                database.insertOrThrow("sticker", null, sticker);
+            }
+
+            database.setVersion(1);
+        } finally {
+            database.close();
+        }
+    }
+
+    // NOTE: Cada linha SCAN do plano precisa vir de um índice; SEARCH já é uma busca por índice ou chave primária.
+    private static void assertUsesIndex(SQLiteDatabase database, String queryName, String sql, String[] args) {
+        List<String> planDetails = new ArrayList<>();
+        try (Cursor cursor = database.rawQuery("EXPLAIN QUERY PLAN " + sql, args)) {
+            int detailIndex = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext()) {
+                planDetails.add(cursor.getString(detailIndex));
+            }
+        }
+
+        assertFalse(queryName + ": plano vazio", planDetails.isEmpty());
+        for (String detail : planDetails) {
+            assertFalse(queryName + ": " + planDetails, detail.startsWith("SCAN") && !detail.contains(" USING "));
+        }
+    }
+
+    private static long readRefCount(SQLiteDatabase database, String blobHash) {
+        return DatabaseUtils.longForQuery(database,
+                "SELECT " + BLOB_REF_COUNT + " FROM " + TABLE_STICKER_BLOB + " WHERE " + BLOB_HASH + " = ?", new String[]{blobHash});
+    }
+
+    // NOTE: Nome -> tipo de tudo que o app criou, sem os objetos internos do SQLite e do Android
+    private static Map<String, String> readSchema(SQLiteDatabase database) {
+        Map<String, String> schema = new TreeMap<>();
+        try (Cursor cursor = database.rawQuery("SELECT name, type FROM sqlite_master WHERE name NOT LIKE 'sqlite_%' AND name != 'android_metadata'",
+                null)) {
+            while (cursor.moveToNext()) {
+                schema.put(cursor.getString(0), cursor.getString(1));
+            }
+        }
+
+        return schema;
+    }
+
+    private static TreeSet<String> readColumns(SQLiteDatabase database, String table) {
+        TreeSet<String> columns = new TreeSet<>();
+        try (Cursor cursor = database.rawQuery("PRAGMA table_info(" + table + ")", null)) {
+            while (cursor.moveToNext()) {
+                columns.add(cursor.getString(cursor.getColumnIndexOrThrow("name")) + " " +
+                        cursor.getString(cursor.getColumnIndexOrThrow("type")) + " " +
+                        cursor.getInt(cursor.getColumnIndexOrThrow("notnull")) + " " +
+                        cursor.getInt(cursor.getColumnIndexOrThrow("pk")));
+            }
+        }
+
+        return columns;
+    }
+}
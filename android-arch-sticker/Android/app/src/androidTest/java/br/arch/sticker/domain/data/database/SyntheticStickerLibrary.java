@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+// NOTE: Biblioteca sintética para os benchmarks instrumentados, gravada com SQL direto para não depender do código medido.
+public final class SyntheticStickerLibrary {
+    private SyntheticStickerLibrary() {
+    }
+
+    @NonNull
+    public static String stickerPackIdentifier(int packIndex) {
+        return String.format(Locale.ROOT, "synthetic-%04d", packIndex);
+    }
+
+    public static void insert(@NonNull SQLiteDatabase database, int packCount, int stickersPerPack) {
+        database.beginTransaction();
+        try {
+            for (int packIndex = 0; packIndex < packCount; packIndex++) {
+                String stickerPackIdentifier = stickerPackIdentifier(packIndex);
+
+                ContentValues pack = new ContentValues();
+                pack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPackIdentifier);
+                pack.put(STICKER_PACK_NAME_IN_QUERY, "Pacote " + packIndex);
+                pack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+                pack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+                pack.put(ANIMATED_STICKER_PACK, "0");
+                database.insertOrThrow(TABLE_STICKER_PACK, null, pack);
+
+                for (int stickerIndex = 0; stickerIndex < stickersPerPack; stickerIndex++) {
+                    ContentValues sticker = new ContentValues();
+                    sticker.put(STICKER_FILE_NAME_IN_QUERY, "sticker_" + stickerIndex + ".webp");
+                    sticker.put(STICKER_FILE_EMOJI_IN_QUERY, "😀");
+                    sticker.put(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, "figurinha " + stickerIndex);
+                    sticker.put(FK_STICKER_PACK, stickerPackIdentifier);
+                    database.insertOrThrow(TABLE_STICKER, null, sticker);
+                }
+            }
+
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+
+        database.execSQL("ANALYZE");
+    }
+}
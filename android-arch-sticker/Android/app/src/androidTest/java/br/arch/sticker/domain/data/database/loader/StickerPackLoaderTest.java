@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.loader;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import br.arch.sticker.domain.data.content.StickerContentProvider;
+import br.arch.sticker.domain.data.content.provider.StickerPackQueryProvider;
+import br.arch.sticker.domain.data.content.provider.StickerQueryProvider;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.SyntheticStickerLibrary;
+import br.arch.sticker.domain.data.database.mapper.StickerPackRowMapper;
+import br.arch.sticker.domain.data.database.mapper.StickerRowMapper;
+import br.arch.sticker.domain.data.database.repository.SelectStickerPackRepo;
+import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.StickerPackPage;
+import br.arch.sticker.domain.dto.StickerPackRowPage;
+import br.arch.sticker.view.feature.stickerpack.list.activity.StickerPackListActivity;
+
+public class StickerPackLoaderTest {
+    private static final String TAG_LOG = StickerPackLoaderTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "stickers-loader-test.db";
+
+    private static final int PACK_COUNT = 500;
+    private static final int STICKERS_PER_PACK = 30;
+    private static final int BENCHMARK_ROUNDS = 5;
+    private static final int[] MERGE_BENCHMARK_PACK_COUNTS = {100, 1_000, 5_000};
+
+    // NOTE: A consulta que o carregamento usava antes do merge, repetindo as colunas do pacote em cada figurinha
+    private static final String DISTINCT_JOIN_QUERY = "SELECT DISTINCT " + TABLE_STICKER_PACK + ".*, " + TABLE_STICKER + ".*" +
+            " FROM " + TABLE_STICKER_PACK +
+            " INNER JOIN " + TABLE_STICKER +
+            " ON " + TABLE_STICKER_PACK + "." + STICKER_PACK_IDENTIFIER_IN_QUERY + " = " + TABLE_STICKER + "." + FK_STICKER_PACK;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private SQLiteDatabase database;
+    private StickerPackLoader stickerPackLoader;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        database = databaseHelper.getWritableDatabase();
+        SyntheticStickerLibrary.insert(database, PACK_COUNT, STICKERS_PER_PACK);
+
+        StickerMetadataSnapshot.invalidate();
+        stickerPackLoader = new StickerPackLoader(database);
+    }
+
+    // NOTE: A foto é estática; invalidar devolve o provider do app ao banco de produção na próxima leitura
+    @After
+    public void tearDown() {
+        StickerMetadataSnapshot.invalidate();
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void loadAllReturnsEveryPackInInsertionOrderWithItsStickers() throws Exception {
+        List<StickerPack> stickerPacks = stickerPackLoader.loadAllStickerPacks();
+
+        assertEquals(PACK_COUNT, stickerPacks.size());
+        for (int packIndex = 0; packIndex < PACK_COUNT; packIndex++) {
+            StickerPack stickerPack = stickerPacks.get(packIndex);
+            assertEquals(SyntheticStickerLibrary.stickerPackIdentifier(packIndex), stickerPack.identifier);
+            assertEquals(STICKERS_PER_PACK, stickerPack.getStickers().size());
+            assertEquals("sticker_0.webp", stickerPack.getStickers().get(0).imageFileName);
+            assertEquals(stickerPack.identifier, stickerPack.getStickers().get(0).uuidPack);
+        }
+    }
+
+    @Test
+    public void packWithoutStickersIsReturnedWithAnEmptyList() throws Exception {
+        ContentValues pack = new ContentValues();
+        pack.put(STICKER_PACK_IDENTIFIER_IN_QUERY, "empty-pack");
+        pack.put(STICKER_PACK_NAME_IN_QUERY, "Vazio");
+        pack.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        pack.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        pack.put(ANIMATED_STICKER_PACK, "0");
+        database.insertOrThrow(TABLE_STICKER_PACK, null, pack);
+
+        List<StickerPack> stickerPacks = stickerPackLoader.loadAllStickerPacks();
+
+        assertEquals(PACK_COUNT + 1, stickerPacks.size());
+        StickerPack last = stickerPacks.get(PACK_COUNT);
+        assertEquals("empty-pack", last.identifier);
+        assertTrue(last.getStickers().isEmpty());
+        assertEquals(STICKERS_PER_PACK, stickerPacks.get(PACK_COUNT - 1).getStickers().size());
+    }
+
+    @Test
+    public void pagesCoverEveryPackOnce() throws Exception {
+        final int pageSize = StickerPackListActivity.STICKER_PACK_PAGE_SIZE;
+        Set<String> identifiers = new HashSet<>();
+        long afterRowId = StickerPackPage.FIRST_PAGE_ROW_ID;
+        int pageCount = 0;
+
+        while (true) {
+            StickerPackRowPage page = stickerPackLoader.loadStickerPackPage(afterRowId, pageSize);
+            if (page.stickerPacks().isEmpty()) {
+                assertEquals(afterRowId, page.lastRowId());
+                break;
+            }
+
+            assertTrue(page.stickerPacks().size() <= pageSize);
+            for (StickerPack stickerPack : page.stickerPacks()) {
+                assertTrue(identifiers.add(stickerPack.identifier));
+                assertEquals(STICKERS_PER_PACK, stickerPack.getStickers().size());
+            }
+
+            afterRowId = page.lastRowId();
+            pageCount++;
+        }
+
+        assertEquals(PACK_COUNT, identifiers.size());
+        assertEquals((PACK_COUNT + pageSize - 1) / pageSize, pageCount);
+    }
+
+    @Test
+    public void loadsSinglePackByIdentifier() throws Exception {
+        String stickerPackIdentifier = SyntheticStickerLibrary.stickerPackIdentifier(PACK_COUNT / 2);
+
+        StickerPack stickerPack = stickerPackLoader.loadStickerPack(stickerPackIdentifier);
+
+        assertNotNull(stickerPack);
+        assertEquals(stickerPackIdentifier, stickerPack.identifier);
+        assertEquals(STICKERS_PER_PACK, stickerPack.getStickers().size());
+        assertNull(stickerPackLoader.loadStickerPack("missing-pack"));
+    }
+
+    // NOTE: Abertura da EntryActivity com 500 pacotes. Antes a lista vinha pelo content provider: a foto de metadados fria
+    // (primeira abertura), um cursor de pacotes e um de figurinhas por pacote. Agora vem direto do StickerPackLoader, tanto a
+    // lista inteira quanto a primeira página. O salto pelo ContentResolver não é medido, pois o provider do app está preso ao
+    // banco de produção. O tempo fica no logcat.
+    @Test
+    public void benchmarkEntryLoadAgainstProviderCursors() throws Exception {
+        StickerPackQueryProvider stickerPackQueryProvider = new StickerPackQueryProvider(context, database);
+        StickerQueryProvider stickerQueryProvider = new StickerQueryProvider(context, database);
+
+        long providerNanos = Long.MAX_VALUE;
+        long loadAllNanos = Long.MAX_VALUE;
+        long firstPageNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            StickerMetadataSnapshot.invalidate();
+            long start = System.nanoTime();
+            assertEquals(PACK_COUNT * STICKERS_PER_PACK, readThroughProvider(stickerPackQueryProvider, stickerQueryProvider));
+            providerNanos = Math.min(providerNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            assertEquals(PACK_COUNT, stickerPackLoader.loadAllStickerPacks().size());
+            loadAllNanos = Math.min(loadAllNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            StickerPackRowPage page = stickerPackLoader.loadStickerPackPage(StickerPackPage.FIRST_PAGE_ROW_ID,
+                    StickerPackListActivity.STICKER_PACK_PAGE_SIZE);
+            firstPageNanos = Math.min(firstPageNanos, System.nanoTime() - start);
+            assertEquals(StickerPackListActivity.STICKER_PACK_PAGE_SIZE, page.stickerPacks().size());
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d pacotes x %d figurinhas: cursores do provider %d µs, loader completo %d µs, primeira página de %d %d µs",
+                PACK_COUNT, STICKERS_PER_PACK, providerNanos / 1_000, loadAllNanos / 1_000,
+                StickerPackListActivity.STICKER_PACK_PAGE_SIZE, firstPageNanos / 1_000));
+    }
+
+    // NOTE: Para 100, 1.000 e 5.000 pacotes de 30 figurinhas, compara o JOIN com DISTINCT antigo, agrupado em memória, com o merge
+    // das duas varreduras. Os bytes são o conteúdo das células lidas dos cursores (texto em UTF-8, inteiros com 8 bytes). O tempo
+    // e os bytes ficam no logcat.
+    @Test
+    public void benchmarkMergedLoadAgainstDistinctJoin() throws Exception {
+        SelectStickerPackRepo selectStickerPackRepo = new SelectStickerPackRepo(database);
+
+        for (int packCount : MERGE_BENCHMARK_PACK_COUNTS) {
+            database.delete(TABLE_STICKER, null, null);
+            database.delete(TABLE_STICKER_PACK, null, null);
+            SyntheticStickerLibrary.insert(database, packCount, STICKERS_PER_PACK);
+
+            long joinBytes;
+            try (Cursor cursor = database.rawQuery(DISTINCT_JOIN_QUERY, null)) {
+                joinBytes = countCursorBytes(cursor);
+            }
+
+            long mergeBytes;
+            try (Cursor packCursor = selectStickerPackRepo.getAllStickerPackRowsOrderedByRowId();
+                 Cursor stickerCursor = selectStickerPackRepo.getAllStickersOrderedByStickerPack()) {
+                mergeBytes = countCursorBytes(packCursor) + countCursorBytes(stickerCursor);
+            }
+
+            long joinNanos = Long.MAX_VALUE;
+            long mergeNanos = Long.MAX_VALUE;
+
+            for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+                long start = System.nanoTime();
+                assertEquals(packCount, loadThroughDistinctJoin().size());
+                joinNanos = Math.min(joinNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                assertEquals(packCount, stickerPackLoader.loadAllStickerPacks().size());
+                mergeNanos = Math.min(mergeNanos, System.nanoTime() - start);
+            }
+
+            Log.i(TAG_LOG, String.format(Locale.ROOT, "%d pacotes x %d figurinhas: JOIN DISTINCT %d KB em %d µs, merge de duas varreduras %d KB em %d µs",
+                    packCount, STICKERS_PER_PACK, joinBytes / 1024, joinNanos / 1_000, mergeBytes / 1024, mergeNanos / 1_000));
+        }
+    }
+
+    private List<StickerPack> loadThroughDistinctJoin() {
+        Map<String, StickerPack> stickerPacks = new LinkedHashMap<>();
+
+        try (Cursor cursor = database.rawQuery(DISTINCT_JOIN_QUERY, null)) {
+            StickerPackRowMapper stickerPackRowMapper = new StickerPackRowMapper(cursor);
+            StickerRowMapper stickerRowMapper = new StickerRowMapper(cursor);
+            int identifierColumn = cursor.getColumnIndexOrThrow(STICKER_PACK_IDENTIFIER_IN_QUERY);
+
+            while (cursor.moveToNext()) {
+                String stickerPackIdentifier = cursor.getString(identifierColumn);
+                StickerPack stickerPack = stickerPacks.get(stickerPackIdentifier);
+                if (stickerPack == null) {
+                    stickerPack = stickerPackRowMapper.map(cursor);
+                    stickerPack.setStickers(new ArrayList<>());
+                    stickerPacks.put(stickerPackIdentifier, stickerPack);
+                }
+
+                stickerPack.getStickers().add(stickerRowMapper.map(cursor, stickerPackIdentifier));
+            }
+        }
+
+        for (StickerPack stickerPack : stickerPacks.values()) {
+            stickerPack.setStickers(stickerPack.getStickers());
+        }
+
+        return new ArrayList<>(stickerPacks.values());
+    }
+
+    private static long countCursorBytes(Cursor cursor) {
+        long bytes = 0;
+
+        while (cursor.moveToNext()) {
+            for (int column = 0; column < cursor.getColumnCount(); column++) {
+                switch (cursor.getType(column)) {
+                    case Cursor.FIELD_TYPE_STRING:
+                        bytes += cursor.getString(column).getBytes(StandardCharsets.UTF_8).length;
+                        break;
+                    case Cursor.FIELD_TYPE_BLOB:
+                        bytes += cursor.getBlob(column).length;
+                        break;
+                    case Cursor.FIELD_TYPE_INTEGER:
+                    case Cursor.FIELD_TYPE_FLOAT:
+                        bytes += Long.BYTES;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    private static int readThroughProvider(StickerPackQueryProvider stickerPackQueryProvider, StickerQueryProvider stickerQueryProvider) {
+        int stickerCount = 0;
+
+        try (Cursor packs = stickerPackQueryProvider.fetchAllStickerPack(StickerContentProvider.AUTHORITY_URI, null)) {
+            final int identifierColumn = packs.getColumnIndexOrThrow(STICKER_PACK_IDENTIFIER_IN_QUERY);
+
+            while (packs.moveToNext()) {
+                Uri uri = StickerContentProvider.AUTHORITY_URI.buildUpon()
+                        .path(StickerContentProvider.STICKERS)
+                        .appendPath(packs.getString(identifierColumn))
+                        .build();
+
+                try (Cursor stickers = stickerQueryProvider.fetchStickerListForPack(uri, null)) {
+                    while (stickers.moveToNext()) {
+                        stickers.getString(0);
+                        stickerCount++;
+                    }
+                }
+            }
+        }
+
+        return stickerCount;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.mapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_DURATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FRAME_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_HEIGHT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_WIDTH;
+
+import android.database.Cursor;
+import android.database.MatrixCursor;
+import android.util.Log;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+
+public class StickerRowMapperTest {
+    private static final String TAG_LOG = StickerRowMapperTest.class.getSimpleName();
+
+    private static final String[] STICKER_COLUMNS = {STICKER_FILE_NAME_IN_QUERY, STICKER_FILE_EMOJI_IN_QUERY, STICKER_IS_VALID,
+            STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, STICKER_FILE_SIZE, STICKER_WIDTH, STICKER_HEIGHT, STICKER_FRAME_COUNT,
+            STICKER_DURATION, STICKER_FILE_LAST_MODIFIED};
+
+    private static final int BENCHMARK_ROWS = 30_000;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    @Test
+    public void mapsEveryColumnOfTheRow() {
+        MatrixCursor cursor = new MatrixCursor(STICKER_COLUMNS);
+        cursor.addRow(new Object[]{"sticker_1.webp", "😀,🎉", "ERROR_FILE_SIZE", "figurinha", 2048L, 512, 512, 8, 800, 1_700_000_000_000L});
+        cursor.addRow(new Object[]{"sticker_2.webp", "", null, null, null, null, null, null, null, null});
+
+        StickerRowMapper mapper = new StickerRowMapper(cursor);
+
+        cursor.moveToNext();
+        Sticker complete = mapper.map(cursor, "pack");
+        assertEquals("sticker_1.webp", complete.imageFileName);
+        assertEquals("😀,🎉", complete.emojis);
+        assertEquals("ERROR_FILE_SIZE", complete.stickerIsValid);
+        assertEquals("figurinha", complete.accessibilityText);
+        assertEquals("pack", complete.uuidPack);
+        assertEquals(new StickerMediaMetadata(2048L, 1_700_000_000_000L, 512, 512, 8, 800), complete.getMediaMetadata());
+
+        // NOTE: Dentro do app emoji vazio vira null; o provider devolve "" ao WhatsApp
+        cursor.moveToNext();
+        Sticker minimal = mapper.map(cursor, "pack");
+        assertNull(minimal.emojis);
+        assertNull(minimal.stickerIsValid);
+        assertNull(minimal.getMediaMetadata());
+    }
+
+    @Test
+    public void repeatedValuesShareOneInstance() {
+        MatrixCursor cursor = new MatrixCursor(STICKER_COLUMNS);
+        cursor.addRow(new Object[]{"sticker_1.webp", new String("😀"), new String("OK"), new String("figurinha"), 1L, 1, 1, 1, 0, 1L});
+        cursor.addRow(new Object[]{"sticker_2.webp", new String("😀"), new String("OK"), new String("figurinha"), 1L, 1, 1, 1, 0, 1L});
+
+        StickerRowMapper mapper = new StickerRowMapper(cursor);
+
+        cursor.moveToNext();
+        Sticker first = mapper.map(cursor, "pack");
+        cursor.moveToNext();
+        Sticker second = mapper.map(cursor, "pack");
+
+        assertSame(first.emojis, second.emojis);
+        assertSame(first.stickerIsValid, second.stickerIsValid);
+        assertSame(first.accessibilityText, second.accessibilityText);
+    }
+
+    // NOTE: Compara com a leitura antiga, que buscava o índice de cada coluna pelo nome em toda linha. O tempo fica no logcat.
+    @Test
+    public void benchmarkMappingThirtyThousandRows() {
+        MatrixCursor cursor = buildSyntheticCursor();
+
+        long perRowLookupNanos = Long.MAX_VALUE;
+        long cachedIndexNanos = Long.MAX_VALUE;
+        List<Sticker> mapped = null;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<Sticker> perRowLookup = mapWithPerRowLookup(cursor);
+            perRowLookupNanos = Math.min(perRowLookupNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            mapped = mapWithRowMapper(cursor);
+            cachedIndexNanos = Math.min(cachedIndexNanos, System.nanoTime() - start);
+
+            assertEquals(perRowLookup.size(), mapped.size());
+        }
+
+        assertNotNull(mapped);
+        assertEquals(BENCHMARK_ROWS, mapped.size());
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d linhas: getColumnIndexOrThrow por linha %d µs, StickerRowMapper %d µs",
+                BENCHMARK_ROWS, perRowLookupNanos / 1_000, cachedIndexNanos / 1_000));
+    }
+
+    private static MatrixCursor buildSyntheticCursor() {
+        String[] emojis = {"😀", "😎,🎉", "🙂", ""};
+        MatrixCursor cursor = new MatrixCursor(STICKER_COLUMNS, BENCHMARK_ROWS);
+
+        for (int row = 0; row < BENCHMARK_ROWS; row++) {
+            cursor.addRow(new Object[]{"sticker_" + row + ".webp", emojis[row % emojis.length], row % 10 == 0 ? "ERROR_FILE_SIZE" : null,
+                    "figurinha", 500_000L, 512, 512, 24, 2400, 1_700_000_000_000L});
+        }
+
+        return cursor;
+    }
+
+    private static List<Sticker> mapWithRowMapper(Cursor cursor) {
+        List<Sticker> stickerList = new ArrayList<>(cursor.getCount());
+        cursor.moveToPosition(-1);
+
+        StickerRowMapper mapper = new StickerRowMapper(cursor);
+        while (cursor.moveToNext()) {
+            stickerList.add(mapper.map(cursor, "pack"));
+        }
+
+        return stickerList;
+    }
+
+    private static List<Sticker> mapWithPerRowLookup(Cursor cursor) {
+        List<Sticker> stickerList = new ArrayList<>(cursor.getCount());
+        cursor.moveToPosition(-1);
+
+        while (cursor.moveToNext()) {
+            Sticker sticker = new Sticker(
+                    cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY)),
+                    cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY)),
+                    cursor.getString(cursor.getColumnIndexOrThrow(STICKER_IS_VALID)),
+                    cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY)),
+                    "pack");
+
+            if (!cursor.isNull(cursor.getColumnIndexOrThrow(STICKER_FILE_SIZE))) {
+                sticker.setMediaMetadata(new StickerMediaMetadata(
+                        cursor.getLong(cursor.getColumnIndexOrThrow(STICKER_FILE_SIZE)),
+                        cursor.getLong(cursor.getColumnIndexOrThrow(STICKER_FILE_LAST_MODIFIED)),
+                        cursor.getInt(cursor.getColumnIndexOrThrow(STICKER_WIDTH)),
+                        cursor.getInt(cursor.getColumnIndexOrThrow(STICKER_HEIGHT)),
+                        cursor.getInt(cursor.getColumnIndexOrThrow(STICKER_FRAME_COUNT)),
+                        cursor.getInt(cursor.getColumnIndexOrThrow(STICKER_DURATION))));
+            }
+
+            stickerList.add(sticker);
+        }
+
+        return stickerList;
+    }
+}
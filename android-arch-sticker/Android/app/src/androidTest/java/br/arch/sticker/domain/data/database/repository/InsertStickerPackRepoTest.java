@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.repository;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.loader.StickerPackLoader;
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+
+public class InsertStickerPackRepoTest {
+    private static final String TAG_LOG = InsertStickerPackRepoTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "stickers-insert-test.db";
+
+    private static final int PACK_COUNT = 1_000;
+    private static final int STICKERS_PER_PACK = 30;
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private SQLiteDatabase database;
+    private InsertStickerPackRepo insertStickerPackRepo;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        database = databaseHelper.getWritableDatabase();
+        insertStickerPackRepo = new InsertStickerPackRepo(database);
+        StickerMetadataSnapshot.invalidate();
+    }
+
+    // NOTE: A foto é estática; invalidar devolve o provider do app ao banco de produção na próxima leitura
+    @After
+    public void tearDown() {
+        StickerMetadataSnapshot.invalidate();
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void batchInsertRoundTripsPacksStickersAndMetadata() throws Exception {
+        StickerPack first = stickerPack("insert-0", 3);
+        StickerPack second = stickerPack("insert-1", 2);
+        StickerMediaMetadata mediaMetadata = new StickerMediaMetadata(51_200L, 1_700_000_000_000L, 512, 512, 24, 2_400);
+        first.getStickers().get(1).setMediaMetadata(mediaMetadata);
+
+        CallbackResult<List<StickerPack>> result = insertStickerPackRepo.insertStickerPacks(Arrays.asList(first, second));
+
+        assertTrue(result.isSuccess());
+        StickerPackLoader stickerPackLoader = new StickerPackLoader(database);
+        List<StickerPack> stored = stickerPackLoader.loadAllStickerPacks();
+        assertEquals(2, stored.size());
+        assertEquals("insert-0", stored.get(0).identifier);
+        assertEquals("Pacote insert-0", stored.get(0).name);
+        assertEquals(3, stored.get(0).getStickers().size());
+        assertEquals(2, stored.get(1).getStickers().size());
+        assertEquals("sticker_1.webp", stored.get(0).getStickers().get(1).imageFileName);
+        assertEquals(mediaMetadata, stored.get(0).getStickers().get(1).getMediaMetadata());
+        assertNull(stored.get(0).getStickers().get(0).getMediaMetadata());
+    }
+
+    @Test
+    public void missingEmojiIsStoredEmptyAndReadBackAsNull() throws Exception {
+        StickerPack stickerPack = stickerPack("no-emoji", 1);
+        Sticker sticker = stickerPack.getStickers().get(0);
+        stickerPack.setStickers(new ArrayList<>(List.of(new Sticker(sticker.imageFileName, null, "", sticker.accessibilityText, sticker.uuidPack))));
+
+        assertTrue(insertStickerPackRepo.insertStickerPack(stickerPack).isSuccess());
+
+        try (Cursor cursor = database.query(TABLE_STICKER, new String[]{STICKER_FILE_EMOJI_IN_QUERY},
+                FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?",
+                new String[]{"no-emoji", sticker.imageFileName}, null, null, null)) {
+            assertTrue(cursor.moveToFirst());
+            assertEquals("", cursor.getString(0));
+        }
+
+        StickerPack stored = new StickerPackLoader(database).loadStickerPack("no-emoji");
+        assertNotNull(stored);
+        assertNull(stored.getStickers().get(0).emojis);
+    }
+
+    @Test
+    public void failedBatchLeavesNothingBehind() {
+        StickerPack duplicate = stickerPack("insert-0", 1);
+
+        CallbackResult<List<StickerPack>> result = insertStickerPackRepo.insertStickerPacks(
+                Arrays.asList(stickerPack("insert-0", 2), stickerPack("insert-1", 2), duplicate));
+
+        assertTrue(result.isFailure());
+        assertEquals(0, DatabaseUtils.queryNumEntries(database, TABLE_STICKER_PACK));
+        assertEquals(0, DatabaseUtils.queryNumEntries(database, TABLE_STICKER));
+    }
+
+    // NOTE: 1.000 pacotes de 30 figurinhas. Antes cada linha era um database.insert com ContentValues fora de transação,
+    // ou seja, um commit por linha; agora o lote inteiro vai em uma transação com os statements compilados. O tempo fica no logcat.
+    @Test
+    public void benchmarkBatchInsertAgainstPerRowInsert() {
+        List<StickerPack> stickerPackList = new ArrayList<>(PACK_COUNT);
+        for (int packIndex = 0; packIndex < PACK_COUNT; packIndex++) {
+            stickerPackList.add(stickerPack(String.format(Locale.ROOT, "insert-%04d", packIndex), STICKERS_PER_PACK));
+        }
+
+        long perRowNanos = Long.MAX_VALUE;
+        long batchNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (StickerPack stickerPack : stickerPackList) {
+                assertTrue(database.insert(TABLE_STICKER_PACK, null, InsertStickerPackRepo.writeStickerPackToContentValues(stickerPack)) != -1);
+                for (Sticker sticker : stickerPack.getStickers()) {
+                    assertTrue(database.insert(TABLE_STICKER, null, InsertStickerRepo.writeStickerToContentValues(sticker)) != -1);
+                }
+            }
+            perRowNanos = Math.min(perRowNanos, System.nanoTime() - start);
+            assertStoredAndClear();
+
+            start = System.nanoTime();
+            assertTrue(insertStickerPackRepo.insertStickerPacks(stickerPackList).isSuccess());
+            batchNanos = Math.min(batchNanos, System.nanoTime() - start);
+            assertStoredAndClear();
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d pacotes x %d figurinhas: insert por linha %d ms, lote em uma transação %d ms",
+                PACK_COUNT, STICKERS_PER_PACK, perRowNanos / 1_000_000, batchNanos / 1_000_000));
+    }
+
+    private void assertStoredAndClear() {
+        assertEquals(PACK_COUNT, DatabaseUtils.queryNumEntries(database, TABLE_STICKER_PACK));
+        assertEquals(PACK_COUNT * STICKERS_PER_PACK, DatabaseUtils.queryNumEntries(database, TABLE_STICKER));
+        database.delete(TABLE_STICKER, null, null);
+        database.delete(TABLE_STICKER_PACK, null, null);
+    }
+
+    private static StickerPack stickerPack(String stickerPackIdentifier, int stickerCount) {
+        StickerPack stickerPack = new StickerPack(stickerPackIdentifier, "Pacote " + stickerPackIdentifier, "arch", "tray.png",
+                null, null, null, null, "1", false, false);
+
+        List<Sticker> stickers = new ArrayList<>(stickerCount);
+        for (int index = 0; index < stickerCount; index++) {
+            stickers.add(new Sticker("sticker_" + index + ".webp", "😀", "", "figurinha " + index, stickerPackIdentifier));
+        }
+        stickerPack.setStickers(stickers);
+
+        return stickerPack;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.delete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.domain.data.content.StickerContentProvider.STICKERS_ASSET;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK_TOMBSTONE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_PACK_IDENTIFIER;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+
+// NOTE: O executor do coletor só guarda as tarefas, então nada em stickers_asset é tocado até o teste rodar a coleta.
+// Se a remoção mexesse nos arquivos na thread que chamou, as pastas já estariam faltando antes disso.
+public class StickerPackBulkDeleteTest {
+    private static final int PACK_COUNT = 30;
+    private static final int STICKERS_PER_PACK = 3;
+
+    private final List<Runnable> queuedCollections = new ArrayList<>();
+    private final List<String> stickerPackIdentifiers = new ArrayList<>();
+
+    private SQLiteDatabase database;
+    private File mainDirectory;
+    private StickerStorageGarbageCollector stickerStorageGarbageCollector;
+    private DeleteStickerPackService deleteStickerPackService;
+
+    @Before
+    public void setUp() throws IOException {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+
+        database = StickerDatabaseHelper.getInstance(context).getWritableDatabase();
+        mainDirectory = new File(context.getFilesDir(), STICKERS_ASSET);
+        stickerStorageGarbageCollector = new StickerStorageGarbageCollector(context, queuedCollections::add);
+        deleteStickerPackService = new DeleteStickerPackService(context, stickerStorageGarbageCollector);
+
+        for (int index = 0; index < PACK_COUNT; index++) {
+            String stickerPackIdentifier = UUID.randomUUID().toString();
+            stickerPackIdentifiers.add(stickerPackIdentifier);
+            createStickerPack(stickerPackIdentifier, index);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        for (String stickerPackIdentifier : stickerPackIdentifiers) {
+            database.delete(TABLE_STICKER_PACK, STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?", new String[]{stickerPackIdentifier});
+            database.delete(TABLE_STICKER_PACK_TOMBSTONE, TOMBSTONE_PACK_IDENTIFIER + " = ?", new String[]{stickerPackIdentifier});
+            deleteDirectory(new File(mainDirectory, stickerPackIdentifier));
+        }
+    }
+
+    @Test
+    public void deletesPacksWithoutTouchingFilesAndCollectsThemLater() {
+        for (String stickerPackIdentifier : stickerPackIdentifiers) {
+            CallbackResult<Boolean> result = deleteStickerPackService.deleteStickerPack(stickerPackIdentifier);
+            assertTrue(stickerPackIdentifier, result.isSuccess());
+        }
+
+        // Os pedidos de coleta enquanto uma já está na fila são absorvidos por ela
+        assertEquals(1, queuedCollections.size());
+
+        for (String stickerPackIdentifier : stickerPackIdentifiers) {
+            assertEquals(0, countRows(TABLE_STICKER_PACK, STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPackIdentifier));
+            assertEquals(0, countRows(TABLE_STICKER, FK_STICKER_PACK, stickerPackIdentifier));
+            assertEquals(1, countRows(TABLE_STICKER_PACK_TOMBSTONE, TOMBSTONE_PACK_IDENTIFIER, stickerPackIdentifier));
+
+            File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
+            File[] files = stickerPackDirectory.listFiles();
+            assertTrue(stickerPackIdentifier, stickerPackDirectory.isDirectory());
+            assertEquals(stickerPackIdentifier, STICKERS_PER_PACK + 1, files == null ? 0 : files.length);
+        }
+
+        long freedBytes = stickerStorageGarbageCollector.collectTombstones();
+
+        assertTrue(freedBytes > 0);
+        for (String stickerPackIdentifier : stickerPackIdentifiers) {
+            assertFalse(stickerPackIdentifier, new File(mainDirectory, stickerPackIdentifier).exists());
+            assertEquals(0, countRows(TABLE_STICKER_PACK_TOMBSTONE, TOMBSTONE_PACK_IDENTIFIER, stickerPackIdentifier));
+        }
+    }
+
+    private void createStickerPack(String stickerPackIdentifier, int index) throws IOException {
+        ContentValues stickerPackValues = new ContentValues();
+        stickerPackValues.put(STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPackIdentifier);
+        stickerPackValues.put(STICKER_PACK_NAME_IN_QUERY, "Pacote " + index);
+        stickerPackValues.put(STICKER_PACK_PUBLISHER_IN_QUERY, "arch");
+        stickerPackValues.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, "tray.png");
+        stickerPackValues.put(ANIMATED_STICKER_PACK, "0");
+        database.insertOrThrow(TABLE_STICKER_PACK, null, stickerPackValues);
+
+        File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
+        assertTrue(stickerPackDirectory.mkdirs());
+        writeFile(new File(stickerPackDirectory, "tray.png"));
+
+        for (int stickerIndex = 0; stickerIndex < STICKERS_PER_PACK; stickerIndex++) {
+            String fileName = "sticker_" + stickerIndex + ".webp";
+
+            ContentValues stickerValues = new ContentValues();
+            stickerValues.put(STICKER_FILE_NAME_IN_QUERY, fileName);
+            stickerValues.put(STICKER_FILE_EMOJI_IN_QUERY, "😀");
+            stickerValues.put(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, "figurinha " + stickerIndex);
+            stickerValues.put(FK_STICKER_PACK, stickerPackIdentifier);
+            database.insertOrThrow(TABLE_STICKER, null, stickerValues);
+
+            writeFile(new File(stickerPackDirectory, fileName));
+        }
+    }
+
+    private long countRows(String table, String column, String value) {
+        return DatabaseUtils.queryNumEntries(database, table, column + " = ?", new String[]{value});
+    }
+
+    private static void writeFile(File file) throws IOException {
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(new byte[1024]);
+        }
+    }
+
+    private static void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+
+        directory.delete();
+    }
+}
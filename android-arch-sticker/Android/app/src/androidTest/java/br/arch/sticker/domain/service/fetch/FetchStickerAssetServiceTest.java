@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.fetch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
+import br.arch.sticker.core.validation.webp.SyntheticWebp;
+import br.arch.sticker.core.validation.webp.WebpHeader;
+import br.arch.sticker.core.validation.webp.WebpHeaderParser;
+import br.arch.sticker.domain.dto.StickerFileStat;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+
+// NOTE: Pacote animado sintético de 30 figurinhas de ~500 KB gravado na pasta de figurinhas do app e apagado no fim
+public class FetchStickerAssetServiceTest {
+    private static final String TAG_LOG = FetchStickerAssetServiceTest.class.getSimpleName();
+
+    private static final String PACK_IDENTIFIER = "benchmark-asset-pack";
+    private static final int STICKER_COUNT = 30;
+    private static final int FRAME_COUNT = 24;
+    private static final int FRAME_DURATION = 100;
+    private static final int STICKER_FILE_SIZE = 500 * 1024;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    private FetchStickerAssetService fetchStickerAssetService;
+    private File packDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        fetchStickerAssetService = new FetchStickerAssetService(context);
+
+        packDirectory = fetchStickerAssetService.getStickerAssetFile(PACK_IDENTIFIER, "sticker_0.webp").getParentFile();
+        assertNotNull(packDirectory);
+        assertTrue(packDirectory.isDirectory() || packDirectory.mkdirs());
+
+        for (int index = 0; index < STICKER_COUNT; index++) {
+            try (FileOutputStream outputStream = new FileOutputStream(new File(packDirectory, fileName(index)))) {
+                outputStream.write(SyntheticWebp.animated(FRAME_COUNT, FRAME_DURATION, STICKER_FILE_SIZE, index));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = packDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertTrue(file.delete());
+            }
+        }
+        assertTrue(packDirectory.delete());
+    }
+
+    @Test
+    public void mappedAssetHasTheFileBytesAndIsReadOnly() throws Exception {
+        ByteBuffer mapped = fetchStickerAssetService.mapStickerAsset(PACK_IDENTIFIER, fileName(0));
+        byte[] fullyRead = readFully(fetchStickerAssetService.getStickerAssetFile(PACK_IDENTIFIER, fileName(0)));
+
+        assertTrue(mapped.isReadOnly());
+        byte[] mappedBytes = new byte[mapped.remaining()];
+        mapped.duplicate().get(mappedBytes);
+        assertArrayEquals(fullyRead, mappedBytes);
+    }
+
+    @Test
+    public void statAndMetadataMatchTheFile() throws Exception {
+        File stickerFile = fetchStickerAssetService.getStickerAssetFile(PACK_IDENTIFIER, fileName(1));
+
+        StickerFileStat stickerFileStat = fetchStickerAssetService.statStickerAsset(PACK_IDENTIFIER, fileName(1));
+        assertEquals(stickerFile.length(), stickerFileStat.length());
+        assertEquals(stickerFile.lastModified() / 1000, stickerFileStat.lastModified() / 1000);
+
+        StickerMediaMetadata mediaMetadata = fetchStickerAssetService.readStickerMediaMetadata(PACK_IDENTIFIER, fileName(1));
+        assertNotNull(mediaMetadata);
+        assertTrue(mediaMetadata.matches(stickerFileStat));
+        assertEquals(SyntheticWebp.SIZE, mediaMetadata.width());
+        assertEquals(SyntheticWebp.SIZE, mediaMetadata.height());
+        assertEquals(FRAME_COUNT, mediaMetadata.frameCount());
+        assertEquals(FRAME_COUNT * FRAME_DURATION, mediaMetadata.duration());
+    }
+
+    @Test(expected = FetchStickerException.class)
+    public void missingAssetFailsToMap() throws Exception {
+        fetchStickerAssetService.mapStickerAsset(PACK_IDENTIFIER, "missing.webp");
+    }
+
+    // NOTE: Lê os cabeçalhos de cada figurinha do pacote das duas formas: a leitura antiga, que copiava o arquivo inteiro para o
+    // heap em blocos de 16 KB e depois de novo em toByteArray(), e o mapeamento somente leitura. O tempo fica no logcat.
+    @Test
+    public void benchmarkMappedAgainstFullyReadAssets() throws Exception {
+        long fullyReadNanos = Long.MAX_VALUE;
+        long mappedNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            int fullyReadDuration = 0;
+            for (int index = 0; index < STICKER_COUNT; index++) {
+                byte[] sticker = readFully(fetchStickerAssetService.getStickerAssetFile(PACK_IDENTIFIER, fileName(index)));
+                fullyReadDuration += WebpHeaderParser.parse(sticker).duration();
+            }
+            fullyReadNanos = Math.min(fullyReadNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            int mappedDuration = 0;
+            for (int index = 0; index < STICKER_COUNT; index++) {
+                WebpHeader webpHeader = WebpHeaderParser.parse(fetchStickerAssetService.mapStickerAsset(PACK_IDENTIFIER, fileName(index)));
+                mappedDuration += webpHeader.duration();
+            }
+            mappedNanos = Math.min(mappedNanos, System.nanoTime() - start);
+
+            assertEquals(fullyReadDuration, mappedDuration);
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d figurinhas animadas de %d KB: leitura completa %d µs, mapeamento %d µs",
+                STICKER_COUNT, STICKER_FILE_SIZE / 1024, fullyReadNanos / 1_000, mappedNanos / 1_000));
+    }
+
+    private static String fileName(int index) {
+        return "sticker_" + index + ".webp";
+    }
+
+    // NOTE: Cópia da leitura que FetchStickerAssetService fazia antes do mapeamento
+    private static byte[] readFully(File stickerFile) throws IOException {
+        try (InputStream inputStream = new FileInputStream(stickerFile); ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            int read;
+            byte[] bytes = new byte[16384];
+
+            while ((read = inputStream.read(bytes, 0, bytes.length)) != -1) {
+                buffer.write(bytes, 0, read);
+            }
+
+            return buffer.toByteArray();
+        }
+    }
+}
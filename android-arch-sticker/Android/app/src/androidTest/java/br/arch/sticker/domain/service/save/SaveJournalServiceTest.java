@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.save;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_PACK_IDENTIFIER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_SAVE_JOURNAL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import br.arch.sticker.core.validation.StickerValidationCache;
+import br.arch.sticker.core.validation.StickerValidator;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.SaveJournalRepo;
+import br.arch.sticker.domain.data.database.repository.StickerValidationRepo;
+import br.arch.sticker.domain.dto.SaveJournalState;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
+import br.arch.sticker.domain.util.StickerPackDirectory;
+
+// NOTE: Pastas próprias em getFilesDir() e banco de teste, para o rollback não tocar nos pacotes nem nos blobs do app
+public class SaveJournalServiceTest {
+    private static final String DATABASE_NAME = "stickers-save-journal-test.db";
+
+    private static final String PACK_IDENTIFIER = "save-journal-pack";
+    private static final SaveJournalState[] STATES_BEFORE_DB_COMMIT = {
+            SaveJournalState.INTENT, SaveJournalState.FILES_WRITTEN, SaveJournalState.PUBLISHED
+    };
+
+    private Context context;
+    private StickerDatabaseHelper databaseHelper;
+    private SQLiteDatabase database;
+    private SaveJournalRepo saveJournalRepo;
+    private SaveJournalService saveJournalService;
+    private File mainDirectory;
+    private File blobDirectory;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+
+        mainDirectory = new File(context.getFilesDir(), "save-journal-test");
+        blobDirectory = new File(context.getFilesDir(), "save-journal-test-blobs");
+        StickerPackDirectory.deleteDirectory(mainDirectory);
+        StickerPackDirectory.deleteDirectory(blobDirectory);
+        assertTrue(mainDirectory.mkdirs());
+
+        databaseHelper = new StickerDatabaseHelper(context, DATABASE_NAME);
+        database = databaseHelper.getWritableDatabase();
+        saveJournalRepo = new SaveJournalRepo(database);
+
+        StickerValidationCache stickerValidationCache = new StickerValidationCache(new StickerValidationRepo(database),
+                StickerValidator.VALIDATION_RULES_VERSION);
+        saveJournalService = new SaveJournalService(mainDirectory, database, stickerValidationCache,
+                new StickerBlobService(blobDirectory, database));
+    }
+
+    @After
+    public void tearDown() {
+        StickerPackDirectory.deleteDirectory(mainDirectory);
+        StickerPackDirectory.deleteDirectory(blobDirectory);
+        databaseHelper.close();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void markedStateIsStoredAndCompleteRemovesIt() {
+        for (SaveJournalState state : SaveJournalState.values()) {
+            assertTrue(saveJournalService.markState(PACK_IDENTIFIER, state));
+            assertEquals(state, saveJournalRepo.getState(PACK_IDENTIFIER));
+        }
+
+        saveJournalService.complete(PACK_IDENTIFIER);
+
+        assertNull(saveJournalRepo.getState(PACK_IDENTIFIER));
+    }
+
+    @Test
+    public void rollbackBeforeDbCommitRemovesStagingAndPublishedDirectories() throws IOException {
+        for (SaveJournalState state : STATES_BEFORE_DB_COMMIT) {
+            File stagingDirectory = writePackFile(StickerPackDirectory.getStagingDirectory(mainDirectory, PACK_IDENTIFIER));
+            File stickerPackDirectory = writePackFile(new File(mainDirectory, PACK_IDENTIFIER));
+            saveJournalService.markState(PACK_IDENTIFIER, state);
+
+            saveJournalService.rollback(PACK_IDENTIFIER);
+
+            assertFalse(state.name(), stagingDirectory.exists());
+            assertFalse(state.name(), stickerPackDirectory.exists());
+            assertNull(state.name(), saveJournalRepo.getState(PACK_IDENTIFIER));
+        }
+    }
+
+    @Test
+    public void rollbackWithoutEntryIsTreatedAsIntent() throws IOException {
+        File stagingDirectory = writePackFile(StickerPackDirectory.getStagingDirectory(mainDirectory, PACK_IDENTIFIER));
+
+        saveJournalService.rollback(PACK_IDENTIFIER);
+
+        assertFalse(stagingDirectory.exists());
+    }
+
+    @Test
+    public void rollbackAfterDbCommitKeepsThePack() throws IOException {
+        File stickerPackDirectory = writePackFile(new File(mainDirectory, PACK_IDENTIFIER));
+        saveJournalService.markState(PACK_IDENTIFIER, SaveJournalState.DB_COMMITTED);
+
+        saveJournalService.rollback(PACK_IDENTIFIER);
+
+        assertTrue(new File(stickerPackDirectory, "sticker_0.webp").isFile());
+        assertNull(saveJournalRepo.getState(PACK_IDENTIFIER));
+    }
+
+    // NOTE: Só entradas gravadas antes do início do processo são de um salvamento morto; a do salvamento em andamento fica
+    @Test
+    public void recoveryOnlyRollsBackEntriesFromAnEarlierProcess() throws IOException {
+        String crashedPack = "save-journal-crashed";
+        String committedPack = "save-journal-committed";
+        String runningPack = "save-journal-running";
+
+        File crashedDirectory = writePackFile(new File(mainDirectory, crashedPack));
+        File committedDirectory = writePackFile(new File(mainDirectory, committedPack));
+        File runningDirectory = writePackFile(StickerPackDirectory.getStagingDirectory(mainDirectory, runningPack));
+
+        saveJournalService.markState(crashedPack, SaveJournalState.PUBLISHED);
+        saveJournalService.markState(committedPack, SaveJournalState.DB_COMMITTED);
+        saveJournalService.markState(runningPack, SaveJournalState.FILES_WRITTEN);
+        moveEntryToEarlierProcess(crashedPack);
+        moveEntryToEarlierProcess(committedPack);
+
+        assertEquals(2, saveJournalService.recoverIncompleteSaves());
+
+        assertFalse(crashedDirectory.exists());
+        assertNull(saveJournalRepo.getState(crashedPack));
+        assertTrue(committedDirectory.isDirectory());
+        assertNull(saveJournalRepo.getState(committedPack));
+        assertTrue(runningDirectory.isDirectory());
+        assertEquals(SaveJournalState.FILES_WRITTEN, saveJournalRepo.getState(runningPack));
+    }
+
+    private void moveEntryToEarlierProcess(String stickerPackIdentifier) {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(JOURNAL_UPDATED_AT, 0L);
+        assertEquals(1, database.update(TABLE_SAVE_JOURNAL, contentValues, JOURNAL_PACK_IDENTIFIER + " = ?",
+                new String[]{stickerPackIdentifier}));
+    }
+
+    private static File writePackFile(File directory) throws IOException {
+        assertTrue(directory.isDirectory() || directory.mkdirs());
+        try (FileOutputStream outputStream = new FileOutputStream(new File(directory, "sticker_0.webp"))) {
+            outputStream.write(new byte[]{1, 2, 3});
+        }
+
+        return directory;
+    }
+}
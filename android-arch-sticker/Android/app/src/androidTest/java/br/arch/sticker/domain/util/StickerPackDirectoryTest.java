@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Locale;
+
+import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.core.validation.webp.SyntheticWebp;
+
+// NOTE: Usa uma pasta própria em getFilesDir(), fora de stickers_asset, no mesmo sistema de arquivos do cache
+public class StickerPackDirectoryTest {
+    private static final String TAG_LOG = StickerPackDirectoryTest.class.getSimpleName();
+
+    private static final String PACK_IDENTIFIER = "pack-directory-test";
+    private static final int STICKER_COUNT = 30;
+    private static final int FRAME_COUNT = 24;
+    private static final int STICKER_FILE_SIZE = 500 * 1024;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    private Context context;
+    private File mainDirectory;
+    private File cacheDirectory;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        mainDirectory = new File(context.getFilesDir(), "sticker-pack-directory-test");
+        cacheDirectory = new File(context.getCacheDir(), "sticker-pack-directory-test");
+        deleteRecursively(mainDirectory);
+        deleteRecursively(cacheDirectory);
+        assertTrue(mainDirectory.mkdirs());
+        assertTrue(cacheDirectory.mkdirs());
+    }
+
+    @After
+    public void tearDown() {
+        deleteRecursively(mainDirectory);
+        deleteRecursively(cacheDirectory);
+    }
+
+    @Test
+    public void stagingDirectoryLeftByAnInterruptedSaveIsCleared() throws Exception {
+        File leftover = StickerPackDirectory.getStagingDirectory(mainDirectory, PACK_IDENTIFIER);
+        assertTrue(leftover.mkdirs());
+        writeFile(new File(leftover, "sticker_0.webp"), new byte[]{1, 2, 3});
+
+        CallbackResult<File> staging = StickerPackDirectory.createStagingDirectory(mainDirectory, PACK_IDENTIFIER);
+
+        assertTrue(staging.isSuccess());
+        assertEquals(leftover, staging.getData());
+        assertTrue(staging.getData().isDirectory());
+        assertEquals(0, list(staging.getData()).length);
+    }
+
+    @Test
+    public void publishRenamesTheStagingDirectoryInOneStep() throws Exception {
+        File staging = StickerPackDirectory.createStagingDirectory(mainDirectory, PACK_IDENTIFIER).getData();
+        byte[] content = SyntheticWebp.animated(FRAME_COUNT, 100, 16 * 1024, 1);
+        writeFile(new File(staging, "sticker_0.webp"), content);
+
+        File stickerPackDirectory = new File(mainDirectory, PACK_IDENTIFIER);
+        CallbackResult<File> published = StickerPackDirectory.publishStagingDirectory(staging, stickerPackDirectory);
+
+        assertTrue(published.isSuccess());
+        assertFalse(staging.exists());
+        assertArrayEquals(content, Files.readAllBytes(new File(stickerPackDirectory, "sticker_0.webp").toPath()));
+    }
+
+    @Test
+    public void publishRefusesANonEmptyPackDirectory() throws Exception {
+        File staging = StickerPackDirectory.createStagingDirectory(mainDirectory, PACK_IDENTIFIER).getData();
+        writeFile(new File(staging, "sticker_0.webp"), new byte[]{1});
+
+        File stickerPackDirectory = new File(mainDirectory, PACK_IDENTIFIER);
+        assertTrue(stickerPackDirectory.mkdirs());
+        writeFile(new File(stickerPackDirectory, "sticker_0.webp"), new byte[]{2});
+
+        CallbackResult<File> published = StickerPackDirectory.publishStagingDirectory(staging, stickerPackDirectory);
+
+        assertFalse(published.isSuccess());
+        assertTrue(staging.isDirectory());
+        assertArrayEquals(new byte[]{2}, Files.readAllBytes(new File(stickerPackDirectory, "sticker_0.webp").toPath()));
+    }
+
+    // NOTE: Passo de arquivos do salvamento de um pacote animado de 30 figurinhas de ~500 KB. Antes cada figurinha era copiada do
+    // cache direto para a pasta final (e a cópia do cache ficava para trás); agora é movida para a pasta de preparo e a pasta é
+    // publicada com um rename. O tempo fica no logcat.
+    @Test
+    public void benchmarkSavingThirtyStickerAnimatedPack() throws Exception {
+        byte[][] stickers = new byte[STICKER_COUNT][];
+        for (int index = 0; index < STICKER_COUNT; index++) {
+            stickers[index] = SyntheticWebp.animated(FRAME_COUNT, 100, STICKER_FILE_SIZE, index);
+        }
+
+        long copyNanos = Long.MAX_VALUE;
+        long moveNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            writeCacheFiles(stickers);
+            File copiedPack = new File(mainDirectory, "copied-" + round);
+            assertTrue(copiedPack.mkdirs());
+
+            long start = System.nanoTime();
+            for (int index = 0; index < STICKER_COUNT; index++) {
+                Files.copy(cacheFile(index).toPath(), new File(copiedPack, fileName(index)).toPath());
+            }
+            copyNanos = Math.min(copyNanos, System.nanoTime() - start);
+
+            assertEquals(STICKER_COUNT, list(copiedPack).length);
+            deleteRecursively(copiedPack);
+
+            String stickerPackIdentifier = PACK_IDENTIFIER + "-" + round;
+            File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
+
+            start = System.nanoTime();
+            File staging = StickerPackDirectory.createStagingDirectory(mainDirectory, stickerPackIdentifier).getData();
+            for (int index = 0; index < STICKER_COUNT; index++) {
+                assertTrue(cacheFile(index).renameTo(new File(staging, fileName(index))));
+            }
+            assertTrue(StickerPackDirectory.publishStagingDirectory(staging, stickerPackDirectory).isSuccess());
+            moveNanos = Math.min(moveNanos, System.nanoTime() - start);
+
+            assertEquals(STICKER_COUNT, list(stickerPackDirectory).length);
+            assertEquals(0, list(cacheDirectory).length);
+            deleteRecursively(stickerPackDirectory);
+        }
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "%d figurinhas animadas de %d KB: cópia para a pasta final %d µs, preparo + rename %d µs",
+                STICKER_COUNT, STICKER_FILE_SIZE / 1024, copyNanos / 1_000, moveNanos / 1_000));
+    }
+
+    private void writeCacheFiles(byte[][] stickers) throws IOException {
+        for (int index = 0; index < stickers.length; index++) {
+            writeFile(cacheFile(index), stickers[index]);
+        }
+    }
+
+    private File cacheFile(int index) {
+        return new File(cacheDirectory, fileName(index));
+    }
+
+    private static String fileName(int index) {
+        return "sticker_" + index + ".webp";
+    }
+
+    private static void writeFile(File file, byte[] content) throws IOException {
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(content);
+        }
+    }
+
+    private static File[] list(File directory) {
+        File[] files = directory.listFiles();
+        return files != null ? files : new File[0];
+    }
+
+    private static void deleteRecursively(File file) {
+        for (File child : list(file)) {
+            deleteRecursively(child);
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.view.core.util.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+// NOTE: A fonte é um PNG de 512 px com ruído, o pior caso para o JPEG: em tamanho cheio nenhuma qualidade alta cabe em 40 KB
+public class TrayIconEncoderBenchmarkTest {
+    private static final String TAG_LOG = TrayIconEncoderBenchmarkTest.class.getSimpleName();
+
+    private static final int SOURCE_SIZE = 512;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    private File directory;
+    private File sourceFile;
+
+    @Before
+    public void setUp() throws IOException {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        directory = new File(context.getCacheDir(), "tray-icon-encoder-test");
+        deleteRecursively(directory);
+        assertTrue(directory.mkdirs());
+
+        sourceFile = new File(directory, "sticker_0.png");
+        writeNoiseImage(sourceFile);
+    }
+
+    @After
+    public void tearDown() {
+        deleteRecursively(directory);
+    }
+
+    @Test
+    public void encodedIconFitsTheTrayLimitAtTraySize() throws IOException {
+        File destinationFile = new File(directory, "thumbnail.jpg");
+
+        assertTrue(new TrayIconEncoder().encode(sourceFile, destinationFile));
+
+        assertTrue(destinationFile.length() <= TrayIconEncoder.TRAY_ICON_MAX_BYTES);
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(destinationFile.getAbsolutePath(), options);
+        assertEquals(TrayIconEncoder.TRAY_ICON_DEFAULT_SIZE, Math.max(options.outWidth, options.outHeight));
+    }
+
+    @Test
+    public void undecodableSourceIsReported() throws IOException {
+        File brokenFile = new File(directory, "broken.png");
+        try (FileOutputStream outputStream = new FileOutputStream(brokenFile)) {
+            outputStream.write(new byte[]{1, 2, 3});
+        }
+
+        assertFalse(new TrayIconEncoder().encode(brokenFile, new File(directory, "thumbnail.jpg")));
+    }
+
+    // NOTE: O laço antigo decodificava a figurinha inteira e baixava a qualidade de 5 em 5 a partir de 100 até caber em 40 KB.
+    // O tempo e o número de codificações de cada caminho ficam no logcat.
+    @Test
+    public void benchmarkTrayIconAgainstTheOldQualityLoop() throws IOException {
+        long oldLoopNanos = Long.MAX_VALUE;
+        long encoderNanos = Long.MAX_VALUE;
+        int oldLoopEncodes = 0;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            oldLoopEncodes = encodeWithOldLoop(sourceFile, new File(directory, "old-" + round + ".jpg"));
+            oldLoopNanos = Math.min(oldLoopNanos, System.nanoTime() - start);
+
+            File destinationFile = new File(directory, "new-" + round + ".jpg");
+            start = System.nanoTime();
+            assertTrue(new TrayIconEncoder().encode(sourceFile, destinationFile));
+            encoderNanos = Math.min(encoderNanos, System.nanoTime() - start);
+
+            assertTrue(destinationFile.length() <= TrayIconEncoder.TRAY_ICON_MAX_BYTES);
+        }
+
+        // NOTE: A contagem do encoder vem da mesma bisseção sobre o bitmap já reduzido
+        Bitmap scaled = Bitmap.createScaledBitmap(BitmapFactory.decodeFile(sourceFile.getAbsolutePath()),
+                TrayIconEncoder.TRAY_ICON_DEFAULT_SIZE, TrayIconEncoder.TRAY_ICON_DEFAULT_SIZE, true);
+        TrayIconEncoder.QualitySelection selection = new TrayIconEncoder().selectQuality(
+                (quality, outputStream) -> scaled.compress(Bitmap.CompressFormat.JPEG, quality, outputStream));
+        scaled.recycle();
+
+        Log.i(TAG_LOG, String.format(Locale.ROOT, "Ícone da bandeja de %d px: laço antigo %d codificações em %d µs, TrayIconEncoder %d codificações em %d µs",
+                SOURCE_SIZE, oldLoopEncodes, oldLoopNanos / 1_000, selection.encodeCount(), encoderNanos / 1_000));
+    }
+
+    private static int encodeWithOldLoop(File sourceFile, File destinationFile) throws IOException {
+        Bitmap bitmap = BitmapFactory.decodeFile(sourceFile.getAbsolutePath());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        int encodeCount = 0;
+        int quality = 100;
+        do {
+            outputStream.reset();
+            bitmap.compress(Bitmap.CompressFormat.JPEG, quality, outputStream);
+            encodeCount++;
+            quality -= 5;
+        } while (outputStream.size() > TrayIconEncoder.TRAY_ICON_MAX_BYTES && quality >= 5);
+        bitmap.recycle();
+
+        try (FileOutputStream fileOutputStream = new FileOutputStream(destinationFile)) {
+            outputStream.writeTo(fileOutputStream);
+        }
+
+        return encodeCount;
+    }
+
+    private static void writeNoiseImage(File file) throws IOException {
+        Random random = new Random(24);
+        int[] pixels = new int[SOURCE_SIZE * SOURCE_SIZE];
+        for (int index = 0; index < pixels.length; index++) {
+            pixels[index] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(pixels, SOURCE_SIZE, SOURCE_SIZE, Bitmap.Config.ARGB_8888);
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            assertTrue(bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream));
+        }
+        bitmap.recycle();
+    }
+
+    private static File[] list(File directory) {
+        File[] files = directory.listFiles();
+        return files != null ? files : new File[0];
+    }
+
+    private static void deleteRecursively(File file) {
+        for (File child : list(file)) {
+            deleteRecursively(child);
+        }
+        file.delete();
+    }
+}
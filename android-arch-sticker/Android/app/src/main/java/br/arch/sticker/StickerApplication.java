@@ -12,11 +12,14 @@ import android.app.Application;
 
 import com.facebook.drawee.backends.pipeline.Fresco;
 
+import br.arch.sticker.core.validation.WhatsappWhitelistValidator;
+
 public class StickerApplication extends Application {
 
     @Override
     public void onCreate() {
         super.onCreate();
         Fresco.initialize(this);
+        WhatsappWhitelistValidator.registerPackageChangeReceiver(this);
     }
 }
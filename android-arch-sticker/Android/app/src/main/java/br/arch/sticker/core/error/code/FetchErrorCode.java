@@ -16,7 +16,8 @@ import br.arch.sticker.core.error.ErrorCodeProvider;
 // @formatter:off
 public enum FetchErrorCode implements ErrorCodeProvider {
     ERROR_EMPTY_STICKERPACK(R.string.throw_empty_stickerpack),
-    ERROR_CONTENT_PROVIDER(R.string.throw_stickerpack_content_provider);
+    ERROR_CONTENT_PROVIDER(R.string.throw_stickerpack_content_provider),
+    ERROR_STICKERPACK_DATABASE(R.string.throw_stickerpack_database);
 
     private final int message;
 
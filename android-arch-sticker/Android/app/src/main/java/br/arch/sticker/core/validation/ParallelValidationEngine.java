@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import br.arch.sticker.core.error.code.BaseErrorCode;
+import br.arch.sticker.core.error.throwable.base.InternalAppException;
+
+// NOTE: Distribui as checagens de validação em um pool limitado ao número de núcleos.
+// O resultado de cada item é devolvido pela identidade do item, então quem consome percorre a lista original
+// na mesma ordem de antes e a saída continua determinística.
+public final class ParallelValidationEngine {
+    private static final int POOL_SIZE = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+
+    private static volatile ThreadPoolExecutor executor;
+
+    private ParallelValidationEngine() {
+    }
+
+    // NOTE: Cada checagem devolve o próprio resultado (um ValidationReport, por exemplo), sem usar exceção como controle de fluxo.
+    // Exceções inesperadas são relançadas como estão.
+    @NonNull
+    public static <T, R> Map<T, R> evaluateAll(@NonNull List<T> items, @NonNull Function<T, R> evaluation) {
+        if (items.size() <= 1 || POOL_SIZE == 1) {
+            return evaluateSequentially(items, evaluation);
+        }
+
+        return evaluateOn(getExecutor(), items, evaluation);
+    }
+
+    @VisibleForTesting
+    @NonNull
+    static <T, R> Map<T, R> evaluateSequentially(@NonNull List<T> items, @NonNull Function<T, R> evaluation) {
+        final Map<T, R> results = new IdentityHashMap<>();
+        for (T item : items) {
+            results.put(item, evaluation.apply(item));
+        }
+
+        return results;
+    }
+
+    @VisibleForTesting
+    @NonNull
+    static <T, R> Map<T, R> evaluateOn(@NonNull ExecutorService executorService, @NonNull List<T> items, @NonNull Function<T, R> evaluation) {
+        final Map<T, R> results = new IdentityHashMap<>();
+
+        final List<Callable<R>> tasks = new ArrayList<>(items.size());
+        for (T item : items) {
+            tasks.add(() -> evaluation.apply(item));
+        }
+
+        final List<Future<R>> futures;
+        try {
+            futures = executorService.invokeAll(tasks);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InternalAppException("Validação interrompida.", exception, BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE);
+        }
+
+        for (int index = 0; index < futures.size(); index++) {
+            try {
+                results.put(items.get(index), futures.get(index).get());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InternalAppException("Validação interrompida.", exception, BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE);
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+
+                if (exception.getCause() instanceof Error error) {
+                    throw error;
+                }
+
+                throw new InternalAppException("Falha inesperada na validação.", exception, BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE);
+            }
+        }
+
+        return results;
+    }
+
+    @NonNull
+    private static ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor current = executor;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (ParallelValidationEngine.class) {
+            if (executor == null) {
+                final AtomicInteger threadCount = new AtomicInteger();
+                executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "sticker-validation-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                executor.allowCoreThreadTimeOut(true);
+            }
+
+            return executor;
+        }
+    }
+}
@@ -16,7 +16,6 @@ import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.CHAR_NA
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.CHAR_PUBLISHER_COUNT_MAX;
 
 import android.content.Context;
-import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.text.TextUtils;
 import android.util.Log;
@@ -27,13 +26,15 @@ import androidx.annotation.NonNull;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.List;
+import java.util.function.Supplier;
 
+import br.arch.sticker.core.error.ErrorCodeProvider;
 import br.arch.sticker.core.error.code.InvalidUrlErrorCode;
+import br.arch.sticker.core.error.code.StickerPackErrorCode;
 import br.arch.sticker.core.error.factory.StickerPackExceptionFactory;
+import br.arch.sticker.core.error.throwable.base.AppCoreStateException;
 import br.arch.sticker.core.error.throwable.content.InvalidWebsiteUrlException;
 import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
-import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
 import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
 
@@ -56,120 +57,167 @@ public class StickerPackValidator {
 
     public void verifyStickerPackValidity(@NonNull StickerPack stickerPack) throws IllegalStateException
         {
-            if (TextUtils.isEmpty(stickerPack.identifier)) {
-                throw StickerPackExceptionFactory.emptyStickerPackIdentifier();
-            }
-
-            if (stickerPack.identifier.length() > CHAR_IDENTIFIER_COUNT_MAX) {
-                throw StickerPackExceptionFactory.invalidSizeStickerPackIdentifier(CHAR_IDENTIFIER_COUNT_MAX);
-            }
+            validateStickerPack(stickerPack).throwIfInvalid();
+        }
 
-            checkStringValidity(stickerPack.identifier);
+    @NonNull
+    public ValidationReport validateStickerPack(@NonNull StickerPack stickerPack)
+        {
+            final ValidationReport report = new ValidationReport();
+            final String identifier = stickerPack.identifier;
+
+            if (TextUtils.isEmpty(identifier)) {
+                report.addViolation(StickerPackErrorCode.INVALID_IDENTIFIER, StickerPackExceptionFactory::emptyStickerPackIdentifier);
+            } else {
+                if (identifier.length() > CHAR_IDENTIFIER_COUNT_MAX) {
+                    report.addViolation(StickerPackErrorCode.INVALID_IDENTIFIER,
+                            () -> StickerPackExceptionFactory.invalidSizeStickerPackIdentifier(CHAR_IDENTIFIER_COUNT_MAX));
+                }
 
-            if (TextUtils.isEmpty(stickerPack.publisher)) {
-                throw StickerPackExceptionFactory.emptyStickerPackPublisher(stickerPack.identifier);
+                collectStringViolations(report, identifier);
             }
 
-            if (stickerPack.publisher.length() > CHAR_PUBLISHER_COUNT_MAX) {
-                throw StickerPackExceptionFactory.invalidSizePublisherStickerPack(CHAR_PUBLISHER_COUNT_MAX, stickerPack.identifier);
+            if (TextUtils.isEmpty(stickerPack.publisher)) {
+                report.addViolation(StickerPackErrorCode.INVALID_PUBLISHER, () -> StickerPackExceptionFactory.emptyStickerPackPublisher(identifier));
+            } else if (stickerPack.publisher.length() > CHAR_PUBLISHER_COUNT_MAX) {
+                report.addViolation(StickerPackErrorCode.INVALID_PUBLISHER,
+                        () -> StickerPackExceptionFactory.invalidSizePublisherStickerPack(CHAR_PUBLISHER_COUNT_MAX, identifier));
             }
 
             if (TextUtils.isEmpty(stickerPack.name)) {
-                throw StickerPackExceptionFactory.emptyStickerPackName(stickerPack.identifier);
+                report.addViolation(StickerPackErrorCode.INVALID_STICKERPACK_NAME, () -> StickerPackExceptionFactory.emptyStickerPackName(identifier));
+            } else if (stickerPack.name.length() > CHAR_NAME_COUNT_MAX) {
+                report.addViolation(StickerPackErrorCode.INVALID_PUBLISHER,
+                        () -> StickerPackExceptionFactory.invalidSizeNameStickerPack(CHAR_NAME_COUNT_MAX, identifier));
             }
 
-            if (stickerPack.name.length() > CHAR_NAME_COUNT_MAX) {
-                throw StickerPackExceptionFactory.invalidSizeNameStickerPack(CHAR_NAME_COUNT_MAX, stickerPack.identifier);
+            final String trayImageFile = stickerPack.trayImageFile;
+            if (TextUtils.isEmpty(trayImageFile)) {
+                report.addViolation(StickerPackErrorCode.INVALID_THUMBNAIL, () -> StickerPackExceptionFactory.emptyTrayImage(identifier));
             }
 
-            if (TextUtils.isEmpty(stickerPack.trayImageFile)) {
-                throw StickerPackExceptionFactory.emptyTrayImage(stickerPack.identifier);
+            final String androidPlayStoreLink = stickerPack.androidPlayStoreLink;
+            if (!TextUtils.isEmpty(androidPlayStoreLink)
+                    && collectUrlViolation(report, androidPlayStoreLink, StickerPackErrorCode.INVALID_ANDROID_URL_SITE,
+                    () -> StickerPackExceptionFactory.invalidAndroidPlayStoreUrl(androidPlayStoreLink))
+                    && !isURLInCorrectDomain(androidPlayStoreLink, PLAY_STORE_DOMAIN)) {
+                report.addViolation(StickerPackErrorCode.INVALID_ANDROID_URL_SITE,
+                        () -> StickerPackExceptionFactory.invalidAndroidPlayStoreDomain(PLAY_STORE_DOMAIN));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.androidPlayStoreLink) && !isValidWebsiteUrl(stickerPack.androidPlayStoreLink)) {
-                throw StickerPackExceptionFactory.invalidAndroidPlayStoreUrl(stickerPack.androidPlayStoreLink);
+            final String iosAppStoreLink = stickerPack.iosAppStoreLink;
+            if (!TextUtils.isEmpty(iosAppStoreLink)
+                    && collectUrlViolation(report, iosAppStoreLink, StickerPackErrorCode.INVALID_IOS_URL_SITE,
+                    () -> StickerPackExceptionFactory.invalidIosAppStoreUrl(iosAppStoreLink))
+                    && !isURLInCorrectDomain(iosAppStoreLink, APPLE_STORE_DOMAIN)) {
+                report.addViolation(StickerPackErrorCode.INVALID_IOS_URL_SITE,
+                        () -> StickerPackExceptionFactory.invalidIosAppStoreDomain(APPLE_STORE_DOMAIN));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.androidPlayStoreLink) && !isURLInCorrectDomain(stickerPack.androidPlayStoreLink, PLAY_STORE_DOMAIN)) {
-                throw StickerPackExceptionFactory.invalidAndroidPlayStoreDomain(PLAY_STORE_DOMAIN);
+            final String licenseAgreementWebsite = stickerPack.licenseAgreementWebsite;
+            if (!TextUtils.isEmpty(licenseAgreementWebsite)) {
+                collectUrlViolation(report, licenseAgreementWebsite, StickerPackErrorCode.INVALID_WEBSITE,
+                        () -> StickerPackExceptionFactory.invalidLicenseAgreementUrl(licenseAgreementWebsite));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.iosAppStoreLink) && !isValidWebsiteUrl(stickerPack.iosAppStoreLink)) {
-                throw StickerPackExceptionFactory.invalidIosAppStoreUrl(stickerPack.iosAppStoreLink);
+            final String privacyPolicyWebsite = stickerPack.privacyPolicyWebsite;
+            if (!TextUtils.isEmpty(privacyPolicyWebsite)) {
+                collectUrlViolation(report, privacyPolicyWebsite, StickerPackErrorCode.INVALID_WEBSITE,
+                        () -> StickerPackExceptionFactory.invalidPrivacyPolicyUrl(privacyPolicyWebsite));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.iosAppStoreLink) && !isURLInCorrectDomain(stickerPack.iosAppStoreLink, APPLE_STORE_DOMAIN)) {
-                throw StickerPackExceptionFactory.invalidIosAppStoreDomain(APPLE_STORE_DOMAIN);
+            final String publisherWebsite = stickerPack.publisherWebsite;
+            if (!TextUtils.isEmpty(publisherWebsite)) {
+                collectUrlViolation(report, publisherWebsite, StickerPackErrorCode.INVALID_WEBSITE,
+                        () -> StickerPackExceptionFactory.invalidPublisherWebsite(publisherWebsite));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.licenseAgreementWebsite) && !isValidWebsiteUrl(stickerPack.licenseAgreementWebsite)) {
-                throw StickerPackExceptionFactory.invalidLicenseAgreementUrl(stickerPack.licenseAgreementWebsite);
+            final String publisherEmail = stickerPack.publisherEmail;
+            if (!TextUtils.isEmpty(publisherEmail) && !Patterns.EMAIL_ADDRESS.matcher(publisherEmail).matches()) {
+                report.addViolation(StickerPackErrorCode.INVALID_EMAIL, () -> StickerPackExceptionFactory.invalidPublisherEmail(publisherEmail));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.privacyPolicyWebsite) && !isValidWebsiteUrl(stickerPack.privacyPolicyWebsite)) {
-                throw StickerPackExceptionFactory.invalidPrivacyPolicyUrl(stickerPack.privacyPolicyWebsite);
+            if (!TextUtils.isEmpty(identifier) && !TextUtils.isEmpty(trayImageFile)) {
+                collectTrayImageViolations(report, identifier, trayImageFile);
             }
 
-            if (!TextUtils.isEmpty(stickerPack.publisherWebsite) && !isValidWebsiteUrl(stickerPack.publisherWebsite)) {
-                throw StickerPackExceptionFactory.invalidPublisherWebsite(stickerPack.publisherWebsite);
+            final int stickerCount = stickerPack.getStickers().size();
+            if (stickerCount < STICKER_SIZE_MIN || stickerCount > STICKER_SIZE_MAX) {
+                report.addViolation(StickerPackErrorCode.INVALID_STICKERPACK_SIZE,
+                        () -> StickerPackExceptionFactory.invalidStickerCount(stickerCount, identifier));
             }
 
-            if (!TextUtils.isEmpty(stickerPack.publisherEmail) && !Patterns.EMAIL_ADDRESS.matcher(stickerPack.publisherEmail).matches()) {
-                throw StickerPackExceptionFactory.invalidPublisherEmail(stickerPack.publisherEmail);
-            }
+            return report;
+        }
 
+    private void collectTrayImageViolations(@NonNull ValidationReport report, @NonNull String identifier, @NonNull String trayImageFile)
+        {
+            final long trayImageLength;
             try {
-                final byte[] stickerAssetBytes = fetchStickerAssetService.fetchStickerAsset(stickerPack.identifier, stickerPack.trayImageFile);
+                trayImageLength = fetchStickerAssetService.statStickerAsset(identifier, trayImageFile).length();
+            } catch (FetchStickerException exception) {
+                report.addViolation(StickerPackErrorCode.INVALID_THUMBNAIL, () -> StickerPackExceptionFactory.cannotOpenTrayImage(trayImageFile, exception));
+                return;
+            }
 
-                if (stickerAssetBytes.length > TRAY_IMAGE_FILE_SIZE_MAX_KB * 1024) {
-                    throw StickerPackExceptionFactory.trayImageTooLarge(stickerPack.trayImageFile, TRAY_IMAGE_FILE_SIZE_MAX_KB);
-                }
+            if (trayImageLength > TRAY_IMAGE_FILE_SIZE_MAX_KB * 1024) {
+                report.addViolation(StickerPackErrorCode.INVALID_THUMBNAIL,
+                        () -> StickerPackExceptionFactory.trayImageTooLarge(trayImageFile, TRAY_IMAGE_FILE_SIZE_MAX_KB));
+            }
 
-                Bitmap bitmap = BitmapFactory.decodeByteArray(stickerAssetBytes, 0, stickerAssetBytes.length);
-                if (bitmap.getHeight() > TRAY_IMAGE_DIMENSION_MAX || bitmap.getHeight() < TRAY_IMAGE_DIMENSION_MIN) {
-                    throw StickerPackExceptionFactory.invalidTrayImageHeight(stickerPack.trayImageFile, bitmap.getHeight(), TRAY_IMAGE_DIMENSION_MIN,
-                            TRAY_IMAGE_DIMENSION_MAX);
-                }
+            // NOTE: Só os limites da imagem são lidos, sem alocar o bitmap. Falha na leitura deixa -1 e cai na checagem de altura.
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeFile(fetchStickerAssetService.getStickerAssetFile(identifier, trayImageFile).getAbsolutePath(), options);
 
-                if (bitmap.getWidth() > TRAY_IMAGE_DIMENSION_MAX || bitmap.getWidth() < TRAY_IMAGE_DIMENSION_MIN) {
-                    throw StickerPackExceptionFactory.invalidTrayImageWidth(stickerPack.trayImageFile, bitmap.getWidth(), TRAY_IMAGE_DIMENSION_MIN,
-                            TRAY_IMAGE_DIMENSION_MAX);
-                }
-            } catch (FetchStickerException exception) {
-                throw StickerPackExceptionFactory.cannotOpenTrayImage(stickerPack.trayImageFile, exception);
+            final int height = options.outHeight;
+            if (height > TRAY_IMAGE_DIMENSION_MAX || height < TRAY_IMAGE_DIMENSION_MIN) {
+                report.addViolation(StickerPackErrorCode.INVALID_THUMBNAIL,
+                        () -> StickerPackExceptionFactory.invalidTrayImageHeight(trayImageFile, height, TRAY_IMAGE_DIMENSION_MIN,
+                                TRAY_IMAGE_DIMENSION_MAX));
             }
 
-            final List<Sticker> stickers = stickerPack.getStickers();
-
-            if (stickers.size() < STICKER_SIZE_MIN || stickers.size() > STICKER_SIZE_MAX) {
-                throw StickerPackExceptionFactory.invalidStickerCount(stickers.size(), stickerPack.identifier);
+            final int width = options.outWidth;
+            if (width > TRAY_IMAGE_DIMENSION_MAX || width < TRAY_IMAGE_DIMENSION_MIN) {
+                report.addViolation(StickerPackErrorCode.INVALID_THUMBNAIL,
+                        () -> StickerPackExceptionFactory.invalidTrayImageWidth(trayImageFile, width, TRAY_IMAGE_DIMENSION_MIN,
+                                TRAY_IMAGE_DIMENSION_MAX));
             }
         }
 
-    private static void checkStringValidity(@NonNull String string)
+    private static void collectStringViolations(@NonNull ValidationReport report, @NonNull String string)
         {
             String pattern = "[\\w-.,'\\s]+"; // [a-zA-Z0-9_-.' ]
             if (!string.matches(pattern)) {
-                throw StickerPackExceptionFactory.invalidStickerPackString(string);
+                report.addViolation(StickerPackErrorCode.INVALID_STICKERPACK_NAME, () -> StickerPackExceptionFactory.invalidStickerPackString(string));
             }
 
             if (string.contains("..")) {
-                throw StickerPackExceptionFactory.stickerPackStringContainsDotDot(string);
+                report.addViolation(StickerPackErrorCode.INVALID_STICKERPACK_NAME,
+                        () -> StickerPackExceptionFactory.stickerPackStringContainsDotDot(string));
             }
         }
 
-    @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private static boolean isValidWebsiteUrl(String websiteUrl) throws InvalidWebsiteUrlException
+    // NOTE: Retorna se a url é bem formada, para a checagem de domínio só rodar nesse caso
+    private static boolean collectUrlViolation(
+            @NonNull ValidationReport report, @NonNull String websiteUrl, @NonNull ErrorCodeProvider errorCode,
+            @NonNull Supplier<? extends AppCoreStateException> invalidUrl)
         {
             try {
                 new URL(websiteUrl);
             } catch (MalformedURLException exception) {
                 Log.e("StickerPackValidator", "url: " + websiteUrl + " é malformado");
-                throw new InvalidWebsiteUrlException(String.format("Url: %s está malformada", websiteUrl), exception, InvalidUrlErrorCode.INVALID_URL,
-                        websiteUrl);
+                report.addViolation(InvalidUrlErrorCode.INVALID_URL,
+                        () -> new InvalidWebsiteUrlException(String.format("Url: %s está malformada", websiteUrl), exception,
+                                InvalidUrlErrorCode.INVALID_URL, websiteUrl));
+                return false;
+            }
+
+            if (!URLUtil.isHttpUrl(websiteUrl) && !URLUtil.isHttpsUrl(websiteUrl)) {
+                report.addViolation(errorCode, invalidUrl);
             }
 
-            return URLUtil.isHttpUrl(websiteUrl) || URLUtil.isHttpsUrl(websiteUrl);
+            return true;
         }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
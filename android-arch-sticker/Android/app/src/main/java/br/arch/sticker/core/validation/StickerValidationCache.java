@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import android.content.Context;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.StickerValidationRepo;
+import br.arch.sticker.domain.dto.StickerFileStat;
+
+// NOTE: Guarda a impressão digital (tamanho, data de modificação, CRC32) e o resultado da última validação de cada figurinha.
+// Em memória ficam só as validações sem erro.
+public class StickerValidationCache {
+    private static final int MEMORY_CACHE_MAX_ENTRIES = 256;
+
+    private static volatile StickerValidationCache instance;
+
+    private final LruCache<String, ValidatedSticker> memoryCache = new LruCache<>(MEMORY_CACHE_MAX_ENTRIES);
+    private final Map<String, List<PendingOutcome>> deferredOutcomes = new ConcurrentHashMap<>();
+    private final StickerValidationRepo stickerValidationRepo;
+    private final int rulesVersion;
+
+    private StickerValidationCache(Context context) {
+        this(new StickerValidationRepo(StickerDatabaseHelper.getInstance(context).getWritableDatabase()),
+                StickerValidator.VALIDATION_RULES_VERSION);
+    }
+
+    @VisibleForTesting
+    public StickerValidationCache(@NonNull StickerValidationRepo stickerValidationRepo, int rulesVersion) {
+        this.stickerValidationRepo = stickerValidationRepo;
+        this.rulesVersion = rulesVersion;
+    }
+
+    public static synchronized StickerValidationCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new StickerValidationCache(context.getApplicationContext());
+        }
+
+        return instance;
+    }
+
+    public boolean isValidated(
+            @NonNull String stickerPackIdentifier, @NonNull String fileName, @NonNull StickerFileStat stickerFileStat,
+            boolean animatedStickerPack) {
+        final String key = buildKey(stickerPackIdentifier, fileName);
+        final ValidatedSticker validatedSticker = new ValidatedSticker(stickerFileStat, animatedStickerPack);
+
+        if (validatedSticker.equals(memoryCache.get(key))) {
+            return true;
+        }
+
+        if (stickerValidationRepo.isStickerValidated(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack,
+                rulesVersion)) {
+            memoryCache.put(key, validatedSticker);
+            return true;
+        }
+
+        return false;
+    }
+
+    // NOTE: Arquivo com a data de modificação alterada (cópia, restauração) mas com o mesmo conteúdo mantém a validação anterior
+    public boolean isValidatedByChecksum(
+            @NonNull String stickerPackIdentifier, @NonNull String fileName, @NonNull StickerFileStat stickerFileStat,
+            boolean animatedStickerPack, long crc32) {
+        final Long validatedChecksum = stickerValidationRepo.getValidatedChecksum(stickerPackIdentifier, fileName, stickerFileStat.length(),
+                animatedStickerPack, rulesVersion);
+
+        if (validatedChecksum == null || validatedChecksum != crc32) {
+            return false;
+        }
+
+        recordOutcome(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack, crc32, null);
+        return true;
+    }
+
+    // NOTE: Pacote ainda sem linha no banco (salvamento em andamento): a chave estrangeira de sticker_validation recusaria a gravação,
+    // então os resultados ficam guardados até flushDeferredOutcomes, chamado depois do commit do pacote
+    public void deferOutcomes(@NonNull String stickerPackIdentifier) {
+        deferredOutcomes.put(stickerPackIdentifier, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    public void flushDeferredOutcomes(@NonNull String stickerPackIdentifier) {
+        final List<PendingOutcome> pendingOutcomes = deferredOutcomes.remove(stickerPackIdentifier);
+        if (pendingOutcomes == null) {
+            return;
+        }
+
+        synchronized (pendingOutcomes) {
+            for (PendingOutcome pending : pendingOutcomes) {
+                writeOutcome(stickerPackIdentifier, pending.fileName(), pending.stickerFileStat(), pending.animatedStickerPack(),
+                        pending.crc32(), pending.outcome());
+            }
+        }
+    }
+
+    public void discardDeferredOutcomes(@NonNull String stickerPackIdentifier) {
+        deferredOutcomes.remove(stickerPackIdentifier);
+    }
+
+    // NOTE: outcome nulo é validação sem erro, senão é o nome do primeiro código de erro do arquivo
+    public void recordOutcome(
+            @NonNull String stickerPackIdentifier, @NonNull String fileName, @NonNull StickerFileStat stickerFileStat,
+            boolean animatedStickerPack, long crc32, @Nullable String outcome) {
+        final List<PendingOutcome> pendingOutcomes = deferredOutcomes.get(stickerPackIdentifier);
+        if (pendingOutcomes != null) {
+            pendingOutcomes.add(new PendingOutcome(fileName, stickerFileStat, animatedStickerPack, crc32, outcome));
+            return;
+        }
+
+        writeOutcome(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack, crc32, outcome);
+    }
+
+    private void writeOutcome(
+            @NonNull String stickerPackIdentifier, @NonNull String fileName, @NonNull StickerFileStat stickerFileStat,
+            boolean animatedStickerPack, long crc32, @Nullable String outcome) {
+        final String key = buildKey(stickerPackIdentifier, fileName);
+        if (outcome == null) {
+            memoryCache.put(key, new ValidatedSticker(stickerFileStat, animatedStickerPack));
+        } else {
+            memoryCache.remove(key);
+        }
+
+        stickerValidationRepo.upsertStickerValidation(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack, crc32,
+                rulesVersion, outcome);
+    }
+
+    public void invalidate(@NonNull String stickerPackIdentifier, @NonNull String fileName) {
+        memoryCache.remove(buildKey(stickerPackIdentifier, fileName));
+        stickerValidationRepo.deleteStickerValidation(stickerPackIdentifier, fileName);
+    }
+
+    public void invalidateStickerPack(@NonNull String stickerPackIdentifier) {
+        final String prefix = buildKey(stickerPackIdentifier, "");
+        for (Map.Entry<String, ValidatedSticker> entry : memoryCache.snapshot().entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                memoryCache.remove(entry.getKey());
+            }
+        }
+
+        stickerValidationRepo.deleteStickerValidationByPack(stickerPackIdentifier);
+    }
+
+    @NonNull
+    private static String buildKey(@NonNull String stickerPackIdentifier, @NonNull String fileName) {
+        return stickerPackIdentifier + "/" + fileName;
+    }
+
+    private record ValidatedSticker(StickerFileStat stickerFileStat, boolean animatedStickerPack) {
+    }
+
+    private record PendingOutcome(String fileName, StickerFileStat stickerFileStat, boolean animatedStickerPack, long crc32, String outcome) {
+    }
+}
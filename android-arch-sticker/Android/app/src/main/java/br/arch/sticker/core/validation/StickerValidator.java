@@ -13,15 +13,23 @@ import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
-import com.facebook.animated.webp.WebPImage;
-import com.facebook.imagepipeline.common.ImageDecodeOptions;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32;
 
 import br.arch.sticker.core.error.code.BaseErrorCode;
+import br.arch.sticker.core.error.code.StickerAssetErrorCode;
+import br.arch.sticker.core.error.code.StickerPackErrorCode;
 import br.arch.sticker.core.error.factory.StickerExceptionFactory;
 import br.arch.sticker.core.error.throwable.base.InternalAppException;
 import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
+import br.arch.sticker.core.validation.webp.WebpHeader;
+import br.arch.sticker.core.validation.webp.WebpHeaderParser;
 import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.dto.StickerFileStat;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
 import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
 
 public class StickerValidator {
@@ -34,33 +42,60 @@ public class StickerValidator {
     public static final long KB_IN_BYTES = 1024;
     public static final int ANIMATED_STICKER_FRAME_DURATION_MIN = 8;
     public static final int ANIMATED_STICKER_TOTAL_DURATION_MAX = 10 * 1000; //ms
+    // NOTE: Incrementar quando alguma regra de arquivo mudar, para revalidar as figurinhas já gravadas no cache
+    public static final int VALIDATION_RULES_VERSION = 1;
+    private static final int CRC32_CHUNK_SIZE = 8 * 1024;
 
     private final FetchStickerAssetService fetchStickerAssetService;
+    private final StickerValidationCache stickerValidationCache;
 
     public StickerValidator(Context context)
+        {
+            this(context, StickerValidationCache.getInstance(context));
+        }
+
+    @VisibleForTesting
+    StickerValidator(Context context, @NonNull StickerValidationCache stickerValidationCache)
         {
             this.fetchStickerAssetService = new FetchStickerAssetService(context.getApplicationContext());
+            this.stickerValidationCache = stickerValidationCache;
         }
 
     public void verifyStickerValidity(
             @NonNull final String stickerPackIdentifier, @NonNull final Sticker sticker,
             final boolean animatedStickerPack) throws IllegalStateException
         {
+            validateSticker(stickerPackIdentifier, sticker, animatedStickerPack).throwIfInvalid();
+        }
+
+    @NonNull
+    public ValidationReport validateSticker(
+            @NonNull final String stickerPackIdentifier, @NonNull final Sticker sticker, final boolean animatedStickerPack)
+        {
+            final ValidationReport report = new ValidationReport();
 
             if (!sticker.stickerIsValid.isEmpty()) {
-                throw StickerExceptionFactory.fromStickerValidity(stickerPackIdentifier);
+                report.addViolation(StickerAssetErrorCode.ERROR_FILE_SIZE, () -> StickerExceptionFactory.fromStickerValidity(stickerPackIdentifier));
+                return report;
+            }
+
+            final String fileName = sticker.imageFileName;
+            if (TextUtils.isEmpty(fileName)) {
+                report.addViolation(StickerAssetErrorCode.INVALID_STICKER_PATH,
+                        () -> StickerExceptionFactory.missingStickerFileName(stickerPackIdentifier, null));
             }
 
-            if (TextUtils.isEmpty(sticker.imageFileName)) {
-                throw StickerExceptionFactory.missingStickerFileName(stickerPackIdentifier, null);
+            if (isInvalidAccessibilityText(sticker.accessibilityText, animatedStickerPack)) {
+                report.addViolation(StickerPackErrorCode.INVALID_STICKER_ACCESSIBILITY,
+                        () -> StickerExceptionFactory.accessibilityTextTooLong(stickerPackIdentifier, fileName));
             }
 
-            final String accessibilityText = sticker.accessibilityText;
-            if (isInvalidAccessibilityText(accessibilityText, animatedStickerPack)) {
-                throw StickerExceptionFactory.accessibilityTextTooLong(stickerPackIdentifier, sticker.imageFileName);
+            if (!TextUtils.isEmpty(fileName)) {
+                collectStickerFileViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, sticker.getFileStat(),
+                        sticker.getMediaMetadata());
             }
 
-            validateStickerFile(stickerPackIdentifier, sticker.imageFileName, animatedStickerPack);
+            return report;
         }
 
     private static boolean isInvalidAccessibilityText(final @Nullable String accessibilityText, final boolean isAnimatedStickerPack)
@@ -76,62 +111,197 @@ public class StickerValidator {
     public void validateStickerFile(
             @NonNull String stickerPackIdentifier, @NonNull final String fileName, final boolean animatedStickerPack) throws IllegalStateException
         {
-            try {
-                final byte[] stickerInBytes = fetchStickerAssetService.fetchStickerAsset(stickerPackIdentifier, fileName);
+            validateStickerFile(stickerPackIdentifier, fileName, animatedStickerPack, null);
+        }
 
-                if (!animatedStickerPack && stickerInBytes.length > STATIC_STICKER_FILE_LIMIT_KB * KB_IN_BYTES) {
-                    throw StickerExceptionFactory.staticFileTooLarge(stickerPackIdentifier, fileName, STATIC_STICKER_FILE_LIMIT_KB,
-                            Math.toIntExact(stickerInBytes.length / KB_IN_BYTES));
-                }
+    // NOTE: Quem já fez o stat do arquivo passa o resultado, o validador não repete a chamada
+    public void validateStickerFile(
+            @NonNull String stickerPackIdentifier, @NonNull final String fileName, final boolean animatedStickerPack,
+            @Nullable StickerFileStat knownFileStat) throws IllegalStateException
+        {
+            final ValidationReport report = new ValidationReport();
+            collectStickerFileViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, knownFileStat, null);
+            report.throwIfInvalid();
+        }
 
-                if (animatedStickerPack && stickerInBytes.length > ANIMATED_STICKER_FILE_LIMIT_KB * KB_IN_BYTES) {
-                    throw StickerExceptionFactory.animatedFileTooLarge(stickerPackIdentifier, fileName, ANIMATED_STICKER_FILE_LIMIT_KB,
-                            Math.toIntExact(stickerInBytes.length / KB_IN_BYTES));
-                }
+    private void collectStickerFileViolations(
+            @NonNull ValidationReport report, @NonNull String stickerPackIdentifier, @NonNull final String fileName,
+            final boolean animatedStickerPack, @Nullable StickerFileStat knownFileStat, @Nullable StickerMediaMetadata knownMetadata)
+        {
+            final StickerFileStat stickerFileStat;
+            final ByteBuffer stickerBuffer;
 
+            if (knownFileStat != null) {
+                stickerFileStat = knownFileStat;
+            } else {
                 try {
-                    final WebPImage webPImage = WebPImage.createFromByteArray(stickerInBytes, ImageDecodeOptions.defaults());
+                    stickerFileStat = fetchStickerAssetService.statStickerAsset(stickerPackIdentifier, fileName);
+                } catch (FetchStickerException exception) {
+                    addCannotOpenFailure(report, stickerPackIdentifier, fileName, exception);
+                    return;
+                }
+            }
 
-                    if (webPImage.getHeight() != IMAGE_HEIGHT) {
-                        throw StickerExceptionFactory.invalidHeight(stickerPackIdentifier, fileName, IMAGE_HEIGHT, webPImage.getHeight());
-                    }
+            // NOTE: Impressão digital igual à da última validação sem erro, o arquivo nem é aberto
+            if (stickerValidationCache.isValidated(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack)) {
+                return;
+            }
 
-                    if (webPImage.getWidth() != IMAGE_WIDTH) {
-                        throw StickerExceptionFactory.invalidWidth(stickerPackIdentifier, fileName, IMAGE_WIDTH, webPImage.getWidth());
-                    }
+            if (collectStoredMetadataViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, stickerFileStat, knownMetadata)) {
+                return;
+            }
 
-                    if (animatedStickerPack) {
-                        if (webPImage.getFrameCount() <= 1) {
-                            throw StickerExceptionFactory.expectedAnimatedButGotStatic(stickerPackIdentifier, fileName);
-                        }
+            try {
+                stickerBuffer = fetchStickerAssetService.mapStickerAsset(stickerPackIdentifier, fileName);
+            } catch (FetchStickerException exception) {
+                addCannotOpenFailure(report, stickerPackIdentifier, fileName, exception);
+                return;
+            }
 
-                        checkFrameDurationsForAnimatedSticker(webPImage.getFrameDurations(), stickerPackIdentifier, fileName);
+            final long crc32 = computeCrc32(stickerBuffer);
+            if (stickerValidationCache.isValidatedByChecksum(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack, crc32)) {
+                return;
+            }
+
+            final int violationCount = report.getViolations().size();
+            collectStickerContentViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, stickerFileStat.length(), stickerBuffer);
 
-                        if (webPImage.getDuration() > ANIMATED_STICKER_TOTAL_DURATION_MAX) {
-                            throw StickerExceptionFactory.durationExceeded(stickerPackIdentifier, fileName, ANIMATED_STICKER_TOTAL_DURATION_MAX,
-                                    webPImage.getDuration());
-                        }
-                    } else if (webPImage.getFrameCount() > 1) {
-                        throw StickerExceptionFactory.expectedStaticButGotAnimated(stickerPackIdentifier, fileName);
-                    }
+            final List<ValidationReport.Violation> violations = report.getViolations();
+            final String outcome = violations.size() > violationCount ? violations.get(violationCount).getErrorCodeName() : null;
+            stickerValidationCache.recordOutcome(stickerPackIdentifier, fileName, stickerFileStat, animatedStickerPack, crc32, outcome);
+        }
 
-                } catch (IllegalArgumentException exception) {
-                    throw StickerExceptionFactory.invalidWebP(stickerPackIdentifier, fileName);
+    private void collectStickerContentViolations(
+            @NonNull ValidationReport report, @NonNull String stickerPackIdentifier, @NonNull final String fileName,
+            final boolean animatedStickerPack, final long stickerLength, @NonNull ByteBuffer stickerBuffer)
+        {
+            final WebpHeader webpHeader;
+
+            collectFileSizeViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, stickerLength);
+
+            try {
+                webpHeader = WebpHeaderParser.parse(stickerBuffer);
+            } catch (IllegalArgumentException exception) {
+                report.addViolation(StickerAssetErrorCode.ERROR_FILE_TYPE, () -> StickerExceptionFactory.invalidWebP(stickerPackIdentifier, fileName));
+                return;
+            }
+
+            collectMediaViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, webpHeader.width(), webpHeader.height(),
+                    webpHeader.frameCount(), webpHeader.frameDurations(), webpHeader.duration());
+        }
+
+    // NOTE: Metadados gravados no salvamento valem enquanto o stat (tamanho e data de modificação) for o mesmo, como na impressão
+    // digital do cache. Regras de tamanho, dimensão e tipo violadas por eles reprovam a figurinha sem abrir o arquivo; sem violação,
+    // segue a leitura completa do arquivo.
+    private static boolean collectStoredMetadataViolations(
+            @NonNull ValidationReport report, @NonNull String stickerPackIdentifier, @NonNull final String fileName,
+            final boolean animatedStickerPack, @NonNull StickerFileStat stickerFileStat, @Nullable StickerMediaMetadata mediaMetadata)
+        {
+            if (mediaMetadata == null || !mediaMetadata.matches(stickerFileStat)) {
+                return false;
+            }
+
+            final int violationCount = report.getViolations().size();
+            collectFileSizeViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, mediaMetadata.size());
+            collectMediaViolations(report, stickerPackIdentifier, fileName, animatedStickerPack, mediaMetadata.width(), mediaMetadata.height(),
+                    mediaMetadata.frameCount(), null, mediaMetadata.duration());
+
+            return report.getViolations().size() > violationCount;
+        }
+
+    private static void collectFileSizeViolations(
+            @NonNull ValidationReport report, @NonNull String stickerPackIdentifier, @NonNull final String fileName,
+            final boolean animatedStickerPack, final long stickerLength)
+        {
+            if (!animatedStickerPack && stickerLength > STATIC_STICKER_FILE_LIMIT_KB * KB_IN_BYTES) {
+                report.addViolation(StickerAssetErrorCode.ERROR_FILE_SIZE,
+                        () -> StickerExceptionFactory.staticFileTooLarge(stickerPackIdentifier, fileName, STATIC_STICKER_FILE_LIMIT_KB,
+                                Math.toIntExact(stickerLength / KB_IN_BYTES)));
+            }
+
+            if (animatedStickerPack && stickerLength > ANIMATED_STICKER_FILE_LIMIT_KB * KB_IN_BYTES) {
+                report.addViolation(StickerAssetErrorCode.ERROR_FILE_SIZE,
+                        () -> StickerExceptionFactory.animatedFileTooLarge(stickerPackIdentifier, fileName, ANIMATED_STICKER_FILE_LIMIT_KB,
+                                Math.toIntExact(stickerLength / KB_IN_BYTES)));
+            }
+        }
+
+    // NOTE: frameDurations nulo vem dos metadados gravados, que não guardam a duração de cada quadro. As regras de duração ficam
+    // para a leitura do arquivo, na ordem de sempre: primeiro o quadro mais curto, depois a duração total.
+    private static void collectMediaViolations(
+            @NonNull ValidationReport report, @NonNull String stickerPackIdentifier, @NonNull final String fileName,
+            final boolean animatedStickerPack, final int width, final int height, final int frameCount, @Nullable final int[] frameDurations,
+            final int duration)
+        {
+            if (height != IMAGE_HEIGHT) {
+                report.addViolation(StickerAssetErrorCode.ERROR_SIZE_STICKER,
+                        () -> StickerExceptionFactory.invalidHeight(stickerPackIdentifier, fileName, IMAGE_HEIGHT, height));
+            }
+
+            if (width != IMAGE_WIDTH) {
+                report.addViolation(StickerAssetErrorCode.ERROR_SIZE_STICKER,
+                        () -> StickerExceptionFactory.invalidWidth(stickerPackIdentifier, fileName, IMAGE_WIDTH, width));
+            }
+
+            if (animatedStickerPack) {
+                if (frameCount <= 1) {
+                    report.addViolation(StickerAssetErrorCode.ERROR_STICKER_TYPE,
+                            () -> StickerExceptionFactory.expectedAnimatedButGotStatic(stickerPackIdentifier, fileName));
+                    return;
                 }
-            } catch (FetchStickerException exception) {
-                throw new InternalAppException(
-                        String.format("Não foi possível abrir o arquivo da figurinha. Identificador do pacote: %s, arquivo: %s",
-                                stickerPackIdentifier, fileName), exception, BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE);
+
+                if (frameDurations == null) {
+                    return;
+                }
+
+                if (hasFrameBelowMinDuration(frameDurations)) {
+                    report.addViolation(StickerAssetErrorCode.ERROR_STICKER_DURATION,
+                            () -> StickerExceptionFactory.durationExceeded(stickerPackIdentifier, fileName, ANIMATED_STICKER_FRAME_DURATION_MIN));
+                }
+
+                if (duration > ANIMATED_STICKER_TOTAL_DURATION_MAX) {
+                    report.addViolation(StickerAssetErrorCode.ERROR_STICKER_DURATION,
+                            () -> StickerExceptionFactory.durationExceeded(stickerPackIdentifier, fileName, ANIMATED_STICKER_TOTAL_DURATION_MAX,
+                                    duration));
+                }
+            } else if (frameCount > 1) {
+                report.addViolation(StickerAssetErrorCode.ERROR_STICKER_TYPE,
+                        () -> StickerExceptionFactory.expectedStaticButGotAnimated(stickerPackIdentifier, fileName));
             }
         }
 
-    private static void checkFrameDurationsForAnimatedSticker(
-            @NonNull final int[] frameDurations, @NonNull final String identifier, @NonNull final String fileName)
+    private static void addCannotOpenFailure(
+            @NonNull ValidationReport report, @NonNull String stickerPackIdentifier, @NonNull String fileName,
+            @NonNull FetchStickerException exception)
+        {
+            report.addFailure(BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE, () -> new InternalAppException(
+                    String.format("Não foi possível abrir o arquivo da figurinha. Identificador do pacote: %s, arquivo: %s",
+                            stickerPackIdentifier, fileName), exception, BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE));
+        }
+
+    private static long computeCrc32(@NonNull ByteBuffer stickerBuffer)
+        {
+            final ByteBuffer buffer = stickerBuffer.duplicate();
+            final byte[] chunk = new byte[Math.min(CRC32_CHUNK_SIZE, Math.max(buffer.remaining(), 1))];
+            final CRC32 crc32 = new CRC32();
+
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                crc32.update(chunk, 0, length);
+            }
+
+            return crc32.getValue();
+        }
+
+    private static boolean hasFrameBelowMinDuration(@NonNull final int[] frameDurations)
         {
             for (int frameDuration : frameDurations) {
                 if (frameDuration < ANIMATED_STICKER_FRAME_DURATION_MIN) {
-                    throw StickerExceptionFactory.durationExceeded(identifier, fileName, ANIMATED_STICKER_FRAME_DURATION_MIN);
+                    return true;
                 }
             }
+
+            return false;
         }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import br.arch.sticker.core.error.ErrorCodeProvider;
+import br.arch.sticker.core.error.throwable.base.AppCoreStateException;
+
+// NOTE: Junta todas as violações de uma validação sem lançar nada. A exceção de cada violação só é montada
+// (com stack trace) se alguém pedir, por toException() ou throwIfInvalid().
+public final class ValidationReport {
+    private List<Violation> violations;
+
+    public record Violation(@NonNull ErrorCodeProvider errorCode, boolean ruleViolation,
+                            @NonNull Supplier<? extends AppCoreStateException> exceptionSupplier) {
+        @Nullable
+        public String getErrorCodeName() {
+            return errorCode instanceof Enum<?> errorCodeEnum ? errorCodeEnum.name() : null;
+        }
+
+        @NonNull
+        public AppCoreStateException toException() {
+            return exceptionSupplier.get();
+        }
+    }
+
+    // NOTE: Violação de regra do pacote ou da figurinha (arquivo grande, dimensão errada...)
+    public void addViolation(@NonNull ErrorCodeProvider errorCode, @NonNull Supplier<? extends AppCoreStateException> exceptionSupplier) {
+        add(new Violation(errorCode, true, exceptionSupplier));
+    }
+
+    // NOTE: Falha operacional (arquivo não abre), não é regra de validação e os chamadores continuam tratando como erro
+    public void addFailure(@NonNull ErrorCodeProvider errorCode, @NonNull Supplier<? extends AppCoreStateException> exceptionSupplier) {
+        add(new Violation(errorCode, false, exceptionSupplier));
+    }
+
+    private void add(@NonNull Violation violation) {
+        if (violations == null) {
+            violations = new ArrayList<>(2);
+        }
+
+        violations.add(violation);
+    }
+
+    public boolean isValid() {
+        return violations == null;
+    }
+
+    @NonNull
+    public List<Violation> getViolations() {
+        return violations == null ? Collections.emptyList() : Collections.unmodifiableList(violations);
+    }
+
+    // NOTE: As checagens rodam na mesma ordem da API antiga, então a primeira violação é o erro que ela lançaria
+    @Nullable
+    public Violation getFirstViolation() {
+        return violations == null ? null : violations.get(0);
+    }
+
+    public void throwIfInvalid() {
+        if (violations != null) {
+            throw violations.get(0).toException();
+        }
+    }
+}
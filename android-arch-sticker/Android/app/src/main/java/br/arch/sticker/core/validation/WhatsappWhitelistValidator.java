@@ -11,19 +11,40 @@
 
 package br.arch.sticker.core.validation;
 
+import android.content.BroadcastReceiver;
+import android.content.ContentProviderClient;
 import android.content.ContentResolver;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
 import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageManager;
-import android.content.pm.ProviderInfo;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.RemoteException;
+import android.os.SystemClock;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.content.ContextCompat;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
 import br.arch.sticker.BuildConfig;
+import br.arch.sticker.core.error.code.BaseErrorCode;
+import br.arch.sticker.core.error.throwable.base.InternalAppException;
 
+// NOTE: Os resultados ficam em cache no processo. Estado dos pacotes do WhatsApp só muda com broadcast de pacote,
+// e a resposta da lista branca expira pelo TTL ou quando o usuário volta da tela de adicionar pacote.
 public class WhatsappWhitelistValidator {
+    private static final String TAG_LOG = WhatsappWhitelistValidator.class.getSimpleName();
+
     public static final String CONSUMER_WHATSAPP_PACKAGE_NAME = "com.whatsapp";
     public static final String SMB_WHATSAPP_PACKAGE_NAME = "com.whatsapp.w4b";
     private static final String AUTHORITY_QUERY_PARAM = "authority";
@@ -32,63 +53,218 @@ public class WhatsappWhitelistValidator {
     private static final String CONTENT_PROVIDER = ".provider.sticker_whitelist_check";
     private static final String QUERY_PATH = "is_whitelisted";
     private static final String QUERY_RESULT_COLUMN_NAME = "result";
+    static final long WHITELIST_CACHE_TTL_MS = 60_000L;
 
-    private final Context context;
+    private static final Map<String, Boolean> PACKAGE_INSTALLED_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> PROVIDER_AVAILABLE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, CachedWhitelist> WHITELIST_CACHE = new ConcurrentHashMap<>();
+
+    private final WhitelistSource whitelistSource;
+    private final LongSupplier clock;
 
     public WhatsappWhitelistValidator(Context context)
         {
-            this.context = context;
+            this(new ContentProviderWhitelistSource(context.getApplicationContext()), SystemClock::elapsedRealtime);
+        }
+
+    @VisibleForTesting
+    WhatsappWhitelistValidator(@NonNull WhitelistSource whitelistSource, @NonNull LongSupplier clock)
+        {
+            this.whitelistSource = whitelistSource;
+            this.clock = clock;
+        }
+
+    public static void registerPackageChangeReceiver(@NonNull Context context)
+        {
+            final IntentFilter intentFilter = new IntentFilter();
+            intentFilter.addAction(Intent.ACTION_PACKAGE_ADDED);
+            intentFilter.addAction(Intent.ACTION_PACKAGE_REMOVED);
+            intentFilter.addAction(Intent.ACTION_PACKAGE_CHANGED);
+            intentFilter.addAction(Intent.ACTION_PACKAGE_REPLACED);
+            intentFilter.addDataScheme("package");
+
+            ContextCompat.registerReceiver(context.getApplicationContext(), new PackageChangeReceiver(), intentFilter,
+                    ContextCompat.RECEIVER_NOT_EXPORTED);
+        }
+
+    public static void invalidatePackageCache()
+        {
+            PACKAGE_INSTALLED_CACHE.clear();
+            PROVIDER_AVAILABLE_CACHE.clear();
+            WHITELIST_CACHE.clear();
+        }
+
+    public static void invalidateWhitelistCache()
+        {
+            WHITELIST_CACHE.clear();
         }
 
     public boolean isWhitelisted(@NonNull String identifier)
         {
             try {
-                if (isWhatsAppConsumerAppInstalled(context.getPackageManager()) && isWhatsAppSmbAppInstalled(context.getPackageManager())) {
+                if (isWhatsAppConsumerAppInstalled() && isWhatsAppSmbAppInstalled()) {
                     return false;
                 }
 
-                boolean consumerResult = isStickerPackWhitelistedInWhatsAppConsumer(identifier);
-                boolean smbResult = isStickerPackWhitelistedInWhatsAppSmb(identifier);
-
-                return consumerResult && smbResult;
+                return isStickerPackWhitelistedInWhatsAppConsumer(identifier) && isStickerPackWhitelistedInWhatsAppSmb(identifier);
             } catch (Exception exception) {
                 return false;
             }
         }
 
-    private boolean isWhitelistedFromProvider(@NonNull String identifier, String whatsappPackageName)
+    // NOTE: O provider do WhatsApp responde um identificador por consulta, então a lista inteira usa um único
+    // ContentProviderClient por app e só consulta os identificadores fora do cache.
+    @NonNull
+    public Map<String, Boolean> resolveWhitelist(@NonNull Collection<String> identifiers)
         {
-            final PackageManager packageManager = context.getPackageManager();
+            final Map<String, Boolean> whitelist = new HashMap<>();
 
-            if (isPackageInstalled(whatsappPackageName, packageManager)) {
-                final String whatsappProviderAuthority = whatsappPackageName + CONTENT_PROVIDER;
+            try {
+                final boolean whatsAppMissing = isWhatsAppConsumerAppInstalled() && isWhatsAppSmbAppInstalled();
 
-                final ProviderInfo providerInfo = packageManager.resolveContentProvider(whatsappProviderAuthority, PackageManager.GET_META_DATA);
-                // provider is not there. The WhatsApp app may be an old version.
-                if (providerInfo == null) {
-                    return false;
+                for (String identifier : identifiers) {
+                    whitelist.put(identifier, !whatsAppMissing);
                 }
 
-                final Uri queryUri = new Uri.Builder().scheme(ContentResolver.SCHEME_CONTENT).authority(whatsappProviderAuthority).appendPath(
-                        QUERY_PATH).appendQueryParameter(AUTHORITY_QUERY_PARAM, STICKER_APP_AUTHORITY).appendQueryParameter(IDENTIFIER_QUERY_PARAM,
-                        identifier).build();
+                if (whatsAppMissing) {
+                    return whitelist;
+                }
 
-                try (final Cursor cursor = context.getContentResolver().query(queryUri, null, null, null, null)) {
+                resolveWhitelistFromProvider(identifiers, CONSUMER_WHATSAPP_PACKAGE_NAME, whitelist);
+                resolveWhitelistFromProvider(identifiers, SMB_WHATSAPP_PACKAGE_NAME, whitelist);
+            } catch (Exception exception) {
+                Log.w(TAG_LOG, "Falha ao consultar a lista branca do WhatsApp", exception);
+                for (String identifier : identifiers) {
+                    whitelist.put(identifier, false);
+                }
+            }
 
-                    if (cursor != null && cursor.moveToFirst()) {
-                        final int whiteListResult = cursor.getInt(cursor.getColumnIndexOrThrow(QUERY_RESULT_COLUMN_NAME));
-                        return whiteListResult == 1;
+            return whitelist;
+        }
+
+    private void resolveWhitelistFromProvider(@NonNull Collection<String> identifiers, @NonNull String whatsappPackageName,
+                                              @NonNull Map<String, Boolean> whitelist)
+        {
+            if (!isPackageInstalled(whatsappPackageName)) {
+                return;
+            }
+
+            final boolean providerAvailable = isProviderAvailable(whatsappPackageName);
+            WhitelistClient whitelistClient = null;
+
+            try {
+                for (String identifier : identifiers) {
+                    // NOTE: Já reprovado no outro app, o resultado combinado não muda
+                    if (!Boolean.TRUE.equals(whitelist.get(identifier))) {
+                        continue;
+                    }
+
+                    Boolean whitelisted = getCachedWhitelist(identifier, whatsappPackageName);
+                    if (whitelisted == null) {
+                        if (!providerAvailable) {
+                            whitelisted = false;
+                        } else {
+                            if (whitelistClient == null) {
+                                whitelistClient = whitelistSource.acquireClient(whatsappPackageName);
+                            }
+
+                            whitelisted = whitelistClient != null && whitelistClient.isWhitelisted(identifier);
+                        }
+
+                        putCachedWhitelist(identifier, whatsappPackageName, whitelisted);
                     }
+
+                    whitelist.put(identifier, whitelisted);
+                }
+            } catch (Exception exception) {
+                Log.w(TAG_LOG, "Falha ao consultar a lista branca do " + whatsappPackageName, exception);
+                for (String identifier : identifiers) {
+                    whitelist.put(identifier, false);
+                }
+            } finally {
+                if (whitelistClient != null) {
+                    whitelistClient.close();
+                }
+            }
+        }
+
+    private boolean isWhitelistedFromProvider(@NonNull String identifier, String whatsappPackageName)
+        {
+            if (isPackageInstalled(whatsappPackageName)) {
+                final Boolean cachedWhitelist = getCachedWhitelist(identifier, whatsappPackageName);
+                if (cachedWhitelist != null) {
+                    return cachedWhitelist;
+                }
+
+                // provider is not there. The WhatsApp app may be an old version.
+                if (!isProviderAvailable(whatsappPackageName)) {
+                    return false;
+                }
+
+                try (final WhitelistClient whitelistClient = whitelistSource.acquireClient(whatsappPackageName)) {
+                    final boolean whitelisted = whitelistClient != null && whitelistClient.isWhitelisted(identifier);
+                    putCachedWhitelist(identifier, whatsappPackageName, whitelisted);
+
+                    return whitelisted;
                 }
             } else {
                 //if app is not installed, then don't need to take into its whitelist info into account.
                 return true;
             }
+        }
+
+    private static boolean queryWhitelist(@NonNull ContentProviderClient providerClient, @NonNull String identifier,
+                                          @NonNull String whatsappPackageName)
+        {
+            final Uri queryUri = new Uri.Builder().scheme(ContentResolver.SCHEME_CONTENT).authority(whatsappPackageName + CONTENT_PROVIDER).appendPath(
+                    QUERY_PATH).appendQueryParameter(AUTHORITY_QUERY_PARAM, STICKER_APP_AUTHORITY).appendQueryParameter(IDENTIFIER_QUERY_PARAM,
+                    identifier).build();
+
+            try (final Cursor cursor = providerClient.query(queryUri, null, null, null, null)) {
+                if (cursor != null && cursor.moveToFirst()) {
+                    final int whiteListResult = cursor.getInt(cursor.getColumnIndexOrThrow(QUERY_RESULT_COLUMN_NAME));
+                    return whiteListResult == 1;
+                }
+            } catch (RemoteException exception) {
+                throw new InternalAppException("Falha ao consultar o provider do " + whatsappPackageName, exception,
+                        BaseErrorCode.ERROR_OPERATION_NOT_POSSIBLE);
+            }
 
             return false;
         }
 
+    private boolean isProviderAvailable(@NonNull String whatsappPackageName)
+        {
+            return PROVIDER_AVAILABLE_CACHE.computeIfAbsent(whatsappPackageName, whitelistSource::isProviderAvailable);
+        }
+
+    @Nullable
+    private Boolean getCachedWhitelist(@NonNull String identifier, @NonNull String whatsappPackageName)
+        {
+            final CachedWhitelist cachedWhitelist = WHITELIST_CACHE.get(whatsappPackageName + '/' + identifier);
+            if (cachedWhitelist == null || cachedWhitelist.expiresAt() < clock.getAsLong()) {
+                return null;
+            }
+
+            return cachedWhitelist.whitelisted();
+        }
+
+    private void putCachedWhitelist(@NonNull String identifier, @NonNull String whatsappPackageName, boolean whitelisted)
+        {
+            WHITELIST_CACHE.put(whatsappPackageName + '/' + identifier, new CachedWhitelist(whitelisted, clock.getAsLong() + WHITELIST_CACHE_TTL_MS));
+        }
+
+    private boolean isPackageInstalled(@NonNull String whatsappPackageName)
+        {
+            return PACKAGE_INSTALLED_CACHE.computeIfAbsent(whatsappPackageName, whitelistSource::isPackageInstalled);
+        }
+
     public static boolean isPackageInstalled(String packageName, PackageManager packageManager)
+        {
+            return PACKAGE_INSTALLED_CACHE.computeIfAbsent(packageName, name -> isPackageEnabled(name, packageManager));
+        }
+
+    private static boolean isPackageEnabled(@NonNull String packageName, @NonNull PackageManager packageManager)
         {
             try {
                 final ApplicationInfo applicationInfo = packageManager.getApplicationInfo(packageName, 0);
@@ -100,14 +276,14 @@ public class WhatsappWhitelistValidator {
             }
         }
 
-    public boolean isWhatsAppConsumerAppInstalled(PackageManager packageManager)
+    public boolean isWhatsAppConsumerAppInstalled()
         {
-            return !WhatsappWhitelistValidator.isPackageInstalled(CONSUMER_WHATSAPP_PACKAGE_NAME, packageManager);
+            return !isPackageInstalled(CONSUMER_WHATSAPP_PACKAGE_NAME);
         }
 
-    public boolean isWhatsAppSmbAppInstalled(PackageManager packageManager)
+    public boolean isWhatsAppSmbAppInstalled()
         {
-            return !WhatsappWhitelistValidator.isPackageInstalled(SMB_WHATSAPP_PACKAGE_NAME, packageManager);
+            return !isPackageInstalled(SMB_WHATSAPP_PACKAGE_NAME);
         }
 
     public boolean isStickerPackWhitelistedInWhatsAppConsumer(@NonNull String identifier)
@@ -119,4 +295,83 @@ public class WhatsappWhitelistValidator {
         {
             return isWhitelistedFromProvider(identifier, SMB_WHATSAPP_PACKAGE_NAME);
         }
+
+    private record CachedWhitelist(boolean whitelisted, long expiresAt) {
+    }
+
+    // NOTE: Fronteira com o PackageManager e o provider do WhatsApp; os caches e o lote ficam no validador.
+    interface WhitelistSource {
+        boolean isPackageInstalled(@NonNull String whatsappPackageName);
+
+        boolean isProviderAvailable(@NonNull String whatsappPackageName);
+
+        @Nullable
+        WhitelistClient acquireClient(@NonNull String whatsappPackageName);
+    }
+
+    interface WhitelistClient extends AutoCloseable {
+        boolean isWhitelisted(@NonNull String identifier);
+
+        @Override
+        void close();
+    }
+
+    private static class ContentProviderWhitelistSource implements WhitelistSource {
+        private final Context context;
+
+        ContentProviderWhitelistSource(Context context)
+            {
+                this.context = context;
+            }
+
+        @Override
+        public boolean isPackageInstalled(@NonNull String whatsappPackageName)
+            {
+                return isPackageEnabled(whatsappPackageName, context.getPackageManager());
+            }
+
+        @Override
+        public boolean isProviderAvailable(@NonNull String whatsappPackageName)
+            {
+                return context.getPackageManager().resolveContentProvider(whatsappPackageName + CONTENT_PROVIDER, PackageManager.GET_META_DATA) != null;
+            }
+
+        @Nullable
+        @Override
+        public WhitelistClient acquireClient(@NonNull String whatsappPackageName)
+            {
+                final ContentProviderClient providerClient = context.getContentResolver().acquireUnstableContentProviderClient(
+                        whatsappPackageName + CONTENT_PROVIDER);
+                if (providerClient == null) {
+                    return null;
+                }
+
+                return new WhitelistClient() {
+                    @Override
+                    public boolean isWhitelisted(@NonNull String identifier)
+                        {
+                            return queryWhitelist(providerClient, identifier, whatsappPackageName);
+                        }
+
+                    @Override
+                    public void close()
+                        {
+                            providerClient.close();
+                        }
+                };
+            }
+    }
+
+    private static class PackageChangeReceiver extends BroadcastReceiver {
+        @Override
+        public void onReceive(Context context, Intent intent)
+            {
+                final Uri data = intent.getData();
+                final String packageName = data != null ? data.getSchemeSpecificPart() : null;
+
+                if (CONSUMER_WHATSAPP_PACKAGE_NAME.equals(packageName) || SMB_WHATSAPP_PACKAGE_NAME.equals(packageName)) {
+                    invalidatePackageCache();
+                }
+            }
+    }
 }
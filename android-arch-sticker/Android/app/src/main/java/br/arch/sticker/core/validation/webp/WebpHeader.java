@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation.webp;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Mesmos campos que o WebPImage do Fresco expõe, lidos só dos cabeçalhos dos chunks
+public record WebpHeader(int width, int height, int frameCount, @NonNull int[] frameDurations, int duration) {
+}
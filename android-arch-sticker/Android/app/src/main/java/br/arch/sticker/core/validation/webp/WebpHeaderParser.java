@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation.webp;
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// NOTE: Lê o contêiner RIFF do WebP (VP8, VP8L, VP8X, ANIM, ANMF) sem decodificar pixels.
+// Arquivo malformado lança IllegalArgumentException, igual ao WebPImage.createFromByteArray.
+public final class WebpHeaderParser {
+    private static final int RIFF_HEADER_SIZE = 12;
+    private static final int CHUNK_HEADER_SIZE = 8;
+
+    private static final int FOURCC_RIFF = fourCc("RIFF");
+    private static final int FOURCC_WEBP = fourCc("WEBP");
+    private static final int FOURCC_VP8 = fourCc("VP8 ");
+    private static final int FOURCC_VP8L = fourCc("VP8L");
+    private static final int FOURCC_VP8X = fourCc("VP8X");
+    private static final int FOURCC_ANMF = fourCc("ANMF");
+
+    private static final int VP8_FRAME_HEADER_SIZE = 10;
+    private static final int VP8L_HEADER_SIZE = 5;
+    private static final int VP8L_SIGNATURE = 0x2F;
+    private static final int VP8X_CHUNK_SIZE = 10;
+    private static final int VP8X_ANIMATION_FLAG = 0x02;
+    private static final int ANMF_HEADER_SIZE = 16;
+    private static final int ANMF_DURATION_OFFSET = 12;
+
+    private WebpHeaderParser() {
+    }
+
+    @NonNull
+    public static WebpHeader parse(@NonNull byte[] data) {
+        return parse(ByteBuffer.wrap(data));
+    }
+
+    @NonNull
+    public static WebpHeader parse(@NonNull ByteBuffer source) {
+        final ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int start = buffer.position();
+        final int limit = buffer.limit();
+
+        if (limit - start < RIFF_HEADER_SIZE + CHUNK_HEADER_SIZE
+                || buffer.getInt(start) != FOURCC_RIFF || buffer.getInt(start + 8) != FOURCC_WEBP) {
+            throw new IllegalArgumentException("Arquivo não é um WebP RIFF válido.");
+        }
+
+        // NOTE: Arquivo cortado (cópia ou download interrompido) declara no RIFF mais bytes do que tem
+        final long riffEnd = start + CHUNK_HEADER_SIZE + (buffer.getInt(start + 4) & 0xFFFFFFFFL);
+        if (riffEnd > limit) {
+            throw new IllegalArgumentException("WebP truncado.");
+        }
+
+        final int end = (int) riffEnd;
+
+        final int firstChunk = start + RIFF_HEADER_SIZE;
+        final int fourCc = buffer.getInt(firstChunk);
+        final int payload = firstChunk + CHUNK_HEADER_SIZE;
+        final long payloadSize = buffer.getInt(firstChunk + 4) & 0xFFFFFFFFL;
+
+        if (fourCc == FOURCC_VP8) {
+            requireBytes(payload, payloadSize, VP8_FRAME_HEADER_SIZE, end);
+            if ((buffer.get(payload + 3) & 0xFF) != 0x9D || (buffer.get(payload + 4) & 0xFF) != 0x01
+                    || (buffer.get(payload + 5) & 0xFF) != 0x2A) {
+                throw new IllegalArgumentException("Start code VP8 inválido.");
+            }
+
+            final int width = buffer.getShort(payload + 6) & 0x3FFF;
+            final int height = buffer.getShort(payload + 8) & 0x3FFF;
+            return new WebpHeader(width, height, 1, new int[]{0}, 0);
+        }
+
+        if (fourCc == FOURCC_VP8L) {
+            requireBytes(payload, payloadSize, VP8L_HEADER_SIZE, end);
+            if ((buffer.get(payload) & 0xFF) != VP8L_SIGNATURE) {
+                throw new IllegalArgumentException("Assinatura VP8L inválida.");
+            }
+
+            final int bits = buffer.getInt(payload + 1);
+            final int width = (bits & 0x3FFF) + 1;
+            final int height = ((bits >>> 14) & 0x3FFF) + 1;
+            return new WebpHeader(width, height, 1, new int[]{0}, 0);
+        }
+
+        if (fourCc == FOURCC_VP8X) {
+            requireBytes(payload, payloadSize, VP8X_CHUNK_SIZE, end);
+
+            final int flags = buffer.get(payload) & 0xFF;
+            final int width = readUInt24(buffer, payload + 4) + 1;
+            final int height = readUInt24(buffer, payload + 7) + 1;
+
+            if ((flags & VP8X_ANIMATION_FLAG) == 0) {
+                return new WebpHeader(width, height, 1, new int[]{0}, 0);
+            }
+
+            final int afterVp8x = nextChunk(payload, payloadSize);
+            final int frameCount = scanFrames(buffer, afterVp8x, end, null);
+            final int[] frameDurations = new int[frameCount];
+            scanFrames(buffer, afterVp8x, end, frameDurations);
+
+            return new WebpHeader(width, height, frameCount, frameDurations, sum(frameDurations));
+        }
+
+        throw new IllegalArgumentException("Chunk inicial do WebP desconhecido.");
+    }
+
+    // NOTE: Conta os chunks ANMF; se frameDurations não for nulo, também preenche a duração de cada frame.
+    private static int scanFrames(@NonNull ByteBuffer buffer, int offset, int end, int[] frameDurations) {
+        int frameCount = 0;
+
+        while (offset + CHUNK_HEADER_SIZE <= end) {
+            final int fourCc = buffer.getInt(offset);
+            final int payload = offset + CHUNK_HEADER_SIZE;
+            final long payloadSize = buffer.getInt(offset + 4) & 0xFFFFFFFFL;
+
+            if (fourCc == FOURCC_ANMF) {
+                requireBytes(payload, payloadSize, ANMF_HEADER_SIZE, end);
+                if (frameDurations != null) {
+                    frameDurations[frameCount] = readUInt24(buffer, payload + ANMF_DURATION_OFFSET);
+                }
+
+                frameCount++;
+            }
+
+            offset = nextChunk(payload, payloadSize);
+        }
+
+        return frameCount;
+    }
+
+    private static int nextChunk(int payload, long payloadSize) {
+        final long next = payload + payloadSize + (payloadSize & 1);
+        return next > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) next;
+    }
+
+    // NOTE: O chunk inteiro precisa caber no RIFF, não só o cabeçalho lido
+    private static void requireBytes(int payload, long payloadSize, int required, int end) {
+        if (payloadSize < required || payload + payloadSize > end) {
+            throw new IllegalArgumentException("Chunk do WebP truncado.");
+        }
+    }
+
+    private static int readUInt24(@NonNull ByteBuffer buffer, int offset) {
+        return (buffer.get(offset) & 0xFF) | (buffer.get(offset + 1) & 0xFF) << 8 | (buffer.get(offset + 2) & 0xFF) << 16;
+    }
+
+    private static int sum(@NonNull int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+
+        return total;
+    }
+
+    private static int fourCc(@NonNull String value) {
+        return value.charAt(0) | value.charAt(1) << 8 | value.charAt(2) << 16 | value.charAt(3) << 24;
+    }
+}
@@ -81,15 +81,15 @@ public class StickerContentProvider extends ContentProvider {
         boolean isWhatsApp = "com.whatsapp".equals(callingPackage);
 
         if (code == METADATA_CODE) {
-            return stickerPackQueryProvider.fetchAllStickerPack(uri);
+            return stickerPackQueryProvider.fetchAllStickerPack(uri, projection);
         } else if (code == METADATA_CODE_FOR_SINGLE_PACK) {
             if (isWhatsApp) {
-                return stickerPackQueryProvider.fetchSingleStickerPack(uri, true);
+                return stickerPackQueryProvider.fetchSingleStickerPack(uri, projection, true);
             }
 
-            return stickerPackQueryProvider.fetchSingleStickerPack(uri, false);
+            return stickerPackQueryProvider.fetchSingleStickerPack(uri, projection, false);
         } else if (code == METADATA_CODE_ALL_STICKERS) {
-            return stickerQueryProvider.fetchStickerListForPack(uri);
+            return stickerQueryProvider.fetchStickerListForPack(uri, projection);
         } else {
             throw new ContentProviderException("URI desconhecida: " + uri);
         }
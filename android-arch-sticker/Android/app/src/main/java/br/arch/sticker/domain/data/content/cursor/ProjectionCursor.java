@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.content.cursor;
+
+import android.database.AbstractCursor;
+import android.database.Cursor;
+import android.database.CursorIndexOutOfBoundsException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// NOTE: Cursor somente leitura que lê cada célula direto da linha de origem, sem copiar para um MatrixCursor.
+// Apenas as colunas pedidas na projeção são expostas e enviadas pelo fillWindow do AbstractCursor.
+public class ProjectionCursor<T> extends AbstractCursor {
+    public interface ColumnReader<T> {
+        @Nullable
+        Object read(@NonNull T row);
+    }
+
+    private final List<T> rows;
+    private final String[] columnNames;
+    private final List<ColumnReader<T>> columnReaders;
+
+    public ProjectionCursor(@NonNull List<T> rows, @NonNull Map<String, ColumnReader<T>> columns, @Nullable String[] projection) {
+        this.rows = rows;
+
+        if (projection == null || projection.length == 0) {
+            this.columnNames = columns.keySet().toArray(new String[0]);
+            this.columnReaders = new ArrayList<>(columns.values());
+            return;
+        }
+
+        this.columnNames = projection.clone();
+        this.columnReaders = new ArrayList<>(projection.length);
+        for (String column : projection) {
+            ColumnReader<T> columnReader = columns.get(column);
+            if (columnReader == null) {
+                throw new IllegalArgumentException("Coluna '" + column + "' não existe");
+            }
+
+            this.columnReaders.add(columnReader);
+        }
+    }
+
+    @Nullable
+    private Object get(int column) {
+        if (column < 0 || column >= columnReaders.size()) {
+            throw new CursorIndexOutOfBoundsException("Coluna requisitada: " + column + ", colunas: " + columnReaders.size());
+        }
+
+        if (mPos < 0 || mPos >= rows.size()) {
+            throw new CursorIndexOutOfBoundsException("Posição inválida do cursor: " + mPos);
+        }
+
+        return columnReaders.get(column).read(rows.get(mPos));
+    }
+
+    @Override
+    public int getCount() {
+        return rows.size();
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public String getString(int column) {
+        Object value = get(column);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public short getShort(int column) {
+        Object value = get(column);
+        if (value == null) return 0;
+        if (value instanceof Number number) return number.shortValue();
+        return Short.parseShort(value.toString());
+    }
+
+    @Override
+    public int getInt(int column) {
+        Object value = get(column);
+        if (value == null) return 0;
+        if (value instanceof Number number) return number.intValue();
+        return Integer.parseInt(value.toString());
+    }
+
+    @Override
+    public long getLong(int column) {
+        Object value = get(column);
+        if (value == null) return 0;
+        if (value instanceof Number number) return number.longValue();
+        return Long.parseLong(value.toString());
+    }
+
+    @Override
+    public float getFloat(int column) {
+        Object value = get(column);
+        if (value == null) return 0.0f;
+        if (value instanceof Number number) return number.floatValue();
+        return Float.parseFloat(value.toString());
+    }
+
+    @Override
+    public double getDouble(int column) {
+        Object value = get(column);
+        if (value == null) return 0.0d;
+        if (value instanceof Number number) return number.doubleValue();
+        return Double.parseDouble(value.toString());
+    }
+
+    @Override
+    public int getType(int column) {
+        Object value = get(column);
+        if (value == null) return Cursor.FIELD_TYPE_NULL;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Cursor.FIELD_TYPE_INTEGER;
+        }
+        if (value instanceof Float || value instanceof Double) return Cursor.FIELD_TYPE_FLOAT;
+        if (value instanceof byte[]) return Cursor.FIELD_TYPE_BLOB;
+
+        return Cursor.FIELD_TYPE_STRING;
+    }
+
+    @Override
+    public boolean isNull(int column) {
+        return get(column) == null;
+    }
+}
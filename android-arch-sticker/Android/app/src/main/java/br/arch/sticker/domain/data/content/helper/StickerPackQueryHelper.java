@@ -17,10 +17,6 @@ import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.LICENSE
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PRIVACY_POLICY_WEBSITE;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_EMAIL;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_WEBSITE;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
@@ -28,251 +24,114 @@ import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER
 
 import android.content.Context;
 import android.database.Cursor;
-import android.database.MatrixCursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.net.Uri;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import br.arch.sticker.core.error.throwable.content.ContentProviderException;
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerPackException;
+import br.arch.sticker.domain.data.content.cursor.ProjectionCursor;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
-import br.arch.sticker.domain.data.database.repository.SelectStickerPackRepo;
+import br.arch.sticker.domain.data.database.loader.StickerPackLoader;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
 
 public class StickerPackQueryHelper {
+    private static final Map<String, ProjectionCursor.ColumnReader<StickerPack>> STICKER_PACK_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        STICKER_PACK_COLUMNS.put(STICKER_PACK_IDENTIFIER_IN_QUERY, stickerPack -> stickerPack.identifier);
+        STICKER_PACK_COLUMNS.put(STICKER_PACK_NAME_IN_QUERY, stickerPack -> stickerPack.name);
+        STICKER_PACK_COLUMNS.put(STICKER_PACK_PUBLISHER_IN_QUERY, stickerPack -> stickerPack.publisher);
+        STICKER_PACK_COLUMNS.put(STICKER_PACK_TRAY_IMAGE_IN_QUERY, stickerPack -> stickerPack.trayImageFile);
+        // NOTE: O provider nunca exportou os links de loja gravados no banco, o WhatsApp sempre recebeu NULL nessas colunas
+        STICKER_PACK_COLUMNS.put(ANDROID_APP_DOWNLOAD_LINK_IN_QUERY, stickerPack -> null);
+        STICKER_PACK_COLUMNS.put(IOS_APP_DOWNLOAD_LINK_IN_QUERY, stickerPack -> null);
+        STICKER_PACK_COLUMNS.put(PUBLISHER_EMAIL, stickerPack -> stickerPack.publisherEmail);
+        STICKER_PACK_COLUMNS.put(PUBLISHER_WEBSITE, stickerPack -> stickerPack.publisherWebsite);
+        STICKER_PACK_COLUMNS.put(PRIVACY_POLICY_WEBSITE, stickerPack -> stickerPack.privacyPolicyWebsite);
+        STICKER_PACK_COLUMNS.put(LICENSE_AGREEMENT_WEBSITE, stickerPack -> stickerPack.licenseAgreementWebsite);
+        STICKER_PACK_COLUMNS.put(IMAGE_DATA_VERSION, stickerPack -> stickerPack.imageDataVersion);
+        STICKER_PACK_COLUMNS.put(AVOID_CACHE, stickerPack -> stickerPack.avoidCache ? 1 : 0);
+        STICKER_PACK_COLUMNS.put(ANIMATED_STICKER_PACK, stickerPack -> stickerPack.animatedStickerPack ? 1 : 0);
+    }
+
     private final Context context;
-    private final SelectStickerPackRepo selectStickerPackRepo;
+    private final StickerPackLoader stickerPackLoader;
 
     public StickerPackQueryHelper(Context context) {
+        this(context, StickerDatabaseHelper.getInstance(context.getApplicationContext()).getReadableDatabase());
+    }
+
+    @VisibleForTesting
+    public StickerPackQueryHelper(Context context, SQLiteDatabase database) {
         this.context = context.getApplicationContext();
-        SQLiteDatabase database = StickerDatabaseHelper.getInstance(
-                this.context).getReadableDatabase();
-        this.selectStickerPackRepo = new SelectStickerPackRepo(database);
+        this.stickerPackLoader = new StickerPackLoader(database);
     }
 
     @NonNull
-    public Cursor fetchListStickerPackData(@NonNull Uri uri, @NonNull List<StickerPack> stickerPackList) {
-        MatrixCursor cursor = new MatrixCursor(new String[]{STICKER_PACK_IDENTIFIER_IN_QUERY,
-                STICKER_PACK_NAME_IN_QUERY, STICKER_PACK_PUBLISHER_IN_QUERY,
-                STICKER_PACK_TRAY_IMAGE_IN_QUERY, ANDROID_APP_DOWNLOAD_LINK_IN_QUERY,
-                IOS_APP_DOWNLOAD_LINK_IN_QUERY, PUBLISHER_EMAIL, PUBLISHER_WEBSITE,
-                PRIVACY_POLICY_WEBSITE, LICENSE_AGREEMENT_WEBSITE, IMAGE_DATA_VERSION, AVOID_CACHE,
-                ANIMATED_STICKER_PACK,});
-
-        for (StickerPack stickerPack : stickerPackList) {
-            MatrixCursor.RowBuilder builder = cursor.newRow();
-            builder.add(stickerPack.identifier);
-            builder.add(stickerPack.name);
-            builder.add(stickerPack.publisher);
-            builder.add(stickerPack.trayImageFile);
-            builder.add(stickerPack.androidPlayStoreLink);
-            builder.add(stickerPack.iosAppStoreLink);
-            builder.add(stickerPack.publisherEmail);
-            builder.add(stickerPack.publisherWebsite);
-            builder.add(stickerPack.privacyPolicyWebsite);
-            builder.add(stickerPack.licenseAgreementWebsite);
-            builder.add(stickerPack.imageDataVersion);
-            builder.add(stickerPack.avoidCache ? 1 : 0);
-            builder.add(stickerPack.animatedStickerPack ? 1 : 0);
-        }
+    public Cursor fetchListStickerPackData(@NonNull Uri uri, @NonNull List<StickerPack> stickerPackList, @Nullable String[] projection) {
+        ProjectionCursor<StickerPack> cursor = new ProjectionCursor<>(stickerPackList, STICKER_PACK_COLUMNS, projection);
 
         cursor.setNotificationUri(context.getContentResolver(),
                 uri);
         return cursor;
     }
 
-    public List<StickerPack> fetchListStickerPackFromDatabase() {
-        Cursor cursor = selectStickerPackRepo.getAllStickerPacks();
-        if (cursor == null) {
-            throw new ContentProviderException("Cursor nulo ao buscar pacote de figurinhas.");
-        }
-
-        List<StickerPack> stickerPackList = new ArrayList<>();
-
-        try {
-            String currentIdentifier = null;
-            StickerPack currentStickerPack = null;
-
-            if (cursor.moveToFirst()) {
-                do {
-                    String identifier = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_PACK_IDENTIFIER_IN_QUERY));
-
-                    if (!identifier.equals(currentIdentifier)) {
-                        String name = cursor.getString(
-                                cursor.getColumnIndexOrThrow(STICKER_PACK_NAME_IN_QUERY));
-                        String publisher = cursor.getString(
-                                cursor.getColumnIndexOrThrow(STICKER_PACK_PUBLISHER_IN_QUERY));
-                        String trayImageFile = cursor.getString(
-                                cursor.getColumnIndexOrThrow(STICKER_PACK_TRAY_IMAGE_IN_QUERY));
-                        String imageDataVersion = cursor.getString(
-                                cursor.getColumnIndexOrThrow(IMAGE_DATA_VERSION));
-                        boolean avoidCache = cursor.getInt(
-                                cursor.getColumnIndexOrThrow(AVOID_CACHE)) != 0;
-                        String publisherEmail = cursor.getString(
-                                cursor.getColumnIndexOrThrow(PUBLISHER_EMAIL));
-                        String publisherWebsite = cursor.getString(
-                                cursor.getColumnIndexOrThrow(PUBLISHER_WEBSITE));
-                        String privacyPolicyWebsite = cursor.getString(
-                                cursor.getColumnIndexOrThrow(PRIVACY_POLICY_WEBSITE));
-                        String licenseAgreementWebsite = cursor.getString(
-                                cursor.getColumnIndexOrThrow(LICENSE_AGREEMENT_WEBSITE));
-                        boolean animatedStickerPack = cursor.getInt(
-                                cursor.getColumnIndexOrThrow(ANIMATED_STICKER_PACK)) != 0;
+    @NonNull
+    public StickerMetadataSnapshot acquireSnapshot() {
+        return StickerMetadataSnapshot.acquire(this::fetchListStickerPackFromDatabase);
+    }
 
-                        currentStickerPack = new StickerPack(
-                                identifier,
-                                name,
-                                publisher,
-                                trayImageFile,
-                                publisherEmail,
-                                publisherWebsite,
-                                privacyPolicyWebsite,
-                                licenseAgreementWebsite,
-                                imageDataVersion,
-                                avoidCache,
-                                animatedStickerPack);
+    public List<StickerPack> fetchListStickerPackFromSnapshot() {
+        return acquireSnapshot().getStickerPackList();
+    }
 
-                        currentStickerPack.setStickers(new ArrayList<>());
-                        stickerPackList.add(currentStickerPack);
-                        currentIdentifier = identifier;
-                    }
+    public StickerPack fetchStickerPackFromSnapshot(@NonNull String stickerPackIdentifier, boolean isFiltered) {
+        StickerPack stickerPack = acquireSnapshot().getStickerPack(stickerPackIdentifier);
+        if (stickerPack == null || !isFiltered) {
+            return stickerPack;
+        }
 
-                    String imageFile = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY));
-                    String emojis = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY));
-                    String stickerIsValid = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_IS_VALID));
-                    String accessibilityText = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY));
+        // NOTE: Mesmo critério da consulta filtrada, o pacote só existe se tiver ao menos uma figurinha válida
+        for (Sticker sticker : stickerPack.getStickers()) {
+            if (sticker.stickerIsValid == null || sticker.stickerIsValid.isEmpty()) {
+                return stickerPack;
+            }
+        }
 
-                    Sticker sticker = new Sticker(
-                            imageFile,
-                            emojis,
-                            stickerIsValid,
-                            accessibilityText,
-                            identifier);
-                    currentStickerPack.getStickers().add(sticker);
+        return null;
+    }
 
-                } while (cursor.moveToNext());
-            }
-        } finally {
-            cursor.close();
+    public List<StickerPack> fetchListStickerPackFromDatabase() {
+        final List<StickerPack> stickerPackList;
+        try {
+            stickerPackList = stickerPackLoader.loadAllStickerPacks();
+        } catch (FetchStickerPackException exception) {
+            throw new ContentProviderException("Cursor nulo ao buscar pacote de figurinhas.", exception);
         }
 
+        // NOTE: O WhatsApp não aceita pacote vazio, então pacotes sem figurinhas ficam fora do provider
+        stickerPackList.removeIf(stickerPack -> stickerPack.getStickers().isEmpty());
         return stickerPackList;
     }
 
     @NonNull
-    public Cursor fetchStickerPackData(@NonNull Uri uri, @NonNull StickerPack stickerPack) {
-        MatrixCursor cursor = new MatrixCursor(new String[]{STICKER_PACK_IDENTIFIER_IN_QUERY,
-                STICKER_PACK_NAME_IN_QUERY, STICKER_PACK_PUBLISHER_IN_QUERY,
-                STICKER_PACK_TRAY_IMAGE_IN_QUERY, ANDROID_APP_DOWNLOAD_LINK_IN_QUERY,
-                IOS_APP_DOWNLOAD_LINK_IN_QUERY, PUBLISHER_EMAIL, PUBLISHER_WEBSITE,
-                PRIVACY_POLICY_WEBSITE, LICENSE_AGREEMENT_WEBSITE, IMAGE_DATA_VERSION, AVOID_CACHE,
-                ANIMATED_STICKER_PACK,});
-
-        MatrixCursor.RowBuilder builder = cursor.newRow();
-        builder.add(stickerPack.identifier);
-        builder.add(stickerPack.name);
-        builder.add(stickerPack.publisher);
-        builder.add(stickerPack.trayImageFile);
-        builder.add(stickerPack.androidPlayStoreLink);
-        builder.add(stickerPack.iosAppStoreLink);
-        builder.add(stickerPack.publisherEmail);
-        builder.add(stickerPack.publisherWebsite);
-        builder.add(stickerPack.privacyPolicyWebsite);
-        builder.add(stickerPack.licenseAgreementWebsite);
-        builder.add(stickerPack.imageDataVersion);
-        builder.add(stickerPack.avoidCache ? 1 : 0);
-        builder.add(stickerPack.animatedStickerPack ? 1 : 0);
+    public Cursor fetchStickerPackData(@NonNull Uri uri, @NonNull StickerPack stickerPack, @Nullable String[] projection) {
+        ProjectionCursor<StickerPack> cursor = new ProjectionCursor<>(Collections.singletonList(stickerPack), STICKER_PACK_COLUMNS, projection);
 
         cursor.setNotificationUri(
                 context.getContentResolver(),
                 uri);
         return cursor;
     }
-
-    public StickerPack fetchStickerPackFromDatabase(@NonNull String stickerPackIdentifier, boolean isFiltered) {
-        Cursor cursor = isFiltered ? selectStickerPackRepo.getFilteredStickerPackByIdentifier(
-                stickerPackIdentifier) : selectStickerPackRepo.getStickerPackByIdentifier(
-                stickerPackIdentifier);
-
-        if (cursor == null) {
-            throw new ContentProviderException("Cursor nulo ao buscar pacote de figurinhas.");
-        }
-
-        StickerPack stickerPack = null;
-
-        try {
-            if (cursor.moveToFirst()) {
-                String identifier = cursor.getString(
-                        cursor.getColumnIndexOrThrow(STICKER_PACK_IDENTIFIER_IN_QUERY));
-                String name = cursor.getString(
-                        cursor.getColumnIndexOrThrow(STICKER_PACK_NAME_IN_QUERY));
-                String publisher = cursor.getString(
-                        cursor.getColumnIndexOrThrow(STICKER_PACK_PUBLISHER_IN_QUERY));
-                String trayImageFile = cursor.getString(
-                        cursor.getColumnIndexOrThrow(STICKER_PACK_TRAY_IMAGE_IN_QUERY));
-                String publisherEmail = cursor.getString(
-                        cursor.getColumnIndexOrThrow(PUBLISHER_EMAIL));
-                String publisherWebsite = cursor.getString(
-                        cursor.getColumnIndexOrThrow(PUBLISHER_WEBSITE));
-                String privacyPolicyWebsite = cursor.getString(
-                        cursor.getColumnIndexOrThrow(PRIVACY_POLICY_WEBSITE));
-                String licenseAgreementWebsite = cursor.getString(
-                        cursor.getColumnIndexOrThrow(LICENSE_AGREEMENT_WEBSITE));
-                boolean animatedStickerPack = cursor.getInt(
-                        cursor.getColumnIndexOrThrow(ANIMATED_STICKER_PACK)) != 0;
-                String imageDataVersion = cursor.getString(
-                        cursor.getColumnIndexOrThrow(IMAGE_DATA_VERSION));
-                boolean avoidCache = cursor.getInt(cursor.getColumnIndexOrThrow(AVOID_CACHE)) != 0;
-
-                List<Sticker> stickerList = new ArrayList<>();
-                do {
-                    String imageFile = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY));
-                    String emojis = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY));
-                    String stickerIsValid = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_IS_VALID));
-                    String accessibilityText = cursor.getString(
-                            cursor.getColumnIndexOrThrow(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY));
-
-                    Sticker sticker = new Sticker(
-                            imageFile,
-                            emojis,
-                            stickerIsValid,
-                            accessibilityText,
-                            identifier);
-
-                    stickerList.add(sticker);
-                } while (cursor.moveToNext());
-
-                stickerPack = new StickerPack(
-                        identifier,
-                        name,
-                        publisher,
-                        trayImageFile,
-                        publisherEmail,
-                        publisherWebsite,
-                        privacyPolicyWebsite,
-                        licenseAgreementWebsite,
-                        imageDataVersion,
-                        avoidCache,
-                        animatedStickerPack);
-
-                stickerPack.setStickers(stickerList);
-            }
-        } finally {
-            cursor.close();
-        }
-
-        return stickerPack;
-    }
 }
@@ -15,48 +15,72 @@ import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER
 
 import android.content.Context;
 import android.database.Cursor;
-import android.database.MatrixCursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.net.Uri;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import br.arch.sticker.core.error.throwable.content.ContentProviderException;
+import br.arch.sticker.domain.data.content.cursor.ProjectionCursor;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.mapper.StickerRowMapper;
 import br.arch.sticker.domain.data.database.repository.SelectStickerPackRepo;
 import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.data.model.StickerPack;
 
 public class StickerQueryHelper {
+    private static final Map<String, ProjectionCursor.ColumnReader<Sticker>> STICKER_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        STICKER_COLUMNS.put(STICKER_FILE_NAME_IN_QUERY, sticker -> sticker.imageFileName);
+        // NOTE: O StickerRowMapper lê emoji vazio como null, mas o WhatsApp sempre recebeu a coluna crua, que é "" e nunca NULL
+        STICKER_COLUMNS.put(STICKER_FILE_EMOJI_IN_QUERY, sticker -> sticker.emojis != null ? sticker.emojis : "");
+        STICKER_COLUMNS.put(STICKER_IS_VALID, sticker -> sticker.stickerIsValid);
+        STICKER_COLUMNS.put(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, sticker -> sticker.accessibilityText);
+    }
+
     private final Context context;
     private final SelectStickerPackRepo selectStickerPackRepo;
+    private final StickerPackQueryHelper stickerPackQueryHelper;
 
     public StickerQueryHelper(Context context) {
+        this(context, StickerDatabaseHelper.getInstance(context.getApplicationContext()).getReadableDatabase());
+    }
+
+    @VisibleForTesting
+    public StickerQueryHelper(Context context, SQLiteDatabase database) {
         this.context = context.getApplicationContext();
-        SQLiteDatabase database = StickerDatabaseHelper.getInstance(
-                this.context).getReadableDatabase();
         this.selectStickerPackRepo = new SelectStickerPackRepo(database);
+        this.stickerPackQueryHelper = new StickerPackQueryHelper(this.context, database);
     }
 
     @NonNull
-    public Cursor fetchStickerData(@NonNull Uri uri, @NonNull List<Sticker> stickerList) {
-        MatrixCursor cursor = new MatrixCursor(
-                new String[]{STICKER_FILE_NAME_IN_QUERY, STICKER_FILE_EMOJI_IN_QUERY, STICKER_IS_VALID, STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY});
-
-        for (Sticker sticker : stickerList) {
-            MatrixCursor.RowBuilder builder = cursor.newRow();
-            builder.add(sticker.imageFileName);
-            builder.add(sticker.emojis);
-            builder.add(sticker.stickerIsValid);
-            builder.add(sticker.accessibilityText);
-        }
+    public Cursor fetchStickerData(@NonNull Uri uri, @NonNull List<Sticker> stickerList, @Nullable String[] projection) {
+        ProjectionCursor<Sticker> cursor = new ProjectionCursor<>(stickerList, STICKER_COLUMNS, projection);
 
         cursor.setNotificationUri(context.getContentResolver(), uri);
         return cursor;
     }
 
+    public List<Sticker> fetchStickerListFromSnapshot(String stickerPackIdentifier) {
+        StickerPack stickerPack = stickerPackQueryHelper.acquireSnapshot().getStickerPack(stickerPackIdentifier);
+
+        // NOTE: Pacote fora da foto não existe ou não tem figurinhas, a consulta no banco também seria vazia
+        if (stickerPack == null) {
+            return Collections.emptyList();
+        }
+
+        return stickerPack.getStickers();
+    }
+
     public List<Sticker> fetchStickerListFromDatabase(String stickerPackIdentifier) {
         Cursor cursor = selectStickerPackRepo.getStickerByStickerPackIdentifier(
                 stickerPackIdentifier);
@@ -67,16 +91,9 @@ public class StickerQueryHelper {
         List<Sticker> stickerList = new ArrayList<>();
 
         try {
-            if (cursor.moveToFirst()) {
-                do {
-                    String imageFile = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY));
-                    String emojis = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY));
-                    String stickerIsValid = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_IS_VALID));
-                    String accessibilityText = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY));
-
-                    Sticker sticker = new Sticker(imageFile, emojis, stickerIsValid, accessibilityText, stickerPackIdentifier);
-                    stickerList.add(sticker);
-                } while (cursor.moveToNext());
+            final StickerRowMapper stickerRowMapper = new StickerRowMapper(cursor);
+            while (cursor.moveToNext()) {
+                stickerList.add(stickerRowMapper.map(cursor, stickerPackIdentifier));
             }
         } finally {
             cursor.close();
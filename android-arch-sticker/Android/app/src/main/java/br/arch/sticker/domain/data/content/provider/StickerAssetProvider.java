@@ -8,7 +8,6 @@
 
 package br.arch.sticker.domain.data.content.provider;
 
-import static br.arch.sticker.domain.data.content.StickerContentProvider.STICKERS_ASSET;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
 import static br.arch.sticker.view.core.util.convert.ConvertThumbnail.THUMBNAIL_FILE;
 
@@ -30,14 +29,21 @@ import java.util.Locale;
 
 import br.arch.sticker.core.error.throwable.base.InternalAppException;
 import br.arch.sticker.core.error.throwable.content.ContentProviderException;
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
 import br.arch.sticker.core.error.throwable.sticker.StickerFileException;
 import br.arch.sticker.core.validation.StickerValidator;
+import br.arch.sticker.domain.data.content.helper.StickerPackQueryHelper;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 import br.arch.sticker.domain.data.database.repository.SelectStickerPackRepo;
+import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.StickerFileStat;
+import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
 
 public class StickerAssetProvider {
     private final static String TAG_LOG = StickerAssetProvider.class.getSimpleName();
 
+    private final FetchStickerAssetService fetchStickerAssetService;
+    private final StickerPackQueryHelper stickerPackQueryHelper;
     private final SelectStickerPackRepo selectStickerPackRepo;
     private final StickerValidator stickerValidator;
     private final Context context;
@@ -45,13 +51,14 @@ public class StickerAssetProvider {
     public StickerAssetProvider(Context context) {
         this.context = context.getApplicationContext();
         this.stickerValidator = new StickerValidator(this.context);
+        this.stickerPackQueryHelper = new StickerPackQueryHelper(this.context);
+        this.fetchStickerAssetService = new FetchStickerAssetService(this.context);
         SQLiteDatabase database = StickerDatabaseHelper.getInstance(
                 this.context).getReadableDatabase();
         this.selectStickerPackRepo = new SelectStickerPackRepo(database);
     }
 
     public AssetFileDescriptor fetchStickerAsset(Uri uri, boolean isWhatsApp) throws ContentProviderException, FileNotFoundException {
-        final File stickerPackDir = new File(context.getFilesDir(), STICKERS_ASSET);
         final List<String> pathSegments = uri.getPathSegments();
 
         if (pathSegments.size() != 3) {
@@ -69,15 +76,12 @@ public class StickerAssetProvider {
             throw new ContentProviderException("Nome do arquivo está vazio, uri: " + uri);
         }
 
-        final File stickerDirectory = new File(stickerPackDir, stickerPackIdentifier);
-        final File stickerFile = new File(stickerDirectory, fileName);
+        final File stickerFile = fetchStickerAssetService.getStickerAssetFile(stickerPackIdentifier, fileName);
 
-        if (!stickerDirectory.exists() || !stickerDirectory.isDirectory()) {
-            throw new FileNotFoundException(
-                    "Diretório de figurinhas não encontrado: " + stickerDirectory.getPath());
-        }
-
-        if (!stickerFile.exists() || !stickerFile.isFile()) {
+        final StickerFileStat stickerFileStat;
+        try {
+            stickerFileStat = fetchStickerAssetService.statStickerAsset(stickerPackIdentifier, fileName);
+        } catch (FetchStickerException exception) {
             throw new FileNotFoundException(
                     "Arquivo não encontrado ou inválido: " + stickerFile.getAbsolutePath());
         }
@@ -86,28 +90,18 @@ public class StickerAssetProvider {
             return openAssetFileSafely(stickerFile, "thumbnail");
         }
 
-        try (Cursor cursor = selectStickerPackRepo.getStickerPackIsAnimated(
-                stickerPackIdentifier)) {
-            if (cursor == null) {
-                throw new ContentProviderException("Cursor nulo ao buscar pacote de figurinhas.");
-            }
-
-            if (!cursor.moveToFirst()) {
-                throw new ContentProviderException(
-                        "Pacote de figurinha não encontrado no banco: " + stickerPackIdentifier);
-            }
-
-            final boolean animatedStickerPack = cursor.getInt(
-                    cursor.getColumnIndexOrThrow(ANIMATED_STICKER_PACK)) != 0;
+        try {
+            final boolean animatedStickerPack = fetchStickerPackIsAnimated(stickerPackIdentifier);
             if (isWhatsApp) {
                 if (!fileName.toLowerCase(Locale.ROOT).endsWith(".webp")) {
                     Log.w(TAG_LOG, "Arquivo ignorado por não ser .webp: " + fileName);
                     return null;
                 }
 
+                // NOTE: O validador reaproveita o stat acima e consulta o cache de impressões digitais antes de abrir o arquivo
                 try {
                     stickerValidator.validateStickerFile(stickerPackIdentifier, fileName,
-                            animatedStickerPack);
+                            animatedStickerPack, stickerFileStat);
                 } catch (StickerFileException | InternalAppException exception) {
                     Log.w(TAG_LOG,
                             "Sticker inválido, ignorado: " + stickerFile.getAbsolutePath() + " - " + exception.getMessage());
@@ -118,6 +112,7 @@ public class StickerAssetProvider {
                         "Ignorando validação porque não é o WhatsApp: " + stickerFile.getAbsolutePath());
             }
 
+            // NOTE: O arquivo do pacote é um hard link do blob, mesmo inode; abrir pelo caminho do pacote evita consultar o banco
             return this.openAssetFileSafely(stickerFile, "sticker");
         } catch (SQLException sqlException) {
             Log.e(TAG_LOG,
@@ -133,6 +128,27 @@ public class StickerAssetProvider {
         }
     }
 
+    private boolean fetchStickerPackIsAnimated(String stickerPackIdentifier) {
+        StickerPack stickerPack = stickerPackQueryHelper.acquireSnapshot().getStickerPack(stickerPackIdentifier);
+        if (stickerPack != null) {
+            return stickerPack.animatedStickerPack;
+        }
+
+        try (Cursor cursor = selectStickerPackRepo.getStickerPackIsAnimated(
+                stickerPackIdentifier)) {
+            if (cursor == null) {
+                throw new ContentProviderException("Cursor nulo ao buscar pacote de figurinhas.");
+            }
+
+            if (!cursor.moveToFirst()) {
+                throw new ContentProviderException(
+                        "Pacote de figurinha não encontrado no banco: " + stickerPackIdentifier);
+            }
+
+            return cursor.getInt(cursor.getColumnIndexOrThrow(ANIMATED_STICKER_PACK)) != 0;
+        }
+    }
+
     private AssetFileDescriptor openAssetFileSafely(File file, String type) {
         try {
             ParcelFileDescriptor parcelFileDescriptor = ParcelFileDescriptor.open(file,
@@ -12,11 +12,14 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.MatrixCursor;
 import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
 import android.net.Uri;
 import android.text.TextUtils;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.List;
 
@@ -32,15 +35,20 @@ public class StickerPackQueryProvider {
         this.stickerPackQueryHelper = new StickerPackQueryHelper(context);
     }
 
-    public Cursor fetchAllStickerPack(@NonNull Uri uri) {
+    @VisibleForTesting
+    public StickerPackQueryProvider(Context context, SQLiteDatabase database) {
+        this.stickerPackQueryHelper = new StickerPackQueryHelper(context, database);
+    }
+
+    public Cursor fetchAllStickerPack(@NonNull Uri uri, @Nullable String[] projection) {
         try {
-            List<StickerPack> stickerPackList = stickerPackQueryHelper.fetchListStickerPackFromDatabase();
+            List<StickerPack> stickerPackList = stickerPackQueryHelper.fetchListStickerPackFromSnapshot();
             if (stickerPackList.isEmpty()) {
                 Log.w(TAG_LOG, "Nenhum pacote de figurinhas encontrado!");
                 return new MatrixCursor(new String[]{"Nenhum pacote de figurinhas encontrado!"});
             }
 
-            return stickerPackQueryHelper.fetchListStickerPackData(uri, stickerPackList);
+            return stickerPackQueryHelper.fetchListStickerPackData(uri, stickerPackList, projection);
         } catch (SQLException sqlException) {
             Log.e(TAG_LOG, "Erro no banco de dados ao buscar pacotes de figurinhas!", sqlException);
             throw sqlException;
@@ -50,7 +58,7 @@ public class StickerPackQueryProvider {
         }
     }
 
-    public Cursor fetchSingleStickerPack(@NonNull Uri uri, boolean isFiltered) {
+    public Cursor fetchSingleStickerPack(@NonNull Uri uri, @Nullable String[] projection, boolean isFiltered) {
         final String stickerPackIdentifier = uri.getLastPathSegment();
         if (TextUtils.isEmpty(stickerPackIdentifier)) {
             Log.e(TAG_LOG, "Identificador de pacote de figurinhas inválido na Uri: " + uri);
@@ -58,14 +66,14 @@ public class StickerPackQueryProvider {
         }
 
         try {
-            StickerPack stickerPack = stickerPackQueryHelper.fetchStickerPackFromDatabase(stickerPackIdentifier, isFiltered);
+            StickerPack stickerPack = stickerPackQueryHelper.fetchStickerPackFromSnapshot(stickerPackIdentifier, isFiltered);
             if (stickerPack == null) {
                 Log.w(TAG_LOG, "Nenhum pacote de figurinhas encontrado para o identificador: " +
                         stickerPackIdentifier);
                 return new MatrixCursor(new String[]{"Erro ao buscar pacote, ele é nulo!"});
             }
 
-            return stickerPackQueryHelper.fetchStickerPackData(uri, stickerPack);
+            return stickerPackQueryHelper.fetchStickerPackData(uri, stickerPack, projection);
         } catch (SQLException sqlException) {
             Log.e(TAG_LOG, "Erro no banco de dados ao buscar pacote de figurinhas: " +
                     stickerPackIdentifier, sqlException);
@@ -10,11 +10,14 @@ package br.arch.sticker.domain.data.content.provider;
 
 import android.content.Context;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
 import android.net.Uri;
 import android.text.TextUtils;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,22 +34,27 @@ public class StickerQueryProvider {
         this.stickerQueryHelper = new StickerQueryHelper(context);
     }
 
+    @VisibleForTesting
+    public StickerQueryProvider(Context context, SQLiteDatabase database) {
+        this.stickerQueryHelper = new StickerQueryHelper(context, database);
+    }
+
     @NonNull
-    public Cursor fetchStickerListForPack(@NonNull Uri uri) {
+    public Cursor fetchStickerListForPack(@NonNull Uri uri, @Nullable String[] projection) {
         final String stickerPackIdentifier = uri.getLastPathSegment();
 
         try {
             if (TextUtils.isEmpty(stickerPackIdentifier)) {
                 Log.e(TAG_LOG, "Identificador de pacote de adesivos inválido na Uri: " + uri);
-                return stickerQueryHelper.fetchStickerData(uri, new ArrayList<>());
+                return stickerQueryHelper.fetchStickerData(uri, new ArrayList<>(), projection);
             }
 
-            List<Sticker> stickerPack = stickerQueryHelper.fetchStickerListFromDatabase(
+            List<Sticker> stickerPack = stickerQueryHelper.fetchStickerListFromSnapshot(
                     stickerPackIdentifier);
-            return stickerQueryHelper.fetchStickerData(uri, stickerPack);
+            return stickerQueryHelper.fetchStickerData(uri, stickerPack, projection);
         } catch (RuntimeException exception) {
             Log.e(TAG_LOG, "Erro ao buscar pacote de figurinhas: " + stickerPackIdentifier, exception);
-            return stickerQueryHelper.fetchStickerData(uri, new ArrayList<>());
+            return stickerQueryHelper.fetchStickerData(uri, new ArrayList<>(), projection);
         }
     }
 }
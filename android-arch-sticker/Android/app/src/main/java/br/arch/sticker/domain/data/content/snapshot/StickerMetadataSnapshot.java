@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.content.snapshot;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import br.arch.sticker.domain.data.model.StickerPack;
+
+// NOTE: Foto imutável dos metadados servidos pelo content provider, reconstruída somente quando algum repositório de escrita incrementa a versão.
+public final class StickerMetadataSnapshot {
+    private static final AtomicLong VERSION = new AtomicLong();
+    private static volatile StickerMetadataSnapshot current;
+
+    private final long version;
+    private final List<StickerPack> stickerPackList;
+    private final Map<String, StickerPack> stickerPackByIdentifier;
+
+    private StickerMetadataSnapshot(long version, @NonNull List<StickerPack> stickerPackList) {
+        this.version = version;
+
+        Map<String, StickerPack> byIdentifier = new HashMap<>(stickerPackList.size() * 2);
+        for (StickerPack stickerPack : stickerPackList) {
+            stickerPack.setStickers(Collections.unmodifiableList(new ArrayList<>(stickerPack.getStickers())));
+            byIdentifier.put(stickerPack.identifier, stickerPack);
+        }
+
+        this.stickerPackList = Collections.unmodifiableList(new ArrayList<>(stickerPackList));
+        this.stickerPackByIdentifier = Collections.unmodifiableMap(byIdentifier);
+    }
+
+    public static void invalidate() {
+        VERSION.incrementAndGet();
+    }
+
+    @NonNull
+    public static StickerMetadataSnapshot acquire(@NonNull Supplier<List<StickerPack>> loader) {
+        StickerMetadataSnapshot snapshot = current;
+        if (snapshot != null && snapshot.version == VERSION.get()) {
+            return snapshot;
+        }
+
+        synchronized (StickerMetadataSnapshot.class) {
+            // NOTE: A versão é lida antes de carregar, uma escrita concorrente força nova reconstrução na próxima leitura.
+            final long version = VERSION.get();
+
+            snapshot = current;
+            if (snapshot != null && snapshot.version == version) {
+                return snapshot;
+            }
+
+            snapshot = new StickerMetadataSnapshot(version, loader.get());
+            current = snapshot;
+
+            return snapshot;
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @NonNull
+    public List<StickerPack> getStickerPackList() {
+        return stickerPackList;
+    }
+
+    @Nullable
+    public StickerPack getStickerPack(String stickerPackIdentifier) {
+        return stickerPackByIdentifier.get(stickerPackIdentifier);
+    }
+}
@@ -11,15 +11,52 @@ package br.arch.sticker.domain.data.database;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+
+import java.util.List;
+
+import br.arch.sticker.domain.data.database.migration.DatabaseMigration;
+import br.arch.sticker.domain.data.database.migration.HousekeepingIndexMigration;
+import br.arch.sticker.domain.data.database.migration.SaveJournalMigration;
+import br.arch.sticker.domain.data.database.migration.StickerBlobMigration;
+import br.arch.sticker.domain.data.database.migration.StickerFileLastModifiedMigration;
+import br.arch.sticker.domain.data.database.migration.StickerFingerprintMigration;
+import br.arch.sticker.domain.data.database.migration.StickerIndexMigration;
+import br.arch.sticker.domain.data.database.migration.StickerMediaMetadataMigration;
+import br.arch.sticker.domain.data.database.migration.StickerPackTombstoneMigration;
+import br.arch.sticker.domain.data.database.migration.StickerValidationMigration;
 
 // @formatter:off
 public class StickerDatabaseHelper extends SQLiteOpenHelper {
+    private final static String TAG_LOG = StickerDatabaseHelper.class.getSimpleName();
+
     private static final String DATABASE_NAME = "stickers.db";
-    private static final int DATABASE_VERSION = 1;
+    static final int DATABASE_BASE_VERSION = 1;
+    static final int DATABASE_VERSION = 10;
+
+    // Passos de migração, em ordem de versão
+    private static final List<DatabaseMigration> MIGRATIONS = List.of(
+            new StickerValidationMigration(),
+            new StickerIndexMigration(),
+            new StickerFingerprintMigration(),
+            new StickerMediaMetadataMigration(),
+            new StickerBlobMigration(),
+            new SaveJournalMigration(),
+            new StickerPackTombstoneMigration(),
+            new HousekeepingIndexMigration(),
+            new StickerFileLastModifiedMigration()
+    );
 
     // Tabelas
     public static final String TABLE_STICKER_PACK = "sticker_pack";
     public static final String TABLE_STICKER = "sticker";
+    public static final String TABLE_STICKER_VALIDATION = "sticker_validation";
+    public static final String TABLE_STICKER_BLOB = "sticker_blob";
+    public static final String TABLE_STICKER_BLOB_REF = "sticker_blob_ref";
+    public static final String TABLE_SAVE_JOURNAL = "save_journal";
+    public static final String TABLE_STICKER_PACK_TOMBSTONE = "sticker_pack_tombstone";
 
     // Colunas sticker_pack
     public static final String STICKER_PACK_IDENTIFIER_IN_QUERY = "sticker_pack_identifier";
@@ -35,6 +72,8 @@ public class StickerDatabaseHelper extends SQLiteOpenHelper {
     public static final String AVOID_CACHE = "whatsapp_will_not_cache_stickers";
     public static final String ANDROID_APP_DOWNLOAD_LINK_IN_QUERY = "android_play_store_link";
     public static final String IOS_APP_DOWNLOAD_LINK_IN_QUERY = "ios_app_download_link";
+    // NOTE: Alias do rowid do pacote nas consultas; segue a ordem de inserção, como a listagem sem ORDER BY de antes
+    public static final String STICKER_PACK_ROW_ID_IN_QUERY = "sticker_pack_row_id";
 
     // Colunas sticker
     public static final String ID_STICKER = "id_sticker";
@@ -43,6 +82,46 @@ public class StickerDatabaseHelper extends SQLiteOpenHelper {
     public static final String STICKER_IS_VALID = "sticker_is_valid";
     public static final String STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY = "sticker_accessibility_text";
     public static final String FK_STICKER_PACK = "fk_sticker_pack";
+    public static final String STICKER_FILE_SIZE = "sticker_file_size";
+    public static final String STICKER_WIDTH = "sticker_width";
+    public static final String STICKER_HEIGHT = "sticker_height";
+    public static final String STICKER_FRAME_COUNT = "sticker_frame_count";
+    public static final String STICKER_DURATION = "sticker_duration";
+    public static final String STICKER_FILE_LAST_MODIFIED = "sticker_file_last_modified";
+
+    // Colunas sticker_validation
+    public static final String VALIDATION_FILE_LENGTH = "validation_file_length";
+    public static final String VALIDATION_FILE_LAST_MODIFIED = "validation_file_last_modified";
+    public static final String VALIDATION_ANIMATED = "validation_animated";
+    public static final String VALIDATION_CRC32 = "validation_crc32";
+    public static final String VALIDATION_OUTCOME = "validation_outcome";
+    public static final String VALIDATION_RULES_VERSION = "validation_rules_version";
+
+    // Colunas sticker_blob e sticker_blob_ref
+    public static final String BLOB_HASH = "blob_hash";
+    public static final String BLOB_SIZE = "blob_size";
+    public static final String BLOB_REF_COUNT = "blob_ref_count";
+    public static final String FK_BLOB_HASH = "fk_blob_hash";
+
+    // Colunas save_journal
+    public static final String JOURNAL_PACK_IDENTIFIER = "journal_pack_identifier";
+    public static final String JOURNAL_STATE = "journal_state";
+    public static final String JOURNAL_UPDATED_AT = "journal_updated_at";
+
+    // Colunas sticker_pack_tombstone
+    public static final String TOMBSTONE_PACK_IDENTIFIER = "tombstone_pack_identifier";
+    public static final String TOMBSTONE_CREATED_AT = "tombstone_created_at";
+
+    // Índices
+    public static final String INDEX_STICKER_PACK_FILE_NAME = "idx_sticker_pack_file_name";
+    public static final String INDEX_BLOB_REF_COUNT = "idx_sticker_blob_ref_count";
+    public static final String INDEX_JOURNAL_UPDATED_AT = "idx_save_journal_updated_at";
+    public static final String INDEX_TOMBSTONE_CREATED_AT = "idx_sticker_pack_tombstone_created_at";
+
+    // Triggers
+    public static final String TRIGGER_BLOB_REF_INSERT = "trg_sticker_blob_ref_insert";
+    public static final String TRIGGER_BLOB_REF_DELETE = "trg_sticker_blob_ref_delete";
+    public static final String TRIGGER_BLOB_REF_UPDATE = "trg_sticker_blob_ref_update";
 
     // Valores de campos que tem são constantes no app todo
     public static final int CHAR_IDENTIFIER_COUNT_MAX = 36;
@@ -53,7 +132,15 @@ public class StickerDatabaseHelper extends SQLiteOpenHelper {
 
 
     public StickerDatabaseHelper(Context context) {
-        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        this(context, DATABASE_NAME);
+    }
+
+    @VisibleForTesting
+    public StickerDatabaseHelper(Context context, String databaseName) {
+        super(context, databaseName, null, DATABASE_VERSION);
+        // NOTE: Em WAL o SQLiteDatabase abre um pool de conexões de leitura, as consultas do provider
+        // não esperam mais as transações de salvamento e de atualização das figurinhas inválidas.
+        setWriteAheadLoggingEnabled(true);
     }
 
     @Override
@@ -98,20 +185,33 @@ public class StickerDatabaseHelper extends SQLiteOpenHelper {
                             FK_STICKER_PACK + " TEXT, " + fkSticker +
                         ")"
         );
+
+        runMigrations(sqLiteDatabase, DATABASE_BASE_VERSION);
     }
 
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        db.execSQL("DROP TABLE IF EXISTS " + TABLE_STICKER_PACK);
-        db.execSQL("DROP TABLE IF EXISTS " + TABLE_STICKER);
+        runMigrations(db, oldVersion);
+    }
+
+    // NOTE: Roda dentro da transação aberta pelo SQLiteOpenHelper, uma falha desfaz todos os passos.
+    private static void runMigrations(SQLiteDatabase sqLiteDatabase, int fromVersion) {
+        for (DatabaseMigration migration : MIGRATIONS) {
+            if (migration.getVersion() > fromVersion && migration.getVersion() <= DATABASE_VERSION) {
+                Log.i(TAG_LOG, "Migrando banco para a versão " + migration.getVersion());
+                migration.migrate(sqLiteDatabase);
+            }
+        }
 
-        onCreate(db);
+        sqLiteDatabase.execSQL("ANALYZE");
     }
 
     @Override
     public void onConfigure(SQLiteDatabase db) {
         super.onConfigure(db);
         db.setForeignKeyConstraintsEnabled(true);
+        // NOTE: Com WAL, NORMAL só sincroniza no checkpoint; uma queda de energia perde no máximo as últimas transações, sem corromper o banco.
+        db.execSQL("PRAGMA synchronous = NORMAL");
     }
 
     public static synchronized StickerDatabaseHelper getInstance(Context context) {
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.loader;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_ROW_ID_IN_QUERY;
+
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.arch.sticker.core.error.code.FetchErrorCode;
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerPackException;
+import br.arch.sticker.domain.data.database.mapper.StickerPackRowMapper;
+import br.arch.sticker.domain.data.database.mapper.StickerRowMapper;
+import br.arch.sticker.domain.data.database.repository.SelectStickerPackRepo;
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.StickerPackRowPage;
+
+// NOTE: Leitura direta no SelectStickerPackRepo, usada pelas telas do app e pela foto de metadados do content provider.
+public class StickerPackLoader {
+    private final SelectStickerPackRepo selectStickerPackRepo;
+
+    public StickerPackLoader(SQLiteDatabase database) {
+        this.selectStickerPackRepo = new SelectStickerPackRepo(database);
+    }
+
+    // NOTE: Uma varredura dos pacotes e uma das figurinhas, ambas na ordem de inserção do pacote (rowid), unidas por merge.
+    // Pacotes sem figurinhas também são retornados, com a lista vazia.
+    @NonNull
+    public List<StickerPack> loadAllStickerPacks() throws FetchStickerPackException {
+        try (Cursor packCursor = requireCursor(selectStickerPackRepo.getAllStickerPackRowsOrderedByRowId());
+             Cursor stickerCursor = requireCursor(selectStickerPackRepo.getAllStickersOrderedByStickerPack())) {
+            return mergeStickerPacks(packCursor, stickerCursor);
+        }
+    }
+
+    // NOTE: Página de até limit pacotes depois de afterRowId (FIRST_PAGE_ROW_ID para a primeira), com todas as figurinhas de cada um.
+    // As figurinhas vêm de uma única consulta pela faixa de rowids da página.
+    @NonNull
+    public StickerPackRowPage loadStickerPackPage(long afterRowId, int limit) throws FetchStickerPackException {
+        try (Cursor packCursor = requireCursor(selectStickerPackRepo.getStickerPackRowsAfterRowId(afterRowId, limit))) {
+            if (!packCursor.moveToLast()) {
+                return new StickerPackRowPage(new ArrayList<>(), afterRowId);
+            }
+
+            final int rowIdColumn = packCursor.getColumnIndexOrThrow(STICKER_PACK_ROW_ID_IN_QUERY);
+            final long lastRowId = packCursor.getLong(rowIdColumn);
+            packCursor.moveToFirst();
+            final long firstRowId = packCursor.getLong(rowIdColumn);
+            packCursor.moveToPosition(-1);
+
+            try (Cursor stickerCursor = requireCursor(selectStickerPackRepo.getStickersInStickerPackRowIdRange(firstRowId, lastRowId))) {
+                return new StickerPackRowPage(mergeStickerPacks(packCursor, stickerCursor), lastRowId);
+            }
+        }
+    }
+
+    @Nullable
+    public StickerPack loadStickerPack(@NonNull String stickerPackIdentifier) throws FetchStickerPackException {
+        final StickerPack stickerPack;
+
+        try (Cursor cursor = requireCursor(selectStickerPackRepo.getStickerPackRowByIdentifier(stickerPackIdentifier))) {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+
+            stickerPack = new StickerPackRowMapper(cursor).map(cursor);
+        }
+
+        stickerPack.setStickers(loadStickersByPack(stickerPackIdentifier));
+        return stickerPack;
+    }
+
+    @NonNull
+    public List<Sticker> loadStickersByPack(@NonNull String stickerPackIdentifier) throws FetchStickerPackException {
+        final List<Sticker> stickers = new ArrayList<>();
+
+        try (Cursor cursor = requireCursor(selectStickerPackRepo.getStickerByStickerPackIdentifier(stickerPackIdentifier))) {
+            final StickerRowMapper stickerRowMapper = new StickerRowMapper(cursor);
+            while (cursor.moveToNext()) {
+                stickers.add(stickerRowMapper.map(cursor, stickerPackIdentifier));
+            }
+        }
+
+        return stickers;
+    }
+
+    @NonNull
+    private static Cursor requireCursor(@Nullable Cursor cursor) throws FetchStickerPackException {
+        if (cursor == null) {
+            throw new FetchStickerPackException("Cursor nulo ao buscar pacotes de figurinhas no banco.",
+                    FetchErrorCode.ERROR_STICKERPACK_DATABASE);
+        }
+
+        return cursor;
+    }
+
+    @NonNull
+    private static List<StickerPack> mergeStickerPacks(@NonNull Cursor packCursor, @NonNull Cursor stickerCursor) {
+        final List<StickerPack> stickerPackList = new ArrayList<>();
+
+        final StickerPackRowMapper stickerPackRowMapper = new StickerPackRowMapper(packCursor);
+        final StickerRowMapper stickerRowMapper = new StickerRowMapper(stickerCursor);
+        final int packRowIdColumn = packCursor.getColumnIndexOrThrow(STICKER_PACK_ROW_ID_IN_QUERY);
+        final int stickerPackRowIdColumn = stickerCursor.getColumnIndexOrThrow(STICKER_PACK_ROW_ID_IN_QUERY);
+
+        boolean hasSticker = stickerCursor.moveToFirst();
+        while (packCursor.moveToNext()) {
+            final StickerPack stickerPack = stickerPackRowMapper.map(packCursor);
+            final long packRowId = packCursor.getLong(packRowIdColumn);
+            final List<Sticker> stickers = new ArrayList<>();
+
+            while (hasSticker && stickerCursor.getLong(stickerPackRowIdColumn) < packRowId) {
+                hasSticker = stickerCursor.moveToNext();
+            }
+
+            while (hasSticker && stickerCursor.getLong(stickerPackRowIdColumn) == packRowId) {
+                stickers.add(stickerRowMapper.map(stickerCursor, stickerPack.identifier));
+                hasSticker = stickerCursor.moveToNext();
+            }
+
+            stickerPack.setStickers(stickers);
+            stickerPackList.add(stickerPack);
+        }
+
+        return stickerPackList;
+    }
+}
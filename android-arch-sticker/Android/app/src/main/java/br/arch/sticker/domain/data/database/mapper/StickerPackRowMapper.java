@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+package br.arch.sticker.domain.data.database.mapper;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANDROID_APP_DOWNLOAD_LINK_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.AVOID_CACHE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IMAGE_DATA_VERSION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IOS_APP_DOWNLOAD_LINK_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.LICENSE_AGREEMENT_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PRIVACY_POLICY_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_EMAIL;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+
+import br.arch.sticker.domain.data.model.StickerPack;
+
+// NOTE: Índices das colunas do pacote resolvidos uma vez por cursor; a lista de figurinhas fica a cargo de quem chama.
+public final class StickerPackRowMapper {
+    private final int identifierColumn;
+    private final int nameColumn;
+    private final int publisherColumn;
+    private final int trayImageColumn;
+    private final int publisherEmailColumn;
+    private final int publisherWebsiteColumn;
+    private final int privacyPolicyColumn;
+    private final int licenseAgreementColumn;
+    private final int imageDataVersionColumn;
+    private final int avoidCacheColumn;
+    private final int animatedColumn;
+    private final int androidPlayStoreColumn;
+    private final int iosAppStoreColumn;
+
+    public StickerPackRowMapper(@NonNull Cursor cursor) {
+        this.identifierColumn = cursor.getColumnIndexOrThrow(STICKER_PACK_IDENTIFIER_IN_QUERY);
+        this.nameColumn = cursor.getColumnIndexOrThrow(STICKER_PACK_NAME_IN_QUERY);
+        this.publisherColumn = cursor.getColumnIndexOrThrow(STICKER_PACK_PUBLISHER_IN_QUERY);
+        this.trayImageColumn = cursor.getColumnIndexOrThrow(STICKER_PACK_TRAY_IMAGE_IN_QUERY);
+        this.publisherEmailColumn = cursor.getColumnIndexOrThrow(PUBLISHER_EMAIL);
+        this.publisherWebsiteColumn = cursor.getColumnIndexOrThrow(PUBLISHER_WEBSITE);
+        this.privacyPolicyColumn = cursor.getColumnIndexOrThrow(PRIVACY_POLICY_WEBSITE);
+        this.licenseAgreementColumn = cursor.getColumnIndexOrThrow(LICENSE_AGREEMENT_WEBSITE);
+        this.imageDataVersionColumn = cursor.getColumnIndexOrThrow(IMAGE_DATA_VERSION);
+        this.avoidCacheColumn = cursor.getColumnIndexOrThrow(AVOID_CACHE);
+        this.animatedColumn = cursor.getColumnIndexOrThrow(ANIMATED_STICKER_PACK);
+        this.androidPlayStoreColumn = cursor.getColumnIndexOrThrow(ANDROID_APP_DOWNLOAD_LINK_IN_QUERY);
+        this.iosAppStoreColumn = cursor.getColumnIndexOrThrow(IOS_APP_DOWNLOAD_LINK_IN_QUERY);
+    }
+
+    @NonNull
+    public StickerPack map(@NonNull Cursor cursor) {
+        final StickerPack stickerPack = new StickerPack(
+                cursor.getString(identifierColumn),
+                cursor.getString(nameColumn),
+                cursor.getString(publisherColumn),
+                cursor.getString(trayImageColumn),
+                cursor.getString(publisherEmailColumn),
+                cursor.getString(publisherWebsiteColumn),
+                cursor.getString(privacyPolicyColumn),
+                cursor.getString(licenseAgreementColumn),
+                cursor.getString(imageDataVersionColumn),
+                cursor.getInt(avoidCacheColumn) != 0,
+                cursor.getInt(animatedColumn) != 0);
+
+        stickerPack.setAndroidPlayStoreLink(cursor.getString(androidPlayStoreColumn));
+        stickerPack.setIosAppStoreLink(cursor.getString(iosAppStoreColumn));
+
+        return stickerPack;
+    }
+}
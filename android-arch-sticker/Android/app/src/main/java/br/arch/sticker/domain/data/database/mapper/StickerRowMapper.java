@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+package br.arch.sticker.domain.data.database.mapper;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_DURATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FRAME_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_HEIGHT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_WIDTH;
+
+import android.database.Cursor;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+
+// NOTE: Resolve os índices das colunas uma vez por cursor. Emoji, status e texto de acessibilidade se repetem muito
+// entre as figurinhas de um pacote, então cada valor igual vira a mesma instância de String enquanto o mapper existir.
+public final class StickerRowMapper {
+    private final int nameColumn;
+    private final int emojiColumn;
+    private final int isValidColumn;
+    private final int accessibilityColumn;
+    private final int fileSizeColumn;
+    private final int lastModifiedColumn;
+    private final int widthColumn;
+    private final int heightColumn;
+    private final int frameCountColumn;
+    private final int durationColumn;
+
+    private final Map<String, String> stringPool = new HashMap<>();
+
+    public StickerRowMapper(@NonNull Cursor cursor) {
+        this.nameColumn = cursor.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY);
+        this.emojiColumn = cursor.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY);
+        this.isValidColumn = cursor.getColumnIndexOrThrow(STICKER_IS_VALID);
+        this.accessibilityColumn = cursor.getColumnIndexOrThrow(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY);
+        this.fileSizeColumn = cursor.getColumnIndexOrThrow(STICKER_FILE_SIZE);
+        this.lastModifiedColumn = cursor.getColumnIndexOrThrow(STICKER_FILE_LAST_MODIFIED);
+        this.widthColumn = cursor.getColumnIndexOrThrow(STICKER_WIDTH);
+        this.heightColumn = cursor.getColumnIndexOrThrow(STICKER_HEIGHT);
+        this.frameCountColumn = cursor.getColumnIndexOrThrow(STICKER_FRAME_COUNT);
+        this.durationColumn = cursor.getColumnIndexOrThrow(STICKER_DURATION);
+    }
+
+    @NonNull
+    public Sticker map(@NonNull Cursor cursor, @NonNull String stickerPackIdentifier) {
+        final String emojisConcatenated = cursor.getString(emojiColumn);
+
+        final Sticker sticker = new Sticker(
+                cursor.getString(nameColumn),
+                TextUtils.isEmpty(emojisConcatenated) ? null : share(emojisConcatenated),
+                share(cursor.getString(isValidColumn)),
+                share(cursor.getString(accessibilityColumn)),
+                stickerPackIdentifier);
+
+        // NOTE: Figurinhas salvas antes das colunas de mídia ficam sem metadados
+        if (!cursor.isNull(fileSizeColumn)) {
+            sticker.setMediaMetadata(new StickerMediaMetadata(
+                    cursor.getLong(fileSizeColumn),
+                    cursor.isNull(lastModifiedColumn) ? 0L : cursor.getLong(lastModifiedColumn),
+                    cursor.getInt(widthColumn),
+                    cursor.getInt(heightColumn),
+                    cursor.getInt(frameCountColumn),
+                    cursor.getInt(durationColumn)));
+        }
+
+        return sticker;
+    }
+
+    @Nullable
+    private String share(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String shared = stringPool.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Cada passo leva o banco da versão (getVersion() - 1) para getVersion(), sem apagar dados.
+public interface DatabaseMigration {
+    int getVersion();
+
+    void migrate(@NonNull SQLiteDatabase database);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_REF_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_BLOB_REF_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_TOMBSTONE_CREATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_SAVE_JOURNAL;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK_TOMBSTONE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_CREATED_AT;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Índices das varreduras de manutenção (coleta de blobs, journal antigo e lápides), que sem eles percorrem a tabela inteira.
+public class HousekeepingIndexMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 9;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL("CREATE INDEX IF NOT EXISTS " + INDEX_BLOB_REF_COUNT +
+                " ON " + TABLE_STICKER_BLOB + " (" + BLOB_REF_COUNT + ")");
+        database.execSQL("CREATE INDEX IF NOT EXISTS " + INDEX_JOURNAL_UPDATED_AT +
+                " ON " + TABLE_SAVE_JOURNAL + " (" + JOURNAL_UPDATED_AT + ")");
+        database.execSQL("CREATE INDEX IF NOT EXISTS " + INDEX_TOMBSTONE_CREATED_AT +
+                " ON " + TABLE_STICKER_PACK_TOMBSTONE + " (" + TOMBSTONE_CREATED_AT + ")");
+    }
+}
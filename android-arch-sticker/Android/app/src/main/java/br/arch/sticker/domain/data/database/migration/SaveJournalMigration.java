@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_PACK_IDENTIFIER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_STATE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_SAVE_JOURNAL;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Sem chave estrangeira: a entrada existe antes da linha do pacote e precisa sobreviver a uma inserção desfeita.
+// @formatter:off
+public class SaveJournalMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 7;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL(
+                "CREATE TABLE IF NOT EXISTS " + TABLE_SAVE_JOURNAL +
+                        " (" +
+                            JOURNAL_PACK_IDENTIFIER + " TEXT PRIMARY KEY, " +
+                            JOURNAL_STATE + " TEXT NOT NULL, " +
+                            JOURNAL_UPDATED_AT + " INTEGER NOT NULL" +
+                        ")"
+        );
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_HASH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_REF_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_BLOB_HASH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB_REF;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TRIGGER_BLOB_REF_DELETE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TRIGGER_BLOB_REF_INSERT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TRIGGER_BLOB_REF_UPDATE;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: A contagem de referências é mantida pelos triggers, então qualquer escrita em sticker_blob_ref a mantém correta.
+// Não há chave estrangeira para sticker_pack: as referências são liberadas junto com os arquivos, não pelo cascade.
+// @formatter:off
+public class StickerBlobMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 6;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL(
+                "CREATE TABLE IF NOT EXISTS " + TABLE_STICKER_BLOB +
+                        " (" +
+                            BLOB_HASH + " TEXT PRIMARY KEY, " +
+                            BLOB_SIZE + " INTEGER NOT NULL, " +
+                            BLOB_REF_COUNT + " INTEGER NOT NULL DEFAULT 0" +
+                        ")"
+        );
+
+        database.execSQL(
+                "CREATE TABLE IF NOT EXISTS " + TABLE_STICKER_BLOB_REF +
+                        " (" +
+                            FK_STICKER_PACK + " TEXT NOT NULL, " +
+                            STICKER_FILE_NAME_IN_QUERY + " VARCHAR(255) NOT NULL, " +
+                            FK_BLOB_HASH + " TEXT NOT NULL, " +
+                            "PRIMARY KEY(" + FK_STICKER_PACK + ", " + STICKER_FILE_NAME_IN_QUERY + "), " +
+                            "FOREIGN KEY(" + FK_BLOB_HASH + ") REFERENCES " + TABLE_STICKER_BLOB + "(" + BLOB_HASH + ")" +
+                        ")"
+        );
+
+        database.execSQL(
+                "CREATE TRIGGER IF NOT EXISTS " + TRIGGER_BLOB_REF_INSERT +
+                        " AFTER INSERT ON " + TABLE_STICKER_BLOB_REF +
+                        " BEGIN " +
+                            "UPDATE " + TABLE_STICKER_BLOB + " SET " + BLOB_REF_COUNT + " = " + BLOB_REF_COUNT + " + 1" +
+                            " WHERE " + BLOB_HASH + " = NEW." + FK_BLOB_HASH + ";" +
+                        " END"
+        );
+
+        database.execSQL(
+                "CREATE TRIGGER IF NOT EXISTS " + TRIGGER_BLOB_REF_DELETE +
+                        " AFTER DELETE ON " + TABLE_STICKER_BLOB_REF +
+                        " BEGIN " +
+                            "UPDATE " + TABLE_STICKER_BLOB + " SET " + BLOB_REF_COUNT + " = " + BLOB_REF_COUNT + " - 1" +
+                            " WHERE " + BLOB_HASH + " = OLD." + FK_BLOB_HASH + ";" +
+                        " END"
+        );
+
+        database.execSQL(
+                "CREATE TRIGGER IF NOT EXISTS " + TRIGGER_BLOB_REF_UPDATE +
+                        " AFTER UPDATE OF " + FK_BLOB_HASH + " ON " + TABLE_STICKER_BLOB_REF +
+                        " BEGIN " +
+                            "UPDATE " + TABLE_STICKER_BLOB + " SET " + BLOB_REF_COUNT + " = " + BLOB_REF_COUNT + " - 1" +
+                            " WHERE " + BLOB_HASH + " = OLD." + FK_BLOB_HASH + ";" +
+                            " UPDATE " + TABLE_STICKER_BLOB + " SET " + BLOB_REF_COUNT + " = " + BLOB_REF_COUNT + " + 1" +
+                            " WHERE " + BLOB_HASH + " = NEW." + FK_BLOB_HASH + ";" +
+                        " END"
+        );
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Coluna nula nas figurinhas já gravadas; sem a data de modificação os metadados delas não dispensam a leitura do arquivo.
+public class StickerFileLastModifiedMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 10;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL("ALTER TABLE " + TABLE_STICKER + " ADD COLUMN " + STICKER_FILE_LAST_MODIFIED + " INTEGER");
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_VALIDATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_CRC32;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_OUTCOME;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_RULES_VERSION;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Linhas antigas ficam com versão de regras 0 e são revalidadas na próxima varredura, já gravando o CRC32.
+public class StickerFingerprintMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 4;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL("ALTER TABLE " + TABLE_STICKER_VALIDATION + " ADD COLUMN " + VALIDATION_CRC32 + " INTEGER");
+        database.execSQL("ALTER TABLE " + TABLE_STICKER_VALIDATION + " ADD COLUMN " + VALIDATION_OUTCOME + " TEXT");
+        database.execSQL("ALTER TABLE " + TABLE_STICKER_VALIDATION + " ADD COLUMN " + VALIDATION_RULES_VERSION + " INTEGER NOT NULL DEFAULT 0");
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.INDEX_STICKER_PACK_FILE_NAME;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: O índice composto também atende as consultas só por fk_sticker_pack (prefixo do índice),
+// então não é criado um índice separado para a chave estrangeira.
+public class StickerIndexMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL("CREATE INDEX IF NOT EXISTS " + INDEX_STICKER_PACK_FILE_NAME +
+                " ON " + TABLE_STICKER + " (" + FK_STICKER_PACK + ", " + STICKER_FILE_NAME_IN_QUERY + ")");
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_DURATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FRAME_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_HEIGHT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_WIDTH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Colunas nulas para figurinhas salvas antes desta versão, preenchidas quando o arquivo for salvo ou redimensionado de novo.
+public class StickerMediaMetadataMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 5;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL("ALTER TABLE " + TABLE_STICKER + " ADD COLUMN " + STICKER_FILE_SIZE + " INTEGER");
+        database.execSQL("ALTER TABLE " + TABLE_STICKER + " ADD COLUMN " + STICKER_WIDTH + " INTEGER");
+        database.execSQL("ALTER TABLE " + TABLE_STICKER + " ADD COLUMN " + STICKER_HEIGHT + " INTEGER");
+        database.execSQL("ALTER TABLE " + TABLE_STICKER + " ADD COLUMN " + STICKER_FRAME_COUNT + " INTEGER");
+        database.execSQL("ALTER TABLE " + TABLE_STICKER + " ADD COLUMN " + STICKER_DURATION + " INTEGER");
+    }
+}
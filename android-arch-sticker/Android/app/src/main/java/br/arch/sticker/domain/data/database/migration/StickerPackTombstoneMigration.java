@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK_TOMBSTONE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_CREATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_PACK_IDENTIFIER;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Sem chave estrangeira: a lápide é gravada junto com a remoção da linha do pacote e vive até os arquivos serem apagados.
+// @formatter:off
+public class StickerPackTombstoneMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 8;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        database.execSQL(
+                "CREATE TABLE IF NOT EXISTS " + TABLE_STICKER_PACK_TOMBSTONE +
+                        " (" +
+                            TOMBSTONE_PACK_IDENTIFIER + " TEXT PRIMARY KEY, " +
+                            TOMBSTONE_CREATED_AT + " INTEGER NOT NULL" +
+                        ")"
+        );
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.migration;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_VALIDATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_ANIMATED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_FILE_LENGTH;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+// @formatter:off
+public class StickerValidationMigration implements DatabaseMigration {
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase database) {
+        String fkStickerValidation = String.format(
+                "FOREIGN KEY(%s) REFERENCES %s(%s) ON DELETE CASCADE",
+                FK_STICKER_PACK,
+                TABLE_STICKER_PACK,
+                STICKER_PACK_IDENTIFIER_IN_QUERY
+        );
+
+        database.execSQL(
+                "CREATE TABLE IF NOT EXISTS " + TABLE_STICKER_VALIDATION +
+                        " (" +
+                            FK_STICKER_PACK + " TEXT NOT NULL, " +
+                            STICKER_FILE_NAME_IN_QUERY + " VARCHAR(255) NOT NULL, " +
+                            VALIDATION_FILE_LENGTH + " INTEGER NOT NULL, " +
+                            VALIDATION_FILE_LAST_MODIFIED + " INTEGER NOT NULL, " +
+                            VALIDATION_ANIMATED + " CHAR(1) NOT NULL, " +
+                            "PRIMARY KEY(" + FK_STICKER_PACK + ", " + STICKER_FILE_NAME_IN_QUERY + "), " +
+                            fkStickerValidation +
+                        ")"
+        );
+    }
+}
@@ -15,6 +15,7 @@ import android.util.Log;
 import br.arch.sticker.core.error.code.DeleteErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.DeleteStickerException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 
 public class DeleteStickerPackRepo {
@@ -40,6 +41,7 @@ public class DeleteStickerPackRepo {
                 return CallbackResult.warning("Nenhum pacote foi deletado. Verifique se o ID está correto.");
             }
 
+            StickerMetadataSnapshot.invalidate();
             return CallbackResult.success(deleted);
         } catch (IllegalArgumentException | SQLiteException runtimeException) {
             Log.e(TAG_LOG, "Erro ao deletar pacote do banco: " +
@@ -11,6 +11,7 @@ import java.util.List;
 import br.arch.sticker.core.error.code.DeleteErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.DeleteStickerException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 
 public class DeleteStickerRepo {
@@ -31,7 +32,12 @@ public class DeleteStickerRepo {
             String query = StickerDatabaseHelper.FK_STICKER_PACK + " = ? AND " +
                     StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY + " = ?";
 
-            return database.delete(StickerDatabaseHelper.TABLE_STICKER, query, new String[]{stickerPackIdentifier, fileName});
+            int deleted = database.delete(StickerDatabaseHelper.TABLE_STICKER, query, new String[]{stickerPackIdentifier, fileName});
+            if (deleted > 0) {
+                StickerMetadataSnapshot.invalidate();
+            }
+
+            return deleted;
         } catch (IllegalArgumentException | SQLiteException exception) {
             Log.e(TAG_LOG, "Erro ao deletar sticker: " + exception.getMessage(), exception);
 
@@ -58,6 +64,7 @@ public class DeleteStickerRepo {
                 return CallbackResult.warning("Nenhum pacote foi deletado. Verifique se o ID está correto.");
             }
 
+            StickerMetadataSnapshot.invalidate();
             return CallbackResult.success(deleted);
         } catch (Exception exception) {
             Log.e(TAG_LOG,
@@ -11,35 +11,66 @@ package br.arch.sticker.domain.data.database.repository;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANDROID_APP_DOWNLOAD_LINK_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.AVOID_CACHE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IMAGE_DATA_VERSION;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IOS_APP_DOWNLOAD_LINK_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.LICENSE_AGREEMENT_WEBSITE;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PRIVACY_POLICY_WEBSITE;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_EMAIL;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_WEBSITE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_DURATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FRAME_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_HEIGHT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_WIDTH;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK;
 
 import android.content.ContentValues;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
 
 import br.arch.sticker.core.error.code.SaveErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
 
 public class InsertStickerPackRepo {
     private final static String TAG_LOG = InsertStickerPackRepo.class.getSimpleName();
 
+    private static final String INSERT_STICKER_PACK_SQL = "INSERT INTO " + TABLE_STICKER_PACK + " (" +
+            STICKER_PACK_IDENTIFIER_IN_QUERY + ", " + STICKER_PACK_NAME_IN_QUERY + ", " + STICKER_PACK_PUBLISHER_IN_QUERY + ", " +
+            STICKER_PACK_TRAY_IMAGE_IN_QUERY + ", " + PUBLISHER_EMAIL + ", " + PUBLISHER_WEBSITE + ", " + PRIVACY_POLICY_WEBSITE + ", " +
+            LICENSE_AGREEMENT_WEBSITE + ", " + ANIMATED_STICKER_PACK + ", " + IMAGE_DATA_VERSION + ", " + AVOID_CACHE + ", " +
+            ANDROID_APP_DOWNLOAD_LINK_IN_QUERY + ", " + IOS_APP_DOWNLOAD_LINK_IN_QUERY +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_STICKER_SQL = "INSERT INTO " + TABLE_STICKER + " (" +
+            STICKER_FILE_NAME_IN_QUERY + ", " + STICKER_FILE_EMOJI_IN_QUERY + ", " + STICKER_IS_VALID + ", " +
+            STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY + ", " + FK_STICKER_PACK + ", " + STICKER_FILE_SIZE + ", " + STICKER_WIDTH + ", " +
+            STICKER_HEIGHT + ", " + STICKER_FRAME_COUNT + ", " + STICKER_DURATION + ", " + STICKER_FILE_LAST_MODIFIED +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final SQLiteDatabase database;
 
     public InsertStickerPackRepo(SQLiteDatabase database) {
@@ -52,20 +83,40 @@ public class InsertStickerPackRepo {
             return CallbackResult.failure(new StickerPackSaveException("Pacote de figurinhas inválido ou identificador nulo.", SaveErrorCode.ERROR_PACK_SAVE_DB));
         }
 
-        try {
-            ContentValues stickerPackValues = writeStickerPackToContentValues(stickerPack);
-            long result = database.insert(TABLE_STICKER_PACK, null, stickerPackValues);
+        CallbackResult<List<StickerPack>> result = insertStickerPacks(Collections.singletonList(stickerPack));
+        if (result.isFailure()) {
+            return CallbackResult.failure(result.getError());
+        }
 
-            if (result != -1) {
-                for (Sticker sticker : stickerPack.getStickers()) {
-                    ContentValues stickerValues = InsertStickerRepo.writeStickerToContentValues(sticker);
-                    database.insert(TABLE_STICKER, null, stickerValues);
+        return CallbackResult.success(stickerPack);
+    }
+
+    // NOTE: Todos os pacotes e figurinhas entram em uma única transação, reaproveitando os mesmos statements compilados.
+    // Qualquer falha desfaz o lote inteiro.
+    @NonNull
+    public CallbackResult<List<StickerPack>> insertStickerPacks(List<StickerPack> stickerPackList) {
+        if (stickerPackList == null || stickerPackList.isEmpty()) {
+            return CallbackResult.failure(new StickerPackSaveException("Nenhum pacote de figurinhas para inserir.", SaveErrorCode.ERROR_PACK_SAVE_DB));
+        }
+
+        database.beginTransaction();
+        try (SQLiteStatement stickerPackStatement = database.compileStatement(INSERT_STICKER_PACK_SQL);
+             SQLiteStatement stickerStatement = database.compileStatement(INSERT_STICKER_SQL)) {
+            for (StickerPack stickerPack : stickerPackList) {
+                if (stickerPack == null || stickerPack.identifier == null) {
+                    return CallbackResult.failure(new StickerPackSaveException("Pacote de figurinhas inválido ou identificador nulo.", SaveErrorCode.ERROR_PACK_SAVE_DB));
                 }
 
-                return CallbackResult.success(stickerPack);
-            } else {
-                return CallbackResult.failure(new StickerPackSaveException("Erro ao inserir pacote.", SaveErrorCode.ERROR_PACK_SAVE_DB));
+                bindStickerPack(stickerPackStatement, stickerPack);
+                stickerPackStatement.executeInsert();
+
+                for (Sticker sticker : stickerPack.getStickers()) {
+                    bindSticker(stickerStatement, sticker);
+                    stickerStatement.executeInsert();
+                }
             }
+
+            database.setTransactionSuccessful();
         } catch (SQLiteException sqLiteException) {
             Log.e(TAG_LOG, "Erro de banco ao inserir pacote: " +
                     sqLiteException.getMessage(), sqLiteException);
@@ -76,6 +127,56 @@ public class InsertStickerPackRepo {
                     "Erro inesperado ao inserir pacote: " + exception.getMessage(), exception);
 
             return CallbackResult.failure(new StickerPackSaveException("Erro inesperado ao salvar pacote de figurinhas no banco de dados.", exception, SaveErrorCode.ERROR_PACK_SAVE_DB));
+        } finally {
+            database.endTransaction();
+        }
+
+        StickerMetadataSnapshot.invalidate();
+        return CallbackResult.success(stickerPackList);
+    }
+
+    private static void bindStickerPack(@NonNull SQLiteStatement statement, @NonNull StickerPack stickerPack) {
+        statement.clearBindings();
+        statement.bindString(1, stickerPack.identifier);
+        bindNullableString(statement, 2, stickerPack.name);
+        bindNullableString(statement, 3, stickerPack.publisher);
+        bindNullableString(statement, 4, stickerPack.trayImageFile);
+        bindNullableString(statement, 5, stickerPack.publisherEmail);
+        bindNullableString(statement, 6, stickerPack.publisherWebsite);
+        bindNullableString(statement, 7, stickerPack.privacyPolicyWebsite);
+        bindNullableString(statement, 8, stickerPack.licenseAgreementWebsite);
+        statement.bindLong(9, stickerPack.animatedStickerPack ? 1 : 0);
+        bindNullableString(statement, 10, stickerPack.imageDataVersion);
+        statement.bindLong(11, stickerPack.avoidCache ? 1 : 0);
+        bindNullableString(statement, 12, stickerPack.androidPlayStoreLink);
+        bindNullableString(statement, 13, stickerPack.iosAppStoreLink);
+    }
+
+    private static void bindSticker(@NonNull SQLiteStatement statement, @NonNull Sticker sticker) {
+        statement.clearBindings();
+        bindNullableString(statement, 1, sticker.imageFileName);
+        // NOTE: Coluna NOT NULL; sem emoji grava vazio, que o StickerRowMapper lê de volta como null
+        statement.bindString(2, sticker.emojis != null ? sticker.emojis : "");
+        bindNullableString(statement, 3, sticker.stickerIsValid);
+        bindNullableString(statement, 4, sticker.accessibilityText);
+        bindNullableString(statement, 5, sticker.uuidPack);
+
+        final StickerMediaMetadata mediaMetadata = sticker.getMediaMetadata();
+        if (mediaMetadata != null) {
+            statement.bindLong(6, mediaMetadata.size());
+            statement.bindLong(7, mediaMetadata.width());
+            statement.bindLong(8, mediaMetadata.height());
+            statement.bindLong(9, mediaMetadata.frameCount());
+            statement.bindLong(10, mediaMetadata.duration());
+            statement.bindLong(11, mediaMetadata.lastModified());
+        }
+    }
+
+    private static void bindNullableString(@NonNull SQLiteStatement statement, int index, @Nullable String value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else {
+            statement.bindString(index, value);
         }
     }
 
@@ -1,10 +1,16 @@
 package br.arch.sticker.domain.data.database.repository;
 
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_DURATION;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_LAST_MODIFIED;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FRAME_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_HEIGHT;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_WIDTH;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
 
 import android.content.ContentValues;
@@ -18,7 +24,9 @@ import br.arch.sticker.core.error.code.SaveErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.FetchStickerPackException;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
 
 public class InsertStickerRepo {
     private final static String TAG_LOG = InsertStickerRepo.class.getSimpleName();
@@ -39,6 +47,7 @@ public class InsertStickerRepo {
         try {
             ContentValues stickerValues = writeStickerToContentValues(sticker);
             database.insert(TABLE_STICKER, null, stickerValues);
+            StickerMetadataSnapshot.invalidate();
 
             return CallbackResult.success(sticker);
         } catch (SQLiteException sqLiteException) {
@@ -58,11 +67,21 @@ public class InsertStickerRepo {
     public static ContentValues writeStickerToContentValues(Sticker sticker) {
         ContentValues stickerValues = new ContentValues();
         stickerValues.put(STICKER_FILE_NAME_IN_QUERY, sticker.imageFileName);
-        stickerValues.put(STICKER_FILE_EMOJI_IN_QUERY, String.valueOf(sticker.emojis));
+        stickerValues.put(STICKER_FILE_EMOJI_IN_QUERY, sticker.emojis != null ? sticker.emojis : "");
         stickerValues.put(STICKER_IS_VALID, sticker.stickerIsValid);
         stickerValues.put(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY, sticker.accessibilityText);
         stickerValues.put(FK_STICKER_PACK, sticker.uuidPack);
 
+        final StickerMediaMetadata mediaMetadata = sticker.getMediaMetadata();
+        if (mediaMetadata != null) {
+            stickerValues.put(STICKER_FILE_SIZE, mediaMetadata.size());
+            stickerValues.put(STICKER_WIDTH, mediaMetadata.width());
+            stickerValues.put(STICKER_HEIGHT, mediaMetadata.height());
+            stickerValues.put(STICKER_FRAME_COUNT, mediaMetadata.frameCount());
+            stickerValues.put(STICKER_DURATION, mediaMetadata.duration());
+            stickerValues.put(STICKER_FILE_LAST_MODIFIED, mediaMetadata.lastModified());
+        }
+
         return stickerValues;
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.repository;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_PACK_IDENTIFIER;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_STATE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.JOURNAL_UPDATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_SAVE_JOURNAL;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import br.arch.sticker.domain.dto.SaveJournalState;
+
+public class SaveJournalRepo {
+    private final static String TAG_LOG = SaveJournalRepo.class.getSimpleName();
+
+    private final SQLiteDatabase database;
+
+    public SaveJournalRepo(SQLiteDatabase database) {
+        this.database = database;
+    }
+
+    public boolean writeState(@NonNull String stickerPackIdentifier, @NonNull SaveJournalState state) {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(JOURNAL_PACK_IDENTIFIER, stickerPackIdentifier);
+        contentValues.put(JOURNAL_STATE, state.name());
+        contentValues.put(JOURNAL_UPDATED_AT, System.currentTimeMillis());
+
+        try {
+            return database.insertWithOnConflict(TABLE_SAVE_JOURNAL, null, contentValues, SQLiteDatabase.CONFLICT_REPLACE) != -1;
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao gravar estado do salvamento: " + exception.getMessage(), exception);
+            return false;
+        }
+    }
+
+    @Nullable
+    public SaveJournalState getState(@NonNull String stickerPackIdentifier) {
+        try (Cursor cursor = database.query(TABLE_SAVE_JOURNAL, new String[]{JOURNAL_STATE}, JOURNAL_PACK_IDENTIFIER + " = ?",
+                new String[]{stickerPackIdentifier}, null, null, null)) {
+            return cursor.moveToFirst() ? SaveJournalState.valueOf(cursor.getString(0)) : null;
+        } catch (SQLException | IllegalStateException | IllegalArgumentException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar estado do salvamento: " + exception.getMessage(), exception);
+            return null;
+        }
+    }
+
+    // NOTE: Identificador -> estado das entradas gravadas antes de updatedBefore
+    @NonNull
+    public Map<String, SaveJournalState> getEntriesUpdatedBefore(long updatedBefore) {
+        Map<String, SaveJournalState> entries = new LinkedHashMap<>();
+
+        try (Cursor cursor = database.query(TABLE_SAVE_JOURNAL, new String[]{JOURNAL_PACK_IDENTIFIER, JOURNAL_STATE}, JOURNAL_UPDATED_AT + " < ?",
+                new String[]{String.valueOf(updatedBefore)}, null, null, null)) {
+            while (cursor.moveToNext()) {
+                try {
+                    entries.put(cursor.getString(0), SaveJournalState.valueOf(cursor.getString(1)));
+                } catch (IllegalArgumentException exception) {
+                    // NOTE: Estado desconhecido é tratado como o passo mais antigo, para desfazer tudo
+                    entries.put(cursor.getString(0), SaveJournalState.INTENT);
+                }
+            }
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar salvamentos incompletos: " + exception.getMessage(), exception);
+        }
+
+        return entries;
+    }
+
+    public int deleteEntry(@NonNull String stickerPackIdentifier) {
+        try {
+            return database.delete(TABLE_SAVE_JOURNAL, JOURNAL_PACK_IDENTIFIER + " = ?", new String[]{stickerPackIdentifier});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao remover entrada do salvamento: " + exception.getMessage(), exception);
+            return 0;
+        }
+    }
+}
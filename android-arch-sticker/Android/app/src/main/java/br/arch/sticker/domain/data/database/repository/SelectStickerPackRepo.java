@@ -9,7 +9,6 @@
 package br.arch.sticker.domain.data.database.repository;
 
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
 
 import android.database.Cursor;
@@ -30,104 +29,143 @@ public class SelectStickerPackRepo {
             this.database = database;
         }
 
-    public Cursor getAllStickerPacks() {
-        try{
+    public  Cursor getStickerPackIsAnimated(String stickerPackIdentifier) {
+        String query =
+                "SELECT DISTINCT " +
+                        StickerDatabaseHelper.TABLE_STICKER_PACK + "." + ANIMATED_STICKER_PACK +
+                    " FROM " +
+                        StickerDatabaseHelper.TABLE_STICKER_PACK +
+                    " WHERE " +
+                        StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ? " + ";";
+
+
+        return database.rawQuery(query, new String[]{stickerPackIdentifier});
+    }
+
+    public  Cursor getStickerByStickerPackIdentifier(String stickerPackIdentifier) {
+        try {
             String query =
-                    "SELECT DISTINCT " +
-                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".*, " + TABLE_STICKER + ".* " +
-                    "FROM " +
-                            StickerDatabaseHelper.TABLE_STICKER_PACK +
-                    " INNER JOIN " +
+                    "SELECT * FROM " +
                             TABLE_STICKER +
-                    " ON " +
-                            StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = " + TABLE_STICKER + "." + StickerDatabaseHelper.FK_STICKER_PACK;
+                    " WHERE " +
+                            StickerDatabaseHelper.FK_STICKER_PACK + " = " +
+                            "(" +
+                                "SELECT " +
+                                    StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY +
+                                " FROM " +
+                                    StickerDatabaseHelper.TABLE_STICKER_PACK +
+                                " WHERE " +
+                                    StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?" +
+                            ")";
 
-            return database.rawQuery(query, null);
+            return database.rawQuery(query, new String[]{stickerPackIdentifier});
         } catch (SQLException | IllegalStateException exception) {
-            Log.e(TAG_LOG, "Erro ao executar getAllStickerPacks: " + exception.getMessage(), exception);
+            Log.e(TAG_LOG, "Erro ao executar getStickerByStickerPackIdentifier: " + exception.getMessage(), exception);
             return null;
         }
     }
 
-    public  Cursor getStickerPackByIdentifier(String stickerPackIdentifier) {
+    public Cursor getAllStickerPackRowsOrderedByRowId() {
         try {
             String query =
-                "SELECT DISTINCT " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK + ".*, " + TABLE_STICKER + ".* " +
-                "FROM " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK + " " +
-                "INNER JOIN " +
-                        TABLE_STICKER +
-                " ON " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = " + TABLE_STICKER + "." + StickerDatabaseHelper.FK_STICKER_PACK + " " +
-                "WHERE " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?";
-
-             return database.rawQuery(query, new String[]{stickerPackIdentifier});
+                    "SELECT " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid AS " + StickerDatabaseHelper.STICKER_PACK_ROW_ID_IN_QUERY + ", *" +
+                    " FROM " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK +
+                    " ORDER BY " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid";
+
+            return database.rawQuery(query, null);
         } catch (SQLException | IllegalStateException exception) {
-            Log.e(TAG_LOG, "Erro ao executar getFilteredStickerPackByIdentifier: " + exception.getMessage(), exception);
+            Log.e(TAG_LOG, "Erro ao executar getAllStickerPackRowsOrderedByRowId: " + exception.getMessage(), exception);
             return null;
         }
     }
 
-    public  Cursor getFilteredStickerPackByIdentifier(String stickerPackIdentifier) {
+    // NOTE: Paginação por chave (keyset) sobre o rowid: a próxima página começa depois do último rowid recebido, sem OFFSET.
+    // O rowid só cresce, então um pacote salvo durante a rolagem entra no fim da lista em vez de cair antes do cursor.
+    public Cursor getStickerPackRowsAfterRowId(long afterRowId, int limit) {
         try {
             String query =
-                    "SELECT DISTINCT " +
-                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".*, " + TABLE_STICKER + ".*" +
-                        " FROM " +
+                    "SELECT " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid AS " + StickerDatabaseHelper.STICKER_PACK_ROW_ID_IN_QUERY + ", *" +
+                    " FROM " +
                             StickerDatabaseHelper.TABLE_STICKER_PACK +
-                        " INNER JOIN " +
-                            TABLE_STICKER +
-                        " ON " +
-                            StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = " + TABLE_STICKER + "." + StickerDatabaseHelper.FK_STICKER_PACK  +
-                        " WHERE " +
-                            StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?" +
-                        " AND (" +
-                                TABLE_STICKER + "." + STICKER_IS_VALID + " IS NULL OR " +
-                                TABLE_STICKER + "." + STICKER_IS_VALID + " = ''" +
-                            ");";
-
+                    " WHERE " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid > ?" +
+                    " ORDER BY " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid" +
+                    " LIMIT ?";
 
-            return database.rawQuery(query, new String[]{stickerPackIdentifier});
+            return database.rawQuery(query, new String[]{String.valueOf(afterRowId), String.valueOf(limit)});
         } catch (SQLException | IllegalStateException exception) {
-            Log.e(TAG_LOG, "Erro ao executar getStickerPackIsAnimated: " + exception.getMessage(), exception);
+            Log.e(TAG_LOG, "Erro ao executar getStickerPackRowsAfterRowId: " + exception.getMessage(), exception);
             return null;
         }
     }
 
-    public  Cursor getStickerPackIsAnimated(String stickerPackIdentifier) {
-        String query =
-                "SELECT DISTINCT " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK + "." + ANIMATED_STICKER_PACK +
+    // NOTE: Faixa fechada de rowids da página; cada pacote da faixa busca as figurinhas pelo índice (fk_sticker_pack, sticker_file_name)
+    public Cursor getStickersInStickerPackRowIdRange(long firstRowId, long lastRowId) {
+        try {
+            String query =
+                    "SELECT " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid AS " + StickerDatabaseHelper.STICKER_PACK_ROW_ID_IN_QUERY + ", " +
+                            TABLE_STICKER + ".*" +
                     " FROM " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK +
+                            TABLE_STICKER +
+                    " INNER JOIN " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK +
+                    " ON " +
+                            TABLE_STICKER + "." + StickerDatabaseHelper.FK_STICKER_PACK + " = " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY +
                     " WHERE " +
-                        StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ? " + ";";
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid BETWEEN ? AND ?" +
+                    " ORDER BY " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid, " + TABLE_STICKER + "." + StickerDatabaseHelper.ID_STICKER;
 
-
-        return database.rawQuery(query, new String[]{stickerPackIdentifier});
+            return database.rawQuery(query, new String[]{String.valueOf(firstRowId), String.valueOf(lastRowId)});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao executar getStickersInStickerPackRowIdRange: " + exception.getMessage(), exception);
+            return null;
+        }
     }
 
-    public  Cursor getStickerByStickerPackIdentifier(String stickerPackIdentifier) {
+    public Cursor getStickerPackRowByIdentifier(String stickerPackIdentifier) {
         try {
             String query =
                     "SELECT * FROM " +
-                            TABLE_STICKER +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK +
                     " WHERE " +
-                            StickerDatabaseHelper.FK_STICKER_PACK + " = " +
-                            "(" +
-                                "SELECT " +
-                                    StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY +
-                                " FROM " +
-                                    StickerDatabaseHelper.TABLE_STICKER_PACK +
-                                " WHERE " +
-                                    StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?" +
-                            ")";
+                            StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY + " = ?";
 
             return database.rawQuery(query, new String[]{stickerPackIdentifier});
         } catch (SQLException | IllegalStateException exception) {
-            Log.e(TAG_LOG, "Erro ao executar getStickerByStickerPackIdentifier: " + exception.getMessage(), exception);
+            Log.e(TAG_LOG, "Erro ao executar getStickerPackRowByIdentifier: " + exception.getMessage(), exception);
+            return null;
+        }
+    }
+
+    // NOTE: Figurinhas na mesma ordem de getAllStickerPackRowsOrderedByRowId, com o rowid do pacote para o merge.
+    // Figurinhas sem pacote ficam de fora pelo JOIN.
+    public Cursor getAllStickersOrderedByStickerPack() {
+        try {
+            String query =
+                    "SELECT " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid AS " + StickerDatabaseHelper.STICKER_PACK_ROW_ID_IN_QUERY + ", " +
+                            TABLE_STICKER + ".*" +
+                    " FROM " +
+                            TABLE_STICKER +
+                    " INNER JOIN " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK +
+                    " ON " +
+                            TABLE_STICKER + "." + StickerDatabaseHelper.FK_STICKER_PACK + " = " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + "." + StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY +
+                    " ORDER BY " +
+                            StickerDatabaseHelper.TABLE_STICKER_PACK + ".rowid, " + TABLE_STICKER + "." + StickerDatabaseHelper.ID_STICKER;
+
+            return database.rawQuery(query, null);
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao executar getAllStickersOrderedByStickerPack: " + exception.getMessage(), exception);
             return null;
         }
     }
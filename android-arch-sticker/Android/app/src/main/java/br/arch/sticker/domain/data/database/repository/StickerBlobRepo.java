@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.repository;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_HASH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_REF_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.BLOB_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_BLOB_HASH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_BLOB_REF;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StickerBlobRepo {
+    private final static String TAG_LOG = StickerBlobRepo.class.getSimpleName();
+
+    private final SQLiteDatabase database;
+
+    public StickerBlobRepo(SQLiteDatabase database) {
+        this.database = database;
+    }
+
+    // NOTE: Sem INSERT OR REPLACE na referência: o REPLACE apaga a linha sem disparar o trigger de DELETE e a contagem sairia errada
+    public boolean upsertBlobReference(String stickerPackIdentifier, String fileName, @NonNull String blobHash, long blobSize) {
+        database.beginTransaction();
+        try {
+            ContentValues blobValues = new ContentValues();
+            blobValues.put(BLOB_HASH, blobHash);
+            blobValues.put(BLOB_SIZE, blobSize);
+            database.insertWithOnConflict(TABLE_STICKER_BLOB, null, blobValues, SQLiteDatabase.CONFLICT_IGNORE);
+
+            ContentValues refValues = new ContentValues();
+            refValues.put(FK_BLOB_HASH, blobHash);
+
+            int updated = database.update(TABLE_STICKER_BLOB_REF, refValues,
+                    FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ? AND " + FK_BLOB_HASH + " != ?",
+                    new String[]{stickerPackIdentifier, fileName, blobHash});
+
+            if (updated == 0) {
+                refValues.put(FK_STICKER_PACK, stickerPackIdentifier);
+                refValues.put(STICKER_FILE_NAME_IN_QUERY, fileName);
+                database.insertWithOnConflict(TABLE_STICKER_BLOB_REF, null, refValues, SQLiteDatabase.CONFLICT_IGNORE);
+            }
+
+            database.setTransactionSuccessful();
+            return true;
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao registrar referência do blob: " + exception.getMessage(), exception);
+            return false;
+        } finally {
+            database.endTransaction();
+        }
+    }
+
+    @Nullable
+    public String getBlobHash(String stickerPackIdentifier, String fileName) {
+        try (Cursor cursor = database.query(TABLE_STICKER_BLOB_REF, new String[]{FK_BLOB_HASH},
+                FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?", new String[]{stickerPackIdentifier, fileName}, null, null,
+                null, "1")) {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar blob da figurinha: " + exception.getMessage(), exception);
+            return null;
+        }
+    }
+
+    public int deleteBlobReference(String stickerPackIdentifier, String fileName) {
+        try {
+            return database.delete(TABLE_STICKER_BLOB_REF, FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?",
+                    new String[]{stickerPackIdentifier, fileName});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao liberar referência do blob: " + exception.getMessage(), exception);
+            return 0;
+        }
+    }
+
+    public int deleteBlobReferencesByPack(String stickerPackIdentifier) {
+        try {
+            return database.delete(TABLE_STICKER_BLOB_REF, FK_STICKER_PACK + " = ?", new String[]{stickerPackIdentifier});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao liberar referências do pacote: " + exception.getMessage(), exception);
+            return 0;
+        }
+    }
+
+    // NOTE: Hash -> tamanho dos blobs que nenhum pacote referencia mais
+    @NonNull
+    public Map<String, Long> getUnreferencedBlobs() {
+        Map<String, Long> unreferencedBlobs = new LinkedHashMap<>();
+
+        try (Cursor cursor = database.query(TABLE_STICKER_BLOB, new String[]{BLOB_HASH, BLOB_SIZE}, BLOB_REF_COUNT + " <= 0", null, null, null,
+                null)) {
+            while (cursor.moveToNext()) {
+                unreferencedBlobs.put(cursor.getString(0), cursor.getLong(1));
+            }
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar blobs sem referência: " + exception.getMessage(), exception);
+        }
+
+        return unreferencedBlobs;
+    }
+
+    // NOTE: Só apaga se continuar sem referência, uma figurinha salva entre a busca e a remoção mantém o blob
+    public boolean deleteUnreferencedBlob(String blobHash) {
+        try {
+            return database.delete(TABLE_STICKER_BLOB, BLOB_HASH + " = ? AND " + BLOB_REF_COUNT + " <= 0", new String[]{blobHash}) > 0;
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao remover blob: " + exception.getMessage(), exception);
+            return false;
+        }
+    }
+}
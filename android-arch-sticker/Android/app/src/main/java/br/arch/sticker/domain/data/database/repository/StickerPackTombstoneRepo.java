@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.repository;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_PACK_TOMBSTONE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_CREATED_AT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TOMBSTONE_PACK_IDENTIFIER;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StickerPackTombstoneRepo {
+    private final static String TAG_LOG = StickerPackTombstoneRepo.class.getSimpleName();
+
+    private final SQLiteDatabase database;
+
+    public StickerPackTombstoneRepo(SQLiteDatabase database) {
+        this.database = database;
+    }
+
+    public boolean insertTombstone(@NonNull String stickerPackIdentifier) {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(TOMBSTONE_PACK_IDENTIFIER, stickerPackIdentifier);
+        contentValues.put(TOMBSTONE_CREATED_AT, System.currentTimeMillis());
+
+        try {
+            return database.insertWithOnConflict(TABLE_STICKER_PACK_TOMBSTONE, null, contentValues, SQLiteDatabase.CONFLICT_IGNORE) != -1
+                    || hasTombstone(stickerPackIdentifier);
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao gravar lápide do pacote: " + exception.getMessage(), exception);
+            return false;
+        }
+    }
+
+    // NOTE: Lápides mais antigas primeiro, para um lote interrompido ser retomado do mesmo ponto
+    @NonNull
+    public List<String> getTombstones(int limit) {
+        List<String> stickerPackIdentifiers = new ArrayList<>();
+
+        try (Cursor cursor = database.query(TABLE_STICKER_PACK_TOMBSTONE, new String[]{TOMBSTONE_PACK_IDENTIFIER}, null, null, null, null,
+                TOMBSTONE_CREATED_AT + " ASC", String.valueOf(limit))) {
+            while (cursor.moveToNext()) {
+                stickerPackIdentifiers.add(cursor.getString(0));
+            }
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar lápides: " + exception.getMessage(), exception);
+        }
+
+        return stickerPackIdentifiers;
+    }
+
+    public int deleteTombstone(@NonNull String stickerPackIdentifier) {
+        try {
+            return database.delete(TABLE_STICKER_PACK_TOMBSTONE, TOMBSTONE_PACK_IDENTIFIER + " = ?", new String[]{stickerPackIdentifier});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao remover lápide do pacote: " + exception.getMessage(), exception);
+            return 0;
+        }
+    }
+
+    private boolean hasTombstone(@NonNull String stickerPackIdentifier) {
+        try (Cursor cursor = database.query(TABLE_STICKER_PACK_TOMBSTONE, new String[]{TOMBSTONE_PACK_IDENTIFIER},
+                TOMBSTONE_PACK_IDENTIFIER + " = ?", new String[]{stickerPackIdentifier}, null, null, null)) {
+            return cursor.moveToFirst();
+        }
+    }
+}
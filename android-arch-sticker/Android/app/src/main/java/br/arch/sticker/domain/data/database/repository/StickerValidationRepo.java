@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.data.database.repository;
+
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER_VALIDATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_ANIMATED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_CRC32;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_FILE_LAST_MODIFIED;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_FILE_LENGTH;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_OUTCOME;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.VALIDATION_RULES_VERSION;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import br.arch.sticker.domain.dto.StickerFileStat;
+
+public class StickerValidationRepo {
+    private final static String TAG_LOG = StickerValidationRepo.class.getSimpleName();
+
+    private final SQLiteDatabase database;
+
+    public StickerValidationRepo(SQLiteDatabase database) {
+        this.database = database;
+    }
+
+    // NOTE: Só conta como validada a última validação sem erro, feita com a mesma versão das regras
+    public boolean isStickerValidated(
+            String stickerPackIdentifier, String fileName, @NonNull StickerFileStat stickerFileStat, boolean animatedStickerPack,
+            int rulesVersion) {
+        String selection = FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ? AND " +
+                VALIDATION_FILE_LENGTH + " = ? AND " + VALIDATION_FILE_LAST_MODIFIED + " = ? AND " +
+                VALIDATION_ANIMATED + " = ? AND " + VALIDATION_RULES_VERSION + " = ? AND " + VALIDATION_OUTCOME + " IS NULL";
+        String[] selectionArgs = {stickerPackIdentifier, fileName, String.valueOf(stickerFileStat.length()),
+                String.valueOf(stickerFileStat.lastModified()), animatedStickerPack ? "1" : "0", String.valueOf(rulesVersion)};
+
+        try (Cursor cursor = database.query(TABLE_STICKER_VALIDATION, new String[]{FK_STICKER_PACK}, selection, selectionArgs, null, null, null,
+                "1")) {
+            return cursor.moveToFirst();
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar validação da figurinha: " + exception.getMessage(), exception);
+            return false;
+        }
+    }
+
+    // NOTE: CRC32 da última validação sem erro com o mesmo tamanho de arquivo, ignorando a data de modificação
+    @Nullable
+    public Long getValidatedChecksum(
+            String stickerPackIdentifier, String fileName, long fileLength, boolean animatedStickerPack, int rulesVersion) {
+        String selection = FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ? AND " +
+                VALIDATION_FILE_LENGTH + " = ? AND " + VALIDATION_ANIMATED + " = ? AND " + VALIDATION_RULES_VERSION + " = ? AND " +
+                VALIDATION_OUTCOME + " IS NULL AND " + VALIDATION_CRC32 + " IS NOT NULL";
+        String[] selectionArgs = {stickerPackIdentifier, fileName, String.valueOf(fileLength), animatedStickerPack ? "1" : "0",
+                String.valueOf(rulesVersion)};
+
+        try (Cursor cursor = database.query(TABLE_STICKER_VALIDATION, new String[]{VALIDATION_CRC32}, selection, selectionArgs, null, null, null,
+                "1")) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : null;
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao buscar CRC32 da figurinha: " + exception.getMessage(), exception);
+            return null;
+        }
+    }
+
+    public boolean upsertStickerValidation(
+            String stickerPackIdentifier, String fileName, @NonNull StickerFileStat stickerFileStat, boolean animatedStickerPack, long crc32,
+            int rulesVersion, @Nullable String outcome) {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(FK_STICKER_PACK, stickerPackIdentifier);
+        contentValues.put(STICKER_FILE_NAME_IN_QUERY, fileName);
+        contentValues.put(VALIDATION_FILE_LENGTH, stickerFileStat.length());
+        contentValues.put(VALIDATION_FILE_LAST_MODIFIED, stickerFileStat.lastModified());
+        contentValues.put(VALIDATION_ANIMATED, animatedStickerPack ? 1 : 0);
+        contentValues.put(VALIDATION_CRC32, crc32);
+        contentValues.put(VALIDATION_RULES_VERSION, rulesVersion);
+        contentValues.put(VALIDATION_OUTCOME, outcome);
+
+        try {
+            return database.insertWithOnConflict(TABLE_STICKER_VALIDATION, null, contentValues, SQLiteDatabase.CONFLICT_REPLACE) != -1;
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao salvar validação da figurinha: " + exception.getMessage(), exception);
+            return false;
+        }
+    }
+
+    public int deleteStickerValidation(String stickerPackIdentifier, String fileName) {
+        try {
+            return database.delete(TABLE_STICKER_VALIDATION, FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?",
+                    new String[]{stickerPackIdentifier, fileName});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao invalidar validação da figurinha: " + exception.getMessage(), exception);
+            return 0;
+        }
+    }
+
+    public int deleteStickerValidationByPack(String stickerPackIdentifier) {
+        try {
+            return database.delete(TABLE_STICKER_VALIDATION, FK_STICKER_PACK + " = ?", new String[]{stickerPackIdentifier});
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG, "Erro ao invalidar validações do pacote: " + exception.getMessage(), exception);
+            return 0;
+        }
+    }
+}
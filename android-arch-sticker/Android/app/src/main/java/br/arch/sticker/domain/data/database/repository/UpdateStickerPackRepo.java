@@ -24,6 +24,8 @@ import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
 import android.util.Log;
 
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
+
 public class UpdateStickerPackRepo {
     private final static String TAG_LOG = UpdateStickerPackRepo.class.getSimpleName();
 
@@ -47,6 +49,10 @@ public class UpdateStickerPackRepo {
                 Log.w(TAG_LOG, "Nenhum registro atualizado ao renomear pacote de figurinhas.");
             }
 
+            if (rowsUpdated > 0) {
+                StickerMetadataSnapshot.invalidate();
+            }
+
             return rowsUpdated > 0;
         } catch (SQLException | IllegalStateException exception) {
             Log.e(TAG_LOG, "Erro ao atualizar nome do pacote de figurinhas: " +
@@ -75,6 +81,10 @@ public class UpdateStickerPackRepo {
                 Log.w(TAG_LOG, "Nenhum registro atualizado ao dar clean pacote de figurinhas.");
             }
 
+            if (rowsUpdated > 0) {
+                StickerMetadataSnapshot.invalidate();
+            }
+
             return rowsUpdated > 0;
         } catch (SQLException | IllegalStateException exception) {
             Log.e(TAG_LOG, "Erro ao dar clean nas URL do pacote de figurinhas: " +
@@ -1,15 +1,30 @@
 package br.arch.sticker.domain.data.database.repository;
 
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.FK_STICKER_PACK;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_DURATION;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_LAST_MODIFIED;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_SIZE;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FRAME_COUNT;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_HEIGHT;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
+import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_WIDTH;
 import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.TABLE_STICKER;
 
 import android.content.ContentValues;
 import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 import android.util.Log;
 
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
+import br.arch.sticker.domain.dto.InvalidStickerUpdate;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+
 public class UpdateStickerRepo {
     private final static String TAG_LOG = UpdateStickerRepo.class.getSimpleName();
 
@@ -20,11 +35,28 @@ public class UpdateStickerRepo {
     }
 
 
-    public boolean updateStickerFileName(String stickerPackIdentifier, String newFileName, String oldFileName) {
+    public boolean updateStickerFileName(
+            String stickerPackIdentifier, String newFileName, String oldFileName, @Nullable StickerMediaMetadata mediaMetadata) {
         ContentValues contentValues = new ContentValues();
         contentValues.put(STICKER_FILE_NAME_IN_QUERY, newFileName);
         contentValues.put(STICKER_IS_VALID, ""); // NOTE: Retirar o erro
 
+        if (mediaMetadata != null) {
+            contentValues.put(STICKER_FILE_SIZE, mediaMetadata.size());
+            contentValues.put(STICKER_WIDTH, mediaMetadata.width());
+            contentValues.put(STICKER_HEIGHT, mediaMetadata.height());
+            contentValues.put(STICKER_FRAME_COUNT, mediaMetadata.frameCount());
+            contentValues.put(STICKER_DURATION, mediaMetadata.duration());
+            contentValues.put(STICKER_FILE_LAST_MODIFIED, mediaMetadata.lastModified());
+        } else {
+            contentValues.putNull(STICKER_FILE_SIZE);
+            contentValues.putNull(STICKER_WIDTH);
+            contentValues.putNull(STICKER_HEIGHT);
+            contentValues.putNull(STICKER_FRAME_COUNT);
+            contentValues.putNull(STICKER_DURATION);
+            contentValues.putNull(STICKER_FILE_LAST_MODIFIED);
+        }
+
         String whereClause = FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?";
         String[] whereArgs = {stickerPackIdentifier, oldFileName};
 
@@ -35,6 +67,10 @@ public class UpdateStickerRepo {
                 Log.w(TAG_LOG, "Nenhum registro atualizado ao renomear figurinha.");
             }
 
+            if (rowsUpdated > 0) {
+                StickerMetadataSnapshot.invalidate();
+            }
+
             return rowsUpdated > 0;
         } catch (SQLException | IllegalStateException exception) {
             Log.e(TAG_LOG,
@@ -57,6 +93,10 @@ public class UpdateStickerRepo {
                 Log.w(TAG_LOG, "Nenhum registro marcado como inválido. Verifique o identificador e nome do arquivo.");
             }
 
+            if (rowsUpdated > 0) {
+                StickerMetadataSnapshot.invalidate();
+            }
+
             return rowsUpdated > 0;
         } catch (SQLException | IllegalStateException exception) {
             Log.e(TAG_LOG,
@@ -64,4 +104,39 @@ public class UpdateStickerRepo {
             return false;
         }
     }
+
+    // NOTE: Grava o lote em uma transação só. Linhas que já têm o mesmo erro não são reescritas.
+    public int updateInvalidStickers(List<InvalidStickerUpdate> invalidStickerUpdates) {
+        String query = "UPDATE " + TABLE_STICKER + " SET " + STICKER_IS_VALID + " = ?" +
+                " WHERE " + FK_STICKER_PACK + " = ? AND " + STICKER_FILE_NAME_IN_QUERY + " = ?" +
+                " AND (" + STICKER_IS_VALID + " IS NULL OR " + STICKER_IS_VALID + " != ?)";
+
+        int rowsUpdated = 0;
+
+        database.beginTransaction();
+        try (SQLiteStatement statement = database.compileStatement(query)) {
+            for (InvalidStickerUpdate invalidStickerUpdate : invalidStickerUpdates) {
+                statement.bindString(1, invalidStickerUpdate.errorName());
+                statement.bindString(2, invalidStickerUpdate.stickerPackIdentifier());
+                statement.bindString(3, invalidStickerUpdate.fileName());
+                statement.bindString(4, invalidStickerUpdate.errorName());
+
+                rowsUpdated += statement.executeUpdateDelete();
+            }
+
+            database.setTransactionSuccessful();
+        } catch (SQLException | IllegalStateException exception) {
+            Log.e(TAG_LOG,
+                    "Erro ao marcar lote de figurinhas como inválidas: " + exception.getMessage(), exception);
+            return 0;
+        } finally {
+            database.endTransaction();
+        }
+
+        if (rowsUpdated > 0) {
+            StickerMetadataSnapshot.invalidate();
+        }
+
+        return rowsUpdated;
+    }
 }
@@ -14,6 +14,9 @@ package br.arch.sticker.domain.data.model;
 import android.os.Parcel;
 import android.os.Parcelable;
 
+import br.arch.sticker.domain.dto.StickerFileStat;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+
 public class Sticker implements Parcelable {
     public final String imageFileName;
     public final String emojis;
@@ -21,6 +24,9 @@ public class Sticker implements Parcelable {
     public final String accessibilityText;
     public final String uuidPack;
     long size;
+    // NOTE: Resultado do stat feito ao resolver os arquivos, reaproveitado pela validação na mesma varredura. Não vai no Parcel.
+    private StickerFileStat fileStat;
+    private StickerMediaMetadata mediaMetadata;
 
     public String getImageFileName() {
         return imageFileName;
@@ -30,6 +36,23 @@ public class Sticker implements Parcelable {
         this.size = size;
     }
 
+    public StickerFileStat getFileStat() {
+        return fileStat;
+    }
+
+    public void setFileStat(StickerFileStat fileStat) {
+        this.fileStat = fileStat;
+        this.size = fileStat.length();
+    }
+
+    public StickerMediaMetadata getMediaMetadata() {
+        return mediaMetadata;
+    }
+
+    public void setMediaMetadata(StickerMediaMetadata mediaMetadata) {
+        this.mediaMetadata = mediaMetadata;
+    }
+
     public void setStickerIsInvalid(String stickerIsValid) {
         this.stickerIsValid = stickerIsValid;
     }
@@ -49,6 +72,9 @@ public class Sticker implements Parcelable {
         accessibilityText = parcel.readString();
         uuidPack = parcel.readString();
         size = parcel.readLong();
+        if (parcel.readByte() != 0) {
+            mediaMetadata = new StickerMediaMetadata(parcel.readLong(), parcel.readLong(), parcel.readInt(), parcel.readInt(), parcel.readInt(), parcel.readInt());
+        }
     }
 
     @Override
@@ -59,6 +85,15 @@ public class Sticker implements Parcelable {
         dest.writeString(accessibilityText);
         dest.writeString(uuidPack);
         dest.writeLong(size);
+        dest.writeByte((byte) (mediaMetadata != null ? 1 : 0));
+        if (mediaMetadata != null) {
+            dest.writeLong(mediaMetadata.size());
+            dest.writeLong(mediaMetadata.lastModified());
+            dest.writeInt(mediaMetadata.width());
+            dest.writeInt(mediaMetadata.height());
+            dest.writeInt(mediaMetadata.frameCount());
+            dest.writeInt(mediaMetadata.duration());
+        }
     }
 
     @Override
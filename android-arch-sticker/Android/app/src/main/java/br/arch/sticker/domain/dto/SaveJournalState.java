@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.dto;
+
+// NOTE: Ordem dos passos do salvamento; só DB_COMMITTED indica pacote completo no banco e no disco
+public enum SaveJournalState {
+    INTENT, FILES_WRITTEN, PUBLISHED, DB_COMMITTED
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+package br.arch.sticker.domain.dto;
+
+import androidx.annotation.NonNull;
+
+// NOTE: Dados de mídia gravados junto da figurinha. Duração em ms, zero para figurinha estática.
+// Tamanho e data de modificação são os do arquivo lido; data zero quando a figurinha foi gravada antes dessa coluna.
+public record StickerMediaMetadata(long size, long lastModified, int width, int height, int frameCount, int duration) {
+    public boolean matches(@NonNull StickerFileStat stickerFileStat) {
+        return size == stickerFileStat.length() && lastModified == stickerFileStat.lastModified();
+    }
+}
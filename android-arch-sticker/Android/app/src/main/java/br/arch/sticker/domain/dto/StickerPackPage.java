@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.dto;
+
+public record StickerPackPage(ListStickerPackValidationResult result, long nextPageRowId) {
+    // NOTE: O rowid do SQLite começa em 1, então 0 pede a primeira página
+    public static final long FIRST_PAGE_ROW_ID = 0L;
+    public static final long NO_NEXT_PAGE = -1L;
+
+    public boolean hasNextPage() {
+        return nextPageRowId != NO_NEXT_PAGE;
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.dto;
+
+import java.util.List;
+
+import br.arch.sticker.domain.data.model.StickerPack;
+
+// NOTE: Pacotes de uma página lidos do banco e o rowid do último, que é a chave da página seguinte
+public record StickerPackRowPage(List<StickerPack> stickerPacks, long lastRowId) {
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.blob;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.StickerBlobRepo;
+
+// NOTE: Cada conteúdo é guardado uma vez em sticker_blobs/<2 primeiros>/<sha256>. O arquivo do pacote vira um hard link
+// para o blob, então todo código que lê stickers_asset/<pacote>/<arquivo> continua funcionando sem saber do blob.
+// Como os bytes são compartilhados, o conteúdo fica somente leitura; quem for reescrever um arquivo chama detachStickerFile antes.
+public class StickerBlobService {
+    private final static String TAG_LOG = StickerBlobService.class.getSimpleName();
+    public final static String STICKER_BLOBS = "sticker_blobs";
+
+    private static final Object BLOB_LOCK = new Object();
+
+    private final StickerBlobRepo stickerBlobRepo;
+    private final File blobDirectory;
+
+    public StickerBlobService(Context context) {
+        this(new File(context.getApplicationContext().getFilesDir(), STICKER_BLOBS),
+                StickerDatabaseHelper.getInstance(context.getApplicationContext()).getWritableDatabase());
+    }
+
+    @VisibleForTesting
+    public StickerBlobService(@NonNull File blobDirectory, @NonNull SQLiteDatabase database) {
+        this.blobDirectory = blobDirectory;
+        this.stickerBlobRepo = new StickerBlobRepo(database);
+    }
+
+    // NOTE: Falhas aqui só custam a deduplicação, o arquivo do pacote continua sendo uma cópia própria e válida
+    public boolean storeStickerFile(@NonNull String stickerPackIdentifier, @NonNull File stickerFile) {
+        if (!stickerFile.isFile()) {
+            return false;
+        }
+
+        try {
+            final String blobHash = computeSha256(stickerFile);
+            final long blobSize = stickerFile.length();
+
+            synchronized (BLOB_LOCK) {
+                final File blobFile = getBlobFile(blobHash);
+
+                if (blobFile.isFile() && blobFile.length() == blobSize) {
+                    replaceWithLink(blobFile, stickerFile);
+                } else {
+                    final File blobParent = blobFile.getParentFile();
+                    if (blobParent != null && !blobParent.exists() && !blobParent.mkdirs()) {
+                        throw new IOException("Falha ao criar a pasta de blobs: " + blobParent.getPath());
+                    }
+
+                    if (blobFile.exists() && !blobFile.delete()) {
+                        throw new IOException("Blob divergente não removido: " + blobFile.getPath());
+                    }
+
+                    Os.link(stickerFile.getAbsolutePath(), blobFile.getAbsolutePath());
+                }
+
+                if (!stickerFile.setReadOnly()) {
+                    Log.w(TAG_LOG, "Não foi possível marcar o blob como somente leitura: " + blobHash);
+                }
+
+                return stickerBlobRepo.upsertBlobReference(stickerPackIdentifier, stickerFile.getName(), blobHash, blobSize);
+            }
+        } catch (IOException | ErrnoException | NoSuchAlgorithmException exception) {
+            Log.w(TAG_LOG, "Arquivo mantido fora do repositório de blobs: " + stickerFile.getPath(), exception);
+            return false;
+        }
+    }
+
+    // NOTE: Liga o arquivo do pacote a um blob já guardado, sem copiar nem calcular o hash do arquivo. Retorna false se o blob
+    // ainda não existe; aí quem chamou grava o arquivo e usa storeStickerFile.
+    public boolean linkStoredBlob(@NonNull String stickerPackIdentifier, @NonNull String blobHash, @NonNull File stickerFile) {
+        synchronized (BLOB_LOCK) {
+            final File blobFile = getBlobFile(blobHash);
+            if (!blobFile.isFile()) {
+                return false;
+            }
+
+            try {
+                replaceWithLink(blobFile, stickerFile);
+            } catch (ErrnoException exception) {
+                Log.w(TAG_LOG, "Não foi possível ligar o arquivo ao blob: " + stickerFile.getPath(), exception);
+                return false;
+            }
+
+            return stickerBlobRepo.upsertBlobReference(stickerPackIdentifier, stickerFile.getName(), blobHash, blobFile.length());
+        }
+    }
+
+    public int storeStickerFiles(@NonNull String stickerPackIdentifier, @NonNull File stickerPackDirectory, @NonNull Collection<String> fileNames) {
+        int stored = 0;
+        for (String fileName : fileNames) {
+            if (storeStickerFile(stickerPackIdentifier, new File(stickerPackDirectory, fileName))) {
+                stored++;
+            }
+        }
+
+        return stored;
+    }
+
+    public void releaseStickerFile(@NonNull String stickerPackIdentifier, @NonNull String fileName) {
+        stickerBlobRepo.deleteBlobReference(stickerPackIdentifier, fileName);
+    }
+
+    public void releaseStickerPack(@NonNull String stickerPackIdentifier) {
+        stickerBlobRepo.deleteBlobReferencesByPack(stickerPackIdentifier);
+    }
+
+    // NOTE: Troca o hard link por uma cópia própria do pacote, para a escrita no lugar não alterar os outros pacotes
+    public void detachStickerFile(@NonNull String stickerPackIdentifier, @NonNull File stickerFile) throws IOException {
+        if (!stickerFile.exists()) {
+            return;
+        }
+
+        synchronized (BLOB_LOCK) {
+            if (linkCount(stickerFile) > 1) {
+                final File detachedFile = new File(stickerFile.getParentFile(), stickerFile.getName() + ".detach");
+                copyFile(stickerFile, detachedFile);
+
+                if (!detachedFile.renameTo(stickerFile)) {
+                    detachedFile.delete();
+                    throw new IOException("Falha ao separar o arquivo do blob: " + stickerFile.getPath());
+                }
+            }
+
+            stickerFile.setWritable(true);
+            stickerBlobRepo.deleteBlobReference(stickerPackIdentifier, stickerFile.getName());
+        }
+    }
+
+    // NOTE: Retorna os bytes liberados; um blob cujo arquivo ainda tem outro link não libera espaço ao ser removido
+    public long collectGarbage() {
+        long freedBytes = 0;
+        int removedBlobs = 0;
+
+        synchronized (BLOB_LOCK) {
+            for (Map.Entry<String, Long> blob : stickerBlobRepo.getUnreferencedBlobs().entrySet()) {
+                if (!stickerBlobRepo.deleteUnreferencedBlob(blob.getKey())) {
+                    continue;
+                }
+
+                final File blobFile = getBlobFile(blob.getKey());
+                final boolean lastLink = linkCount(blobFile) <= 1;
+
+                if (blobFile.exists() && blobFile.delete()) {
+                    removedBlobs++;
+                    if (lastLink) {
+                        freedBytes += blob.getValue();
+                    }
+                }
+            }
+        }
+
+        if (removedBlobs > 0) {
+            Log.i(TAG_LOG, String.format(Locale.ROOT, "Blobs removidos: %d, bytes liberados: %d", removedBlobs, freedBytes));
+        }
+
+        return freedBytes;
+    }
+
+    @NonNull
+    private File getBlobFile(@NonNull String blobHash) {
+        return new File(new File(blobDirectory, blobHash.substring(0, 2)), blobHash);
+    }
+
+    // NOTE: O link novo é criado ao lado e trocado por rename, o arquivo do pacote nunca some no meio do caminho
+    private static void replaceWithLink(@NonNull File blobFile, @NonNull File stickerFile) throws ErrnoException {
+        final File linkFile = new File(stickerFile.getParentFile(), stickerFile.getName() + ".link");
+        if (linkFile.exists()) {
+            linkFile.delete();
+        }
+
+        Os.link(blobFile.getAbsolutePath(), linkFile.getAbsolutePath());
+        try {
+            Os.rename(linkFile.getAbsolutePath(), stickerFile.getAbsolutePath());
+        } catch (ErrnoException exception) {
+            linkFile.delete();
+            throw exception;
+        }
+    }
+
+    public static long linkCount(@NonNull File file) {
+        try {
+            return Os.stat(file.getAbsolutePath()).st_nlink;
+        } catch (ErrnoException exception) {
+            return 1;
+        }
+    }
+
+    @NonNull
+    private static String computeSha256(@NonNull File file) throws IOException, NoSuchAlgorithmException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return computeSha256(inputStream);
+        }
+    }
+
+    @NonNull
+    public static String computeSha256(@NonNull InputStream inputStream) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = inputStream.read(buffer)) > 0) {
+            messageDigest.update(buffer, 0, length);
+        }
+
+        final StringBuilder hash = new StringBuilder();
+        for (byte value : messageDigest.digest()) {
+            hash.append(String.format(Locale.ROOT, "%02x", value));
+        }
+
+        return hash.toString();
+    }
+
+    private static void copyFile(@NonNull File sourceFile, @NonNull File destFile) throws IOException {
+        try (InputStream inputStream = new FileInputStream(sourceFile); OutputStream outputStream = new FileOutputStream(destFile)) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, length);
+            }
+        }
+    }
+}
@@ -23,14 +23,20 @@ import br.arch.sticker.R;
 import br.arch.sticker.core.error.code.DeleteErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.DeleteStickerException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.core.validation.StickerValidationCache;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
 
 public class DeleteStickerAssetService {
     private final static String TAG_LOG = DeleteStickerAssetService.class.getSimpleName();
 
+    private final StickerValidationCache stickerValidationCache;
+    private final StickerBlobService stickerBlobService;
     private final Context context;
 
     public DeleteStickerAssetService(Context context) {
         this.context = context.getApplicationContext();
+        this.stickerValidationCache = StickerValidationCache.getInstance(this.context);
+        this.stickerBlobService = new StickerBlobService(this.context);
     }
 
     public CallbackResult<Boolean> deleteStickerAsset(@NonNull String stickerPackIdentifier, @NonNull String fileName) {
@@ -42,6 +48,9 @@ public class DeleteStickerAssetService {
             boolean deleted = stickerDirectory.delete();
 
             if (deleted) {
+                stickerValidationCache.invalidate(stickerPackIdentifier, fileName);
+                stickerBlobService.releaseStickerFile(stickerPackIdentifier, fileName);
+                stickerBlobService.collectGarbage();
                 Log.i(TAG_LOG, "Arquivo deletado: " + stickerDirectory.getAbsolutePath());
                 return CallbackResult.success(Boolean.TRUE);
             } else {
@@ -52,33 +61,6 @@ public class DeleteStickerAssetService {
         }
     }
 
-    public CallbackResult<Boolean> deleteAllStickerAssetsByPack(@NonNull String stickerPackIdentifier) {
-        File mainDirectory = new File(context.getFilesDir(), STICKERS_ASSET);
-        File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
-
-        if (!mainDirectory.exists() ||
-                !(stickerPackDirectory.exists() && stickerPackDirectory.isDirectory())) {
-            return CallbackResult.failure(new DeleteStickerException(context.getString(R.string.error_message_main_path_not_found), DeleteErrorCode.ERROR_PACK_DELETE_SERVICE));
-        }
-
-        File[] files = stickerPackDirectory.listFiles();
-
-        if (files != null) {
-            for (File file : files) {
-                if (!file.delete()) {
-                    return CallbackResult.failure(new DeleteStickerException(String.format("Falha ao deletar o arquivo: %s", file.getAbsolutePath()), DeleteErrorCode.ERROR_PACK_DELETE_SERVICE));
-                }
-
-            }
-        }
-
-        if (!stickerPackDirectory.delete()) {
-            return CallbackResult.failure(new DeleteStickerException(context.getString(R.string.error_message_unable_delete_stickerpack_folder), DeleteErrorCode.ERROR_PACK_DELETE_SERVICE));
-        }
-
-        return CallbackResult.success(true);
-    }
-
     public CallbackResult<Boolean> deleteListStickerAssetsByPack(@NonNull String stickerPackIdentifier, @NonNull List<String> stickersFileNameToDelete) {
         File mainDirectory = new File(context.getFilesDir(), STICKERS_ASSET);
         File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
@@ -97,10 +79,14 @@ public class DeleteStickerAssetService {
                     if (!file.delete()) {
                         return CallbackResult.failure(new DeleteStickerException(String.format("Falha ao deletar o arquivo: %s", file.getAbsolutePath()), DeleteErrorCode.ERROR_PACK_DELETE_SERVICE));
                     }
+
+                    stickerValidationCache.invalidate(stickerPackIdentifier, file.getName());
+                    stickerBlobService.releaseStickerFile(stickerPackIdentifier, file.getName());
                 }
             }
         }
 
+        stickerBlobService.collectGarbage();
         return CallbackResult.success(true);
     }
 }
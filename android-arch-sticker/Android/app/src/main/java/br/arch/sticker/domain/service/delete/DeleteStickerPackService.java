@@ -12,26 +12,65 @@ import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.List;
 
+import br.arch.sticker.core.error.code.DeleteErrorCode;
+import br.arch.sticker.core.error.throwable.sticker.DeleteStickerException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 import br.arch.sticker.domain.data.database.repository.DeleteStickerPackRepo;
 import br.arch.sticker.domain.data.database.repository.DeleteStickerRepo;
+import br.arch.sticker.domain.data.database.repository.StickerPackTombstoneRepo;
 
 public class DeleteStickerPackService {
+    private final StickerStorageGarbageCollector stickerStorageGarbageCollector;
+    private final StickerPackTombstoneRepo stickerPackTombstoneRepo;
     private final DeleteStickerPackRepo deleteStickerPackRepo;
     private final DeleteStickerRepo deleteStickerRepo;
+    private final SQLiteDatabase database;
 
     public DeleteStickerPackService(Context context) {
-        SQLiteDatabase database = StickerDatabaseHelper.getInstance(context).getWritableDatabase();
+        this(context, StickerStorageGarbageCollector.getInstance(context));
+    }
+
+    @VisibleForTesting
+    DeleteStickerPackService(Context context, StickerStorageGarbageCollector stickerStorageGarbageCollector) {
+        this.database = StickerDatabaseHelper.getInstance(context).getWritableDatabase();
         this.deleteStickerPackRepo = new DeleteStickerPackRepo(database);
         this.deleteStickerRepo = new DeleteStickerRepo(database);
+        this.stickerPackTombstoneRepo = new StickerPackTombstoneRepo(database);
+        this.stickerStorageGarbageCollector = stickerStorageGarbageCollector;
     }
 
+    // NOTE: Remove a linha do pacote e grava a lápide na mesma transação, o pacote some de todas as consultas na hora.
+    // Os arquivos são apagados depois pelo StickerStorageGarbageCollector, fora da thread que pediu a remoção.
     public CallbackResult<Boolean> deleteStickerPack(@NonNull String stickerPackIdentifier) {
-        CallbackResult<Integer> stickerPackDeletedInDb = deleteStickerPackRepo.deleteStickerPackFromDatabase(stickerPackIdentifier);
+        CallbackResult<Integer> stickerPackDeletedInDb;
+
+        database.beginTransaction();
+        try {
+            stickerPackDeletedInDb = deleteStickerPackRepo.deleteStickerPackFromDatabase(stickerPackIdentifier);
+
+            // NOTE: Sem linha no banco a pasta ainda pode existir, então o aviso também grava a lápide
+            if (!stickerPackDeletedInDb.isFailure()) {
+                if (!stickerPackTombstoneRepo.insertTombstone(stickerPackIdentifier)) {
+                    return CallbackResult.failure(new DeleteStickerException("Falha ao gravar a lápide do pacote.",
+                            DeleteErrorCode.ERROR_PACK_DELETE_DB));
+                }
+
+                database.setTransactionSuccessful();
+            }
+        } finally {
+            database.endTransaction();
+        }
+
+        if (!stickerPackDeletedInDb.isFailure()) {
+            StickerMetadataSnapshot.invalidate();
+            stickerStorageGarbageCollector.requestCollection();
+        }
 
         return switch (stickerPackDeletedInDb.getStatus()) {
             case SUCCESS -> CallbackResult.success(Boolean.TRUE);
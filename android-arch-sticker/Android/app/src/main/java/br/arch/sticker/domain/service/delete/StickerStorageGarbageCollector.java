@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.delete;
+
+import static br.arch.sticker.domain.data.content.StickerContentProvider.STICKERS_ASSET;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import br.arch.sticker.core.validation.StickerValidationCache;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.StickerPackTombstoneRepo;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
+
+// NOTE: Apaga em segundo plano os arquivos dos pacotes com lápide. Cada lápide só sai do banco depois que a pasta foi apagada,
+// então um processo encerrado no meio retoma do mesmo ponto na próxima chamada de requestCollection.
+public class StickerStorageGarbageCollector {
+    private final static String TAG_LOG = StickerStorageGarbageCollector.class.getSimpleName();
+
+    private static final int TOMBSTONE_BATCH_SIZE = 8;
+
+    private static volatile StickerStorageGarbageCollector instance;
+
+    private final AtomicBoolean collectionPending = new AtomicBoolean(false);
+
+    private final StickerPackTombstoneRepo stickerPackTombstoneRepo;
+    private final StickerValidationCache stickerValidationCache;
+    private final StickerBlobService stickerBlobService;
+    private final File mainDirectory;
+    private final Executor executor;
+
+    private StickerStorageGarbageCollector(Context context) {
+        this(context, Executors.newSingleThreadExecutor());
+    }
+
+    @VisibleForTesting
+    StickerStorageGarbageCollector(Context context, Executor executor) {
+        this.executor = executor;
+        this.mainDirectory = new File(context.getFilesDir(), STICKERS_ASSET);
+        this.stickerValidationCache = StickerValidationCache.getInstance(context);
+        this.stickerBlobService = new StickerBlobService(context);
+
+        SQLiteDatabase database = StickerDatabaseHelper.getInstance(context).getWritableDatabase();
+        this.stickerPackTombstoneRepo = new StickerPackTombstoneRepo(database);
+    }
+
+    public static synchronized StickerStorageGarbageCollector getInstance(Context context) {
+        if (instance == null) {
+            instance = new StickerStorageGarbageCollector(context.getApplicationContext());
+        }
+
+        return instance;
+    }
+
+    // NOTE: Pedidos feitos enquanto uma coleta já está na fila são absorvidos por ela
+    public void requestCollection() {
+        if (collectionPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                collectionPending.set(false);
+
+                long freedBytes = collectTombstones();
+                if (freedBytes > 0) {
+                    Log.i(TAG_LOG, String.format(Locale.ROOT, "Coleta de armazenamento concluída, bytes liberados: %d", freedBytes));
+                }
+            });
+        }
+    }
+
+    // NOTE: Retorna os bytes liberados, contando só arquivos sem outro link e os blobs removidos ao final de cada lote
+    public long collectTombstones() {
+        long freedBytes = 0;
+
+        List<String> tombstones;
+        while (!(tombstones = stickerPackTombstoneRepo.getTombstones(TOMBSTONE_BATCH_SIZE)).isEmpty()) {
+            int reclaimedPacks = 0;
+
+            for (String stickerPackIdentifier : tombstones) {
+                final long packFreedBytes = reclaimStickerPack(stickerPackIdentifier);
+                if (packFreedBytes < 0) {
+                    continue;
+                }
+
+                freedBytes += packFreedBytes;
+                stickerPackTombstoneRepo.deleteTombstone(stickerPackIdentifier);
+                reclaimedPacks++;
+            }
+
+            freedBytes += stickerBlobService.collectGarbage();
+
+            // NOTE: Um lote sem nenhum progresso se repetiria para sempre; o restante fica para a próxima coleta
+            if (reclaimedPacks == 0) {
+                Log.w(TAG_LOG, "Nenhuma pasta do lote pôde ser apagada, coleta adiada.");
+                break;
+            }
+        }
+
+        return freedBytes;
+    }
+
+    // NOTE: -1 quando a pasta não pôde ser apagada por inteiro; a lápide fica para a próxima coleta
+    private long reclaimStickerPack(@NonNull String stickerPackIdentifier) {
+        File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
+        long freedBytes = 0;
+
+        stickerValidationCache.invalidateStickerPack(stickerPackIdentifier);
+
+        File[] files = stickerPackDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                final long length = file.length();
+                final boolean lastLink = StickerBlobService.linkCount(file) <= 1;
+
+                if (!file.delete()) {
+                    Log.w(TAG_LOG, "Falha ao deletar o arquivo: " + file.getAbsolutePath());
+                    return -1;
+                }
+
+                if (lastLink) {
+                    freedBytes += length;
+                }
+            }
+        }
+
+        if (stickerPackDirectory.exists() && !stickerPackDirectory.delete()) {
+            Log.w(TAG_LOG, "Falha ao deletar diretório: " + stickerPackDirectory.getAbsolutePath());
+            return -1;
+        }
+
+        stickerBlobService.releaseStickerPack(stickerPackIdentifier);
+        Log.i(TAG_LOG, "Pasta deletada: " + stickerPackDirectory.getAbsolutePath());
+
+        return freedBytes;
+    }
+}
@@ -11,18 +11,28 @@ package br.arch.sticker.domain.service.fetch;
 import static br.arch.sticker.domain.data.content.StickerContentProvider.STICKERS_ASSET;
 
 import android.content.Context;
+import android.os.Build;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+import android.system.StructStat;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import br.arch.sticker.core.error.code.FetchErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
+import br.arch.sticker.core.validation.webp.WebpHeader;
+import br.arch.sticker.core.validation.webp.WebpHeaderParser;
+import br.arch.sticker.domain.dto.StickerFileStat;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
 
 public class FetchStickerAssetService {
     private final Context context;
@@ -32,31 +42,68 @@ public class FetchStickerAssetService {
             this.context = context.getApplicationContext();
         }
 
-    public byte[] fetchStickerAsset(@NonNull final String stickerPackIdentifier, @NonNull final String fileName) throws FetchStickerException
+    // NOTE: Mapeia o arquivo em memória somente leitura, sem copiar para o heap. O mapeamento continua válido após fechar o canal.
+    @NonNull
+    public ByteBuffer mapStickerAsset(@NonNull final String stickerPackIdentifier, @NonNull final String fileName) throws FetchStickerException
         {
-            File stickerFile = new File(new File(new File(context.getFilesDir(), STICKERS_ASSET), stickerPackIdentifier), fileName);
+            File stickerFile = getStickerAssetFile(stickerPackIdentifier, fileName);
 
-            if (stickerFile.exists()) {
-                try (InputStream inputStream = new FileInputStream(stickerFile); ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
-                    int read;
-                    byte[] bytes = new byte[16384];
+            try (FileChannel fileChannel = new FileInputStream(stickerFile).getChannel()) {
+                return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            } catch (FileNotFoundException fileNotFoundException) {
+                throw new FetchStickerException(
+                        "Arquivo de figurinha não encontrado: " + stickerFile.getAbsolutePath(), fileNotFoundException,
+                        FetchErrorCode.ERROR_EMPTY_STICKERPACK);
+            } catch (IOException exception) {
+                throw new FetchStickerException(
+                        "Erro ao ler figurinha: " + stickerPackIdentifier + "/" + fileName, exception, FetchErrorCode.ERROR_EMPTY_STICKERPACK);
+            }
+        }
 
-                    while ((read = inputStream.read(bytes, 0, bytes.length)) != -1) {
-                        buffer.write(bytes, 0, read);
-                    }
+    // NOTE: Lê só os cabeçalhos do WebP mapeado, sem decodificar pixels. Nulo se o arquivo não for um WebP válido.
+    // O stat vem antes do mapeamento: se o arquivo mudar no meio, a data gravada fica mais antiga e o validador relê o arquivo.
+    @Nullable
+    public StickerMediaMetadata readStickerMediaMetadata(@NonNull final String stickerPackIdentifier, @NonNull final String fileName) throws FetchStickerException
+        {
+            final StickerFileStat stickerFileStat = statStickerAsset(stickerPackIdentifier, fileName);
+            final ByteBuffer stickerBuffer = mapStickerAsset(stickerPackIdentifier, fileName);
 
-                    return buffer.toByteArray();
-                } catch (FileNotFoundException fileNotFoundException) {
-                    throw new FetchStickerException(
-                            "Não foi possível ler a figurinha: " + stickerPackIdentifier + "/" + fileName,
-                                                    fileNotFoundException, FetchErrorCode.ERROR_EMPTY_STICKERPACK);
-                } catch (IOException exception) {
+            try {
+                final WebpHeader webpHeader = WebpHeaderParser.parse(stickerBuffer);
+                return new StickerMediaMetadata(stickerBuffer.capacity(), stickerFileStat.lastModified(), webpHeader.width(), webpHeader.height(),
+                        webpHeader.frameCount(), webpHeader.duration());
+            } catch (IllegalArgumentException exception) {
+                return null;
+            }
+        }
+
+    // NOTE: Uma única chamada stat(), sem abrir o arquivo
+    @NonNull
+    public StickerFileStat statStickerAsset(@NonNull final String stickerPackIdentifier, @NonNull final String fileName) throws FetchStickerException
+        {
+            File stickerFile = getStickerAssetFile(stickerPackIdentifier, fileName);
+
+            try {
+                StructStat structStat = Os.stat(stickerFile.getAbsolutePath());
+                if (!OsConstants.S_ISREG(structStat.st_mode)) {
                     throw new FetchStickerException(
-                            "Erro ao ler figurinha: " + stickerPackIdentifier + "/" + fileName, exception, FetchErrorCode.ERROR_EMPTY_STICKERPACK);
+                            "Caminho da figurinha não é um arquivo: " + stickerFile.getAbsolutePath(), FetchErrorCode.ERROR_EMPTY_STICKERPACK);
                 }
-            } else {
+
+                final long lastModified = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O_MR1
+                        ? structStat.st_mtim.tv_sec * 1000L + structStat.st_mtim.tv_nsec / 1_000_000L
+                        : structStat.st_mtime * 1000L;
+
+                return new StickerFileStat(structStat.st_size, lastModified);
+            } catch (ErrnoException errnoException) {
                 throw new FetchStickerException(
-                        "Arquivo de figurinha não encontrado: " + stickerFile.getAbsolutePath(), FetchErrorCode.ERROR_EMPTY_STICKERPACK);
+                        "Arquivo de figurinha não encontrado: " + stickerFile.getAbsolutePath(), errnoException, FetchErrorCode.ERROR_EMPTY_STICKERPACK);
             }
         }
+
+    @NonNull
+    public File getStickerAssetFile(@NonNull final String stickerPackIdentifier, @NonNull final String fileName)
+        {
+            return new File(new File(new File(context.getFilesDir(), STICKERS_ASSET), stickerPackIdentifier), fileName);
+        }
 }
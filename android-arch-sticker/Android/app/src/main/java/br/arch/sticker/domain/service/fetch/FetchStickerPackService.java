@@ -12,34 +12,20 @@
 package br.arch.sticker.domain.service.fetch;
 
 import static br.arch.sticker.core.validation.StickerPackValidator.STICKER_SIZE_MIN;
-import static br.arch.sticker.domain.data.content.StickerContentProvider.AUTHORITY_URI;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANDROID_APP_DOWNLOAD_LINK_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.ANIMATED_STICKER_PACK;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.AVOID_CACHE;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IMAGE_DATA_VERSION;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.IOS_APP_DOWNLOAD_LINK_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.LICENSE_AGREEMENT_WEBSITE;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PRIVACY_POLICY_WEBSITE;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_EMAIL;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.PUBLISHER_WEBSITE;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_IDENTIFIER_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_NAME_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_PUBLISHER_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_PACK_TRAY_IMAGE_IN_QUERY;
 
 import android.content.Context;
-import android.database.Cursor;
-import android.net.Uri;
+import android.database.sqlite.SQLiteDatabase;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
-import br.arch.sticker.BuildConfig;
-import br.arch.sticker.core.error.ErrorCodeProvider;
 import br.arch.sticker.core.error.code.FetchErrorCode;
 import br.arch.sticker.core.error.code.SaveErrorCode;
 import br.arch.sticker.core.error.code.StickerPackErrorCode;
@@ -50,12 +36,19 @@ import br.arch.sticker.core.error.throwable.sticker.StickerFileException;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackValidatorException;
 import br.arch.sticker.core.error.throwable.sticker.StickerValidatorException;
+import br.arch.sticker.core.validation.ParallelValidationEngine;
 import br.arch.sticker.core.validation.StickerPackValidator;
 import br.arch.sticker.core.validation.StickerValidator;
+import br.arch.sticker.core.validation.ValidationReport;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.loader.StickerPackLoader;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
 import br.arch.sticker.domain.dto.ListStickerPackValidationResult;
+import br.arch.sticker.domain.dto.StickerPackPage;
+import br.arch.sticker.domain.dto.StickerPackRowPage;
 import br.arch.sticker.domain.dto.StickerPackValidationResult;
+import br.arch.sticker.domain.service.update.InvalidStickerUpdateBuffer;
 import br.arch.sticker.domain.service.update.UpdateStickerService;
 import br.arch.sticker.domain.util.StickerPackPlaceholder;
 
@@ -64,6 +57,7 @@ public class FetchStickerPackService {
     private final StickerPackValidator stickerPackValidator;
     private final UpdateStickerService updateStickerService;
     private final FetchStickerService fetchStickerService;
+    private final StickerPackLoader stickerPackLoader;
     private final StickerValidator stickerValidator;
     private final Context context;
 
@@ -74,39 +68,69 @@ public class FetchStickerPackService {
         this.stickerPackValidator = new StickerPackValidator(this.context);
         this.updateStickerService = new UpdateStickerService(this.context);
         this.stickerPackPlaceholder = new StickerPackPlaceholder(this.context);
+        SQLiteDatabase database = StickerDatabaseHelper.getInstance(this.context).getReadableDatabase();
+        this.stickerPackLoader = new StickerPackLoader(database);
     }
 
     @NonNull
-    public ListStickerPackValidationResult fetchStickerPackListFromContentProvider() throws FetchStickerPackException {
-        final Cursor cursor = context.getContentResolver().query(AUTHORITY_URI, null, null, null,
-                null);
-        if (cursor == null) {
-            throw new FetchStickerPackException(
-                    "Não foi possível buscar no content provider, " +
-                            BuildConfig.CONTENT_PROVIDER_AUTHORITY,
-                    FetchErrorCode.ERROR_CONTENT_PROVIDER);
+    public ListStickerPackValidationResult fetchStickerPackList() throws FetchStickerPackException {
+        final InvalidStickerUpdateBuffer invalidStickerUpdateBuffer = updateStickerService.newInvalidStickerUpdateBuffer();
+
+        // NOTE: As marcações de figurinhas inválidas são gravadas de uma vez no fim da varredura, mesmo se ela falhar no meio
+        try {
+            return validateStickerPackList(invalidStickerUpdateBuffer);
+        } finally {
+            invalidStickerUpdateBuffer.flush();
         }
+    }
 
-        final HashSet<String> stickerPackIdentifierSet = new HashSet<>();
-        final ArrayList<StickerPack> allStickerPacks;
-        final ArrayList<StickerPack> invalidPacks = new ArrayList<>();
-        final HashMap<StickerPack, List<Sticker>> validPacksWithInvalidStickers = new HashMap<>();
+    // NOTE: Valida só os pacotes da página pedida; nextPageRowId vem NO_NEXT_PAGE quando não há mais páginas
+    @NonNull
+    public StickerPackPage fetchStickerPackPage(long afterRowId, int limit) throws FetchStickerPackException {
+        final InvalidStickerUpdateBuffer invalidStickerUpdateBuffer = updateStickerService.newInvalidStickerUpdateBuffer();
 
-        if (cursor.moveToFirst()) {
-            allStickerPacks = new ArrayList<>(this.buildListStickerPack(cursor));
-        } else {
-            cursor.close();
-            throw new FetchStickerPackException(
-                    "Nenhum pacote de figurinhas encontrado no content provider",
-                    FetchErrorCode.ERROR_CONTENT_PROVIDER);
+        try {
+            final StickerPackRowPage stickerPackRowPage = stickerPackLoader.loadStickerPackPage(afterRowId, limit);
+            final List<StickerPack> loadedStickerPacks = stickerPackRowPage.stickerPacks();
+            if (afterRowId == StickerPackPage.FIRST_PAGE_ROW_ID && loadedStickerPacks.isEmpty()) {
+                throw new FetchStickerPackException(
+                        "Deve haver pelo menos um pacote de adesivos no aplicativo",
+                        FetchErrorCode.ERROR_EMPTY_STICKERPACK);
+            }
+
+            final long nextPageRowId = loadedStickerPacks.size() < limit
+                                       ? StickerPackPage.NO_NEXT_PAGE
+                                       : stickerPackRowPage.lastRowId();
+
+            return new StickerPackPage(validateStickerPacks(loadedStickerPacks, invalidStickerUpdateBuffer), nextPageRowId);
+        } finally {
+            invalidStickerUpdateBuffer.flush();
         }
+    }
 
-        if (allStickerPacks.isEmpty()) {
+    @NonNull
+    private ListStickerPackValidationResult validateStickerPackList(InvalidStickerUpdateBuffer invalidStickerUpdateBuffer) throws FetchStickerPackException {
+        final List<StickerPack> loadedStickerPacks = stickerPackLoader.loadAllStickerPacks();
+        if (loadedStickerPacks.isEmpty()) {
             throw new FetchStickerPackException(
                     "Deve haver pelo menos um pacote de adesivos no aplicativo",
                     FetchErrorCode.ERROR_EMPTY_STICKERPACK);
         }
 
+        return validateStickerPacks(loadedStickerPacks, invalidStickerUpdateBuffer);
+    }
+
+    @NonNull
+    private ListStickerPackValidationResult validateStickerPacks(List<StickerPack> loadedStickerPacks, InvalidStickerUpdateBuffer invalidStickerUpdateBuffer) throws FetchStickerPackException {
+        final HashSet<String> stickerPackIdentifierSet = new HashSet<>();
+        final ArrayList<StickerPack> allStickerPacks = new ArrayList<>();
+        final ArrayList<StickerPack> invalidPacks = new ArrayList<>();
+        final HashMap<StickerPack, List<Sticker>> validPacksWithInvalidStickers = new HashMap<>();
+
+        for (StickerPack stickerPack : loadedStickerPacks) {
+            allStickerPacks.add(resolveStickerPack(stickerPack, invalidStickerUpdateBuffer));
+        }
+
         for (StickerPack stickerPack : allStickerPacks) {
             if (!stickerPackIdentifierSet.add(stickerPack.identifier)) {
                 throw new StickerPackValidatorException(String.format(
@@ -115,104 +139,102 @@ public class FetchStickerPackService {
             }
         }
 
-        allStickerPacks.removeIf(stickerPack -> {
-            try {
-                stickerPackValidator.verifyStickerPackValidity(stickerPack);
-                List<Sticker> invalidStickers = new ArrayList<>();
+        // NOTE: As checagens rodam em paralelo antes; os removeIf abaixo só consultam o relatório de cada item, na ordem original
+        final Map<StickerPack, ValidationReport> packReports = ParallelValidationEngine.evaluateAll(allStickerPacks,
+                stickerPackValidator::validateStickerPack);
 
-                stickerPack.getStickers().removeIf(sticker -> {
-                    if (!sticker.stickerIsValid.isEmpty()) {
+        final List<StickerCheck> stickerChecks = new ArrayList<>();
+        for (StickerPack stickerPack : allStickerPacks) {
+            if (!packReports.get(stickerPack).isValid()) {
+                continue;
+            }
+
+            for (Sticker sticker : stickerPack.getStickers()) {
+                if (sticker.stickerIsValid.isEmpty()) {
+                    stickerChecks.add(new StickerCheck(stickerPack, sticker));
+                }
+            }
+        }
 
-                        invalidStickers.add(sticker);
+        final Map<StickerCheck, ValidationReport> stickerCheckReports = ParallelValidationEngine.evaluateAll(stickerChecks,
+                stickerCheck -> stickerValidator.validateSticker(stickerCheck.stickerPack().identifier, stickerCheck.sticker(),
+                        stickerCheck.stickerPack().animatedStickerPack));
 
-                        return true;
-                    }
+        final Map<Sticker, ValidationReport> stickerReports = new IdentityHashMap<>();
+        for (Map.Entry<StickerCheck, ValidationReport> entry : stickerCheckReports.entrySet()) {
+            stickerReports.put(entry.getKey().sticker(), entry.getValue());
+        }
 
-                    try {
-                        stickerValidator.verifyStickerValidity(stickerPack.identifier, sticker,
-                                stickerPack.animatedStickerPack);
-                        return false;
-                    } catch (StickerFileException | StickerValidatorException exception) {
-                        String packId, fileName, errorCodeName;
-                        ErrorCodeProvider errorCode;
-
-                        if (exception instanceof StickerFileException stickerFileException) {
-                            packId = stickerFileException.getStickerPackIdentifier();
-                            fileName = stickerFileException.getFileName();
-                            errorCode = stickerFileException.getErrorCode();
-                            errorCodeName = stickerFileException.getErrorCodeName();
-                        } else {
-                            StickerValidatorException StickerValidatorException = (StickerValidatorException) exception;
-                            packId = StickerValidatorException.getStickerPackIdentifier();
-                            fileName = StickerValidatorException.getFileName();
-                            errorCode = StickerValidatorException.getErrorCode();
-                            errorCodeName = StickerValidatorException.getErrorCodeName();
-                        }
-
-                        updateStickerService.updateInvalidSticker(packId, fileName, errorCode);
-
-                        sticker.setStickerIsInvalid(errorCodeName);
-                        invalidStickers.add(sticker);
-                        return true;
-                    }
-                });
+        allStickerPacks.removeIf(stickerPack -> {
+            if (!packReports.get(stickerPack).isValid()) {
+                invalidPacks.add(stickerPack);
+                return true;
+            }
+
+            List<Sticker> invalidStickers = new ArrayList<>();
+
+            stickerPack.getStickers().removeIf(sticker -> {
+                if (!sticker.stickerIsValid.isEmpty()) {
+
+                    invalidStickers.add(sticker);
 
-                if (stickerPack.getStickers().isEmpty()) {
-                    invalidPacks.add(stickerPack);
                     return true;
                 }
 
-                if (!invalidStickers.isEmpty()) {
-                    validPacksWithInvalidStickers.put(stickerPack, invalidStickers);
-                    return true;
+                final ValidationReport.Violation violation = stickerReports.get(sticker).getFirstViolation();
+                if (violation == null) {
+                    return false;
+                }
+
+                // NOTE: Falha operacional não marca a figurinha como inválida, segue como erro para o chamador
+                if (!violation.ruleViolation()) {
+                    throw violation.toException();
                 }
 
-                return false;
-            } catch (StickerPackValidatorException |
-                     InvalidWebsiteUrlException appCoreStateException) {
+                invalidStickerUpdateBuffer.add(stickerPack.identifier, sticker.imageFileName, violation.errorCode(), sticker.stickerIsValid);
+
+                sticker.setStickerIsInvalid(violation.getErrorCodeName());
+                invalidStickers.add(sticker);
+                return true;
+            });
+
+            if (stickerPack.getStickers().isEmpty()) {
                 invalidPacks.add(stickerPack);
                 return true;
             }
+
+            if (!invalidStickers.isEmpty()) {
+                validPacksWithInvalidStickers.put(stickerPack, invalidStickers);
+                return true;
+            }
+
+            return false;
         });
 
         return new ListStickerPackValidationResult(allStickerPacks, invalidPacks,
                 validPacksWithInvalidStickers);
     }
 
-    @NonNull
-    private ArrayList<StickerPack> buildListStickerPack(Cursor cursor) {
-        ArrayList<StickerPack> stickerPackList = new ArrayList<>();
-        cursor.moveToFirst();
-
-        do {
-            StickerPack stickerPack = writeCursorToStickerPack(cursor);
-            stickerPackList.add(stickerPack);
-        } while (cursor.moveToNext());
-
-        return stickerPackList;
-    }
+    public StickerPackValidationResult fetchStickerPack(String stickerPackIdentifier) throws FetchStickerPackException {
+        final InvalidStickerUpdateBuffer invalidStickerUpdateBuffer = updateStickerService.newInvalidStickerUpdateBuffer();
 
-    public StickerPackValidationResult fetchStickerPackFromContentProvider(String stickerPackIdentifier) throws FetchStickerPackException {
-        final Cursor cursor = context.getContentResolver().query(
-                Uri.withAppendedPath(AUTHORITY_URI, stickerPackIdentifier), null, null, null, null);
-
-        if (cursor == null || cursor.getCount() == 0) {
-            throw new FetchStickerPackException(
-                    String.format("Não foi possível buscar no content provider, %s",
-                            BuildConfig.CONTENT_PROVIDER_AUTHORITY),
-                    FetchErrorCode.ERROR_CONTENT_PROVIDER);
+        try {
+            return validateStickerPack(stickerPackIdentifier, invalidStickerUpdateBuffer);
+        } finally {
+            invalidStickerUpdateBuffer.flush();
         }
+    }
 
-        final StickerPack stickerPack;
-        if (cursor.moveToFirst()) {
-            stickerPack = writeCursorToStickerPack(cursor);
-        } else {
-            cursor.close();
+    private StickerPackValidationResult validateStickerPack(String stickerPackIdentifier, InvalidStickerUpdateBuffer invalidStickerUpdateBuffer) throws FetchStickerPackException {
+        final StickerPack loadedStickerPack = stickerPackLoader.loadStickerPack(stickerPackIdentifier);
+        if (loadedStickerPack == null || loadedStickerPack.getStickers().isEmpty()) {
             throw new FetchStickerPackException(
-                    "Nenhum pacote de figurinhas encontrado no content provider",
+                    "Nenhum pacote de figurinhas encontrado no banco de dados",
                     FetchErrorCode.ERROR_EMPTY_STICKERPACK);
         }
 
+        final StickerPack stickerPack = resolveStickerPack(loadedStickerPack, invalidStickerUpdateBuffer);
+
         List<Sticker> invalidStickers = new ArrayList<>();
 
         try {
@@ -232,17 +254,19 @@ public class FetchStickerPackService {
                     invalidStickers.add(sticker);
 
                     if (exception instanceof StickerFileException stickerFileException) {
-                        boolean updated = updateStickerService.updateInvalidSticker(
+                        invalidStickerUpdateBuffer.add(
                                 stickerFileException.getStickerPackIdentifier(),
                                 stickerFileException.getFileName(),
-                                stickerFileException.getErrorCode());
+                                stickerFileException.getErrorCode(),
+                                sticker.stickerIsValid);
                     }
 
                     if (exception instanceof StickerValidatorException stickerValidatorException) {
-                        boolean updated = updateStickerService.updateInvalidSticker(
+                        invalidStickerUpdateBuffer.add(
                                 stickerValidatorException.getStickerPackIdentifier(),
                                 stickerValidatorException.getFileName(),
-                                stickerValidatorException.getErrorCode());
+                                stickerValidatorException.getErrorCode(),
+                                sticker.stickerIsValid);
                     }
 
                     return true;
@@ -265,38 +289,9 @@ public class FetchStickerPackService {
     }
 
     @NonNull
-    private StickerPack writeCursorToStickerPack(Cursor cursor) throws FetchStickerException, StickerPackSaveException {
-        final String identifier = cursor.getString(
-                cursor.getColumnIndexOrThrow(STICKER_PACK_IDENTIFIER_IN_QUERY));
-        final String name = cursor.getString(
-                cursor.getColumnIndexOrThrow(STICKER_PACK_NAME_IN_QUERY));
-        final String publisher = cursor.getString(
-                cursor.getColumnIndexOrThrow(STICKER_PACK_PUBLISHER_IN_QUERY));
-        final String trayImage = cursor.getString(
-                cursor.getColumnIndexOrThrow(STICKER_PACK_TRAY_IMAGE_IN_QUERY));
-        final String androidPlayStoreLink = cursor.getString(
-                cursor.getColumnIndexOrThrow(ANDROID_APP_DOWNLOAD_LINK_IN_QUERY));
-        final String iosAppLink = cursor.getString(
-                cursor.getColumnIndexOrThrow(IOS_APP_DOWNLOAD_LINK_IN_QUERY));
-        final String publisherEmail = cursor.getString(
-                cursor.getColumnIndexOrThrow(PUBLISHER_EMAIL));
-        final String publisherWebsite = cursor.getString(
-                cursor.getColumnIndexOrThrow(PUBLISHER_WEBSITE));
-        final String privacyPolicyWebsite = cursor.getString(
-                cursor.getColumnIndexOrThrow(PRIVACY_POLICY_WEBSITE));
-        final String licenseAgreementWebsite = cursor.getString(
-                cursor.getColumnIndexOrThrow(LICENSE_AGREEMENT_WEBSITE));
-        final String imageDataVersion = cursor.getString(
-                cursor.getColumnIndexOrThrow(IMAGE_DATA_VERSION));
-        final boolean avoidCache = cursor.getShort(cursor.getColumnIndexOrThrow(AVOID_CACHE)) > 0;
-        final boolean animatedStickerPack = cursor.getShort(
-                cursor.getColumnIndexOrThrow(ANIMATED_STICKER_PACK)) > 0;
-
-        final StickerPack stickerPack = new StickerPack(identifier, name, publisher, trayImage,
-                publisherEmail, publisherWebsite, privacyPolicyWebsite, licenseAgreementWebsite,
-                imageDataVersion, avoidCache, animatedStickerPack);
-
-        List<Sticker> stickers = fetchStickerService.fetchListStickerForPack(identifier);
+    private StickerPack resolveStickerPack(StickerPack stickerPack, InvalidStickerUpdateBuffer invalidStickerUpdateBuffer) throws FetchStickerException, StickerPackSaveException {
+        List<Sticker> stickers = fetchStickerService.resolveStickerAssets(stickerPack.identifier,
+                stickerPack.getStickers(), invalidStickerUpdateBuffer);
         if (stickers.size() < STICKER_SIZE_MIN) {
             Sticker placeholderSticker = stickerPackPlaceholder.makeAndSaveStickerPlaceholder(
                     stickerPack);
@@ -309,9 +304,9 @@ public class FetchStickerPackService {
         }
         stickerPack.setStickers(stickers);
 
-        stickerPack.setAndroidPlayStoreLink(androidPlayStoreLink);
-        stickerPack.setIosAppStoreLink(iosAppLink);
-
         return stickerPack;
     }
+
+    private record StickerCheck(StickerPack stickerPack, Sticker sticker) {
+    }
 }
@@ -8,112 +8,78 @@
 
 package br.arch.sticker.domain.service.fetch;
 
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_EMOJI_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_FILE_NAME_IN_QUERY;
-import static br.arch.sticker.domain.data.database.StickerDatabaseHelper.STICKER_IS_VALID;
-
-import android.content.ContentResolver;
 import android.content.Context;
-import android.database.Cursor;
-import android.net.Uri;
-import android.text.TextUtils;
+import android.database.sqlite.SQLiteDatabase;
 
 import androidx.annotation.NonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import br.arch.sticker.BuildConfig;
 import br.arch.sticker.core.error.code.StickerAssetErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
-import br.arch.sticker.domain.data.content.StickerContentProvider;
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerPackException;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.loader.StickerPackLoader;
 import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.dto.StickerFileStat;
+import br.arch.sticker.domain.service.update.InvalidStickerUpdateBuffer;
 import br.arch.sticker.domain.service.update.UpdateStickerService;
 
 public class FetchStickerService {
     private final FetchStickerAssetService fetchStickerAssetService;
     private final UpdateStickerService updateStickerService;
+    private final StickerPackLoader stickerPackLoader;
     private final Context context;
 
     public FetchStickerService(Context context) {
         this.context = context.getApplicationContext();
         this.updateStickerService = new UpdateStickerService(this.context);
         this.fetchStickerAssetService = new FetchStickerAssetService(this.context);
+        SQLiteDatabase database = StickerDatabaseHelper.getInstance(this.context).getReadableDatabase();
+        this.stickerPackLoader = new StickerPackLoader(database);
     }
 
-    private static Uri buildStickerUri(String stickerPackIdentifier) {
-        return new Uri.Builder().scheme(ContentResolver.SCHEME_CONTENT).authority(
-                BuildConfig.CONTENT_PROVIDER_AUTHORITY).appendPath(
-                StickerContentProvider.STICKERS).appendPath(stickerPackIdentifier).build();
+    @NonNull
+    public List<Sticker> fetchListStickerForPack(String stickerPackIdentifier) throws FetchStickerPackException {
+        return resolveStickerAssets(stickerPackIdentifier, stickerPackLoader.loadStickersByPack(stickerPackIdentifier));
     }
 
     @NonNull
-    public List<Sticker> fetchListStickerForPack(String stickerPackIdentifier) {
-        final List<Sticker> stickers = fetchListStickerFromContentProvider(stickerPackIdentifier);
-
-        for (Sticker sticker : stickers) {
-            try {
-                byte[] bytes = fetchStickerAssetService.fetchStickerAsset(stickerPackIdentifier,
-                        sticker.imageFileName);
-
-                if (bytes.length == 0) {
-                    if (!TextUtils.equals(sticker.stickerIsValid,
-                            StickerAssetErrorCode.STICKER_FILE_NOT_EXIST.name())) {
-                        boolean updated = updateStickerService.updateInvalidSticker(
-                                stickerPackIdentifier,
-                                sticker.imageFileName,
-                                StickerAssetErrorCode.STICKER_FILE_NOT_EXIST);
-                    }
-
-                    continue;
-                }
-
-                sticker.setSize(bytes.length);
-            } catch (FetchStickerException exception) {
-                if (!TextUtils.equals(sticker.stickerIsValid,
-                        StickerAssetErrorCode.STICKER_FILE_NOT_EXIST.name())) {
-                    updateStickerService.updateInvalidSticker(stickerPackIdentifier,
-                            sticker.imageFileName, StickerAssetErrorCode.STICKER_FILE_NOT_EXIST);
-                }
-            }
-        }
+    public List<Sticker> resolveStickerAssets(String stickerPackIdentifier, @NonNull List<Sticker> stickers) {
+        InvalidStickerUpdateBuffer invalidStickerUpdateBuffer = updateStickerService.newInvalidStickerUpdateBuffer();
+        resolveStickerAssets(stickerPackIdentifier, stickers, invalidStickerUpdateBuffer);
+        invalidStickerUpdateBuffer.flush();
 
         return stickers;
     }
 
     @NonNull
-    private List<Sticker> fetchListStickerFromContentProvider(String stickerPackIdentifier) {
-        Uri uri = buildStickerUri(stickerPackIdentifier);
-        final String[] projection = {STICKER_FILE_NAME_IN_QUERY, STICKER_FILE_EMOJI_IN_QUERY, STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY};
-
-        List<Sticker> stickers = new ArrayList<>();
-
-        Cursor cursor = null;
-        try {
-            cursor = context.getContentResolver().query(uri, projection, null, null, null);
-            if (cursor != null && cursor.getCount() > 0) {
-                cursor.moveToFirst();
-                do {
-                    final String name = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_NAME_IN_QUERY));
-                    final String emojisConcatenated = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_EMOJI_IN_QUERY));
-                    final String stickerIsValid = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_IS_VALID));
-                    final String accessibilityText = cursor.getString(cursor.getColumnIndexOrThrow(STICKER_FILE_ACCESSIBILITY_TEXT_IN_QUERY));
-
-                    String emojis = null;
-                    if (!TextUtils.isEmpty(emojisConcatenated)) {
-                        emojis = emojisConcatenated;
-                    }
-
-                    stickers.add(new Sticker(name, emojis, stickerIsValid, accessibilityText, stickerPackIdentifier));
-                } while (cursor.moveToNext());
+    public List<Sticker> resolveStickerAssets(String stickerPackIdentifier, @NonNull List<Sticker> stickers, @NonNull InvalidStickerUpdateBuffer invalidStickerUpdateBuffer) {
+        for (Sticker sticker : stickers) {
+            final StickerFileStat stickerFileStat;
+            try {
+                stickerFileStat = fetchStickerAssetService.statStickerAsset(stickerPackIdentifier, sticker.imageFileName);
+            } catch (FetchStickerException exception) {
+                markStickerFileNotExist(stickerPackIdentifier, sticker, invalidStickerUpdateBuffer);
+                continue;
             }
-        } finally {
-            if (cursor != null) {
-                cursor.close();
+
+            if (stickerFileStat.length() == 0) {
+                markStickerFileNotExist(stickerPackIdentifier, sticker, invalidStickerUpdateBuffer);
+                continue;
             }
+
+            sticker.setFileStat(stickerFileStat);
         }
 
         return stickers;
     }
+
+    // NOTE: Também marca em memória, para a validação da mesma varredura não fazer outro stat no arquivo que falta
+    private static void markStickerFileNotExist(
+            String stickerPackIdentifier, @NonNull Sticker sticker, @NonNull InvalidStickerUpdateBuffer invalidStickerUpdateBuffer) {
+        invalidStickerUpdateBuffer.add(stickerPackIdentifier, sticker.imageFileName, StickerAssetErrorCode.STICKER_FILE_NOT_EXIST,
+                sticker.stickerIsValid);
+        sticker.setStickerIsInvalid(StickerAssetErrorCode.STICKER_FILE_NOT_EXIST.name());
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.save;
+
+import static br.arch.sticker.domain.data.content.StickerContentProvider.STICKERS_ASSET;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.io.File;
+import java.util.Map;
+
+import br.arch.sticker.core.validation.StickerValidationCache;
+import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
+import br.arch.sticker.domain.data.database.repository.SaveJournalRepo;
+import br.arch.sticker.domain.dto.SaveJournalState;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
+import br.arch.sticker.domain.util.StickerPackDirectory;
+
+// NOTE: Diário do salvamento de pacote. Cada passo grava o estado antes de seguir; DB_COMMITTED é gravado na mesma
+// transação da inserção do pacote, então qualquer outro estado encontrado depois de um crash significa pacote incompleto.
+public class SaveJournalService {
+    private final static String TAG_LOG = SaveJournalService.class.getSimpleName();
+
+    // NOTE: Entradas anteriores ao início do processo pertencem a um salvamento que morreu junto com o processo anterior
+    private static final long PROCESS_START_MILLIS =
+            System.currentTimeMillis() - (SystemClock.elapsedRealtime() - Process.getStartElapsedRealtime());
+
+    private final StickerValidationCache stickerValidationCache;
+    private final StickerBlobService stickerBlobService;
+    private final SaveJournalRepo saveJournalRepo;
+    private final File mainDirectory;
+
+    public SaveJournalService(Context context) {
+        this(new File(context.getApplicationContext().getFilesDir(), STICKERS_ASSET),
+                StickerDatabaseHelper.getInstance(context.getApplicationContext()).getWritableDatabase(),
+                StickerValidationCache.getInstance(context), new StickerBlobService(context));
+    }
+
+    @VisibleForTesting
+    SaveJournalService(
+            @NonNull File mainDirectory, @NonNull SQLiteDatabase database, @NonNull StickerValidationCache stickerValidationCache,
+            @NonNull StickerBlobService stickerBlobService) {
+        this.mainDirectory = mainDirectory;
+        this.stickerValidationCache = stickerValidationCache;
+        this.stickerBlobService = stickerBlobService;
+        this.saveJournalRepo = new SaveJournalRepo(database);
+    }
+
+    public boolean markState(@NonNull String stickerPackIdentifier, @NonNull SaveJournalState state) {
+        if (!saveJournalRepo.writeState(stickerPackIdentifier, state)) {
+            Log.w(TAG_LOG, "Estado " + state + " não gravado para o pacote: " + stickerPackIdentifier);
+            return false;
+        }
+
+        return true;
+    }
+
+    public void complete(@NonNull String stickerPackIdentifier) {
+        saveJournalRepo.deleteEntry(stickerPackIdentifier);
+    }
+
+    // NOTE: Sem entrada no diário o salvamento é tratado como recém-iniciado
+    public void rollback(@NonNull String stickerPackIdentifier) {
+        SaveJournalState state = saveJournalRepo.getState(stickerPackIdentifier);
+        rollback(stickerPackIdentifier, state != null ? state : SaveJournalState.INTENT);
+    }
+
+    // NOTE: Desfaz o que o salvamento deixou no disco e remove a entrada do diário. O estado gravado pode estar um passo atrás
+    // do disco (crash entre o rename e a gravação de PUBLISHED), então a pasta final também é apagada em todo estado abaixo de
+    // DB_COMMITTED; antes dele não existe linha do pacote e o identificador é um UUID novo, a pasta só pode ser deste salvamento.
+    public void rollback(@NonNull String stickerPackIdentifier, @NonNull SaveJournalState state) {
+        if (state == SaveJournalState.DB_COMMITTED) {
+            saveJournalRepo.deleteEntry(stickerPackIdentifier);
+            return;
+        }
+
+        File stagingDirectory = StickerPackDirectory.getStagingDirectory(mainDirectory, stickerPackIdentifier);
+        if (stagingDirectory.exists()) {
+            StickerPackDirectory.deleteDirectory(stagingDirectory);
+        }
+
+        File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
+        if (stickerPackDirectory.exists()) {
+            StickerPackDirectory.deleteDirectory(stickerPackDirectory);
+        }
+
+        stickerBlobService.releaseStickerPack(stickerPackIdentifier);
+        stickerBlobService.collectGarbage();
+        stickerValidationCache.invalidateStickerPack(stickerPackIdentifier);
+
+        saveJournalRepo.deleteEntry(stickerPackIdentifier);
+    }
+
+    // NOTE: Chamado na abertura do app, antes da primeira leitura dos pacotes
+    public int recoverIncompleteSaves() {
+        Map<String, SaveJournalState> entries = saveJournalRepo.getEntriesUpdatedBefore(PROCESS_START_MILLIS);
+
+        for (Map.Entry<String, SaveJournalState> entry : entries.entrySet()) {
+            if (entry.getValue() != SaveJournalState.DB_COMMITTED) {
+                Log.w(TAG_LOG, "Desfazendo salvamento incompleto (" + entry.getValue() + ") do pacote: " + entry.getKey());
+            }
+
+            rollback(entry.getKey(), entry.getValue());
+        }
+
+        return entries.size();
+    }
+}
@@ -24,36 +24,81 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import br.arch.sticker.core.error.code.SaveErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.core.validation.StickerValidationCache;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.SaveJournalState;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
+import br.arch.sticker.domain.util.StickerPackDirectory;
 import br.arch.sticker.view.core.util.convert.ConvertThumbnail;
 
 public class SaveStickerAssetService {
+    private final static String TAG_LOG = SaveStickerAssetService.class.getSimpleName();
+
+    private final StickerValidationCache stickerValidationCache;
+    private final StickerBlobService stickerBlobService;
+    private final SaveJournalService saveJournalService;
     private final Context context;
 
     public SaveStickerAssetService(Context context) {
         this.context = context.getApplicationContext();
+        this.stickerValidationCache = StickerValidationCache.getInstance(this.context);
+        this.stickerBlobService = new StickerBlobService(this.context);
+        this.saveJournalService = new SaveJournalService(this.context);
     }
 
+    // NOTE: Os arquivos convertidos são movidos do cache para a pasta de preparo e a pasta inteira é publicada com um rename,
+    // então o pacote nunca aparece pela metade em stickerPackDirectory. Em qualquer falha os arquivos voltam para o cache.
     public CallbackResult<Boolean> saveStickerFromCache(
             @NonNull StickerPack stickerPack,
+            @NonNull File stagingDirectory,
             @NonNull File stickerPackDirectory) throws StickerPackSaveException {
-        if (!stickerPackDirectory.canWrite()) {
+        Map<File, File> movedFiles = new LinkedHashMap<>();
+
+        CallbackResult<Boolean> result = commitStickerFiles(stickerPack, stagingDirectory, stickerPackDirectory, movedFiles);
+        if (!result.isSuccess()) {
+            rollbackMovedFiles(movedFiles, stickerPackDirectory);
+            StickerPackDirectory.deleteDirectory(stagingDirectory);
+            return result;
+        }
+
+        stickerValidationCache.invalidateStickerPack(stickerPack.identifier);
+
+        // NOTE: Figurinhas e placeholders já publicados passam a apontar para o blob do mesmo conteúdo, se houver
+        Set<String> fileNames = new LinkedHashSet<>();
+        for (Sticker sticker : stickerPack.getStickers()) {
+            fileNames.add(sticker.imageFileName);
+        }
+        stickerBlobService.storeStickerFiles(stickerPack.identifier, stickerPackDirectory, fileNames);
+
+        return result;
+    }
+
+    private CallbackResult<Boolean> commitStickerFiles(
+            @NonNull StickerPack stickerPack,
+            @NonNull File stagingDirectory,
+            @NonNull File stickerPackDirectory,
+            @NonNull Map<File, File> movedFiles) throws StickerPackSaveException {
+        if (!stagingDirectory.canWrite()) {
             return CallbackResult.failure(new StickerPackSaveException(
-                    "Sem permissão de escrita no diretório destino: " + stickerPackDirectory,
+                    "Sem permissão de escrita no diretório destino: " + stagingDirectory,
                     SaveErrorCode.ERROR_PACK_SAVE_SERVICE
             ));
         }
 
         List<Sticker> stickerList = stickerPack.getStickers(); if (stickerList.isEmpty()) {
-            Log.e("copyStickerFromCache", "Lista de stickers vazia!");
+            Log.e(TAG_LOG, "Lista de stickers vazia!");
             return CallbackResult.failure(
                     new StickerPackSaveException("Lista de stickers vazia no pacote",
                                                  SaveErrorCode.ERROR_PACK_SAVE_SERVICE
@@ -62,7 +107,7 @@ public class SaveStickerAssetService {
 
         File thumbnailSticker = new File(context.getCacheDir(), stickerList.get(0).imageFileName);
         CallbackResult<Boolean> thumbnail = ConvertThumbnail.createThumbnail(thumbnailSticker,
-                                                                             stickerPackDirectory
+                                                                             stagingDirectory
         ); if (thumbnail.isFailure() || thumbnail.isWarning()) {
             return CallbackResult.failure(new StickerPackSaveException(
                     "Falha ao criar thumbnail: " + thumbnail.getError(),
@@ -70,7 +115,7 @@ public class SaveStickerAssetService {
             ));
         }
 
-        Set<String> filesAlreadyCopied = new HashSet<>();
+        Set<String> filesAlreadyMoved = new HashSet<>();
 
         for (Sticker sticker : stickerList) {
             String fileName = sticker.imageFileName;
@@ -83,10 +128,10 @@ public class SaveStickerAssetService {
             }
 
             if (PLACEHOLDER_ANIMATED.equals(fileName) || PLACEHOLDER_STATIC.equals(fileName)) {
-                filesAlreadyCopied.add(fileName);
+                filesAlreadyMoved.add(fileName);
             }
 
-            if (filesAlreadyCopied.contains(fileName)) {
+            if (filesAlreadyMoved.contains(fileName)) {
                 continue;
             }
 
@@ -97,31 +142,80 @@ public class SaveStickerAssetService {
                 ));
             }
 
-            File destFile = new File(stickerPackDirectory, fileName); try {
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                    Files.copy(sourceFile.toPath(), destFile.toPath());
-                } else {
-                    try (InputStream fileInputStream = new FileInputStream(
-                            sourceFile); OutputStream fileOutputStream = new FileOutputStream(
-                            destFile)) {
-
-                        byte[] buffer = new byte[8192]; int length;
+            File destFile = new File(stagingDirectory, fileName); try {
+                moveFile(sourceFile, destFile);
 
-                        while ((length = fileInputStream.read(buffer)) > 0) {
-                            fileOutputStream.write(buffer, 0, length);
-                        }
-                    }
-                }
-
-                filesAlreadyCopied.add(fileName);
+                movedFiles.put(sourceFile, destFile);
+                filesAlreadyMoved.add(fileName);
             } catch (IOException exception) {
                 return CallbackResult.failure(new StickerPackSaveException(
-                        String.format("Erro ao copiar arquivo: %s", fileName), exception,
+                        String.format("Erro ao mover arquivo: %s", fileName), exception,
                         SaveErrorCode.ERROR_PACK_SAVE_SERVICE
                 ));
             }
         }
 
+        if (!saveJournalService.markState(stickerPack.identifier, SaveJournalState.FILES_WRITTEN)) {
+            return CallbackResult.failure(new StickerPackSaveException(
+                    "Falha ao registrar os arquivos do pacote no diário.",
+                    SaveErrorCode.ERROR_PACK_SAVE_SERVICE
+            ));
+        }
+
+        CallbackResult<File> published = StickerPackDirectory.publishStagingDirectory(stagingDirectory, stickerPackDirectory);
+        if (!published.isSuccess()) {
+            return CallbackResult.failure(published.getError());
+        }
+
+        if (!saveJournalService.markState(stickerPack.identifier, SaveJournalState.PUBLISHED)) {
+            return CallbackResult.failure(new StickerPackSaveException(
+                    "Falha ao registrar a publicação do pacote no diário.",
+                    SaveErrorCode.ERROR_PACK_SAVE_SERVICE
+            ));
+        }
+
         return CallbackResult.success(true);
     }
+
+    // NOTE: Cache e files ficam na mesma partição, então o rename normalmente resolve; a cópia só entra se o rename falhar
+    private static void moveFile(@NonNull File sourceFile, @NonNull File destFile) throws IOException {
+        if (sourceFile.renameTo(destFile)) {
+            return;
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            Files.copy(sourceFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            try (InputStream fileInputStream = new FileInputStream(
+                    sourceFile); OutputStream fileOutputStream = new FileOutputStream(
+                    destFile)) {
+
+                byte[] buffer = new byte[8192]; int length;
+
+                while ((length = fileInputStream.read(buffer)) > 0) {
+                    fileOutputStream.write(buffer, 0, length);
+                }
+            }
+        }
+
+        if (!sourceFile.delete()) {
+            Log.w(TAG_LOG, "Cópia do cache não removida: " + sourceFile.getPath());
+        }
+    }
+
+    // NOTE: Se a falha veio depois da publicação, os arquivos já estão na pasta final e voltam de lá
+    private void rollbackMovedFiles(@NonNull Map<File, File> movedFiles, @NonNull File stickerPackDirectory) {
+        for (Map.Entry<File, File> entry : movedFiles.entrySet()) {
+            File movedFile = entry.getValue();
+            if (!movedFile.exists()) {
+                movedFile = new File(stickerPackDirectory, movedFile.getName());
+            }
+
+            try {
+                moveFile(movedFile, entry.getKey());
+            } catch (IOException exception) {
+                Log.w(TAG_LOG, "Não foi possível devolver o arquivo ao cache: " + entry.getKey().getName(), exception);
+            }
+        }
+    }
 }
@@ -29,17 +29,22 @@ import java.util.concurrent.CompletableFuture;
 import br.arch.sticker.core.error.code.BaseErrorCode;
 import br.arch.sticker.core.error.code.SaveErrorCode;
 import br.arch.sticker.core.error.throwable.content.InvalidWebsiteUrlException;
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
 import br.arch.sticker.core.error.throwable.sticker.StickerFileException;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackValidatorException;
 import br.arch.sticker.core.error.throwable.sticker.StickerValidatorException;
 import br.arch.sticker.core.pattern.CallbackResult;
 import br.arch.sticker.core.validation.StickerPackValidator;
+import br.arch.sticker.core.validation.StickerValidationCache;
 import br.arch.sticker.core.validation.StickerValidator;
+import br.arch.sticker.domain.data.content.snapshot.StickerMetadataSnapshot;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 import br.arch.sticker.domain.data.database.repository.InsertStickerPackRepo;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.SaveJournalState;
+import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
 import br.arch.sticker.domain.util.StickerPackDirectory;
 import br.arch.sticker.domain.util.StickerPackPlaceholder;
 
@@ -47,20 +52,27 @@ public class SaveStickerPackService {
     private final static String TAG_LOG = SaveStickerPackService.class.getSimpleName();
 
     private final SaveStickerAssetService saveStickerAssetService;
+    private final FetchStickerAssetService fetchStickerAssetService;
     private final StickerPackPlaceholder stickerPackPlaceholder;
     private final InsertStickerPackRepo insertStickerPackRepo;
+    private final SaveJournalService saveJournalService;
     private final StickerPackValidator stickerPackValidator;
     private final StickerValidator stickerValidator;
+    private final StickerValidationCache stickerValidationCache;
+    private final SQLiteDatabase database;
     private final Context context;
 
     public SaveStickerPackService(Context context) {
         this.context = context.getApplicationContext();
         this.stickerValidator = new StickerValidator(this.context);
+        this.stickerValidationCache = StickerValidationCache.getInstance(this.context);
         this.stickerPackValidator = new StickerPackValidator(this.context);
         this.stickerPackPlaceholder = new StickerPackPlaceholder(this.context);
         this.saveStickerAssetService = new SaveStickerAssetService(this.context);
+        this.fetchStickerAssetService = new FetchStickerAssetService(this.context);
+        this.saveJournalService = new SaveJournalService(this.context);
 
-        SQLiteDatabase database = StickerDatabaseHelper.getInstance(
+        this.database = StickerDatabaseHelper.getInstance(
                 this.context).getWritableDatabase();
         this.insertStickerPackRepo = new InsertStickerPackRepo(database);
     }
@@ -97,7 +109,38 @@ public class SaveStickerPackService {
         });
     }
 
+    // NOTE: Passos registrados no diário: INTENT, FILES_WRITTEN e PUBLISHED (no SaveStickerAssetService) e DB_COMMITTED junto com a inserção.
+    // Falha tratada ou exceção desfaz o que já foi para o disco; um crash é desfeito por recoverIncompleteSaves na próxima abertura.
     public CallbackResult<StickerPack> persistPackToStorage(@NonNull Context context, @NonNull StickerPack stickerPack) throws StickerPackSaveException {
+        final String stickerPackIdentifier = stickerPack.identifier;
+        if (!saveJournalService.markState(stickerPackIdentifier, SaveJournalState.INTENT)) {
+            return CallbackResult.failure(new StickerPackSaveException(
+                    "Falha ao registrar o início do salvamento no diário.", SaveErrorCode.ERROR_PACK_SAVE_DB));
+        }
+
+        stickerValidationCache.deferOutcomes(stickerPackIdentifier);
+
+        final CallbackResult<StickerPack> result;
+        try {
+            result = writeStickerPack(context, stickerPack);
+        } catch (StickerPackSaveException | RuntimeException exception) {
+            saveJournalService.rollback(stickerPackIdentifier);
+            throw exception;
+        } finally {
+            // NOTE: Sem efeito quando o commit já gravou os resultados
+            stickerValidationCache.discardDeferredOutcomes(stickerPackIdentifier);
+        }
+
+        if (result.isSuccess()) {
+            saveJournalService.complete(stickerPackIdentifier);
+        } else {
+            saveJournalService.rollback(stickerPackIdentifier);
+        }
+
+        return result;
+    }
+
+    private CallbackResult<StickerPack> writeStickerPack(@NonNull Context context, @NonNull StickerPack stickerPack) throws StickerPackSaveException {
         File mainDirectory = new File(context.getFilesDir(), STICKERS_ASSET);
         CallbackResult<Boolean> createdMainDirectory, copyStickerPack;
 
@@ -108,32 +151,30 @@ public class SaveStickerPackService {
             return CallbackResult.failure(createdMainDirectory.getError());
         }
 
-        CallbackResult<File> createdStickerPackDirectory = StickerPackDirectory.createStickerPackDirectory(
+        CallbackResult<File> createdStagingDirectory = StickerPackDirectory.createStagingDirectory(
                 mainDirectory, stickerPack.identifier);
-        if (!createdStickerPackDirectory.isSuccess() && !createdStickerPackDirectory.isWarning()) {
-            if (createdStickerPackDirectory.isDebug()) {
-                Log.d(TAG_LOG, createdStickerPackDirectory.getDebugMessage());
-            } else {
-                return CallbackResult.failure(createdStickerPackDirectory.getError());
-            }
+        if (!createdStagingDirectory.isSuccess()) {
+            return CallbackResult.failure(createdStagingDirectory.getError());
         }
 
-        if (createdStickerPackDirectory.getData() == null) {
-            return CallbackResult.failure(new StickerPackSaveException(
-                    "O diretório para salvar os pacotes está como nulo.",
-                    SaveErrorCode.ERROR_PACK_SAVE_SERVICE));
-        }
+        File stagingDirectory = createdStagingDirectory.getData();
+        File stickerPackDirectory = new File(mainDirectory, stickerPack.identifier);
 
         List<Sticker> stickerList = new ArrayList<>(stickerPack.getStickers());
-        while (stickerList.size() < STICKER_SIZE_MIN) {
-            Sticker placeholder = stickerPackPlaceholder.makeStickerPlaceholder(stickerPack,
-                    createdStickerPackDirectory.getData());
-            stickerList.add(placeholder);
+        try {
+            while (stickerList.size() < STICKER_SIZE_MIN) {
+                Sticker placeholder = stickerPackPlaceholder.makeStickerPlaceholder(stickerPack,
+                        stagingDirectory);
+                stickerList.add(placeholder);
+            }
+        } catch (StickerPackSaveException exception) {
+            StickerPackDirectory.deleteDirectory(stagingDirectory);
+            throw exception;
         }
         stickerPack.setStickers(stickerList);
 
         copyStickerPack = saveStickerAssetService.saveStickerFromCache(stickerPack,
-                createdStickerPackDirectory.getData());
+                stagingDirectory, stickerPackDirectory);
         if (!copyStickerPack.isSuccess()) {
             if (copyStickerPack.isDebug())
                 return CallbackResult.debug(copyStickerPack.getDebugMessage());
@@ -142,6 +183,15 @@ public class SaveStickerPackService {
             return CallbackResult.failure(copyStickerPack.getError());
         }
 
+        // NOTE: Metadados de mídia lidos dos arquivos já copiados, para ninguém precisar abrir o arquivo só para saber tamanho ou duração
+        for (Sticker sticker : stickerList) {
+            try {
+                sticker.setMediaMetadata(fetchStickerAssetService.readStickerMediaMetadata(stickerPack.identifier, sticker.imageFileName));
+            } catch (FetchStickerException exception) {
+                Log.w(TAG_LOG, "Não foi possível ler os metadados da figurinha: " + sticker.imageFileName, exception);
+            }
+        }
+
         try {
             stickerPackValidator.verifyStickerPackValidity(stickerPack);
         } catch (StickerPackValidatorException | StickerValidatorException |
@@ -166,6 +216,33 @@ public class SaveStickerPackService {
             }
         }
 
-        return insertStickerPackRepo.insertStickerPack(stickerPack);
+        return commitStickerPack(stickerPack);
+    }
+
+    // NOTE: DB_COMMITTED entra na mesma transação, o diário nunca diz que o pacote está no banco sem ele estar
+    private CallbackResult<StickerPack> commitStickerPack(@NonNull StickerPack stickerPack) {
+        database.beginTransaction();
+        try {
+            CallbackResult<StickerPack> inserted = insertStickerPackRepo.insertStickerPack(stickerPack);
+            if (!inserted.isSuccess()) {
+                return inserted;
+            }
+
+            if (!saveJournalService.markState(stickerPack.identifier, SaveJournalState.DB_COMMITTED)) {
+                return CallbackResult.failure(new StickerPackSaveException(
+                        "Falha ao registrar o salvamento do pacote no diário.", SaveErrorCode.ERROR_PACK_SAVE_DB));
+            }
+
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+
+        // NOTE: A foto do provider foi invalidada dentro da transação externa, invalida de novo depois do commit
+        StickerMetadataSnapshot.invalidate();
+
+        // NOTE: Só agora a linha de sticker_pack existe para as impressões digitais da validação feita no salvamento
+        stickerValidationCache.flushDeferredOutcomes(stickerPack.identifier);
+        return CallbackResult.success(stickerPack);
     }
 }
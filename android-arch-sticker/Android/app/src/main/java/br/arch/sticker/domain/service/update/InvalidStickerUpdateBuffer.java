@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.domain.service.update;
+
+import android.text.TextUtils;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import br.arch.sticker.core.error.ErrorCodeProvider;
+import br.arch.sticker.domain.dto.InvalidStickerUpdate;
+
+// NOTE: Acumula as marcações de figurinha inválida durante uma varredura de validação e grava tudo em uma transação no flush().
+// Não é thread-safe, cada varredura usa o seu próprio buffer.
+public class InvalidStickerUpdateBuffer {
+    private static final String TAG_LOG = InvalidStickerUpdateBuffer.class.getSimpleName();
+
+    private final UpdateStickerService updateStickerService;
+    private final Map<String, InvalidStickerUpdate> pendingUpdates = new LinkedHashMap<>();
+
+    InvalidStickerUpdateBuffer(@NonNull UpdateStickerService updateStickerService) {
+        this.updateStickerService = updateStickerService;
+    }
+
+    public void add(String stickerPackIdentifier, String fileName, ErrorCodeProvider errorCode, @Nullable String currentStatus) {
+        if (TextUtils.isEmpty(stickerPackIdentifier) || TextUtils.isEmpty(fileName) || errorCode == null) {
+            Log.w(TAG_LOG, "Parâmetros inválidos para marcar figurinha inválida.");
+            return;
+        }
+
+        final String errorName = UpdateStickerService.resolveErrorName(errorCode);
+        if (TextUtils.equals(errorName, currentStatus)) {
+            return;
+        }
+
+        pendingUpdates.put(stickerPackIdentifier + "/" + fileName, new InvalidStickerUpdate(stickerPackIdentifier, fileName, errorName));
+    }
+
+    public int flush() {
+        if (pendingUpdates.isEmpty()) {
+            return 0;
+        }
+
+        final int updated = updateStickerService.updateInvalidStickers(new ArrayList<>(pendingUpdates.values()));
+        pendingUpdates.clear();
+
+        return updated;
+    }
+}
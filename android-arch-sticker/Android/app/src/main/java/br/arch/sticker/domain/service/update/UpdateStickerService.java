@@ -11,19 +11,32 @@ import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.util.Log;
 
+import androidx.annotation.NonNull;
+
+import java.util.List;
+
 import br.arch.sticker.core.error.ErrorCodeProvider;
 import br.arch.sticker.core.error.code.UpdateErrorCode;
+import br.arch.sticker.core.error.throwable.sticker.FetchStickerException;
 import br.arch.sticker.core.error.throwable.sticker.UpdateStickerException;
 import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 import br.arch.sticker.domain.data.database.repository.UpdateStickerRepo;
+import br.arch.sticker.domain.dto.InvalidStickerUpdate;
+import br.arch.sticker.domain.dto.StickerMediaMetadata;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
+import br.arch.sticker.domain.service.fetch.FetchStickerAssetService;
 
 public class UpdateStickerService {
     private static final String TAG_LOG = UpdateStickerService.class.getSimpleName();
 
+    private final FetchStickerAssetService fetchStickerAssetService;
+    private final StickerBlobService stickerBlobService;
     private final UpdateStickerRepo updateStickerRepo;
 
     public UpdateStickerService(Context paramContext) {
         Context context = paramContext.getApplicationContext();
+        this.fetchStickerAssetService = new FetchStickerAssetService(context);
+        this.stickerBlobService = new StickerBlobService(context);
         SQLiteDatabase database = StickerDatabaseHelper.getInstance(context).getWritableDatabase();
         this.updateStickerRepo = new UpdateStickerRepo(database);
     }
@@ -36,7 +49,18 @@ public class UpdateStickerService {
 
         Log.d(TAG_LOG, String.format("Atualizando nome de figurinha: pack='%s', old='%s', new='%s'", stickerPackIdentifier, oldFileName, newFileName));
 
-        if (updateStickerRepo.updateStickerFileName(stickerPackIdentifier, newFileName, oldFileName)) {
+        // NOTE: O arquivo novo (redimensionado) já existe, os metadados de mídia são trocados junto com o nome
+        StickerMediaMetadata mediaMetadata = null;
+        try {
+            mediaMetadata = fetchStickerAssetService.readStickerMediaMetadata(stickerPackIdentifier, newFileName);
+        } catch (FetchStickerException exception) {
+            Log.w(TAG_LOG, "Não foi possível ler os metadados da figurinha: " + newFileName, exception);
+        }
+
+        if (updateStickerRepo.updateStickerFileName(stickerPackIdentifier, newFileName, oldFileName, mediaMetadata)) {
+            stickerBlobService.releaseStickerFile(stickerPackIdentifier, oldFileName);
+            stickerBlobService.storeStickerFile(stickerPackIdentifier,
+                    fetchStickerAssetService.getStickerAssetFile(stickerPackIdentifier, newFileName));
             return true;
         }
 
@@ -51,7 +75,7 @@ public class UpdateStickerService {
             return false;
         }
 
-        String errorName = (errorCode instanceof Enum<?>) ? ((Enum<?>) errorCode).name() : errorCode.toString();
+        String errorName = resolveErrorName(errorCode);
 
         Log.d(TAG_LOG, String.format("Marcando figurinha como inválida: pack='%s', file='%s', erro='%s'", stickerPackIdentifier, fileName, errorName));
 
@@ -64,4 +88,25 @@ public class UpdateStickerService {
 
         return true;
     }
+
+    @NonNull
+    public InvalidStickerUpdateBuffer newInvalidStickerUpdateBuffer() {
+        return new InvalidStickerUpdateBuffer(this);
+    }
+
+    public int updateInvalidStickers(@NonNull List<InvalidStickerUpdate> invalidStickerUpdates) {
+        Log.d(TAG_LOG, String.format("Marcando %d figurinhas como inválidas em lote", invalidStickerUpdates.size()));
+
+        int updated = updateStickerRepo.updateInvalidStickers(invalidStickerUpdates);
+        if (updated < invalidStickerUpdates.size()) {
+            Log.w(TAG_LOG, String.format("Lote de figurinhas inválidas: %d de %d linhas alteradas.", updated, invalidStickerUpdates.size()));
+        }
+
+        return updated;
+    }
+
+    @NonNull
+    static String resolveErrorName(@NonNull ErrorCodeProvider errorCode) {
+        return (errorCode instanceof Enum<?>) ? ((Enum<?>) errorCode).name() : errorCode.toString();
+    }
 }
@@ -8,6 +8,8 @@
 
 package br.arch.sticker.domain.util;
 
+import android.util.Log;
+
 import androidx.annotation.NonNull;
 
 import java.io.File;
@@ -17,6 +19,9 @@ import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
 import br.arch.sticker.core.pattern.CallbackResult;
 
 public class StickerPackDirectory {
+    private final static String TAG_LOG = StickerPackDirectory.class.getSimpleName();
+    private final static String STAGING_PREFIX = ".staging-";
+
     public static CallbackResult<Boolean> createMainDirectory(@NonNull File mainDirectory) throws StickerPackSaveException
         {
             if (!mainDirectory.exists()) {
@@ -35,25 +40,72 @@ public class StickerPackDirectory {
             }
         }
 
-    public static CallbackResult<File> createStickerPackDirectory(
+    // NOTE: A pasta de preparo fica ao lado da pasta final, no mesmo sistema de arquivos, para a publicação ser um único rename
+    public static CallbackResult<File> createStagingDirectory(
             @NonNull File mainDirectory, @NonNull String stickerPackIdentifier) throws StickerPackSaveException
         {
-            File stickerPackDirectory = new File(mainDirectory, stickerPackIdentifier);
+            File stagingDirectory = getStagingDirectory(mainDirectory, stickerPackIdentifier);
+
+            // NOTE: Sobra de um salvamento interrompido do mesmo pacote
+            if (stagingDirectory.exists()) {
+                deleteDirectory(stagingDirectory);
+            }
 
-            if (!stickerPackDirectory.exists()) {
-                boolean created = stickerPackDirectory.mkdirs();
+            if (!stagingDirectory.mkdirs()) {
+                return CallbackResult.failure(
+                        new StickerPackSaveException(
+                                String.format("Falha ao criar a pasta de preparo: %s", stagingDirectory.getPath()),
+                                SaveErrorCode.ERROR_PACK_SAVE_UTIL));
+            }
 
-                if (!created) {
+            return CallbackResult.success(stagingDirectory);
+        }
+
+    @NonNull
+    public static File getStagingDirectory(@NonNull File mainDirectory, @NonNull String stickerPackIdentifier)
+        {
+            return new File(mainDirectory, STAGING_PREFIX + stickerPackIdentifier);
+        }
+
+    public static CallbackResult<File> publishStagingDirectory(
+            @NonNull File stagingDirectory, @NonNull File stickerPackDirectory) throws StickerPackSaveException
+        {
+            if (stickerPackDirectory.exists()) {
+                File[] files = stickerPackDirectory.listFiles();
+                if (files != null && files.length > 0) {
                     return CallbackResult.failure(
                             new StickerPackSaveException(
-                                    String.format("Falha ao criar a pasta: %s", stickerPackDirectory.getPath()),
+                                    String.format("Pasta do pacote já existe e não está vazia: %s", stickerPackDirectory.getPath()),
                                     SaveErrorCode.ERROR_PACK_SAVE_UTIL));
+                }
+
+                stickerPackDirectory.delete();
+            }
+
+            if (!stagingDirectory.renameTo(stickerPackDirectory)) {
+                return CallbackResult.failure(
+                        new StickerPackSaveException(
+                                String.format("Falha ao publicar a pasta: %s", stickerPackDirectory.getPath()),
+                                SaveErrorCode.ERROR_PACK_SAVE_UTIL));
+            }
 
+            return CallbackResult.success(stickerPackDirectory);
+        }
+
+    // NOTE: As pastas de pacote são planas, sem subpastas
+    public static void deleteDirectory(@NonNull File directory)
+        {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (!file.delete()) {
+                        Log.w(TAG_LOG, "Não foi possível apagar: " + file.getPath());
+                    }
                 }
+            }
 
-                return CallbackResult.success(stickerPackDirectory);
-            } else {
-                return CallbackResult.debug("Pasta já existe: " + stickerPackDirectory.getPath());
+            if (!directory.delete()) {
+                Log.w(TAG_LOG, "Não foi possível apagar a pasta: " + directory.getPath());
             }
         }
 }
@@ -13,12 +13,18 @@ import static br.arch.sticker.domain.data.content.StickerContentProvider.STICKER
 import android.content.Context;
 import android.content.res.AssetFileDescriptor;
 import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import br.arch.sticker.core.error.code.SaveErrorCode;
 import br.arch.sticker.core.error.throwable.sticker.StickerPackSaveException;
@@ -27,20 +33,28 @@ import br.arch.sticker.domain.data.database.StickerDatabaseHelper;
 import br.arch.sticker.domain.data.database.repository.InsertStickerRepo;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
 
 public class StickerPackPlaceholder {
+    private final static String TAG_LOG = StickerPackPlaceholder.class.getSimpleName();
+
     public final static String PLACEHOLDER_ANIMATED = "placeholder_animated.webp";
     public final static String PLACEHOLDER_STATIC = "placeholder_static.webp";
 
+    // NOTE: Hash do asset por nome de arquivo. O asset não muda com o app instalado, então é calculado uma vez por processo.
+    private static final Map<String, String> PLACEHOLDER_BLOB_HASHES = new ConcurrentHashMap<>();
+
     private static boolean isCreatingPlaceholder = false;
 
     private final InsertStickerRepo insertStickerPackRepo;
+    private final StickerBlobService stickerBlobService;
     private final Context context;
 
     public StickerPackPlaceholder(Context context) {
         this.context = context;
         SQLiteDatabase database = StickerDatabaseHelper.getInstance(this.context).getWritableDatabase();
         this.insertStickerPackRepo = new InsertStickerRepo(database);
+        this.stickerBlobService = new StickerBlobService(this.context);
     }
 
     public Sticker makeAndSaveStickerPlaceholder(StickerPack stickerPack) {
@@ -55,9 +69,14 @@ public class StickerPackPlaceholder {
                     new File(STICKERS_ASSET, stickerPack.identifier).toString());
             if (!stickerDir.exists()) stickerDir.mkdirs();
 
-            Sticker stickerPlaceholder = this.makeStickerPlaceholder(stickerPack, stickerDir);
+            String fileName = getPlaceholderFileName(stickerPack);
+            File destFile = new File(stickerDir, fileName);
+            if (!writePlaceholderFile(stickerPack.identifier, fileName, destFile)) {
+                stickerBlobService.storeStickerFile(stickerPack.identifier, destFile);
+            }
+
             CallbackResult<Sticker> insertedSticker = insertStickerPackRepo.insertSticker(
-                    stickerPlaceholder, stickerPack.identifier);
+                    makePlaceholderSticker(stickerPack, fileName), stickerPack.identifier);
 
             return insertedSticker.getData();
         } finally {
@@ -66,13 +85,41 @@ public class StickerPackPlaceholder {
     }
 
     public Sticker makeStickerPlaceholder(StickerPack stickerPack, File outputFile) {
-        String fileName = stickerPack.animatedStickerPack ? PLACEHOLDER_ANIMATED : PLACEHOLDER_STATIC;
+        String fileName = getPlaceholderFileName(stickerPack);
+        writePlaceholderFile(stickerPack.identifier, fileName, new File(outputFile, fileName));
+
+        return makePlaceholderSticker(stickerPack, fileName);
+    }
 
+    private static String getPlaceholderFileName(StickerPack stickerPack) {
+        return stickerPack.animatedStickerPack ? PLACEHOLDER_ANIMATED : PLACEHOLDER_STATIC;
+    }
+
+    private static Sticker makePlaceholderSticker(StickerPack stickerPack, String fileName) {
         String accessibility = stickerPack.animatedStickerPack ?
                 "Pacote animado com nome " + stickerPack.name :
                 "Pacote estático com nome " + stickerPack.name;
 
-        File destFile = new File(outputFile, fileName);
+        return new Sticker(fileName.trim(), "\uD83D\uDDFF", "", accessibility,
+                stickerPack.identifier);
+    }
+
+    // NOTE: Todo placeholder tem o mesmo conteúdo. Se o blob dele já existe, o arquivo vira um link para ele e nada é copiado;
+    // só o primeiro placeholder copia o asset. Retorna true quando ligou ao blob, com a referência já registrada.
+    private boolean writePlaceholderFile(String stickerPackIdentifier, String fileName, File destFile) {
+        String blobHash = getPlaceholderBlobHash(fileName);
+        if (blobHash != null && stickerBlobService.linkStoredBlob(stickerPackIdentifier, blobHash, destFile)) {
+            return true;
+        }
+
+        try {
+            stickerBlobService.detachStickerFile(stickerPackIdentifier, destFile);
+        } catch (IOException exception) {
+            throw new StickerPackSaveException(
+                    "Erro ao criar placeholder para o pacote de figurinhas!", exception,
+                    SaveErrorCode.ERROR_PACK_SAVE_SERVICE);
+        }
+
         try (AssetFileDescriptor assetFileDescriptor = context.getAssets().openFd(
                 fileName); InputStream inputStream = assetFileDescriptor.createInputStream(); OutputStream outputStream = new FileOutputStream(
                 destFile)) {
@@ -84,13 +131,29 @@ public class StickerPackPlaceholder {
             }
 
             outputStream.flush();
-
-            return new Sticker(fileName.trim(), "\uD83D\uDDFF", "", accessibility,
-                    stickerPack.identifier);
+            return false;
         } catch (IOException exception) {
             throw new StickerPackSaveException(
                     "Erro ao criar placeholder para o pacote de figurinhas!", exception,
                     SaveErrorCode.ERROR_PACK_SAVE_SERVICE);
         }
     }
+
+    @Nullable
+    private String getPlaceholderBlobHash(String fileName) {
+        String blobHash = PLACEHOLDER_BLOB_HASHES.get(fileName);
+        if (blobHash != null) {
+            return blobHash;
+        }
+
+        try (InputStream inputStream = context.getAssets().open(fileName)) {
+            blobHash = StickerBlobService.computeSha256(inputStream);
+        } catch (IOException | NoSuchAlgorithmException exception) {
+            Log.w(TAG_LOG, "Não foi possível calcular o hash do placeholder: " + fileName, exception);
+            return null;
+        }
+
+        PLACEHOLDER_BLOB_HASHES.put(fileName, blobHash);
+        return blobHash;
+    }
 }
@@ -119,6 +119,8 @@ public abstract class StickerPackAddActivity extends BaseActivity implements Sti
         {
             super.onActivityResult(requestCode, resultCode, data);
             if (requestCode == ADD_PACK) {
+                WhatsappWhitelistValidator.invalidateWhitelistCache();
+
                 if (resultCode == Activity.RESULT_CANCELED) {
                     if (data != null) {
                         final String validationError = data.getStringExtra("validation_error");
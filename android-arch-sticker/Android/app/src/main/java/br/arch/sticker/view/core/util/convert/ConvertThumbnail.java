@@ -8,14 +8,9 @@
 
 package br.arch.sticker.view.core.util.convert;
 
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-
 import androidx.annotation.NonNull;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 
 import br.arch.sticker.core.error.code.SaveErrorCode;
@@ -38,24 +33,11 @@ public class ConvertThumbnail {
         }
 
         try {
-            Bitmap bitmap = BitmapFactory.decodeFile(originalFile.getAbsolutePath());
-            if (bitmap == null) {
-                return CallbackResult.warning("Erro ao decodificar o bitmap.");
-            }
-
             File thumbnailFile = new File(destinationDir, THUMBNAIL_FILE);
-            ByteArrayOutputStream outStream = new ByteArrayOutputStream();
 
-            int quality = 100; byte[] compressedBytes;
-
-            do {
-                outStream.reset(); bitmap.compress(Bitmap.CompressFormat.JPEG, quality, outStream);
-                compressedBytes = outStream.toByteArray(); quality -= 5;
-            } while (compressedBytes.length > 40 * 1024 && quality > 5);
-
-            try (FileOutputStream fileOutputStream = new FileOutputStream(thumbnailFile)) {
-                fileOutputStream.write(compressedBytes); fileOutputStream.flush();
-                fileOutputStream.getFD().sync();
+            // NOTE: JPEG porque o nome da bandeja (thumbnail.jpg) já está gravado nos pacotes existentes
+            if (!new TrayIconEncoder().encode(originalFile, thumbnailFile)) {
+                return CallbackResult.warning("Erro ao decodificar o bitmap.");
             }
 
             return CallbackResult.success(true);
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.view.core.util.convert;
+
+import static br.arch.sticker.core.validation.StickerPackValidator.TRAY_IMAGE_DIMENSION_MAX;
+import static br.arch.sticker.core.validation.StickerPackValidator.TRAY_IMAGE_DIMENSION_MIN;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+// NOTE: Reduz a imagem para o tamanho da bandeja antes de codificar e busca por bisseção a maior qualidade que cabe no limite.
+// Em 96 px a primeira tentativa, na qualidade máxima, quase sempre já cabe; no pior caso são 8 codificações em vez de até 19.
+public class TrayIconEncoder {
+    private final static String TAG_LOG = TrayIconEncoder.class.getSimpleName();
+
+    public static final int TRAY_ICON_DEFAULT_SIZE = 96;
+    public static final int TRAY_ICON_MAX_BYTES = 40 * 1024;
+
+    private static final int QUALITY_MIN = 5;
+    private static final int QUALITY_MAX = 100;
+
+    public enum Format {
+        JPEG, WEBP, PNG
+    }
+
+    @VisibleForTesting
+    interface QualityEncoder {
+        void encode(int quality, @NonNull ByteArrayOutputStream outputStream);
+    }
+
+    @VisibleForTesting
+    record QualitySelection(int quality, int encodeCount, boolean fits) {
+    }
+
+    private final int targetSize;
+    private final int maxBytes;
+    private final Format format;
+
+    // NOTE: Dois buffers que trocam de papel: um guarda a melhor codificação que coube, o outro recebe a próxima tentativa
+    private ByteArrayOutputStream bestStream = new ByteArrayOutputStream(TRAY_ICON_MAX_BYTES);
+    private ByteArrayOutputStream probeStream = new ByteArrayOutputStream(TRAY_ICON_MAX_BYTES);
+
+    public TrayIconEncoder() {
+        this(TRAY_ICON_DEFAULT_SIZE, TRAY_ICON_MAX_BYTES, Format.JPEG);
+    }
+
+    public TrayIconEncoder(int targetSize, int maxBytes, @NonNull Format format) {
+        if (targetSize < TRAY_IMAGE_DIMENSION_MIN || targetSize > TRAY_IMAGE_DIMENSION_MAX) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Tamanho da bandeja fora do intervalo %d-%d: %d",
+                    TRAY_IMAGE_DIMENSION_MIN, TRAY_IMAGE_DIMENSION_MAX, targetSize));
+        }
+
+        this.targetSize = targetSize;
+        this.maxBytes = maxBytes;
+        this.format = format;
+    }
+
+    // NOTE: Retorna false se a imagem não puder ser decodificada. Se nem a menor qualidade couber, grava a menor codificação
+    // e deixa o validador do pacote apontar o tamanho, como o laço antigo fazia.
+    public boolean encode(@NonNull File sourceFile, @NonNull File destinationFile) throws IOException {
+        final long startTime = SystemClock.elapsedRealtime();
+
+        Bitmap bitmap = decodeScaled(sourceFile);
+        if (bitmap == null) {
+            return false;
+        }
+
+        final QualitySelection selection;
+        try {
+            selection = selectQuality((quality, outputStream) -> compress(bitmap, quality, outputStream));
+        } finally {
+            bitmap.recycle();
+        }
+
+        if (!selection.fits()) {
+            Log.w(TAG_LOG, String.format(Locale.ROOT, "Ícone da bandeja acima de %d bytes mesmo na qualidade mínima: %d",
+                    maxBytes, bestStream.size()));
+        }
+
+        try (FileOutputStream fileOutputStream = new FileOutputStream(destinationFile)) {
+            bestStream.writeTo(fileOutputStream);
+            fileOutputStream.flush();
+            fileOutputStream.getFD().sync();
+        }
+
+        Log.d(TAG_LOG, String.format(Locale.ROOT, "Ícone da bandeja: %d bytes, qualidade %d, %d codificações em %d ms",
+                bestStream.size(), selection.quality(), selection.encodeCount(), SystemClock.elapsedRealtime() - startTime));
+        return true;
+    }
+
+    // NOTE: Deixa em bestStream a codificação escolhida. Sem Bitmap nem Log, para a bisseção ser testada na JVM.
+    @VisibleForTesting
+    @NonNull
+    QualitySelection selectQuality(@NonNull QualityEncoder qualityEncoder) {
+        if (format == Format.PNG) {
+            // NOTE: PNG ignora a qualidade, uma codificação basta
+            bestStream.reset();
+            qualityEncoder.encode(QUALITY_MAX, bestStream);
+            return new QualitySelection(QUALITY_MAX, 1, bestStream.size() <= maxBytes);
+        }
+
+        int encodeCount = 0;
+        int bestQuality = -1;
+        int low = QUALITY_MIN;
+        int high = QUALITY_MAX;
+
+        while (low <= high) {
+            // NOTE: A primeira tentativa é a qualidade máxima, o caso comum em 96 px
+            final int quality = encodeCount == 0 ? high : (low + high) >>> 1;
+            probeStream.reset();
+            qualityEncoder.encode(quality, probeStream);
+            encodeCount++;
+
+            if (probeStream.size() <= maxBytes) {
+                swapStreams();
+                bestQuality = quality;
+                low = quality + 1;
+            } else {
+                high = quality - 1;
+            }
+        }
+
+        if (bestQuality == -1) {
+            // NOTE: Sem nenhuma qualidade que coubesse, low nunca saiu de QUALITY_MIN e a última tentativa foi nela
+            swapStreams();
+            return new QualitySelection(QUALITY_MIN, encodeCount, false);
+        }
+
+        return new QualitySelection(bestQuality, encodeCount, true);
+    }
+
+    @VisibleForTesting
+    @NonNull
+    byte[] getSelectedBytes() {
+        return bestStream.toByteArray();
+    }
+
+    // NOTE: inSampleSize corta a decodificação para perto do alvo, o ajuste fino fica com createScaledBitmap
+    private Bitmap decodeScaled(@NonNull File sourceFile) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(sourceFile.getAbsolutePath(), options);
+
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+
+        final int longestSide = Math.max(options.outWidth, options.outHeight);
+        int sampleSize = 1;
+        while (longestSide / (sampleSize * 2) >= targetSize) {
+            sampleSize *= 2;
+        }
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        Bitmap decoded = BitmapFactory.decodeFile(sourceFile.getAbsolutePath(), options);
+        if (decoded == null) {
+            return null;
+        }
+
+        final float scale = (float) targetSize / Math.max(decoded.getWidth(), decoded.getHeight());
+        final int width = Math.max(TRAY_IMAGE_DIMENSION_MIN, Math.round(decoded.getWidth() * scale));
+        final int height = Math.max(TRAY_IMAGE_DIMENSION_MIN, Math.round(decoded.getHeight() * scale));
+        if (width == decoded.getWidth() && height == decoded.getHeight()) {
+            return decoded;
+        }
+
+        Bitmap scaled = Bitmap.createScaledBitmap(decoded, width, height, true);
+        if (scaled != decoded) {
+            decoded.recycle();
+        }
+
+        return scaled;
+    }
+
+    private void compress(@NonNull Bitmap bitmap, int quality, @NonNull ByteArrayOutputStream outputStream) {
+        bitmap.compress(toCompressFormat(format), quality, outputStream);
+    }
+
+    private void swapStreams() {
+        ByteArrayOutputStream previousBest = bestStream;
+        bestStream = probeStream;
+        probeStream = previousBest;
+    }
+
+    @SuppressWarnings("deprecation")
+    @NonNull
+    private static Bitmap.CompressFormat toCompressFormat(@NonNull Format format) {
+        switch (format) {
+            case WEBP:
+                return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R ? Bitmap.CompressFormat.WEBP_LOSSY : Bitmap.CompressFormat.WEBP;
+            case PNG:
+                return Bitmap.CompressFormat.PNG;
+            default:
+                return Bitmap.CompressFormat.JPEG;
+        }
+    }
+}
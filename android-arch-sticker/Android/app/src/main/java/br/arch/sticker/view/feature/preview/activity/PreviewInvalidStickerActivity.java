@@ -109,7 +109,7 @@ public class PreviewInvalidStickerActivity extends BaseActivity implements Previ
 
         try {
             FetchStickerPackService fetchStickerPackService = new FetchStickerPackService(this);
-            StickerPackValidationResult result = fetchStickerPackService.fetchStickerPackFromContentProvider(stickerPackIdentifier);
+            StickerPackValidationResult result = fetchStickerPackService.fetchStickerPack(stickerPackIdentifier);
             List<Sticker> invalidStickers = result.invalidSticker();
 
             if (invalidStickers.isEmpty()) {
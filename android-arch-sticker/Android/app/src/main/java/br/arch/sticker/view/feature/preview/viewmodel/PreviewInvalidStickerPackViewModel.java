@@ -95,6 +95,7 @@ public class PreviewInvalidStickerPackViewModel extends AndroidViewModel {
             action = switch (fetchError) {
                 case ERROR_EMPTY_STICKERPACK, ERROR_CONTENT_PROVIDER ->
                         new FixActionStickerPack.Delete(stickerPack);
+                case ERROR_STICKERPACK_DATABASE -> null;
             };
         }
 
@@ -131,15 +132,6 @@ public class PreviewInvalidStickerPackViewModel extends AndroidViewModel {
             executor.submit(() -> {
                 String stickerPackIdentifier = delete.stickerPack.identifier;
 
-                CallbackResult<Boolean> resultAsset = deleteStickerAssetService.deleteAllStickerAssetsByPack(stickerPackIdentifier);
-                if (resultAsset.isFailure()) {
-                    errorMessageLiveData.postValue(resultAsset.getError().getMessage());
-                    progressLiveData.postValue(false);
-                    return;
-                } else if (resultAsset.isWarning()) {
-                    errorMessageLiveData.postValue(resultAsset.getWarningMessage());
-                }
-
                 CallbackResult<Boolean> resultDB = deleteStickerPackService.deleteStickerPack(stickerPackIdentifier);
                 if (resultDB.isFailure()) {
                     errorMessageLiveData.postValue(resultDB.getError().getMessage());
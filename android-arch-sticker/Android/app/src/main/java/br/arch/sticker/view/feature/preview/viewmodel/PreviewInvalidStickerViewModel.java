@@ -21,6 +21,7 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -31,9 +32,11 @@ import br.arch.sticker.core.error.throwable.sticker.FetchStickerPackException;
 import br.arch.sticker.core.error.throwable.sticker.StickerFileException;
 import br.arch.sticker.core.lib.NativeProcessWebp;
 import br.arch.sticker.core.pattern.CallbackResult;
+import br.arch.sticker.core.validation.StickerValidationCache;
 import br.arch.sticker.core.validation.StickerValidator;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.service.blob.StickerBlobService;
 import br.arch.sticker.domain.service.delete.DeleteStickerAssetService;
 import br.arch.sticker.domain.service.delete.DeleteStickerService;
 import br.arch.sticker.domain.service.fetch.FetchStickerPackService;
@@ -50,6 +53,8 @@ public class PreviewInvalidStickerViewModel extends AndroidViewModel {
     private final FetchStickerPackService fetchStickerPackService;
     private final DeleteStickerService deleteStickerService;
     private final UpdateStickerService updateStickerService;
+    private final StickerValidationCache stickerValidationCache;
+    private final StickerBlobService stickerBlobService;
     private final StickerValidator stickerValidator;
     private final Context context;
 
@@ -57,10 +62,12 @@ public class PreviewInvalidStickerViewModel extends AndroidViewModel {
         super(application);
         this.context = application.getApplicationContext();
         this.stickerValidator = new StickerValidator(this.context);
+        this.stickerValidationCache = StickerValidationCache.getInstance(this.context);
         this.deleteStickerService = new DeleteStickerService(this.context);
         this.updateStickerService = new UpdateStickerService(this.context);
         this.fetchStickerPackService = new FetchStickerPackService(this.context);
         this.deleteStickerAssetService = new DeleteStickerAssetService(this.context);
+        this.stickerBlobService = new StickerBlobService(this.context);
     }
 
     private final MutableLiveData<GenericEvent<FixActionSticker>> stickerMutableLiveData = new MutableLiveData<>();
@@ -89,7 +96,7 @@ public class PreviewInvalidStickerViewModel extends AndroidViewModel {
             return;
 
         try {
-            StickerPack stickerPack = fetchStickerPackService.fetchStickerPackFromContentProvider(stickerPackIdentifier)
+            StickerPack stickerPack = fetchStickerPackService.fetchStickerPack(stickerPackIdentifier)
                     .stickerPack();
 
             StickerAssetErrorCode errorCode = StickerAssetErrorCode.valueOf(sticker.stickerIsValid);
@@ -176,10 +183,23 @@ public class PreviewInvalidStickerViewModel extends AndroidViewModel {
                 String outputFile = new File(filesDir, "resize-" + cleanName).getAbsolutePath();
                 String finalOutputFileName = ConvertMediaToStickerFormat.ensureWebpExtension(outputFile);
 
+                // NOTE: A saída pode ser um arquivo já compartilhado com outro pacote pelo repositório de blobs
+                try {
+                    stickerBlobService.detachStickerFile(stickerPackIdentifier, new File(finalOutputFileName));
+                } catch (IOException exception) {
+                    Log.e(TAG_LOG, "Erro ao preparar arquivo para redimensionar", exception);
+                    errorMessageLiveData.postValue(context.getString(R.string.throw_unknown_error) + exception.getMessage());
+                    progressLiveData.postValue(false);
+                    return;
+                }
+
                 NativeProcessWebp nativeProcessWebp = new NativeProcessWebp();
                 nativeProcessWebp.processWebpAsync(inputFile, finalOutputFileName, fileQuality, false, new NativeProcessWebp.ConversionCallback() {
                     @Override
                     public void onSuccess(File file) {
+                        stickerValidationCache.invalidate(stickerPackIdentifier, sticker.imageFileName);
+                        stickerValidationCache.invalidate(stickerPackIdentifier, file.getName());
+
                         boolean updated = updateStickerService.updateStickerFileName(stickerPackIdentifier, file.getName(), sticker.imageFileName);
 
                         if (!updated) {
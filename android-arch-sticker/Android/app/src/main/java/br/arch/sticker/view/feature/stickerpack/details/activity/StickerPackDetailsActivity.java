@@ -309,10 +309,13 @@ public class StickerPackDetailsActivity extends StickerPackAddActivity {
 
                 if (currentActivity == null) return;
 
+                // NOTE: A consulta ao provider do WhatsApp fica nesta thread, só o resultado vai para a thread principal
+                final boolean isWhitelisted = whatsappWhitelistValidator.isWhitelisted(stickerPack.identifier);
+
                 handler.post(() -> {
                     StickerPackDetailsActivity uiActivity = stickerPackDetailsActivityWeakReference.get();
                     if (uiActivity != null) {
-                        uiActivity.updateAddUI(whatsappWhitelistValidator.isWhitelisted(stickerPack.identifier));
+                        uiActivity.updateAddUI(isWhitelisted);
                     }
                 });
             });
@@ -25,6 +25,7 @@ import android.os.Looper;
 import android.os.Parcelable;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.fragment.app.FragmentManager;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.DividerItemDecoration;
@@ -35,8 +36,10 @@ import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -44,6 +47,7 @@ import br.arch.sticker.R;
 import br.arch.sticker.core.validation.WhatsappWhitelistValidator;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.StickerPackPage;
 import br.arch.sticker.domain.dto.StickerPackWithInvalidStickers;
 import br.arch.sticker.view.core.model.StickerPackListItem;
 import br.arch.sticker.view.core.usecase.activity.StickerPackAddActivity;
@@ -61,7 +65,10 @@ public class StickerPackListActivity extends StickerPackAddActivity {
     public static final String EXTRA_STICKER_PACK_LIST_DATA = "sticker_pack_list";
     public static final String EXTRA_INVALID_STICKER_PACK_LIST_DATA = "invalid_sticker_pack_list";
     public static final String EXTRA_INVALID_STICKER_MAP_DATA = "sticker_pack_with_invalid_stickers";
+    public static final String EXTRA_NEXT_PAGE_ROW_ID = "next_page_row_id";
+    public static final int STICKER_PACK_PAGE_SIZE = 20;
     private static final int STICKER_PREVIEW_DISPLAY_LIMIT = 5;
+    private static final int PAGE_PREFETCH_DISTANCE = 5;
 
     private StickerPackListViewModel stickerPackListViewmodel;
 
@@ -72,6 +79,7 @@ public class StickerPackListActivity extends StickerPackAddActivity {
     private RecyclerView packRecyclerView;
 
     private List<StickerPackListItem> unifiedList;
+    private int pagedItemCount;
 
     public interface OnEventClickedListener {
         void onAddButtonClicked(StickerPack stickerPack, List<Sticker> stickers, StickerPackListItem.Status status);
@@ -190,6 +198,24 @@ public class StickerPackListActivity extends StickerPackAddActivity {
 
             showStickerPack(unifiedList);
 
+            stickerPackListViewmodel.initPaging(getIntent().getLongExtra(EXTRA_NEXT_PAGE_ROW_ID, StickerPackPage.NO_NEXT_PAGE));
+            stickerPackListViewmodel.getPagedStickerPackItems().observe(this, pagedItems -> {
+                if (pagedItems.size() > pagedItemCount) {
+                    stickerPackListAdapter.appendStickerPackItems(pagedItems.subList(pagedItemCount, pagedItems.size()));
+                    pagedItemCount = pagedItems.size();
+                }
+
+                // NOTE: Uma página que não preenche a tela não gera rolagem, então a próxima é pedida depois do layout
+                packRecyclerView.post(this::requestNextPageIfNeeded);
+            });
+
+            stickerPackListViewmodel.getPageLoadErrorLiveData().observe(this, errorMessage -> {
+                if (errorMessage != null && !errorMessage.isEmpty()) {
+                    Toast.makeText(this, "Erro ao carregar pacotes, arraste no fim da lista para tentar de novo: " + errorMessage,
+                            Toast.LENGTH_LONG).show();
+                }
+            });
+
             if (getSupportActionBar() != null) {
                 getSupportActionBar().setTitle(getResources().getQuantityString(R.plurals.title_activity_sticker_packs_list, unifiedList.size()));
             }
@@ -271,6 +297,32 @@ public class StickerPackListActivity extends StickerPackAddActivity {
             packRecyclerView.addItemDecoration(dividerItemDecoration);
             packRecyclerView.setLayoutManager(packLayoutManager);
             packRecyclerView.getViewTreeObserver().addOnGlobalLayoutListener(this::recalculateColumnCount);
+            packRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+                @Override
+                public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy)
+                    {
+                        if (dy <= 0) return;
+
+                        requestNextPageIfNeeded();
+                    }
+
+                // NOTE: Arrastar no fim da lista é o pedido explícito para tentar de novo uma página que falhou
+                @Override
+                public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState)
+                    {
+                        if (newState == RecyclerView.SCROLL_STATE_DRAGGING && !recyclerView.canScrollVertically(1)) {
+                            stickerPackListViewmodel.retryNextPage(STICKER_PACK_PAGE_SIZE);
+                        }
+                    }
+            });
+        }
+
+    private void requestNextPageIfNeeded()
+        {
+            if (!packRecyclerView.canScrollVertically(1) ||
+                    packLayoutManager.findLastVisibleItemPosition() >= stickerPackListAdapter.getItemCount() - PAGE_PREFETCH_DISTANCE) {
+                stickerPackListViewmodel.loadNextPage(STICKER_PACK_PAGE_SIZE);
+            }
         }
 
     private void recalculateColumnCount()
@@ -330,19 +382,27 @@ public class StickerPackListActivity extends StickerPackAddActivity {
                     StickerPackListActivity currentActivity = stickerPackListActivityWeakReference.get();
                     if (currentActivity == null) return;
 
+                    List<StickerPack> stickerPacks = new ArrayList<>();
+                    Set<String> identifiers = new LinkedHashSet<>();
                     for (StickerPackListItem stickerPackListItem : stickerPackArray) {
                         if (stickerPackListItem.status() == StickerPackListItem.Status.VALID || stickerPackListItem.status() == StickerPackListItem.Status.INVALID) {
 
                             StickerPack stickerPack = (StickerPack) stickerPackListItem.stickerPack();
-                            stickerPack.setIsWhitelisted(whatsappWhitelistValidator.isWhitelisted(stickerPack.identifier));
+                            stickerPacks.add(stickerPack);
+                            identifiers.add(stickerPack.identifier);
                         }
                     }
 
-                    List<StickerPackListItem> resultList = new ArrayList<>(Arrays.asList(stickerPackArray));
+                    Map<String, Boolean> whitelist = whatsappWhitelistValidator.resolveWhitelist(identifiers);
+                    for (StickerPack stickerPack : stickerPacks) {
+                        stickerPack.setIsWhitelisted(Boolean.TRUE.equals(whitelist.get(stickerPack.identifier)));
+                    }
+
+                    // NOTE: O whitelist é gravado nos próprios pacotes, basta redesenhar; trocar a lista perderia páginas carregadas no meio tempo
                     handler.post(() -> {
                         StickerPackListActivity uiActivity = stickerPackListActivityWeakReference.get();
                         if (uiActivity != null) {
-                            uiActivity.stickerPackListAdapter.updateStickerPackItems(resultList);
+                            uiActivity.stickerPackListAdapter.notifyItemRangeChanged(0, stickerPackArray.length);
                         }
                     });
                 });
@@ -247,11 +247,10 @@ public class StickerPackListAdapter extends RecyclerView.Adapter<StickerPackList
             }
         }
 
-    @SuppressLint("NotifyDataSetChanged")
-    public void updateStickerPackItems(List<StickerPackListItem> newItems)
+    public void appendStickerPackItems(List<StickerPackListItem> newItems)
         {
-            this.stickerPackListItems.clear();
+            final int positionStart = this.stickerPackListItems.size();
             this.stickerPackListItems.addAll(newItems);
-            notifyDataSetChanged();
+            notifyItemRangeInserted(positionStart, newItems.size());
         }
 }
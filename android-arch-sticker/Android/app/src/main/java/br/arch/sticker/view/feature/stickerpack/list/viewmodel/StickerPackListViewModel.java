@@ -10,34 +10,63 @@ package br.arch.sticker.view.feature.stickerpack.list.viewmodel;
 
 import android.app.Application;
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.core.util.Pair;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.MutableLiveData;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import br.arch.sticker.core.pattern.CallbackResult;
-import br.arch.sticker.domain.service.delete.DeleteStickerPackPathService;
+import br.arch.sticker.core.validation.WhatsappWhitelistValidator;
+import br.arch.sticker.domain.data.model.Sticker;
+import br.arch.sticker.domain.data.model.StickerPack;
+import br.arch.sticker.domain.dto.ListStickerPackValidationResult;
+import br.arch.sticker.domain.dto.StickerPackPage;
+import br.arch.sticker.domain.dto.StickerPackWithInvalidStickers;
 import br.arch.sticker.domain.service.delete.DeleteStickerPackService;
+import br.arch.sticker.domain.service.fetch.FetchStickerPackService;
+import br.arch.sticker.view.core.model.StickerPackListItem;
 
 public class StickerPackListViewModel extends AndroidViewModel {
-    private final DeleteStickerPackPathService deleteStickerPackPathService;
+    private final static String TAG_LOG = StickerPackListViewModel.class.getSimpleName();
+
+    private final WhatsappWhitelistValidator whatsappWhitelistValidator;
     private final DeleteStickerPackService deleteStickerPackService;
+    private final FetchStickerPackService fetchStickerPackService;
 
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler handler = new Handler(Looper.getMainLooper());
 
     private final MutableLiveData<Pair<Boolean, String>> deletedStickerPack = new MutableLiveData<>();
     private final MutableLiveData<String> errorMessageLiveData = new MutableLiveData<>();
+    private final MutableLiveData<List<StickerPackListItem>> pagedStickerPackItems = new MutableLiveData<>(Collections.emptyList());
+    private final MutableLiveData<String> pageLoadErrorLiveData = new MutableLiveData<>();
+
+    // NOTE: Estado da paginação, acessado só pela thread principal
+    private boolean pagingInitialized;
+    private boolean loadingPage;
+    private boolean pageLoadFailed;
+    private long nextPageRowId = StickerPackPage.NO_NEXT_PAGE;
 
     public StickerPackListViewModel(@NonNull Application application)
         {
             super(application);
             Context context = getApplication().getApplicationContext();
             this.deleteStickerPackService = new DeleteStickerPackService(context);
-            this.deleteStickerPackPathService = new DeleteStickerPackPathService(context);
+            this.fetchStickerPackService = new FetchStickerPackService(context);
+            this.whatsappWhitelistValidator = new WhatsappWhitelistValidator(context);
         }
 
     public MutableLiveData<Pair<Boolean, String>> getDeletedStickerPack()
@@ -50,21 +79,112 @@ public class StickerPackListViewModel extends AndroidViewModel {
             return errorMessageLiveData;
         }
 
-    public void startDeleted(String stickerPackIdentifier)
+    // NOTE: Todos os itens carregados depois da primeira página, acumulados; sobrevive à recriação da activity
+    public MutableLiveData<List<StickerPackListItem>> getPagedStickerPackItems()
+        {
+            return pagedStickerPackItems;
+        }
+
+    public MutableLiveData<String> getPageLoadErrorLiveData()
+        {
+            return pageLoadErrorLiveData;
+        }
+
+    public void initPaging(long firstNextPageRowId)
         {
+            if (pagingInitialized) return;
+
+            pagingInitialized = true;
+            nextPageRowId = firstNextPageRowId;
+        }
+
+    public void loadNextPage(int pageSize)
+        {
+            // NOTE: Depois de uma falha a rolagem não tenta de novo sozinha, só retryNextPage
+            if (loadingPage || pageLoadFailed || nextPageRowId == StickerPackPage.NO_NEXT_PAGE) return;
+
+            loadingPage = true;
+            final long afterRowId = nextPageRowId;
+
             executor.submit(() -> {
-                CallbackResult<Boolean> resultAsset = deleteStickerPackService.deleteStickerPack(stickerPackIdentifier);
-                if (resultAsset.isFailure()) {
-                    errorMessageLiveData.postValue(resultAsset.getError().getMessage());
+                final StickerPackPage stickerPackPage;
+                try {
+                    stickerPackPage = fetchStickerPackService.fetchStickerPackPage(afterRowId, pageSize);
+                } catch (Exception exception) {
+                    // NOTE: O rowid não avança, retryNextPage pede a mesma página de novo
+                    Log.e(TAG_LOG, "Erro ao carregar página de pacotes de figurinhas", exception);
+                    handler.post(() -> {
+                        loadingPage = false;
+                        pageLoadFailed = true;
+                        pageLoadErrorLiveData.setValue(exception.getMessage() != null ? exception.getMessage() : exception.toString());
+                    });
                     return;
                 }
 
-                if (resultAsset.isWarning()) {
-                    errorMessageLiveData.postValue(resultAsset.getWarningMessage());
-                    return;
-                }
+                deliverPage(stickerPackPage.nextPageRowId(), buildStickerPackListItems(stickerPackPage.result()));
+            });
+        }
 
-                CallbackResult<Boolean> resultDB = deleteStickerPackPathService.deleteStickerPackPath(stickerPackIdentifier);
+    public void retryNextPage(int pageSize)
+        {
+            if (pageLoadFailed) {
+                pageLoadFailed = false;
+                pageLoadErrorLiveData.setValue(null);
+            }
+
+            loadNextPage(pageSize);
+        }
+
+    private void deliverPage(long newNextPageRowId, List<StickerPackListItem> stickerPackListItems)
+        {
+            final List<StickerPackListItem> loadedItems = new ArrayList<>(pagedStickerPackItems.getValue());
+            loadedItems.addAll(stickerPackListItems);
+
+            handler.post(() -> {
+                nextPageRowId = newNextPageRowId;
+                loadingPage = false;
+                pagedStickerPackItems.setValue(Collections.unmodifiableList(loadedItems));
+            });
+        }
+
+    @NonNull
+    private List<StickerPackListItem> buildStickerPackListItems(ListStickerPackValidationResult result)
+        {
+            final List<StickerPackListItem> stickerPackListItems = new ArrayList<>();
+            final Set<String> identifiers = new LinkedHashSet<>();
+
+            for (StickerPack stickerPack : result.validPacks()) {
+                stickerPackListItems.add(new StickerPackListItem(stickerPack, StickerPackListItem.Status.VALID));
+                identifiers.add(stickerPack.identifier);
+            }
+
+            for (StickerPack stickerPack : result.invalidPacks()) {
+                stickerPackListItems.add(new StickerPackListItem(stickerPack, StickerPackListItem.Status.INVALID));
+                identifiers.add(stickerPack.identifier);
+            }
+
+            for (Map.Entry<StickerPack, List<Sticker>> entry : result.validPacksWithInvalidStickers().entrySet()) {
+                stickerPackListItems.add(new StickerPackListItem(new StickerPackWithInvalidStickers(entry.getKey(), new ArrayList<>(entry.getValue())),
+                        StickerPackListItem.Status.WITH_INVALID_STICKER));
+            }
+
+            Map<String, Boolean> whitelist = whatsappWhitelistValidator.resolveWhitelist(identifiers);
+            for (StickerPack stickerPack : result.validPacks()) {
+                stickerPack.setIsWhitelisted(Boolean.TRUE.equals(whitelist.get(stickerPack.identifier)));
+            }
+
+            for (StickerPack stickerPack : result.invalidPacks()) {
+                stickerPack.setIsWhitelisted(Boolean.TRUE.equals(whitelist.get(stickerPack.identifier)));
+            }
+
+            return stickerPackListItems;
+        }
+
+    public void startDeleted(String stickerPackIdentifier)
+        {
+            executor.submit(() -> {
+                // NOTE: Só a linha e a lápide são gravadas aqui, os arquivos ficam com o StickerStorageGarbageCollector
+                CallbackResult<Boolean> resultDB = deleteStickerPackService.deleteStickerPack(stickerPackIdentifier);
                 if (resultDB.isFailure()) {
                     errorMessageLiveData.postValue(resultDB.getError().getMessage());
                     return;
@@ -75,7 +195,7 @@ public class StickerPackListViewModel extends AndroidViewModel {
                     return;
                 }
 
-                deletedStickerPack.postValue(new Pair<>((resultDB.getData() && resultAsset.getData()), stickerPackIdentifier));
+                deletedStickerPack.postValue(new Pair<>(resultDB.getData(), stickerPackIdentifier));
             });
         }
 
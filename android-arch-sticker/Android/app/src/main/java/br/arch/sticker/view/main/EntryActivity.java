@@ -8,6 +8,8 @@
 
 package br.arch.sticker.view.main;
 
+import static br.arch.sticker.view.feature.stickerpack.list.activity.StickerPackListActivity.STICKER_PACK_PAGE_SIZE;
+
 import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
@@ -37,8 +39,11 @@ import br.arch.sticker.core.error.throwable.sticker.FetchStickerPackException;
 import br.arch.sticker.domain.data.model.Sticker;
 import br.arch.sticker.domain.data.model.StickerPack;
 import br.arch.sticker.domain.dto.ListStickerPackValidationResult;
+import br.arch.sticker.domain.dto.StickerPackPage;
 import br.arch.sticker.domain.dto.StickerPackWithInvalidStickers;
+import br.arch.sticker.domain.service.delete.StickerStorageGarbageCollector;
 import br.arch.sticker.domain.service.fetch.FetchStickerPackService;
+import br.arch.sticker.domain.service.save.SaveJournalService;
 import br.arch.sticker.view.core.base.BaseActivity;
 import br.arch.sticker.view.feature.stickerpack.creation.activity.InitialStickerPackCreationActivity;
 import br.arch.sticker.view.feature.stickerpack.details.activity.StickerPackDetailsActivity;
@@ -69,7 +74,7 @@ public class EntryActivity extends BaseActivity {
         }
     });
 
-    private void showStickerPack(ArrayList<StickerPack> validPacks, ArrayList<StickerPack> invalidPacks, HashMap<StickerPack, List<Sticker>> validPacksWithInvalidStickers) {
+    private void showStickerPack(ArrayList<StickerPack> validPacks, ArrayList<StickerPack> invalidPacks, HashMap<StickerPack, List<Sticker>> validPacksWithInvalidStickers, long nextPageRowId) {
         progressBar.setVisibility(View.GONE);
 
         boolean hasValid = validPacks != null && !validPacks.isEmpty();
@@ -82,7 +87,7 @@ public class EntryActivity extends BaseActivity {
             return;
         }
 
-        if (hasValid && validPacks.size() == 1 && !hasInvalid && !hasValidWithInvalidStickers) {
+        if (hasValid && validPacks.size() == 1 && !hasInvalid && !hasValidWithInvalidStickers && nextPageRowId == StickerPackPage.NO_NEXT_PAGE) {
             Intent intent = new Intent(this, StickerPackDetailsActivity.class);
             intent.putExtra(StickerPackDetailsActivity.EXTRA_SHOW_UP_BUTTON, false);
             intent.putExtra(StickerPackDetailsActivity.EXTRA_STICKER_PACK_DATA, validPacks.get(0));
@@ -109,6 +114,7 @@ public class EntryActivity extends BaseActivity {
         intent.putParcelableArrayListExtra(StickerPackListActivity.EXTRA_STICKER_PACK_LIST_DATA, validPacks);
         intent.putParcelableArrayListExtra(StickerPackListActivity.EXTRA_INVALID_STICKER_PACK_LIST_DATA, invalidPacks);
         intent.putParcelableArrayListExtra(StickerPackListActivity.EXTRA_INVALID_STICKER_MAP_DATA, stickerPackWithInvalidStickers);
+        intent.putExtra(StickerPackListActivity.EXTRA_NEXT_PAGE_ROW_ID, nextPageRowId);
 
         startActivity(intent);
         finish();
@@ -150,21 +156,30 @@ public class EntryActivity extends BaseActivity {
         private final Handler handler = new Handler(Looper.getMainLooper());
 
         private final FetchStickerPackService fetchStickerPackService;
+        private final SaveJournalService saveJournalService;
 
         private LoadListAsyncTask(EntryActivity activity) {
             this.contextWeakReference = new WeakReference<>(activity);
             this.fetchStickerPackService = new FetchStickerPackService(activity);
+            this.saveJournalService = new SaveJournalService(activity);
         }
 
         public void execute(ActivityResultLauncher<Intent> createPackLauncher) {
             executor.execute(() -> {
                 new Pair<>(null, null);
-                Pair<String, ListStickerPackValidationResult> result;
+                Pair<String, StickerPackPage> result;
                 final Context context = contextWeakReference.get();
 
                 if (context != null) {
                     try {
-                        result = new Pair<>(null, fetchStickerPackService.fetchStickerPackListFromContentProvider());
+                        // NOTE: Salvamentos interrompidos por um crash são desfeitos antes da leitura, nenhum pacote pela metade aparece na lista
+                        saveJournalService.recoverIncompleteSaves();
+
+                        // NOTE: Retoma a remoção de arquivos de pacotes apagados antes do processo ser encerrado
+                        StickerStorageGarbageCollector.getInstance(context).requestCollection();
+
+                        // NOTE: Só a primeira página é validada aqui, as demais são carregadas pela lista conforme a rolagem
+                        result = new Pair<>(null, fetchStickerPackService.fetchStickerPackPage(StickerPackPage.FIRST_PAGE_ROW_ID, STICKER_PACK_PAGE_SIZE));
                     } catch (FetchStickerPackException | FetchStickerException exception) {
                         Log.e(TAG_LOG, "Erro ao buscar pacotes de figurinhas, banco de dados vazio", exception);
 
@@ -182,14 +197,16 @@ public class EntryActivity extends BaseActivity {
                     result = new Pair<>("Erro ao obter contexto da aplicação!", null);
                 }
 
-                Pair<String, ListStickerPackValidationResult> finalResult = result;
+                Pair<String, StickerPackPage> finalResult = result;
                 handler.post(() -> {
                     EntryActivity entryActivity = contextWeakReference.get();
                     if (entryActivity != null) {
                         if (finalResult.first != null) {
                             entryActivity.showErrorMessage(finalResult.first);
                         } else {
-                            entryActivity.showStickerPack(finalResult.second.validPacks(), finalResult.second.invalidPacks(), finalResult.second.validPacksWithInvalidStickers());
+                            ListStickerPackValidationResult page = finalResult.second.result();
+                            entryActivity.showStickerPack(page.validPacks(), page.invalidPacks(), page.validPacksWithInvalidStickers(),
+                                    finalResult.second.nextPageRowId());
                         }
                     }
                 });
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+public class ParallelValidationEngineTest {
+    private static final int ITEM_COUNT = 240;
+    private static final int DISTINCT_VALUES = 60;
+    private static final int THREAD_COUNT = 8;
+
+    private ExecutorService singleThreadExecutor;
+    private ExecutorService multiThreadExecutor;
+
+    @Before
+    public void setUp() {
+        singleThreadExecutor = Executors.newFixedThreadPool(1);
+        multiThreadExecutor = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @After
+    public void tearDown() {
+        singleThreadExecutor.shutdownNow();
+        multiThreadExecutor.shutdownNow();
+    }
+
+    @Test
+    public void oneThreadAndManyThreadsGiveTheSameResultsInTheSameOrder() {
+        List<String> items = items();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        Function<String, String> evaluation = item -> {
+            threadNames.add(Thread.currentThread().getName());
+            return evaluate(item);
+        };
+
+        List<String> sequential = inItemOrder(items, ParallelValidationEngine.evaluateSequentially(items, evaluation));
+        List<String> singleThread = inItemOrder(items, ParallelValidationEngine.evaluateOn(singleThreadExecutor, items, evaluation));
+
+        threadNames.clear();
+        List<String> multiThread = inItemOrder(items, ParallelValidationEngine.evaluateOn(multiThreadExecutor, items, evaluation));
+
+        assertTrue("a validação paralela rodou em uma thread só", threadNames.size() > 1);
+        assertEquals(sequential, singleThread);
+        assertEquals(sequential, multiThread);
+    }
+
+    // NOTE: Itens iguais por equals mas distintos por identidade (duas figurinhas com o mesmo nome em pacotes diferentes)
+    // não podem dividir o resultado
+    @Test
+    public void resultsAreKeyedByItemIdentity() {
+        List<String> items = items();
+
+        Map<String, String> results = ParallelValidationEngine.evaluateOn(multiThreadExecutor, items, this::evaluateWithIdentity);
+
+        assertEquals(ITEM_COUNT, results.size());
+        for (String item : items) {
+            assertEquals(evaluateWithIdentity(item), results.get(item));
+        }
+    }
+
+    @Test
+    public void runtimeExceptionFromAnItemIsRethrownAsIs() {
+        List<String> items = items();
+        IllegalStateException failure = new IllegalStateException("falha na checagem");
+
+        try {
+            ParallelValidationEngine.evaluateOn(multiThreadExecutor, items, item -> {
+                if (item.equals("sticker_7")) {
+                    throw failure;
+                }
+
+                return evaluate(item);
+            });
+            fail("exceção esperada");
+        } catch (IllegalStateException exception) {
+            assertSame(failure, exception);
+        }
+    }
+
+    @Test
+    public void singleItemListIsEvaluatedOnTheCallerThread() {
+        String item = "sticker_0";
+        Thread caller = Thread.currentThread();
+
+        Map<String, Thread> results = ParallelValidationEngine.evaluateAll(List.of(item), ignored -> Thread.currentThread());
+
+        assertSame(caller, results.get(item));
+    }
+
+    private static List<String> items() {
+        List<String> items = new ArrayList<>(ITEM_COUNT);
+        for (int index = 0; index < ITEM_COUNT; index++) {
+            items.add(new String("sticker_" + index % DISTINCT_VALUES));
+        }
+
+        return items;
+    }
+
+    private static List<String> inItemOrder(List<String> items, Map<String, String> results) {
+        assertEquals(items.size(), results.size());
+
+        List<String> ordered = new ArrayList<>(items.size());
+        for (String item : items) {
+            ordered.add(results.get(item));
+        }
+
+        return ordered;
+    }
+
+    // NOTE: A espera varia por item para as tarefas terminarem fora da ordem da lista
+    private static String evaluate(String item) {
+        LockSupport.parkNanos((item.hashCode() & 3) * 250_000L);
+        return item.hashCode() % 5 == 0 ? "ERROR_FILE_SIZE:" + item : "OK:" + item;
+    }
+
+    private String evaluateWithIdentity(String item) {
+        return evaluate(item) + "@" + System.identityHashCode(item);
+    }
+}
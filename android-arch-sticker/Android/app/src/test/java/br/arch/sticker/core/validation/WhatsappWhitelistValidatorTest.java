@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.core.validation.WhatsappWhitelistValidator.CONSUMER_WHATSAPP_PACKAGE_NAME;
+import static br.arch.sticker.core.validation.WhatsappWhitelistValidator.SMB_WHATSAPP_PACKAGE_NAME;
+import static br.arch.sticker.core.validation.WhatsappWhitelistValidator.WHITELIST_CACHE_TTL_MS;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class WhatsappWhitelistValidatorTest {
+    private FakeWhitelistSource whitelistSource;
+    private long now;
+    private WhatsappWhitelistValidator whatsappWhitelistValidator;
+
+    @Before
+    public void setUp() {
+        WhatsappWhitelistValidator.invalidatePackageCache();
+
+        now = 1_000L;
+        whitelistSource = new FakeWhitelistSource();
+        whatsappWhitelistValidator = new WhatsappWhitelistValidator(whitelistSource, () -> now);
+    }
+
+    @Test
+    public void warmRefreshDoesNotQueryTheProvider() {
+        whitelistSource.install(CONSUMER_WHATSAPP_PACKAGE_NAME, identifier -> true);
+        whitelistSource.install(SMB_WHATSAPP_PACKAGE_NAME, identifier -> true);
+
+        for (int packCount : new int[]{1, 10, 200}) {
+            WhatsappWhitelistValidator.invalidateWhitelistCache();
+            List<String> identifiers = identifiers(packCount);
+
+            whatsappWhitelistValidator.resolveWhitelist(identifiers);
+            whitelistSource.resetCounters();
+
+            for (int refresh = 0; refresh < 3; refresh++) {
+                Map<String, Boolean> whitelist = whatsappWhitelistValidator.resolveWhitelist(identifiers);
+
+                assertEquals(packCount, whitelist.size());
+                assertTrue(whitelist.values().stream().allMatch(Boolean::booleanValue));
+            }
+
+            assertEquals(0, whitelistSource.queries);
+            assertEquals(0, whitelistSource.acquiredClients);
+            assertEquals(0, whitelistSource.packageLookups);
+        }
+    }
+
+    @Test
+    public void coldRefreshAcquiresOneClientPerAppAndQueriesEachPackOnce() {
+        whitelistSource.install(CONSUMER_WHATSAPP_PACKAGE_NAME, identifier -> true);
+        whitelistSource.install(SMB_WHATSAPP_PACKAGE_NAME, identifier -> true);
+
+        for (int packCount : new int[]{1, 10, 200}) {
+            WhatsappWhitelistValidator.invalidatePackageCache();
+            whitelistSource.resetCounters();
+
+            whatsappWhitelistValidator.resolveWhitelist(identifiers(packCount));
+
+            assertEquals(2 * packCount, whitelistSource.queries);
+            assertEquals(2, whitelistSource.acquiredClients);
+            assertEquals(2, whitelistSource.closedClients);
+            assertEquals(2, whitelistSource.packageLookups);
+            assertEquals(2, whitelistSource.providerLookups);
+        }
+    }
+
+    @Test
+    public void smbIsNotQueriedForPacksTheConsumerRejected() {
+        whitelistSource.install(CONSUMER_WHATSAPP_PACKAGE_NAME, identifier -> identifier.endsWith("0"));
+        whitelistSource.install(SMB_WHATSAPP_PACKAGE_NAME, identifier -> true);
+
+        Map<String, Boolean> whitelist = whatsappWhitelistValidator.resolveWhitelist(identifiers(20));
+
+        assertEquals(20, (int) whitelistSource.queriesByPackage.get(CONSUMER_WHATSAPP_PACKAGE_NAME));
+        assertEquals(2, (int) whitelistSource.queriesByPackage.get(SMB_WHATSAPP_PACKAGE_NAME));
+        assertTrue(whitelist.get("pack-10"));
+        assertFalse(whitelist.get("pack-11"));
+    }
+
+    @Test
+    public void onlyNewOrExpiredPacksAreQueried() {
+        whitelistSource.install(CONSUMER_WHATSAPP_PACKAGE_NAME, identifier -> true);
+
+        whatsappWhitelistValidator.resolveWhitelist(identifiers(10));
+        whitelistSource.resetCounters();
+
+        whatsappWhitelistValidator.resolveWhitelist(identifiers(15));
+        assertEquals(5, whitelistSource.queries);
+
+        now += WHITELIST_CACHE_TTL_MS + 1;
+        whitelistSource.resetCounters();
+
+        whatsappWhitelistValidator.resolveWhitelist(identifiers(15));
+        assertEquals(15, whitelistSource.queries);
+
+        WhatsappWhitelistValidator.invalidateWhitelistCache();
+        whitelistSource.resetCounters();
+
+        whatsappWhitelistValidator.resolveWhitelist(identifiers(15));
+        assertEquals(15, whitelistSource.queries);
+    }
+
+    @Test
+    public void missingWhatsAppOrProviderIssuesNoQueries() {
+        Map<String, Boolean> whitelist = whatsappWhitelistValidator.resolveWhitelist(identifiers(5));
+
+        assertEquals(5, whitelist.size());
+        assertFalse(whitelist.values().stream().anyMatch(Boolean::booleanValue));
+        assertEquals(0, whitelistSource.acquiredClients);
+
+        WhatsappWhitelistValidator.invalidatePackageCache();
+        whitelistSource.install(CONSUMER_WHATSAPP_PACKAGE_NAME, identifier -> true);
+        whitelistSource.providerMissing.add(CONSUMER_WHATSAPP_PACKAGE_NAME);
+
+        whitelist = whatsappWhitelistValidator.resolveWhitelist(identifiers(5));
+
+        assertFalse(whitelist.values().stream().anyMatch(Boolean::booleanValue));
+        assertEquals(0, whitelistSource.acquiredClients);
+        assertEquals(0, whitelistSource.queries);
+    }
+
+    private static List<String> identifiers(int count) {
+        List<String> identifiers = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            identifiers.add("pack-" + index);
+        }
+
+        return identifiers;
+    }
+
+    private static class FakeWhitelistSource implements WhatsappWhitelistValidator.WhitelistSource {
+        private final Map<String, Predicate<String>> installedApps = new HashMap<>();
+        private final Set<String> providerMissing = new HashSet<>();
+        private final Map<String, Integer> queriesByPackage = new HashMap<>();
+
+        private int packageLookups;
+        private int providerLookups;
+        private int acquiredClients;
+        private int closedClients;
+        private int queries;
+
+        void install(String whatsappPackageName, Predicate<String> whitelist) {
+            installedApps.put(whatsappPackageName, whitelist);
+        }
+
+        void resetCounters() {
+            queriesByPackage.clear();
+            packageLookups = 0;
+            providerLookups = 0;
+            acquiredClients = 0;
+            closedClients = 0;
+            queries = 0;
+        }
+
+        @Override
+        public boolean isPackageInstalled(@NonNull String whatsappPackageName) {
+            packageLookups++;
+            return installedApps.containsKey(whatsappPackageName);
+        }
+
+        @Override
+        public boolean isProviderAvailable(@NonNull String whatsappPackageName) {
+            providerLookups++;
+            return !providerMissing.contains(whatsappPackageName);
+        }
+
+        @Override
+        public WhatsappWhitelistValidator.WhitelistClient acquireClient(@NonNull String whatsappPackageName) {
+            acquiredClients++;
+            Predicate<String> whitelist = installedApps.get(whatsappPackageName);
+
+            return new WhatsappWhitelistValidator.WhitelistClient() {
+                @Override
+                public boolean isWhitelisted(@NonNull String identifier) {
+                    queries++;
+                    queriesByPackage.merge(whatsappPackageName, 1, Integer::sum);
+                    return whitelist.test(identifier);
+                }
+
+                @Override
+                public void close() {
+                    closedClients++;
+                }
+            };
+        }
+    }
+}
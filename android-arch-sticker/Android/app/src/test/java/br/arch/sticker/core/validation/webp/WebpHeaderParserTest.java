@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.core.validation.webp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class WebpHeaderParserTest {
+    @Test
+    public void parsesLossyStaticHeader() {
+        WebpHeader header = WebpHeaderParser.parse(riff(vp8Chunk(512, 512)));
+
+        assertEquals(512, header.width());
+        assertEquals(512, header.height());
+        assertEquals(1, header.frameCount());
+        assertEquals(0, header.duration());
+    }
+
+    @Test
+    public void parsesLosslessStaticHeader() {
+        WebpHeader header = WebpHeaderParser.parse(riff(vp8lChunk(96, 80)));
+
+        assertEquals(96, header.width());
+        assertEquals(80, header.height());
+        assertEquals(1, header.frameCount());
+    }
+
+    @Test
+    public void parsesExtendedHeaderWithoutAnimationAsStatic() {
+        WebpHeader header = WebpHeaderParser.parse(riff(vp8xChunk(0x00, 512, 512), vp8Chunk(512, 512)));
+
+        assertEquals(512, header.width());
+        assertEquals(512, header.height());
+        assertEquals(1, header.frameCount());
+    }
+
+    @Test
+    public void parsesAnimatedFramesAndDurations() {
+        WebpHeader header = WebpHeaderParser.parse(riff(
+                vp8xChunk(0x02, 512, 512),
+                chunk("ANIM", new byte[6]),
+                anmfChunk(100, vp8Chunk(512, 512)),
+                anmfChunk(200, vp8lChunk(512, 512)),
+                anmfChunk(300, vp8Chunk(512, 512))));
+
+        assertEquals(512, header.width());
+        assertEquals(512, header.height());
+        assertEquals(3, header.frameCount());
+        assertArrayEquals(new int[]{100, 200, 300}, header.frameDurations());
+        assertEquals(600, header.duration());
+    }
+
+    @Test
+    public void skipsUnknownChunksBetweenFrames() {
+        WebpHeader header = WebpHeaderParser.parse(riff(
+                vp8xChunk(0x02, 512, 512),
+                chunk("ANIM", new byte[6]),
+                anmfChunk(40, vp8Chunk(512, 512)),
+                chunk("EXIF", new byte[]{1, 2, 3}),
+                anmfChunk(60, vp8Chunk(512, 512))));
+
+        assertEquals(2, header.frameCount());
+        assertEquals(100, header.duration());
+    }
+
+    @Test
+    public void readsFromBufferPosition() {
+        byte[] webp = riff(vp8lChunk(512, 512));
+        byte[] prefixed = new byte[webp.length + 7];
+        System.arraycopy(webp, 0, prefixed, 7, webp.length);
+
+        ByteBuffer buffer = ByteBuffer.wrap(prefixed);
+        buffer.position(7);
+
+        assertEquals(512, WebpHeaderParser.parse(buffer).width());
+    }
+
+    @Test
+    public void rejectsEmptyAndGarbageBytes() {
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(new byte[0]));
+
+        byte[] garbage = new byte[256];
+        new Random(42).nextBytes(garbage);
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(garbage));
+    }
+
+    @Test
+    public void rejectsRiffThatIsNotWebp() {
+        byte[] wave = riff(vp8Chunk(512, 512));
+        System.arraycopy("WAVE".getBytes(StandardCharsets.US_ASCII), 0, wave, 8, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(wave));
+    }
+
+    @Test
+    public void rejectsUnknownFirstChunk() {
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(riff(chunk("ICCP", new byte[16]))));
+    }
+
+    @Test
+    public void rejectsInvalidVp8StartCode() {
+        byte[] webp = riff(vp8Chunk(512, 512));
+        webp[20 + 3] = 0x00;
+
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(webp));
+    }
+
+    @Test
+    public void rejectsInvalidVp8lSignature() {
+        byte[] webp = riff(vp8lChunk(512, 512));
+        webp[20] = 0x00;
+
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(webp));
+    }
+
+    @Test
+    public void rejectsTruncatedFile() {
+        byte[] webp = riff(vp8Chunk(512, 512));
+
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(Arrays.copyOf(webp, webp.length - 4)));
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(Arrays.copyOf(webp, 24)));
+    }
+
+    @Test
+    public void rejectsChunkLargerThanRiff() {
+        byte[] webp = riff(vp8Chunk(512, 512));
+        ByteBuffer.wrap(webp).order(ByteOrder.LITTLE_ENDIAN).putInt(16, 4096);
+
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(webp));
+    }
+
+    @Test
+    public void rejectsTruncatedAnimationFrame() {
+        byte[] webp = riff(
+                vp8xChunk(0x02, 512, 512),
+                chunk("ANIM", new byte[6]),
+                chunk("ANMF", new byte[8]));
+
+        assertThrows(IllegalArgumentException.class, () -> WebpHeaderParser.parse(webp));
+    }
+
+    private static byte[] riff(byte[]... chunks) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes("WEBP".getBytes(StandardCharsets.US_ASCII));
+        for (byte[] chunk : chunks) {
+            body.writeBytes(chunk);
+        }
+
+        ByteArrayOutputStream riff = new ByteArrayOutputStream();
+        riff.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+        writeUInt32(riff, body.size());
+        riff.writeBytes(body.toByteArray());
+        return riff.toByteArray();
+    }
+
+    private static byte[] chunk(String fourCc, byte[] payload) {
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        chunk.writeBytes(fourCc.getBytes(StandardCharsets.US_ASCII));
+        writeUInt32(chunk, payload.length);
+        chunk.writeBytes(payload);
+        if ((payload.length & 1) == 1) {
+            chunk.write(0);
+        }
+
+        return chunk.toByteArray();
+    }
+
+    // NOTE: Frame tag de 3 bytes, start code 9D 01 2A, largura e altura de 14 bits e alguns bytes de dados
+    private static byte[] vp8Chunk(int width, int height) {
+        byte[] payload = new byte[18];
+        payload[3] = (byte) 0x9D;
+        payload[4] = (byte) 0x01;
+        payload[5] = (byte) 0x2A;
+        payload[6] = (byte) width;
+        payload[7] = (byte) (width >> 8);
+        payload[8] = (byte) height;
+        payload[9] = (byte) (height >> 8);
+        return chunk("VP8 ", payload);
+    }
+
+    private static byte[] vp8lChunk(int width, int height) {
+        final int bits = (width - 1) | (height - 1) << 14;
+        byte[] payload = new byte[9];
+        payload[0] = 0x2F;
+        payload[1] = (byte) bits;
+        payload[2] = (byte) (bits >> 8);
+        payload[3] = (byte) (bits >> 16);
+        payload[4] = (byte) (bits >> 24);
+        return chunk("VP8L", payload);
+    }
+
+    private static byte[] vp8xChunk(int flags, int width, int height) {
+        byte[] payload = new byte[10];
+        payload[0] = (byte) flags;
+        writeUInt24(payload, 4, width - 1);
+        writeUInt24(payload, 7, height - 1);
+        return chunk("VP8X", payload);
+    }
+
+    private static byte[] anmfChunk(int duration, byte[] frameChunk) {
+        byte[] payload = new byte[16 + frameChunk.length];
+        writeUInt24(payload, 6, 511);
+        writeUInt24(payload, 9, 511);
+        writeUInt24(payload, 12, duration);
+        System.arraycopy(frameChunk, 0, payload, 16, frameChunk.length);
+        return chunk("ANMF", payload);
+    }
+
+    private static void writeUInt24(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >> 8);
+        target[offset + 2] = (byte) (value >> 16);
+    }
+
+    private static void writeUInt32(ByteArrayOutputStream outputStream, int value) {
+        outputStream.write(value);
+        outputStream.write(value >> 8);
+        outputStream.write(value >> 16);
+        outputStream.write(value >> 24);
+    }
+}
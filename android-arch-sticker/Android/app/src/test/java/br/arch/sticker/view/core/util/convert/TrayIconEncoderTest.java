@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Vinícius Gabriel Pereira Leitão
+ * All rights reserved.
+ *
+ * This source code is licensed under the Vinícius Non-Commercial Public License (VNCL),
+ * which is based on the GNU General Public License v3.0, with additional restrictions regarding commercial use.
+ */
+
+package br.arch.sticker.view.core.util.convert;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static br.arch.sticker.view.core.util.convert.TrayIconEncoder.TRAY_ICON_DEFAULT_SIZE;
+import static br.arch.sticker.view.core.util.convert.TrayIconEncoder.TRAY_ICON_MAX_BYTES;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TrayIconEncoderTest {
+    private static final int QUALITY_MIN = 5;
+    private static final int QUALITY_MAX = 100;
+    private static final int BISECTION_MAX_ENCODES = 8;
+    private static final int OLD_LOOP_MAX_ENCODES = 19;
+
+    @Test
+    public void maximumQualityThatFitsTakesOneEncode() {
+        FakeEncoder encoder = new FakeEncoder(QUALITY_MAX);
+        TrayIconEncoder trayIconEncoder = new TrayIconEncoder();
+
+        TrayIconEncoder.QualitySelection selection = trayIconEncoder.selectQuality(encoder);
+
+        assertEquals(QUALITY_MAX, selection.quality());
+        assertEquals(1, selection.encodeCount());
+        assertTrue(selection.fits());
+        assertArrayEquals(FakeEncoder.bytesFor(QUALITY_MAX, QUALITY_MAX), trayIconEncoder.getSelectedBytes());
+    }
+
+    // NOTE: Para cada limite possível, a bisseção escolhe a maior qualidade que cabe, com os bytes dessa tentativa,
+    // em no máximo 8 codificações
+    @Test
+    public void bisectionPicksTheHighestQualityThatFits() {
+        for (int highestFitting = QUALITY_MIN; highestFitting <= QUALITY_MAX; highestFitting++) {
+            FakeEncoder encoder = new FakeEncoder(highestFitting);
+            TrayIconEncoder trayIconEncoder = new TrayIconEncoder();
+
+            TrayIconEncoder.QualitySelection selection = trayIconEncoder.selectQuality(encoder);
+
+            assertEquals("limite " + highestFitting, highestFitting, selection.quality());
+            assertTrue(selection.fits());
+            assertEquals(encoder.encodedQualities.size(), selection.encodeCount());
+            assertTrue("limite " + highestFitting + ": " + encoder.encodedQualities, selection.encodeCount() <= BISECTION_MAX_ENCODES);
+            assertArrayEquals(FakeEncoder.bytesFor(highestFitting, highestFitting), trayIconEncoder.getSelectedBytes());
+        }
+    }
+
+    @Test
+    public void bisectionTakesFewerEncodesThanTheOldLoopInTheWorstCase() {
+        int bisectionWorstCase = 0;
+        int oldLoopWorstCase = 0;
+
+        for (int highestFitting = QUALITY_MIN - 1; highestFitting <= QUALITY_MAX; highestFitting++) {
+            bisectionWorstCase = Math.max(bisectionWorstCase, new TrayIconEncoder().selectQuality(new FakeEncoder(highestFitting)).encodeCount());
+            oldLoopWorstCase = Math.max(oldLoopWorstCase, countOldLoopEncodes(new FakeEncoder(highestFitting)));
+        }
+
+        assertEquals(BISECTION_MAX_ENCODES, bisectionWorstCase);
+        assertEquals(OLD_LOOP_MAX_ENCODES, oldLoopWorstCase);
+    }
+
+    // NOTE: Nada cabe: fica a codificação na qualidade mínima, como o laço antigo, e o validador do pacote aponta o tamanho
+    @Test
+    public void nothingFitsKeepsTheMinimumQualityEncoding() {
+        FakeEncoder encoder = new FakeEncoder(QUALITY_MIN - 1);
+        TrayIconEncoder trayIconEncoder = new TrayIconEncoder();
+
+        TrayIconEncoder.QualitySelection selection = trayIconEncoder.selectQuality(encoder);
+
+        assertEquals(QUALITY_MIN, selection.quality());
+        assertFalse(selection.fits());
+        assertEquals(QUALITY_MIN, (int) encoder.encodedQualities.get(encoder.encodedQualities.size() - 1));
+        assertArrayEquals(FakeEncoder.bytesFor(QUALITY_MIN, QUALITY_MIN - 1), trayIconEncoder.getSelectedBytes());
+    }
+
+    @Test
+    public void pngIsEncodedOnce() {
+        FakeEncoder encoder = new FakeEncoder(QUALITY_MIN);
+        TrayIconEncoder trayIconEncoder = new TrayIconEncoder(TRAY_ICON_DEFAULT_SIZE, TRAY_ICON_MAX_BYTES, TrayIconEncoder.Format.PNG);
+
+        TrayIconEncoder.QualitySelection selection = trayIconEncoder.selectQuality(encoder);
+
+        assertEquals(1, selection.encodeCount());
+        assertEquals(List.of(QUALITY_MAX), encoder.encodedQualities);
+        assertFalse(selection.fits());
+    }
+
+    // NOTE: Os buffers trocam de papel a cada tentativa que cabe; uma segunda codificação não pode herdar bytes da primeira
+    @Test
+    public void encoderInstanceIsReusable() {
+        TrayIconEncoder trayIconEncoder = new TrayIconEncoder();
+
+        trayIconEncoder.selectQuality(new FakeEncoder(QUALITY_MAX));
+        TrayIconEncoder.QualitySelection selection = trayIconEncoder.selectQuality(new FakeEncoder(37));
+
+        assertEquals(37, selection.quality());
+        assertArrayEquals(FakeEncoder.bytesFor(37, 37), trayIconEncoder.getSelectedBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void targetSizeOutsideTheTrayRangeIsRejected() {
+        new TrayIconEncoder(600, TRAY_ICON_MAX_BYTES, TrayIconEncoder.Format.JPEG);
+    }
+
+    // NOTE: Cópia do laço que ConvertThumbnail usava antes do TrayIconEncoder
+    private static int countOldLoopEncodes(FakeEncoder encoder) {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        int quality = 100;
+        byte[] compressedBytes;
+
+        do {
+            outStream.reset();
+            encoder.encode(quality, outStream);
+            compressedBytes = outStream.toByteArray();
+            quality -= 5;
+        } while (compressedBytes.length > TRAY_ICON_MAX_BYTES && quality > 5);
+
+        return encoder.encodedQualities.size();
+    }
+
+    // NOTE: Tamanho cresce com a qualidade e só cabe no limite até highestFitting; os bytes marcam a qualidade e o limite usados
+    private static final class FakeEncoder implements TrayIconEncoder.QualityEncoder {
+        private final int highestFitting;
+        private final List<Integer> encodedQualities = new ArrayList<>();
+
+        private FakeEncoder(int highestFitting) {
+            this.highestFitting = highestFitting;
+        }
+
+        @Override
+        public void encode(int quality, @NonNull ByteArrayOutputStream outputStream) {
+            encodedQualities.add(quality);
+            outputStream.writeBytes(bytesFor(quality, highestFitting));
+        }
+
+        private static byte[] bytesFor(int quality, int highestFitting) {
+            final int size = quality <= highestFitting ? TRAY_ICON_MAX_BYTES - (highestFitting - quality) : TRAY_ICON_MAX_BYTES + quality;
+            byte[] bytes = new byte[size];
+            Arrays.fill(bytes, (byte) quality);
+            return bytes;
+        }
+    }
+}